@@ -0,0 +1,46 @@
+package com.github.ilubenets.require.agent.bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time saved by the agent. The same checks run in three packages, the build runs the fork with
+ * {@code -javaagent:require-agent.jar=...bench.internal=strip,...bench.batch=sample:100}, the edge package is kept.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AgentBenchmark {
+
+    private String sku = "sku-0123456789";
+    private String customer = "de-123456";
+    private int quantity = 3;
+    private long price = 1999L;
+
+    @Benchmark
+    public int edge_full() {
+        return com.github.ilubenets.require.agent.bench.edge.OrderChecks.check(sku, customer, quantity, price);
+    }
+
+    @Benchmark
+    public int internal_strip() {
+        return com.github.ilubenets.require.agent.bench.internal.OrderChecks.check(sku, customer, quantity, price);
+    }
+
+    @Benchmark
+    public int batch_sample100() {
+        return com.github.ilubenets.require.agent.bench.batch.OrderChecks.check(sku, customer, quantity, price);
+    }
+}
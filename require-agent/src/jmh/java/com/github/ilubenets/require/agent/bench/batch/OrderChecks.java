@@ -0,0 +1,21 @@
+package com.github.ilubenets.require.agent.bench.batch;
+
+import com.github.ilubenets.require.Require;
+
+/**
+ * Typical constructor checks, the same code in the edge, internal and batch packages of the benchmark.
+ */
+public final class OrderChecks {
+
+    private OrderChecks() {
+    }
+
+    public static int check(final String sku, final String customer, final int quantity, final long price) {
+        Require.nonBlankMaxLength(sku, 64, "sku");
+        Require.format(customer, "[a-z]{2}-\\d{6}", "customer");
+        Require.gtThanZero(quantity, "quantity");
+        Require.positive(price, "price");
+
+        return quantity;
+    }
+}
@@ -0,0 +1,132 @@
+package com.github.ilubenets.require.agent;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Agent arguments: comma separated {@code package=mode} rules and flags, for example
+ * {@code com.acme=strip,com.acme.api=full,com.acme.batch=sample:100,report}.
+ *
+ * Modes are {@code full}, {@code strip} and {@code sample:N}. A rule applies to the package and its subpackages,
+ * the rule with the longest matching package wins, classes no rule matches are not changed.
+ * The {@code report} flag prints the rewrite counts to {@code System.err} when the JVM exits.
+ */
+final class AgentConfig {
+
+    private final List<PackageRule> rules;
+    private final boolean report;
+
+    private AgentConfig(@Nonnull final List<PackageRule> rules, final boolean report) {
+        this.rules = rules;
+        this.report = report;
+    }
+
+    /**
+     * Parse agent arguments.
+     *
+     * @param arguments - agent arguments, null or empty for no rules
+     * @return parsed config
+     * @throws IllegalArgumentException if an argument is neither a rule nor a known flag
+     */
+    @Nonnull
+    static AgentConfig parse(@Nullable final String arguments) {
+        final List<PackageRule> rules = new ArrayList<>();
+        boolean report = false;
+        if (arguments != null) {
+            for (final String part : arguments.split(",")) {
+                final String argument = part.trim();
+                if (argument.isEmpty()) {
+                    continue;
+                }
+                if ("report".equals(argument)) {
+                    report = true;
+                    continue;
+                }
+                final int separator = argument.indexOf('=');
+                if (separator <= 0) {
+                    throw new IllegalArgumentException("Expected package=mode or report, got [" + argument + "]");
+                }
+                final String packageName = argument.substring(0, separator).trim();
+                rules.add(PackageRule.parse(packageName, argument.substring(separator + 1).trim()));
+            }
+        }
+        // Longest package first, so the first matching rule is the most specific one
+        rules.sort((left, right) -> right.prefix.length() - left.prefix.length());
+
+        return new AgentConfig(Collections.unmodifiableList(rules), report);
+    }
+
+    /**
+     * Find the rule for a class.
+     *
+     * @param internalName - class name in the internal form, like {@code com/acme/Order}
+     * @return most specific matching rule, null if no rule matches
+     */
+    @Nullable
+    PackageRule ruleFor(@Nonnull final String internalName) {
+        for (final PackageRule rule : rules) {
+            if (internalName.startsWith(rule.prefix)) {
+                return rule;
+            }
+        }
+
+        return null;
+    }
+
+    boolean isEmpty() {
+        return rules.isEmpty();
+    }
+
+    boolean report() {
+        return report;
+    }
+
+    /**
+     * Mode of the call sites of one package.
+     */
+    static final class PackageRule {
+
+        final String prefix;
+        final CallSiteMode mode;
+        final int every;
+
+        private PackageRule(@Nonnull final String prefix, @Nonnull final CallSiteMode mode, final int every) {
+            this.prefix = prefix;
+            this.mode = mode;
+            this.every = every;
+        }
+
+        @Nonnull
+        static PackageRule parse(@Nonnull final String packageName, @Nonnull final String mode) {
+            if (packageName.isEmpty()) {
+                throw new IllegalArgumentException("Package of the rule [" + mode + "] is empty");
+            }
+            final String prefix = packageName.replace('.', '/') + '/';
+            if ("full".equals(mode)) {
+                return new PackageRule(prefix, CallSiteMode.FULL, 1);
+            }
+            if ("strip".equals(mode)) {
+                return new PackageRule(prefix, CallSiteMode.STRIP, 0);
+            }
+            if (mode.startsWith("sample:")) {
+                final int every;
+                try {
+                    every = Integer.parseInt(mode.substring("sample:".length()));
+                } catch (final NumberFormatException e) {
+                    throw new IllegalArgumentException("Sample rate of [" + packageName + "] is not a number: " + mode, e);
+                }
+                if (every < 1) {
+                    throw new IllegalArgumentException("Sample rate of [" + packageName + "] must be at least 1: " + mode);
+                }
+                return every == 1
+                    ? new PackageRule(prefix, CallSiteMode.FULL, 1)
+                    : new PackageRule(prefix, CallSiteMode.SAMPLE, every);
+            }
+            throw new IllegalArgumentException("Unknown mode of [" + packageName + "]: " + mode);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.github.ilubenets.require.agent;
+
+/**
+ * What the agent does with a {@code Require} call site.
+ */
+enum CallSiteMode {
+
+    /**
+     * The call is kept as it is, the check runs on every call.
+     */
+    FULL,
+
+    /**
+     * The call is replaced by its value argument, the other arguments are dropped and nothing is checked.
+     */
+    STRIP,
+
+    /**
+     * The call runs on every N-th pass through the call site, the other passes return the value unchecked.
+     */
+    SAMPLE
+}
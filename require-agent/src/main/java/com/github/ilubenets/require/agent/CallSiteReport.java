@@ -0,0 +1,88 @@
+package com.github.ilubenets.require.agent;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Counts of the rewritten {@code Require} call sites. Classes may be loaded and transformed concurrently,
+ * so the counters are atomic.
+ */
+public final class CallSiteReport {
+
+    private final AtomicInteger classes = new AtomicInteger();
+    private final AtomicInteger stripped = new AtomicInteger();
+    private final AtomicInteger sampled = new AtomicInteger();
+    private final AtomicInteger kept = new AtomicInteger();
+    private final AtomicInteger failed = new AtomicInteger();
+
+    CallSiteReport() {
+    }
+
+    /**
+     * Number of classes with at least one rewritten call site.
+     *
+     * @return class count
+     */
+    public int classes() {
+        return classes.get();
+    }
+
+    /**
+     * Number of call sites replaced by their value argument.
+     *
+     * @return call site count
+     */
+    public int stripped() {
+        return stripped.get();
+    }
+
+    /**
+     * Number of call sites which check only every N-th call.
+     *
+     * @return call site count
+     */
+    public int sampled() {
+        return sampled.get();
+    }
+
+    /**
+     * Number of call sites in stripped or sampled packages which were kept, because the method result is not
+     * the checked value itself or the class can not get the sampling method.
+     *
+     * @return call site count
+     */
+    public int kept() {
+        return kept.get();
+    }
+
+    /**
+     * Number of classes which could not be transformed and were loaded unchanged.
+     *
+     * @return class count
+     */
+    public int failed() {
+        return failed.get();
+    }
+
+    void classRewritten(final int strippedSites, final int sampledSites, final int keptSites) {
+        if (strippedSites + sampledSites > 0) {
+            classes.incrementAndGet();
+        }
+        stripped.addAndGet(strippedSites);
+        sampled.addAndGet(sampledSites);
+        kept.addAndGet(keptSites);
+    }
+
+    void classFailed() {
+        failed.incrementAndGet();
+    }
+
+    @Nonnull
+    @Override
+    public String toString() {
+        return "require-agent: rewrote " + (stripped() + sampled()) + " Require call sites in " + classes()
+            + " classes (" + stripped() + " stripped, " + sampled() + " sampled), kept " + kept()
+            + ", failed classes " + failed();
+    }
+}
@@ -0,0 +1,49 @@
+package com.github.ilubenets.require.agent;
+
+import java.lang.instrument.Instrumentation;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Java agent which strips or samples {@code Require} checks of configured packages when their classes are loaded,
+ * call sites do not have to be edited. Checks of packages without a rule, like the edge of a service, are kept.
+ *
+ * Usage: {@code -javaagent:require-agent.jar=com.acme=strip,com.acme.api=full,com.acme.batch=sample:100,report},
+ * see {@link AgentConfig} for the argument syntax. Only classes loaded after the agent starts are rewritten.
+ */
+public final class RequireAgent {
+
+    private static final CallSiteReport REPORT = new CallSiteReport();
+
+    private RequireAgent() {
+        // Utility class
+    }
+
+    /**
+     * Agent entry point.
+     *
+     * @param arguments       - agent arguments
+     * @param instrumentation - instrumentation of the JVM
+     * @throws IllegalArgumentException if the arguments are invalid
+     */
+    public static void premain(@Nullable final String arguments, @Nonnull final Instrumentation instrumentation) {
+        final AgentConfig config = AgentConfig.parse(arguments);
+        if (config.report()) {
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> System.err.println(REPORT), "require-agent-report"));
+        }
+        if (!config.isEmpty()) {
+            instrumentation.addTransformer(new RequireCallSiteTransformer(config, REPORT));
+        }
+    }
+
+    /**
+     * Counts of the call sites rewritten so far.
+     *
+     * @return live report
+     */
+    @Nonnull
+    public static CallSiteReport report() {
+        return REPORT;
+    }
+}
@@ -0,0 +1,260 @@
+package com.github.ilubenets.require.agent;
+
+import java.lang.instrument.ClassFileTransformer;
+import java.security.ProtectionDomain;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+
+/**
+ * Rewrites {@code Require} call sites of the configured packages when a class is loaded.
+ *
+ * Every {@code Require} method returns its first argument, the checked value, so a stripped call site is replaced
+ * by instructions which pop the other arguments and leave the value on the stack. The stack has the same shape
+ * after the call site as before the rewrite, so stack map frames stay valid and are not recomputed.
+ * A sampled call site calls a private synthetic method of the class instead, which counts the passes
+ * in its own static field and calls {@code Require} on every N-th one.
+ *
+ * Only methods whose return type is the type of the value are rewritten, methods in {@link #NEVER_REWRITTEN}
+ * are always kept. Interfaces can not get the synthetic method, their sampled call sites are kept too.
+ * A class which fails to transform is loaded unchanged.
+ */
+final class RequireCallSiteTransformer implements ClassFileTransformer {
+
+    static final String REQUIRE = "com/github/ilubenets/require/Require";
+
+    private static final String LIBRARY_PACKAGE = "com/github/ilubenets/require/";
+    private static final String SAMPLE_METHOD_PREFIX = "require$sample$";
+    private static final String SAMPLE_COUNTER_PREFIX = "require$counter$";
+
+    /**
+     * Name and descriptor of the methods whose result is not the checked value itself,
+     * like defensive copies and trimmed strings.
+     * Stripping them would change what the caller gets back.
+     */
+    static final Set<String> NEVER_REWRITTEN = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(
+        "nonEmptyCopy(Ljava/util/List;Ljava/lang/String;)Ljava/util/List;",
+        "nonEmptyCopy(Ljava/util/Map;Ljava/lang/String;)Ljava/util/Map;",
+        "nonNullElementsCopy(Ljava/util/Collection;Ljava/lang/String;)Ljava/util/List;",
+        "trimmedNonBlankMaxLength(Ljava/lang/String;ILjava/lang/String;)Ljava/lang/String;"
+    )));
+
+    private final AgentConfig config;
+    private final CallSiteReport report;
+
+    RequireCallSiteTransformer(@Nonnull final AgentConfig config, @Nonnull final CallSiteReport report) {
+        this.config = config;
+        this.report = report;
+    }
+
+    @Nullable
+    @Override
+    public byte[] transform(
+        @Nullable final ClassLoader loader,
+        @Nullable final String className,
+        @Nullable final Class<?> classBeingRedefined,
+        @Nullable final ProtectionDomain protectionDomain,
+        @Nonnull final byte[] classfileBuffer
+    ) {
+        if (className == null || classBeingRedefined != null || isLibraryClass(className)) {
+            return null;
+        }
+        final AgentConfig.PackageRule rule = config.ruleFor(className);
+        if (rule == null || rule.mode == CallSiteMode.FULL) {
+            return null;
+        }
+        try {
+            return rewrite(classfileBuffer, rule);
+        } catch (final RuntimeException e) {
+            report.classFailed();
+            return null;
+        }
+    }
+
+    /**
+     * Rewrite the call sites of one class.
+     *
+     * @param classfile - class bytes
+     * @param rule      - rule of the class package
+     * @return rewritten class bytes, null if the class has no call site to rewrite
+     */
+    @Nullable
+    byte[] rewrite(@Nonnull final byte[] classfile, @Nonnull final AgentConfig.PackageRule rule) {
+        final ClassReader reader = new ClassReader(classfile);
+        final ClassWriter writer = new ClassWriter(reader, 0);
+        final CallSiteRewriter rewriter = new CallSiteRewriter(writer, rule);
+        reader.accept(rewriter, 0);
+        report.classRewritten(rewriter.stripped, rewriter.sampled.size(), rewriter.kept);
+        if (rewriter.stripped == 0 && rewriter.sampled.isEmpty()) {
+            return null;
+        }
+
+        return writer.toByteArray();
+    }
+
+    private static boolean isLibraryClass(@Nonnull final String className) {
+        return className.startsWith(LIBRARY_PACKAGE) && className.indexOf('/', LIBRARY_PACKAGE.length()) < 0;
+    }
+
+    private static boolean isRewritable(@Nonnull final String name, @Nonnull final String descriptor) {
+        final Type[] arguments = Type.getArgumentTypes(descriptor);
+        return arguments.length > 0
+            && arguments[0].equals(Type.getReturnType(descriptor))
+            && !NEVER_REWRITTEN.contains(name + descriptor);
+    }
+
+    private static final class CallSiteRewriter extends ClassVisitor {
+
+        private final AgentConfig.PackageRule rule;
+        private final List<SampledCallSite> sampled = new ArrayList<>();
+        private String owner;
+        private int version;
+        private boolean canSample;
+        private int stripped;
+        private int kept;
+
+        CallSiteRewriter(@Nonnull final ClassVisitor next, @Nonnull final AgentConfig.PackageRule rule) {
+            super(Opcodes.ASM9, next);
+            this.rule = rule;
+        }
+
+        @Override
+        public void visit(
+            final int version,
+            final int access,
+            final String name,
+            final String signature,
+            final String superName,
+            final String[] interfaces
+        ) {
+            this.owner = name;
+            this.version = version;
+            this.canSample = (access & Opcodes.ACC_INTERFACE) == 0;
+            super.visit(version, access, name, signature, superName, interfaces);
+        }
+
+        @Override
+        public MethodVisitor visitMethod(
+            final int access,
+            final String name,
+            final String descriptor,
+            final String signature,
+            final String[] exceptions
+        ) {
+            return new MethodVisitor(Opcodes.ASM9, super.visitMethod(access, name, descriptor, signature, exceptions)) {
+                @Override
+                public void visitMethodInsn(
+                    final int opcode,
+                    final String methodOwner,
+                    final String methodName,
+                    final String methodDescriptor,
+                    final boolean isInterface
+                ) {
+                    if (opcode != Opcodes.INVOKESTATIC || !REQUIRE.equals(methodOwner)) {
+                        super.visitMethodInsn(opcode, methodOwner, methodName, methodDescriptor, isInterface);
+                        return;
+                    }
+                    if (!isRewritable(methodName, methodDescriptor)
+                        || rule.mode == CallSiteMode.SAMPLE && !canSample) {
+                        kept++;
+                        super.visitMethodInsn(opcode, methodOwner, methodName, methodDescriptor, isInterface);
+                        return;
+                    }
+                    if (rule.mode == CallSiteMode.STRIP) {
+                        stripped++;
+                        final Type[] arguments = Type.getArgumentTypes(methodDescriptor);
+                        for (int i = arguments.length - 1; i > 0; i--) {
+                            super.visitInsn(arguments[i].getSize() == 2 ? Opcodes.POP2 : Opcodes.POP);
+                        }
+                        return;
+                    }
+                    final SampledCallSite site = new SampledCallSite(sampled.size(), methodName, methodDescriptor);
+                    sampled.add(site);
+                    super.visitMethodInsn(Opcodes.INVOKESTATIC, owner, site.bridgeName(), methodDescriptor, false);
+                }
+            };
+        }
+
+        @Override
+        public void visitEnd() {
+            for (final SampledCallSite site : sampled) {
+                writeSampleBridge(site);
+            }
+            super.visitEnd();
+        }
+
+        /**
+         * Write {@code counter = counter + 1; if (counter % every != 0) return value; return Require.m(args);}.
+         */
+        private void writeSampleBridge(@Nonnull final SampledCallSite site) {
+            final int synthetic = Opcodes.ACC_PRIVATE | Opcodes.ACC_STATIC | Opcodes.ACC_SYNTHETIC;
+            super.visitField(synthetic, site.counterName(), "I", null, null).visitEnd();
+
+            final MethodVisitor method = super.visitMethod(synthetic, site.bridgeName(), site.descriptor, null, null);
+            final Type[] arguments = Type.getArgumentTypes(site.descriptor);
+            final Type value = Type.getReturnType(site.descriptor);
+            method.visitCode();
+            method.visitFieldInsn(Opcodes.GETSTATIC, owner, site.counterName(), "I");
+            method.visitInsn(Opcodes.ICONST_1);
+            method.visitInsn(Opcodes.IADD);
+            method.visitInsn(Opcodes.DUP);
+            method.visitFieldInsn(Opcodes.PUTSTATIC, owner, site.counterName(), "I");
+            method.visitLdcInsn(rule.every);
+            method.visitInsn(Opcodes.IREM);
+            final Label check = new Label();
+            method.visitJumpInsn(Opcodes.IFEQ, check);
+            method.visitVarInsn(value.getOpcode(Opcodes.ILOAD), 0);
+            method.visitInsn(value.getOpcode(Opcodes.IRETURN));
+            method.visitLabel(check);
+            if ((version & 0xFFFF) >= Opcodes.V1_6) {
+                method.visitFrame(Opcodes.F_SAME, 0, null, 0, null);
+            }
+            int local = 0;
+            for (final Type argument : arguments) {
+                method.visitVarInsn(argument.getOpcode(Opcodes.ILOAD), local);
+                local += argument.getSize();
+            }
+            method.visitMethodInsn(Opcodes.INVOKESTATIC, REQUIRE, site.name, site.descriptor, false);
+            method.visitInsn(value.getOpcode(Opcodes.IRETURN));
+            method.visitMaxs(Math.max(3, local), local);
+            method.visitEnd();
+        }
+    }
+
+    private static final class SampledCallSite {
+
+        final int id;
+        final String name;
+        final String descriptor;
+
+        SampledCallSite(final int id, @Nonnull final String name, @Nonnull final String descriptor) {
+            this.id = id;
+            this.name = name;
+            this.descriptor = descriptor;
+        }
+
+        @Nonnull
+        String bridgeName() {
+            return SAMPLE_METHOD_PREFIX + id;
+        }
+
+        @Nonnull
+        String counterName() {
+            return SAMPLE_COUNTER_PREFIX + id;
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.github.ilubenets.require.agent;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.github.ilubenets.require.agent.fixture.Orders;
+
+final class RequireCallSiteTransformerTest {
+
+    private static final String ORDERS = "com/github/ilubenets/require/agent/fixture/Orders";
+
+    @Test
+    void strip() throws Exception {
+        final CallSiteReport report = new CallSiteReport();
+        final Class<?> orders = load("com.github.ilubenets.require.agent.fixture=strip", report);
+
+        Assertions.assertEquals(" ", invoke(orders, "sku", " "));
+        Assertions.assertEquals(-1, invoke(orders, "quantity", -1));
+        final long[] prices = {0L, 500L};
+        Assertions.assertSame(prices, invoke(orders, "prices", (Object) prices));
+        final StringBuilder note = new StringBuilder(" ");
+        Assertions.assertSame(note, invoke(orders, "note", note));
+        Assertions.assertNull(invoke(orders, "validate", null, 0));
+        // Copies are kept, stripping would hand back the caller's own list
+        final List<String> tags = new ArrayList<>(Collections.singletonList("a"));
+        Assertions.assertNotSame(tags, invoke(orders, "tags", tags));
+        assertViolation(orders, "tags", new ArrayList<String>());
+        // Trimming is kept too, stripping would hand back the untrimmed string
+        Assertions.assertEquals("bob", invoke(orders, "customer", " bob "));
+        assertViolation(orders, "customer", "  ");
+
+        Assertions.assertEquals(1, report.classes());
+        Assertions.assertEquals(6, report.stripped());
+        Assertions.assertEquals(0, report.sampled());
+    }
+
+    @Test
+    void sample() throws Exception {
+        final CallSiteReport report = new CallSiteReport();
+        final Class<?> orders = load("com.github.ilubenets.require.agent.fixture=sample:3", report);
+
+        // every third pass through the call site is checked
+        Assertions.assertEquals(-1, invoke(orders, "quantity", -1));
+        Assertions.assertEquals(-1, invoke(orders, "quantity", -1));
+        assertViolation(orders, "quantity", -1);
+        Assertions.assertEquals(-1, invoke(orders, "quantity", -1));
+        Assertions.assertEquals(5, invoke(orders, "quantity", 5));
+        Assertions.assertEquals(5, invoke(orders, "quantity", 5));
+        // counters are per call site
+        Assertions.assertEquals(" ", invoke(orders, "sku", " "));
+        Assertions.assertEquals(" ", invoke(orders, "sku", " "));
+        assertViolation(orders, "sku", " ");
+        final long[] prices = {0L};
+        invoke(orders, "prices", (Object) prices);
+        invoke(orders, "prices", (Object) prices);
+        assertViolation(orders, "prices", (Object) prices);
+        // trimming is never sampled, every call returns the trimmed string
+        Assertions.assertEquals("bob", invoke(orders, "customer", " bob "));
+        Assertions.assertEquals("bob", invoke(orders, "customer", " bob "));
+        Assertions.assertEquals("bob", invoke(orders, "customer", " bob "));
+
+        Assertions.assertEquals(6, report.sampled());
+        Assertions.assertEquals(0, report.stripped());
+    }
+
+    @Test
+    void fullAndUnmatchedPackagesAreNotChanged() throws Exception {
+        final CallSiteReport report = new CallSiteReport();
+        final Class<?> orders = load(
+            "com.github.ilubenets.require.agent=strip,com.github.ilubenets.require.agent.fixture=full",
+            report
+        );
+        assertViolation(orders, "sku", " ");
+
+        final RequireCallSiteTransformer other = new RequireCallSiteTransformer(
+            AgentConfig.parse("com.acme=strip"),
+            report
+        );
+        Assertions.assertNull(other.transform(null, ORDERS, null, null, bytes()));
+        Assertions.assertEquals(0, report.classes());
+    }
+
+    @Test
+    void config() {
+        final AgentConfig config = AgentConfig.parse("com.acme=strip, com.acme.api=full,com.acme.batch=sample:10,report");
+
+        Assertions.assertTrue(config.report());
+        Assertions.assertEquals(CallSiteMode.STRIP, config.ruleFor("com/acme/Order").mode);
+        Assertions.assertEquals(CallSiteMode.STRIP, config.ruleFor("com/acme/internal/Order").mode);
+        Assertions.assertEquals(CallSiteMode.FULL, config.ruleFor("com/acme/api/Order").mode);
+        Assertions.assertEquals(10, config.ruleFor("com/acme/batch/Order").every);
+        Assertions.assertNull(config.ruleFor("com/acmex/Order"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> AgentConfig.parse("com.acme=off"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> AgentConfig.parse("com.acme=sample:0"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> AgentConfig.parse("com.acme"));
+    }
+
+    private static Class<?> load(final String arguments, final CallSiteReport report) throws Exception {
+        final RequireCallSiteTransformer transformer = new RequireCallSiteTransformer(AgentConfig.parse(arguments), report);
+        final byte[] original = bytes();
+        final byte[] transformed = transformer.transform(null, ORDERS, null, null, original);
+        final byte[] classfile = transformed == null ? original : transformed;
+
+        return new ClassLoader(RequireCallSiteTransformerTest.class.getClassLoader()) {
+            @Override
+            protected Class<?> loadClass(final String name, final boolean resolve) throws ClassNotFoundException {
+                if (name.equals(Orders.class.getName())) {
+                    synchronized (getClassLoadingLock(name)) {
+                        final Class<?> loaded = findLoadedClass(name);
+                        return loaded != null ? loaded : defineClass(name, classfile, 0, classfile.length);
+                    }
+                }
+                return super.loadClass(name, resolve);
+            }
+        }.loadClass(Orders.class.getName());
+    }
+
+    private static byte[] bytes() throws IOException {
+        try (InputStream input = Orders.class.getResourceAsStream("Orders.class")) {
+            final ByteArrayOutputStream output = new ByteArrayOutputStream();
+            final byte[] buffer = new byte[4096];
+            int read;
+            while ((read = input.read(buffer)) >= 0) {
+                output.write(buffer, 0, read);
+            }
+            return output.toByteArray();
+        }
+    }
+
+    private static Object invoke(final Class<?> orders, final String name, final Object... arguments) throws Exception {
+        for (final Method method : orders.getMethods()) {
+            if (method.getName().equals(name)) {
+                try {
+                    return method.invoke(null, arguments);
+                } catch (final InvocationTargetException e) {
+                    if (e.getCause() instanceof Exception) {
+                        throw (Exception) e.getCause();
+                    }
+                    throw e;
+                }
+            }
+        }
+        throw new NoSuchMethodException(name);
+    }
+
+    private static void assertViolation(final Class<?> orders, final String name, final Object... arguments) {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> invoke(orders, name, arguments));
+    }
+}
@@ -0,0 +1,47 @@
+package com.github.ilubenets.require.agent.fixture;
+
+import java.util.List;
+
+import com.github.ilubenets.require.Require;
+
+/**
+ * Call sites rewritten by the agent tests.
+ */
+public final class Orders {
+
+    private Orders() {
+    }
+
+    public static String sku(final String sku) {
+        return Require.nonBlankMaxLength(sku, 8, "sku");
+    }
+
+    public static int quantity(final int quantity) {
+        return Require.gtThanZero(quantity, "quantity");
+    }
+
+    public static long[] prices(final long[] prices) {
+        return Require.allInRange(prices, 1L, 100L, "prices");
+    }
+
+    public static CharSequence note(final StringBuilder note) {
+        // Generic method, the erased return type is CharSequence
+        return Require.nonBlank(note, "note");
+    }
+
+    public static List<String> tags(final List<String> tags) {
+        // Defensive copy, the result is not the argument
+        return Require.nonEmptyCopy(tags, "tags");
+    }
+
+    public static String customer(final String customer) {
+        // Trimmed copy, the result is not the argument
+        return Require.trimmedNonBlankMaxLength(customer, 8, "customer");
+    }
+
+    public static void validate(final String sku, final int quantity) {
+        // Results are discarded
+        Require.nonBlank(sku, "sku");
+        Require.gtThanZero(quantity, "quantity");
+    }
+}
@@ -0,0 +1,423 @@
+package com.github.ilubenets.require.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+
+import com.github.ilubenets.require.annotation.Format;
+import com.github.ilubenets.require.annotation.GtThanZero;
+import com.github.ilubenets.require.annotation.LsThanZero;
+import com.github.ilubenets.require.annotation.MaxLength;
+import com.github.ilubenets.require.annotation.MinLength;
+import com.github.ilubenets.require.annotation.Negative;
+import com.github.ilubenets.require.annotation.NonBlank;
+import com.github.ilubenets.require.annotation.NonEmpty;
+import com.github.ilubenets.require.annotation.NonNull;
+import com.github.ilubenets.require.annotation.Positive;
+
+/**
+ * Generates a {@code XxxValidator} class for every class or record with fields annotated by the constraints of
+ * {@code com.github.ilubenets.require.annotation}.
+ *
+ * The validator has one static method {@code validate(Xxx value)} with a straight-line list of
+ * {@code Require} calls, one per constraint, in the field declaration order. Regexp formats are compiled once
+ * into static constants. Nothing is resolved at runtime, there is no reflection and no classpath scanning.
+ *
+ * Fields are read directly if they are not private, otherwise through the record component accessor or
+ * a non private getter {@code getName()}, {@code isName()} or {@code name()}.
+ * A constraint on a field of an unsupported type is reported as a compilation error.
+ */
+public final class RequireProcessor extends AbstractProcessor {
+
+    private static final String REQUIRE = "com.github.ilubenets.require.Require";
+
+    private static final List<String> SUPPORTED_ANNOTATIONS = Collections.unmodifiableList(Arrays.asList(
+        NonNull.class.getCanonicalName(),
+        NonBlank.class.getCanonicalName(),
+        NonEmpty.class.getCanonicalName(),
+        MaxLength.class.getCanonicalName(),
+        MinLength.class.getCanonicalName(),
+        Format.class.getCanonicalName(),
+        Positive.class.getCanonicalName(),
+        Negative.class.getCanonicalName(),
+        GtThanZero.class.getCanonicalName(),
+        LsThanZero.class.getCanonicalName()
+    ));
+
+    private static final List<String> NUMERIC_TYPES = Collections.unmodifiableList(Arrays.asList(
+        "int", "long", "float", "double",
+        "java.lang.Integer", "java.lang.Long", "java.lang.Float", "java.lang.Double"
+    ));
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        return new LinkedHashSet<>(SUPPORTED_ANNOTATIONS);
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(
+        @Nonnull final Set<? extends TypeElement> annotations,
+        @Nonnull final RoundEnvironment round
+    ) {
+        final Set<TypeElement> types = new LinkedHashSet<>();
+        for (final TypeElement annotation : annotations) {
+            for (final Element element : round.getElementsAnnotatedWith(annotation)) {
+                if (element.getKind() == ElementKind.FIELD) {
+                    types.add((TypeElement) element.getEnclosingElement());
+                }
+            }
+        }
+        for (final TypeElement type : types) {
+            generate(type);
+        }
+
+        return true;
+    }
+
+    private void generate(@Nonnull final TypeElement type) {
+        final List<String> constants = new ArrayList<>();
+        final List<String> statements = new ArrayList<>();
+        boolean valid = true;
+        for (final VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+            if (!field.getModifiers().contains(Modifier.STATIC)) {
+                valid &= addField(type, field, constants, statements);
+            }
+        }
+        if (!valid) {
+            return;
+        }
+
+        final PackageElement packageElement = processingEnv.getElementUtils().getPackageOf(type);
+        final String packageName = packageElement.isUnnamed() ? "" : packageElement.getQualifiedName().toString();
+        final String validatorName = validatorName(type);
+        final String typeName = typeReference(type);
+        final boolean isPublic = type.getModifiers().contains(Modifier.PUBLIC);
+
+        final StringBuilder source = new StringBuilder(1024);
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        source.append("/**\n")
+            .append(" * Validator of {@link ").append(type.getQualifiedName())
+            .append("}, generated from its constraint annotations.\n")
+            .append(" */\n");
+        final String generated = generatedAnnotation();
+        if (generated != null) {
+            source.append('@').append(generated).append("(\"").append(RequireProcessor.class.getName()).append("\")\n");
+        }
+        source.append(isPublic ? "public " : "").append("final class ").append(validatorName).append(" {\n\n");
+        for (final String constant : constants) {
+            source.append("    ").append(constant).append('\n');
+        }
+        if (!constants.isEmpty()) {
+            source.append('\n');
+        }
+        source.append("    private ").append(validatorName).append("() {\n")
+            .append("        // Utility class\n")
+            .append("    }\n\n")
+            .append("    /**\n")
+            .append("     * Check if value is not null and its fields meet their constraints.\n")
+            .append("     * If not throw an exception.\n")
+            .append("     *\n")
+            .append("     * @param value - value to check\n")
+            .append("     * @return value back to client\n")
+            .append("     * @throws IllegalArgumentException if statement false\n")
+            .append("     */\n")
+            .append("    public static ").append(typeName)
+            .append(" validate(final ").append(typeName).append(" value) {\n")
+            .append("        ").append(call("nonNull", "value", literal(type.getSimpleName().toString())))
+            .append('\n');
+        for (final String statement : statements) {
+            source.append("        ").append(statement).append('\n');
+        }
+        source.append("\n        return value;\n")
+            .append("    }\n")
+            .append("}\n");
+
+        final String qualifiedName = packageName.isEmpty() ? validatorName : packageName + '.' + validatorName;
+        try (Writer writer = processingEnv.getFiler().createSourceFile(qualifiedName, type).openWriter()) {
+            writer.write(source.toString());
+        } catch (final IOException e) {
+            error(type, "Can not write validator [" + qualifiedName + "]: " + e.getMessage());
+        }
+    }
+
+    private boolean addField(
+        @Nonnull final TypeElement type,
+        @Nonnull final VariableElement field,
+        @Nonnull final List<String> constants,
+        @Nonnull final List<String> statements
+    ) {
+        final NonNull nonNull = field.getAnnotation(NonNull.class);
+        final NonBlank nonBlank = field.getAnnotation(NonBlank.class);
+        final NonEmpty nonEmpty = field.getAnnotation(NonEmpty.class);
+        final MaxLength maxLength = field.getAnnotation(MaxLength.class);
+        final MinLength minLength = field.getAnnotation(MinLength.class);
+        final Format format = field.getAnnotation(Format.class);
+        final boolean string = nonBlank != null || nonEmpty != null
+            || maxLength != null || minLength != null || format != null;
+        final List<String> signs = new ArrayList<>();
+        addIf(signs, field.getAnnotation(Positive.class), "positive");
+        addIf(signs, field.getAnnotation(Negative.class), "negative");
+        addIf(signs, field.getAnnotation(GtThanZero.class), "gtThanZero");
+        addIf(signs, field.getAnnotation(LsThanZero.class), "lsThanZero");
+        if (nonNull == null && !string && signs.isEmpty()) {
+            return true;
+        }
+
+        final String fieldName = field.getSimpleName().toString();
+        final TypeMirror fieldType = field.asType();
+        final String value = accessor(type, field);
+        if (value == null) {
+            error(field, "Field [" + fieldName + "] is private and has no accessor, the validator can not read it");
+            return false;
+        }
+        final String name = literal(fieldName);
+
+        if (string && !signs.isEmpty()) {
+            error(field, "Field [" + fieldName + "] has both string and numeric constraints");
+            return false;
+        }
+        if ((maxLength != null || minLength != null || format != null) && !isType(fieldType, "java.lang.String")) {
+            error(field, "Length and format constraints of [" + fieldName + "] require a String field");
+            return false;
+        }
+        if (nonBlank != null && !isAssignable(fieldType, "java.lang.CharSequence")) {
+            error(field, "@NonBlank of [" + fieldName + "] requires a CharSequence field");
+            return false;
+        }
+        if (nonEmpty != null && !isNonEmptyType(fieldType)) {
+            error(field, "@NonEmpty of [" + fieldName + "] requires a CharSequence, Collection, Map or array field");
+            return false;
+        }
+        if (!signs.isEmpty() && !NUMERIC_TYPES.contains(fieldType.toString())) {
+            error(field, "Numeric constraints of [" + fieldName + "] require an int, long, float or double field");
+            return false;
+        }
+        if (nonNull != null && fieldType.getKind().isPrimitive()) {
+            error(field, "@NonNull of [" + fieldName + "] can not be applied to a primitive field");
+            return false;
+        }
+
+        if (nonNull != null && !string && signs.isEmpty()) {
+            statements.add(call("nonNull", value, name));
+        }
+        boolean lengthChecked = false;
+        if (nonBlank != null) {
+            if (maxLength != null && minLength == null) {
+                statements.add(call("nonBlankMaxLength", value, String.valueOf(maxLength.value()), name));
+                lengthChecked = true;
+            } else {
+                statements.add(call("nonBlank", value, name));
+            }
+        } else if (nonEmpty != null) {
+            statements.add(call("nonEmpty", value, name));
+        }
+        if (!lengthChecked) {
+            if (maxLength != null && minLength != null) {
+                statements.add(call(
+                    "length", value, String.valueOf(minLength.value()), String.valueOf(maxLength.value()), name
+                ));
+            } else if (maxLength != null) {
+                statements.add(call("maxLength", value, String.valueOf(maxLength.value()), name));
+            } else if (minLength != null) {
+                statements.add(call("minLength", value, String.valueOf(minLength.value()), name));
+            }
+        }
+        if (format != null) {
+            try {
+                Pattern.compile(format.value());
+            } catch (final PatternSyntaxException e) {
+                error(field, "@Format of [" + fieldName + "] is not a valid regexp: " + e.getDescription());
+                return false;
+            }
+            final String constant = toConstantName(fieldName) + "_FORMAT";
+            constants.add("private static final java.util.regex.Pattern " + constant
+                + " = java.util.regex.Pattern.compile(" + literal(format.value()) + ");");
+            statements.add(call("format", value, constant, name));
+        }
+        for (final String sign : signs) {
+            statements.add(call(sign, value, name));
+        }
+
+        return true;
+    }
+
+    @Nullable
+    private String accessor(@Nonnull final TypeElement type, @Nonnull final VariableElement field) {
+        final String fieldName = field.getSimpleName().toString();
+        if ("RECORD".equals(type.getKind().name())) {
+            return "value." + fieldName + "()";
+        }
+        if (!field.getModifiers().contains(Modifier.PRIVATE)) {
+            return "value." + fieldName;
+        }
+        final String capitalized = Character.toUpperCase(fieldName.charAt(0)) + fieldName.substring(1);
+        final List<String> candidates = Arrays.asList("get" + capitalized, "is" + capitalized, fieldName);
+        for (final ExecutableElement method : ElementFilter.methodsIn(type.getEnclosedElements())) {
+            if (candidates.contains(method.getSimpleName().toString())
+                && method.getParameters().isEmpty()
+                && !method.getModifiers().contains(Modifier.PRIVATE)
+                && !method.getModifiers().contains(Modifier.STATIC)
+                && processingEnv.getTypeUtils().isSameType(method.getReturnType(), field.asType())) {
+                return "value." + method.getSimpleName() + "()";
+            }
+        }
+
+        return null;
+    }
+
+    private boolean isType(@Nonnull final TypeMirror type, @Nonnull final String name) {
+        final TypeElement element = processingEnv.getElementUtils().getTypeElement(name);
+        return element != null && processingEnv.getTypeUtils().isSameType(type, element.asType());
+    }
+
+    private boolean isAssignable(@Nonnull final TypeMirror type, @Nonnull final String name) {
+        final TypeElement element = processingEnv.getElementUtils().getTypeElement(name);
+        return element != null && processingEnv.getTypeUtils().isAssignable(
+            type,
+            processingEnv.getTypeUtils().erasure(element.asType())
+        );
+    }
+
+    private boolean isNonEmptyType(@Nonnull final TypeMirror type) {
+        if (type.getKind() == TypeKind.ARRAY) {
+            return true;
+        }
+
+        return isAssignable(type, "java.lang.CharSequence")
+            || isAssignable(type, "java.util.Collection")
+            || isAssignable(type, "java.util.Map");
+    }
+
+    /**
+     * {@code javax.annotation.processing.Generated} since Java 9, {@code javax.annotation.Generated} before.
+     */
+    @Nullable
+    private String generatedAnnotation() {
+        for (final String name : Arrays.asList("javax.annotation.processing.Generated", "javax.annotation.Generated")) {
+            if (processingEnv.getElementUtils().getTypeElement(name) != null) {
+                return name;
+            }
+        }
+
+        return null;
+    }
+
+    private void error(@Nonnull final Element element, @Nonnull final String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+
+    @Nonnull
+    private static String validatorName(@Nonnull final TypeElement type) {
+        final StringBuilder name = new StringBuilder(type.getSimpleName()).append("Validator");
+        Element enclosing = type.getEnclosingElement();
+        while (enclosing instanceof TypeElement) {
+            name.insert(0, '_').insert(0, enclosing.getSimpleName());
+            enclosing = enclosing.getEnclosingElement();
+        }
+
+        return name.toString();
+    }
+
+    /**
+     * Qualified type name, generic types are referenced with wildcards, like {@code Box<?>}.
+     */
+    @Nonnull
+    private static String typeReference(@Nonnull final TypeElement type) {
+        final int typeParameters = type.getTypeParameters().size();
+        if (typeParameters == 0) {
+            return type.getQualifiedName().toString();
+        }
+        final StringBuilder reference = new StringBuilder(type.getQualifiedName()).append("<?");
+        for (int i = 1; i < typeParameters; i++) {
+            reference.append(", ?");
+        }
+
+        return reference.append('>').toString();
+    }
+
+    @Nonnull
+    private static String call(@Nonnull final String method, @Nonnull final String... arguments) {
+        return REQUIRE + '.' + method + '(' + String.join(", ", arguments) + ");";
+    }
+
+    private static void addIf(
+        @Nonnull final List<String> methods,
+        @Nullable final Object annotation,
+        @Nonnull final String method
+    ) {
+        if (annotation != null) {
+            methods.add(method);
+        }
+    }
+
+    @Nonnull
+    private static String toConstantName(@Nonnull final String fieldName) {
+        return fieldName.replaceAll("([a-z0-9])([A-Z])", "$1_$2").toUpperCase(Locale.ROOT);
+    }
+
+    @Nonnull
+    private static String literal(@Nonnull final String value) {
+        final StringBuilder literal = new StringBuilder(value.length() + 2).append('"');
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    literal.append("\\\"");
+                    break;
+                case '\\':
+                    literal.append("\\\\");
+                    break;
+                case '\n':
+                    literal.append("\\n");
+                    break;
+                case '\r':
+                    literal.append("\\r");
+                    break;
+                case '\t':
+                    literal.append("\\t");
+                    break;
+                default:
+                    if (c < ' ' || c > '~') {
+                        literal.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        literal.append(c);
+                    }
+                    break;
+            }
+        }
+
+        return literal.append('"').toString();
+    }
+}
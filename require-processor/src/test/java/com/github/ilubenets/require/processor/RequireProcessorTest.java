@@ -0,0 +1,190 @@
+package com.github.ilubenets.require.processor;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import javax.lang.model.SourceVersion;
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+final class RequireProcessorTest {
+
+    private static final String ORDER = String.join("\n",
+        "package shop;",
+        "",
+        "import com.github.ilubenets.require.annotation.*;",
+        "",
+        "public final class Order {",
+        "    @NonBlank @MaxLength(8) private final String sku;",
+        "    @Format(\"\\\\d+\") final String code;",
+        "    @GtThanZero private final int quantity;",
+        "    @Positive private final Long price;",
+        "    @NonEmpty private final java.util.List<String> tags;",
+        "    private final String note;",
+        "",
+        "    public Order(String sku, String code, int quantity, Long price, java.util.List<String> tags) {",
+        "        this.sku = sku;",
+        "        this.code = code;",
+        "        this.quantity = quantity;",
+        "        this.price = price;",
+        "        this.tags = tags;",
+        "        this.note = null;",
+        "    }",
+        "",
+        "    public String getSku() { return sku; }",
+        "    int quantity() { return quantity; }",
+        "    public Long getPrice() { return price; }",
+        "    public java.util.List<String> getTags() { return tags; }",
+        "}"
+    );
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void generatesValidator() throws Exception {
+        final ClassLoader classLoader = compile("shop.Order", ORDER);
+        final Class<?> order = classLoader.loadClass("shop.Order");
+        final Method validate = classLoader.loadClass("shop.OrderValidator").getMethod("validate", order);
+        final Class<?>[] parameters = {String.class, String.class, int.class, Long.class, List.class};
+        final List<String> tags = Collections.singletonList("new");
+
+        final Object valid = order.getConstructor(parameters).newInstance("sku-1", "42", 1, 0L, tags);
+        Assertions.assertSame(valid, validate.invoke(null, valid));
+
+        assertMessage("The value of [Order] must not be null.", validate, null);
+        assertMessage(
+            "The value of [sku] must not be blank.",
+            validate,
+            order.getConstructor(parameters).newInstance(" ", "42", 1, 0L, tags)
+        );
+        assertMessage(
+            "The length of [sku] must be between 1-8.",
+            validate,
+            order.getConstructor(parameters).newInstance("sku-123456", "42", 1, 0L, tags)
+        );
+        assertMessage(
+            "The value of [code] has invalid format.",
+            validate,
+            order.getConstructor(parameters).newInstance("sku-1", "4x", 1, 0L, tags)
+        );
+        assertMessage(
+            "The value of [quantity] must be greater than 0.",
+            validate,
+            order.getConstructor(parameters).newInstance("sku-1", "42", 0, 0L, tags)
+        );
+        assertMessage(
+            "The value of [price] must not be null.",
+            validate,
+            order.getConstructor(parameters).newInstance("sku-1", "42", 1, null, tags)
+        );
+        assertMessage(
+            "The value of [tags] must not be empty.",
+            validate,
+            order.getConstructor(parameters).newInstance("sku-1", "42", 1, 0L, Collections.emptyList())
+        );
+    }
+
+    @Test
+    void generatesRecordValidator() throws Exception {
+        Assumptions.assumeTrue(SourceVersion.latestSupported().ordinal() >= 16, "records require Java 16");
+        final ClassLoader classLoader = compile(
+            "Money",
+            "public record Money(@com.github.ilubenets.require.annotation.Positive long amount) {}"
+        );
+        final Class<?> money = classLoader.loadClass("Money");
+        final Method validate = classLoader.loadClass("MoneyValidator").getMethod("validate", money);
+
+        assertMessage(
+            "The value of [amount] must be positive or 0.",
+            validate,
+            money.getConstructor(long.class).newInstance(-1L)
+        );
+    }
+
+    @Test
+    void reportsUnsupportedField() throws IOException {
+        final String source = String.join("\n",
+            "class Invalid {",
+            "    @com.github.ilubenets.require.annotation.MaxLength(3) int code;",
+            "    @com.github.ilubenets.require.annotation.NonBlank private String name;",
+            "}"
+        );
+        final DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+
+        Assertions.assertFalse(run("Invalid", source, diagnostics));
+        final List<String> errors = Arrays.asList(
+            "Length and format constraints of [code] require a String field",
+            "Field [name] is private and has no accessor, the validator can not read it"
+        );
+        for (final Diagnostic<? extends JavaFileObject> diagnostic : diagnostics.getDiagnostics()) {
+            Assertions.assertEquals(Diagnostic.Kind.ERROR, diagnostic.getKind());
+            Assertions.assertTrue(errors.contains(diagnostic.getMessage(null)), diagnostic.getMessage(null));
+        }
+        Assertions.assertEquals(2, diagnostics.getDiagnostics().size());
+    }
+
+    private ClassLoader compile(final String className, final String source) throws IOException {
+        final DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        Assertions.assertTrue(run(className, source, diagnostics), () -> diagnostics.getDiagnostics().toString());
+
+        return new URLClassLoader(new URL[]{directory.toUri().toURL()}, getClass().getClassLoader());
+    }
+
+    private boolean run(
+        final String className,
+        final String source,
+        final DiagnosticCollector<JavaFileObject> diagnostics
+    ) throws IOException {
+        final Path file = directory.resolve(className.replace('.', File.separatorChar) + ".java");
+        Files.createDirectories(file.getParent());
+        Files.write(file, source.getBytes(StandardCharsets.UTF_8));
+
+        final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        try (StandardJavaFileManager files = compiler.getStandardFileManager(diagnostics, null, StandardCharsets.UTF_8)) {
+            final JavaCompiler.CompilationTask task = compiler.getTask(
+                null,
+                files,
+                diagnostics,
+                Arrays.asList(
+                    "-d", directory.toString(),
+                    "-s", directory.toString(),
+                    "-classpath", System.getProperty("java.class.path")
+                ),
+                null,
+                files.getJavaFileObjects(file.toFile())
+            );
+            task.setProcessors(Collections.singletonList(new RequireProcessor()));
+
+            return task.call();
+        }
+    }
+
+    private static void assertMessage(final String message, final Method validate, final Object value) {
+        final InvocationTargetException exception = Assertions.assertThrows(
+            InvocationTargetException.class,
+            () -> validate.invoke(null, value)
+        );
+        Assertions.assertTrue(exception.getCause() instanceof IllegalArgumentException);
+        Assertions.assertEquals(message, exception.getCause().getMessage());
+    }
+}
@@ -0,0 +1,117 @@
+package com.github.ilubenets.require;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bulk array checks against the per element loop over the scalar checks, on valid arrays.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RequireArrayBenchmark {
+
+    @Param({"1024", "1048576"})
+    private int size;
+
+    private int[] ints;
+    private long[] longs;
+    private double[] doubles;
+
+    @Setup
+    public void setUp() {
+        final Random random = new Random(42);
+        ints = new int[size];
+        longs = new long[size];
+        doubles = new double[size];
+        for (int i = 0; i < size; i++) {
+            ints[i] = 1 + random.nextInt(1000);
+            longs[i] = 1L + random.nextInt(1000);
+            doubles[i] = random.nextDouble();
+        }
+    }
+
+    @Benchmark
+    public Object allPositive_int_loop() {
+        for (final int value : ints) {
+            Require.positive(value, "ints");
+        }
+        return ints;
+    }
+
+    @Benchmark
+    public Object allPositive_int_bulk() {
+        return Require.allPositive(ints, "ints");
+    }
+
+    @Benchmark
+    public Object allGtThanZero_long_loop() {
+        for (final long value : longs) {
+            Require.gtThanZero(value, "longs");
+        }
+        return longs;
+    }
+
+    @Benchmark
+    public Object allGtThanZero_long_bulk() {
+        return Require.allGtThanZero(longs, "longs");
+    }
+
+    @Benchmark
+    public Object allInRange_int_loop() {
+        for (final int value : ints) {
+            if (value < 1 || value > 1000) {
+                throw new IllegalArgumentException();
+            }
+        }
+        return ints;
+    }
+
+    @Benchmark
+    public Object allInRange_int_bulk() {
+        return Require.allInRange(ints, 1, 1000, "ints");
+    }
+
+    @Benchmark
+    public Object allPositive_double_loop() {
+        for (final double value : doubles) {
+            Require.positive(value, "doubles");
+        }
+        return doubles;
+    }
+
+    @Benchmark
+    public Object allPositive_double_bulk() {
+        return Require.allPositive(doubles, "doubles");
+    }
+
+    @Benchmark
+    public Object allFinite_double_loop() {
+        for (final double value : doubles) {
+            if (!Double.isFinite(value)) {
+                throw new IllegalArgumentException();
+            }
+        }
+        return doubles;
+    }
+
+    @Benchmark
+    public Object allFinite_double_bulk() {
+        return Require.allFinite(doubles, "doubles");
+    }
+}
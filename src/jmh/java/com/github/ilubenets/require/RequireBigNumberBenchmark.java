@@ -0,0 +1,82 @@
+package com.github.ilubenets.require;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BigDecimal and BigInteger checks on the pass path compared with the hand written forms they replace:
+ * comparison with {@code BigDecimal.ZERO}, integer digits from {@code toPlainString()}
+ * and a fits-into-long test through {@code longValueExact()}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RequireBigNumberBenchmark {
+
+    private BigDecimal amount = new BigDecimal("12345.67");
+    private BigDecimal inflated = new BigDecimal("1234567890123456789012345.6789");
+    private BigInteger id = BigInteger.valueOf(9_007_199_254_740_993L);
+
+    @Benchmark
+    public Object gtThanZero_amount() {
+        return Require.gtThanZero(amount, "amount");
+    }
+
+    @Benchmark
+    public boolean compareToZero_amount() {
+        return amount.compareTo(BigDecimal.ZERO) > 0;
+    }
+
+    @Benchmark
+    public Object maxIntegerDigits_amount() {
+        return Require.maxIntegerDigits(amount, 13, "amount");
+    }
+
+    @Benchmark
+    public Object maxIntegerDigits_inflated() {
+        return Require.maxIntegerDigits(inflated, 25, "amount");
+    }
+
+    @Benchmark
+    public boolean plainString_amount() {
+        final String plain = amount.abs().toPlainString();
+        final int point = plain.indexOf('.');
+        return (point < 0 ? plain.length() : point) <= 13;
+    }
+
+    @Benchmark
+    public boolean plainString_inflated() {
+        final String plain = inflated.abs().toPlainString();
+        final int point = plain.indexOf('.');
+        return (point < 0 ? plain.length() : point) <= 25;
+    }
+
+    @Benchmark
+    public Object maxScale_amount() {
+        return Require.maxScale(amount, 2, "amount");
+    }
+
+    @Benchmark
+    public Object maxBitLength_id() {
+        return Require.maxBitLength(id, 63, "id");
+    }
+
+    @Benchmark
+    public long longValueExact_id() {
+        return id.longValueExact();
+    }
+}
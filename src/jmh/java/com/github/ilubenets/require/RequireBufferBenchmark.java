@@ -0,0 +1,63 @@
+package com.github.ilubenets.require;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In place UTF-8 check of a 64 KiB heap or direct buffer against decoding it with a reporting decoder.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RequireBufferBenchmark {
+
+    @Param({"heap", "direct"})
+    private String kind;
+
+    @Param({"ascii", "mixed"})
+    private String text;
+
+    private ByteBuffer buffer;
+    private CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder();
+
+    @Setup
+    public void setUp() {
+        final String unit = "ascii".equals(text) ? "order-line-item;" : "order-\u00e9\u20ac-item;";
+        final StringBuilder content = new StringBuilder();
+        while (content.length() < 1 << 16) {
+            content.append(unit);
+        }
+        final byte[] bytes = content.toString().getBytes(StandardCharsets.UTF_8);
+        buffer = "direct".equals(kind) ? ByteBuffer.allocateDirect(bytes.length) : ByteBuffer.allocate(bytes.length);
+        buffer.put(bytes);
+        buffer.flip();
+    }
+
+    @Benchmark
+    public Object wellFormedUtf8() {
+        return Require.wellFormedUtf8(buffer, "body");
+    }
+
+    @Benchmark
+    public Object decoder() throws CharacterCodingException {
+        return decoder.decode(buffer.duplicate());
+    }
+}
@@ -0,0 +1,195 @@
+package com.github.ilubenets.require;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Vector;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pass and throw paths of the collection, map, enumeration and array {@code nonEmpty} checks.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RequireCollectionBenchmark {
+
+    private List<String> list = new ArrayList<>(Arrays.asList("a", "b", "c"));
+    private List<String> emptyList = new ArrayList<>();
+    private Map<String, String> map = new HashMap<>(Collections.singletonMap("a", "b"));
+    private Map<String, String> emptyMap = new HashMap<>();
+    private Enumeration<String> enumeration = new Vector<>(list).elements();
+    private Enumeration<String> emptyEnumeration = Collections.emptyEnumeration();
+    private String[] objects = {"a", "b", "c"};
+    private String[] emptyObjects = {};
+    private char[] chars = {'a', 'b'};
+    private char[] emptyChars = {};
+    private byte[] bytes = {1, 2};
+    private byte[] emptyBytes = {};
+    private int[] ints = {1, 2};
+    private int[] emptyInts = {};
+    private long[] longs = {1L, 2L};
+    private long[] emptyLongs = {};
+    private float[] floats = {1F, 2F};
+    private float[] emptyFloats = {};
+    private double[] doubles = {1D, 2D};
+    private double[] emptyDoubles = {};
+
+    @Benchmark
+    public Object nonEmpty_collection_pass() {
+        return Require.nonEmpty(list, "value");
+    }
+
+    @Benchmark
+    public Object nonEmpty_collection_throw() {
+        try {
+            return Require.nonEmpty(emptyList, "value");
+        } catch (final IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object nonEmpty_map_pass() {
+        return Require.nonEmpty(map, "value");
+    }
+
+    @Benchmark
+    public Object nonEmpty_map_throw() {
+        try {
+            return Require.nonEmpty(emptyMap, "value");
+        } catch (final IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object nonEmpty_enumeration_pass() {
+        return Require.nonEmpty(enumeration, "value");
+    }
+
+    @Benchmark
+    public Object nonEmpty_enumeration_throw() {
+        try {
+            return Require.nonEmpty(emptyEnumeration, "value");
+        } catch (final IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object nonEmpty_objects_pass() {
+        return Require.nonEmpty(objects, "value");
+    }
+
+    @Benchmark
+    public Object nonEmpty_objects_throw() {
+        try {
+            return Require.nonEmpty(emptyObjects, "value");
+        } catch (final IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object nonEmpty_chars_pass() {
+        return Require.nonEmpty(chars, "value");
+    }
+
+    @Benchmark
+    public Object nonEmpty_chars_throw() {
+        try {
+            return Require.nonEmpty(emptyChars, "value");
+        } catch (final IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object nonEmpty_bytes_pass() {
+        return Require.nonEmpty(bytes, "value");
+    }
+
+    @Benchmark
+    public Object nonEmpty_bytes_throw() {
+        try {
+            return Require.nonEmpty(emptyBytes, "value");
+        } catch (final IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object nonEmpty_ints_pass() {
+        return Require.nonEmpty(ints, "value");
+    }
+
+    @Benchmark
+    public Object nonEmpty_ints_throw() {
+        try {
+            return Require.nonEmpty(emptyInts, "value");
+        } catch (final IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object nonEmpty_longs_pass() {
+        return Require.nonEmpty(longs, "value");
+    }
+
+    @Benchmark
+    public Object nonEmpty_longs_throw() {
+        try {
+            return Require.nonEmpty(emptyLongs, "value");
+        } catch (final IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object nonEmpty_floats_pass() {
+        return Require.nonEmpty(floats, "value");
+    }
+
+    @Benchmark
+    public Object nonEmpty_floats_throw() {
+        try {
+            return Require.nonEmpty(emptyFloats, "value");
+        } catch (final IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object nonEmpty_doubles_pass() {
+        return Require.nonEmpty(doubles, "value");
+    }
+
+    @Benchmark
+    public Object nonEmpty_doubles_throw() {
+        try {
+            return Require.nonEmpty(emptyDoubles, "value");
+        } catch (final IllegalArgumentException e) {
+            return e;
+        }
+    }
+}
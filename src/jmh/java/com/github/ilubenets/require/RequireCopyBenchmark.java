@@ -0,0 +1,110 @@
+package com.github.ilubenets.require;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Fused check and defensive copy against the check-then-copy pattern of value object constructors.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RequireCopyBenchmark {
+
+    @Param({"16", "1024"})
+    private int size;
+
+    private List<String> list;
+    private Set<String> set;
+    private Map<String, Integer> map;
+
+    @Setup
+    public void setUp() {
+        list = new ArrayList<>(size);
+        map = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            list.add("line-" + i);
+            map.put("line-" + i, i);
+        }
+        set = new HashSet<>(list);
+    }
+
+    @Benchmark
+    public List<String> nonEmpty_thenCopy() {
+        Require.nonEmpty(list, "lines");
+        return Collections.unmodifiableList(new ArrayList<>(list));
+    }
+
+    @Benchmark
+    public List<String> nonEmptyCopy() {
+        return Require.nonEmptyCopy(list, "lines");
+    }
+
+    @Benchmark
+    public List<String> eachNonNull_thenCopy() {
+        Require.nonEmpty(list, "lines");
+        Require.eachNonNull(list, "lines");
+        return Collections.unmodifiableList(new ArrayList<>(list));
+    }
+
+    @Benchmark
+    public List<String> nonNullElementsCopy() {
+        return Require.nonNullElementsCopy(list, "lines");
+    }
+
+    @Benchmark
+    public List<String> eachNonNull_thenCopy_set() {
+        Require.eachNonNull(set, "lines");
+        return Collections.unmodifiableList(new ArrayList<>(set));
+    }
+
+    @Benchmark
+    public List<String> nonNullElementsCopy_set() {
+        return Require.nonNullElementsCopy(set, "lines");
+    }
+
+    @Benchmark
+    public Map<String, Integer> nonEmpty_thenCopy_map() {
+        Require.nonEmpty(map, "lines");
+        return Collections.unmodifiableMap(new LinkedHashMap<>(map));
+    }
+
+    @Benchmark
+    public Map<String, Integer> nonEmptyCopy_map() {
+        return Require.nonEmptyCopy(map, "lines");
+    }
+
+    @Benchmark
+    public List<String> collect_thenEachNonNull() {
+        final List<String> collected = list.stream().collect(Collectors.toList());
+        return Collections.unmodifiableList(Require.eachNonNull(collected, "lines"));
+    }
+
+    @Benchmark
+    public List<String> collect_toNonNullList() {
+        return list.stream().collect(Require.toNonNullList("lines"));
+    }
+}
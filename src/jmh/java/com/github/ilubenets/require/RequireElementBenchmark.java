@@ -0,0 +1,69 @@
+package com.github.ilubenets.require;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Element checks against the per element loop over the scalar checks, on valid lists.
+ * The large size is above the parallel threshold.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RequireElementBenchmark {
+
+    @Param({"1024", "4194304"})
+    private int size;
+
+    private List<String> names;
+
+    @Setup
+    public void setUp() {
+        names = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            names.add("  name-" + i);
+        }
+    }
+
+    @Benchmark
+    public Object eachNonBlank_loop() {
+        for (final String name : names) {
+            Require.nonBlank(name, "names");
+        }
+        return names;
+    }
+
+    @Benchmark
+    public Object eachNonBlank() {
+        return Require.eachNonBlank(names, "names");
+    }
+
+    @Benchmark
+    public Object eachMaxLength_loop() {
+        for (final String name : names) {
+            Require.maxLength(name, 64, "names");
+        }
+        return names;
+    }
+
+    @Benchmark
+    public Object eachMaxLength() {
+        return Require.eachMaxLength(names, 64, "names");
+    }
+}
@@ -0,0 +1,53 @@
+package com.github.ilubenets.require;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Format checks of simple patterns with {@link Pattern} against {@link CompiledFormat}, on matching values.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RequireFormatBenchmark {
+
+    @Param({"\\d+|0123456789", "[A-Z0-9]{3,12}|AB12CD34", "[a-z_]+|order_line_item"})
+    private String formatAndValue;
+
+    private String value;
+    private Pattern pattern;
+    private CompiledFormat compiledFormat;
+
+    @Setup
+    public void setUp() {
+        final int separator = formatAndValue.lastIndexOf('|');
+        value = formatAndValue.substring(separator + 1);
+        pattern = Pattern.compile(formatAndValue.substring(0, separator));
+        compiledFormat = CompiledFormat.compile(formatAndValue.substring(0, separator));
+    }
+
+    @Benchmark
+    public Object format_pattern() {
+        return Require.format(value, pattern, "value");
+    }
+
+    @Benchmark
+    public Object format_compiledFormat() {
+        return Require.format(value, compiledFormat, "value");
+    }
+}
@@ -0,0 +1,85 @@
+package com.github.ilubenets.require;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lazy stream checks against the unchecked stream and a check in {@code peek}, over 1M valid elements.
+ * The primitive wrappers must stay allocation free per element, parallel runs must split like the source.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RequireLazyBenchmark {
+
+    private static final int SIZE = 1 << 20;
+
+    private int[] ints;
+    private List<String> names;
+
+    @Setup
+    public void setUp() {
+        ints = new int[SIZE];
+        names = new ArrayList<>(SIZE);
+        for (int i = 0; i < SIZE; i++) {
+            ints[i] = i;
+            names.add("name-" + (i & 1023));
+        }
+    }
+
+    @Benchmark
+    public long intStream_unchecked() {
+        return Arrays.stream(ints).asLongStream().sum();
+    }
+
+    @Benchmark
+    public long intStream_peek() {
+        return Arrays.stream(ints).peek(value -> Require.inRange(value, 0, SIZE, "ints")).asLongStream().sum();
+    }
+
+    @Benchmark
+    public long intStream_allInRange() {
+        return Require.allInRange(Arrays.stream(ints), 0, SIZE, "ints").asLongStream().sum();
+    }
+
+    @Benchmark
+    public long intStream_allInRange_parallel() {
+        return Require.allInRange(Arrays.stream(ints).parallel(), 0, SIZE, "ints").asLongStream().sum();
+    }
+
+    @Benchmark
+    public long stream_unchecked() {
+        return names.stream().mapToInt(String::length).sum();
+    }
+
+    @Benchmark
+    public long stream_peek() {
+        return names.stream().peek(name -> Require.nonBlank(name, "names")).mapToInt(String::length).sum();
+    }
+
+    @Benchmark
+    public long stream_validating() {
+        return Require.validating(names.stream(), Require::nonBlank, "names").mapToInt(String::length).sum();
+    }
+
+    @Benchmark
+    public long stream_eachNonNull() {
+        return Require.eachNonNull(names.stream(), "names").mapToInt(String::length).sum();
+    }
+}
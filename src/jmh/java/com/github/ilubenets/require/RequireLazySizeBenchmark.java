@@ -0,0 +1,92 @@
+package com.github.ilubenets.require;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Emptiness and size checks of an unsized stream of 64K elements against materializing it into a list first,
+ * which is what callers had to do before. The lazy checks must not allocate per element.
+ * The stream is backed by an iterator, like a stream over a cursor. A stream with intermediate operations
+ * is measured too: after its first element was taken, the JDK pulls the rest of it one by one.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RequireLazySizeBenchmark {
+
+    private static final int SIZE = 1 << 16;
+
+    private List<String> names;
+
+    @Setup
+    public void setUp() {
+        names = new ArrayList<>(SIZE);
+        for (int i = 0; i < SIZE; i++) {
+            names.add("name-" + (i & 1023));
+        }
+    }
+
+    @Benchmark
+    public long stream_unchecked() {
+        return cursor().mapToInt(String::length).sum();
+    }
+
+    @Benchmark
+    public long stream_collectThenNonEmpty() {
+        final List<String> list = Require.nonEmpty(cursor().collect(Collectors.toList()), "names");
+        return list.stream().mapToInt(String::length).sum();
+    }
+
+    @Benchmark
+    public long stream_nonEmpty() {
+        return Require.nonEmpty(cursor(), "names").mapToInt(String::length).sum();
+    }
+
+    @Benchmark
+    public long stream_collectThenMaxSize() {
+        final List<String> list = cursor().collect(Collectors.toList());
+        Require.inRange(list.size(), 0, SIZE, "names");
+        return list.stream().mapToInt(String::length).sum();
+    }
+
+    @Benchmark
+    public long stream_maxSize() {
+        return Require.maxSize(cursor(), SIZE, "names").mapToInt(String::length).sum();
+    }
+
+    @Benchmark
+    public long pipeline_unchecked() {
+        return names.stream().filter(name -> !name.isEmpty()).mapToInt(String::length).sum();
+    }
+
+    @Benchmark
+    public long pipeline_nonEmpty() {
+        return Require.nonEmpty(names.stream().filter(name -> !name.isEmpty()), "names")
+            .mapToInt(String::length)
+            .sum();
+    }
+
+    private Stream<String> cursor() {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(names.iterator(), Spliterator.ORDERED), false);
+    }
+}
@@ -0,0 +1,66 @@
+package com.github.ilubenets.require;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the listener registry: pass paths must not change with or without listeners,
+ * the throw path pays for the counters only when metrics are installed.
+ * Stack traces are switched off, so the throw path is not dominated by the stack walk.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dcom.github.ilubenets.require.stackTrace=false")
+public class RequireListenerBenchmark {
+
+    @Param({"none", "metrics"})
+    private String listener;
+
+    private RequireMetrics metrics;
+    private String valid = "request-0123456789";
+    private String blank = "                  ";
+
+    @Setup
+    public void setUp() {
+        if ("metrics".equals(listener)) {
+            metrics = new RequireMetrics();
+            RequireListeners.add(metrics);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (metrics != null) {
+            RequireListeners.remove(metrics);
+        }
+    }
+
+    @Benchmark
+    public Object nonBlankMaxLength_pass() {
+        return Require.nonBlankMaxLength(valid, 64, "value");
+    }
+
+    @Benchmark
+    public Object nonBlank_throw() {
+        try {
+            return Require.nonBlank(blank, "value");
+        } catch (final IllegalArgumentException e) {
+            return e;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.github.ilubenets.require;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fused strip, case folding and checks against the trim, toLowerCase, nonBlank, maxLength chain,
+ * on input which is already clean, padded, or padded and mixed case.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RequireNormalizeBenchmark {
+
+    private static final StringNormalizer EMAIL = StringNormalizer.builder()
+        .strip()
+        .lowerCase()
+        .nonBlank()
+        .maxLength(254)
+        .build();
+
+    @Param({"john.doe@example.com", "  john.doe@example.com  ", "  John.Doe@Example.COM  "})
+    private String value;
+
+    @Benchmark
+    public String trim_nonBlankMaxLength() {
+        return Require.nonBlankMaxLength(value.trim(), 254, "email");
+    }
+
+    @Benchmark
+    public String trimmedNonBlankMaxLength() {
+        return Require.trimmedNonBlankMaxLength(value, 254, "email");
+    }
+
+    @Benchmark
+    public String trim_lowerCase_nonBlankMaxLength() {
+        return Require.nonBlankMaxLength(value.trim().toLowerCase(Locale.ROOT), 254, "email");
+    }
+
+    @Benchmark
+    public String normalizer() {
+        return EMAIL.normalize(value, "email");
+    }
+}
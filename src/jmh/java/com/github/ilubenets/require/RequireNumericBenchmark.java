@@ -0,0 +1,539 @@
+package com.github.ilubenets.require;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pass and throw paths of the numeric checks, primitive and boxed overloads side by side.
+ * Boxed inputs are held in fields, so the benchmarks measure the check and not the boxing.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RequireNumericBenchmark {
+
+    private int intPositivePass = 1;
+    private int intPositiveThrow = -1;
+    private Integer boxedIntPositivePass = 1;
+    private Integer boxedIntPositiveThrow = -1;
+    private long longPositivePass = 1L;
+    private long longPositiveThrow = -1L;
+    private Long boxedLongPositivePass = 1L;
+    private Long boxedLongPositiveThrow = -1L;
+    private float floatPositivePass = 1F;
+    private float floatPositiveThrow = -1F;
+    private Float boxedFloatPositivePass = 1F;
+    private Float boxedFloatPositiveThrow = -1F;
+    private double doublePositivePass = 1D;
+    private double doublePositiveThrow = -1D;
+    private Double boxedDoublePositivePass = 1D;
+    private Double boxedDoublePositiveThrow = -1D;
+    private int intNegativePass = -1;
+    private int intNegativeThrow = 1;
+    private Integer boxedIntNegativePass = -1;
+    private Integer boxedIntNegativeThrow = 1;
+    private long longNegativePass = -1L;
+    private long longNegativeThrow = 1L;
+    private Long boxedLongNegativePass = -1L;
+    private Long boxedLongNegativeThrow = 1L;
+    private float floatNegativePass = -1F;
+    private float floatNegativeThrow = 1F;
+    private Float boxedFloatNegativePass = -1F;
+    private Float boxedFloatNegativeThrow = 1F;
+    private double doubleNegativePass = -1D;
+    private double doubleNegativeThrow = 1D;
+    private Double boxedDoubleNegativePass = -1D;
+    private Double boxedDoubleNegativeThrow = 1D;
+    private int intGtThanZeroPass = 1;
+    private int intGtThanZeroThrow = 0;
+    private Integer boxedIntGtThanZeroPass = 1;
+    private Integer boxedIntGtThanZeroThrow = 0;
+    private long longGtThanZeroPass = 1L;
+    private long longGtThanZeroThrow = 0L;
+    private Long boxedLongGtThanZeroPass = 1L;
+    private Long boxedLongGtThanZeroThrow = 0L;
+    private float floatGtThanZeroPass = 1F;
+    private float floatGtThanZeroThrow = 0F;
+    private Float boxedFloatGtThanZeroPass = 1F;
+    private Float boxedFloatGtThanZeroThrow = 0F;
+    private double doubleGtThanZeroPass = 1D;
+    private double doubleGtThanZeroThrow = 0D;
+    private Double boxedDoubleGtThanZeroPass = 1D;
+    private Double boxedDoubleGtThanZeroThrow = 0D;
+    private int intLsThanZeroPass = -1;
+    private int intLsThanZeroThrow = 0;
+    private Integer boxedIntLsThanZeroPass = -1;
+    private Integer boxedIntLsThanZeroThrow = 0;
+    private long longLsThanZeroPass = -1L;
+    private long longLsThanZeroThrow = 0L;
+    private Long boxedLongLsThanZeroPass = -1L;
+    private Long boxedLongLsThanZeroThrow = 0L;
+    private float floatLsThanZeroPass = -1F;
+    private float floatLsThanZeroThrow = 0F;
+    private Float boxedFloatLsThanZeroPass = -1F;
+    private Float boxedFloatLsThanZeroThrow = 0F;
+    private double doubleLsThanZeroPass = -1D;
+    private double doubleLsThanZeroThrow = 0D;
+    private Double boxedDoubleLsThanZeroPass = -1D;
+    private Double boxedDoubleLsThanZeroThrow = 0D;
+
+    @Benchmark
+    public int positive_int_pass() {
+        return Require.positive(intPositivePass, "value");
+    }
+
+    @Benchmark
+    public Object positive_int_throw() {
+        try {
+            return Require.positive(intPositiveThrow, "value");
+        } catch (final IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Integer positive_boxed_int_pass() {
+        return Require.positive(boxedIntPositivePass, "value");
+    }
+
+    @Benchmark
+    public Object positive_boxed_int_throw() {
+        try {
+            return Require.positive(boxedIntPositiveThrow, "value");
+        } catch (final IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public long positive_long_pass() {
+        return Require.positive(longPositivePass, "value");
+    }
+
+    @Benchmark
+    public Object positive_long_throw() {
+        try {
+            return Require.positive(longPositiveThrow, "value");
+        } catch (final IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Long positive_boxed_long_pass() {
+        return Require.positive(boxedLongPositivePass, "value");
+    }
+
+    @Benchmark
+    public Object positive_boxed_long_throw() {
+        try {
+            return Require.positive(boxedLongPositiveThrow, "value");
+        } catch (final IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public float positive_float_pass() {
+        return Require.positive(floatPositivePass, "value");
+    }
+
+    @Benchmark
+    public Object positive_float_throw() {
+        try {
+            return Require.positive(floatPositiveThrow, "value");
+        } catch (final IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Float positive_boxed_float_pass() {
+        return Require.positive(boxedFloatPositivePass, "value");
+    }
+
+    @Benchmark
+    public Object positive_boxed_float_throw() {
+        try {
+            return Require.positive(boxedFloatPositiveThrow, "value");
+        } catch (final IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public double positive_double_pass() {
+        return Require.positive(doublePositivePass, "value");
+    }
+
+    @Benchmark
+    public Object positive_double_throw() {
+        try {
+            return Require.positive(doublePositiveThrow, "value");
+        } catch (final IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Double positive_boxed_double_pass() {
+        return Require.positive(boxedDoublePositivePass, "value");
+    }
+
+    @Benchmark
+    public Object positive_boxed_double_throw() {
+        try {
+            return Require.positive(boxedDoublePositiveThrow, "value");
+        } catch (final IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public int negative_int_pass() {
+        return Require.negative(intNegativePass, "value");
+    }
+
+    @Benchmark
+    public Object negative_int_throw() {
+        try {
+            return Require.negative(intNegativeThrow, "value");
+        } catch (final IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Integer negative_boxed_int_pass() {
+        return Require.negative(boxedIntNegativePass, "value");
+    }
+
+    @Benchmark
+    public Object negative_boxed_int_throw() {
+        try {
+            return Require.negative(boxedIntNegativeThrow, "value");
+        } catch (final IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public long negative_long_pass() {
+        return Require.negative(longNegativePass, "value");
+    }
+
+    @Benchmark
+    public Object negative_long_throw() {
+        try {
+            return Require.negative(longNegativeThrow, "value");
+        } catch (final IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Long negative_boxed_long_pass() {
+        return Require.negative(boxedLongNegativePass, "value");
+    }
+
+    @Benchmark
+    public Object negative_boxed_long_throw() {
+        try {
+            return Require.negative(boxedLongNegativeThrow, "value");
+        } catch (final IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public float negative_float_pass() {
+        return Require.negative(floatNegativePass, "value");
+    }
+
+    @Benchmark
+    public Object negative_float_throw() {
+        try {
+            return Require.negative(floatNegativeThrow, "value");
+        } catch (final IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Float negative_boxed_float_pass() {
+        return Require.negative(boxedFloatNegativePass, "value");
+    }
+
+    @Benchmark
+    public Object negative_boxed_float_throw() {
+        try {
+            return Require.negative(boxedFloatNegativeThrow, "value");
+        } catch (final IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public double negative_double_pass() {
+        return Require.negative(doubleNegativePass, "value");
+    }
+
+    @Benchmark
+    public Object negative_double_throw() {
+        try {
+            return Require.negative(doubleNegativeThrow, "value");
+        } catch (final IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Double negative_boxed_double_pass() {
+        return Require.negative(boxedDoubleNegativePass, "value");
+    }
+
+    @Benchmark
+    public Object negative_boxed_double_throw() {
+        try {
+            return Require.negative(boxedDoubleNegativeThrow, "value");
+        } catch (final IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public int gtThanZero_int_pass() {
+        return Require.gtThanZero(intGtThanZeroPass, "value");
+    }
+
+    @Benchmark
+    public Object gtThanZero_int_throw() {
+        try {
+            return Require.gtThanZero(intGtThanZeroThrow, "value");
+        } catch (final IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Integer gtThanZero_boxed_int_pass() {
+        return Require.gtThanZero(boxedIntGtThanZeroPass, "value");
+    }
+
+    @Benchmark
+    public Object gtThanZero_boxed_int_throw() {
+        try {
+            return Require.gtThanZero(boxedIntGtThanZeroThrow, "value");
+        } catch (final IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public long gtThanZero_long_pass() {
+        return Require.gtThanZero(longGtThanZeroPass, "value");
+    }
+
+    @Benchmark
+    public Object gtThanZero_long_throw() {
+        try {
+            return Require.gtThanZero(longGtThanZeroThrow, "value");
+        } catch (final IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Long gtThanZero_boxed_long_pass() {
+        return Require.gtThanZero(boxedLongGtThanZeroPass, "value");
+    }
+
+    @Benchmark
+    public Object gtThanZero_boxed_long_throw() {
+        try {
+            return Require.gtThanZero(boxedLongGtThanZeroThrow, "value");
+        } catch (final IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public float gtThanZero_float_pass() {
+        return Require.gtThanZero(floatGtThanZeroPass, "value");
+    }
+
+    @Benchmark
+    public Object gtThanZero_float_throw() {
+        try {
+            return Require.gtThanZero(floatGtThanZeroThrow, "value");
+        } catch (final IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Float gtThanZero_boxed_float_pass() {
+        return Require.gtThanZero(boxedFloatGtThanZeroPass, "value");
+    }
+
+    @Benchmark
+    public Object gtThanZero_boxed_float_throw() {
+        try {
+            return Require.gtThanZero(boxedFloatGtThanZeroThrow, "value");
+        } catch (final IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public double gtThanZero_double_pass() {
+        return Require.gtThanZero(doubleGtThanZeroPass, "value");
+    }
+
+    @Benchmark
+    public Object gtThanZero_double_throw() {
+        try {
+            return Require.gtThanZero(doubleGtThanZeroThrow, "value");
+        } catch (final IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Double gtThanZero_boxed_double_pass() {
+        return Require.gtThanZero(boxedDoubleGtThanZeroPass, "value");
+    }
+
+    @Benchmark
+    public Object gtThanZero_boxed_double_throw() {
+        try {
+            return Require.gtThanZero(boxedDoubleGtThanZeroThrow, "value");
+        } catch (final IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public int lsThanZero_int_pass() {
+        return Require.lsThanZero(intLsThanZeroPass, "value");
+    }
+
+    @Benchmark
+    public Object lsThanZero_int_throw() {
+        try {
+            return Require.lsThanZero(intLsThanZeroThrow, "value");
+        } catch (final IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Integer lsThanZero_boxed_int_pass() {
+        return Require.lsThanZero(boxedIntLsThanZeroPass, "value");
+    }
+
+    @Benchmark
+    public Object lsThanZero_boxed_int_throw() {
+        try {
+            return Require.lsThanZero(boxedIntLsThanZeroThrow, "value");
+        } catch (final IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public long lsThanZero_long_pass() {
+        return Require.lsThanZero(longLsThanZeroPass, "value");
+    }
+
+    @Benchmark
+    public Object lsThanZero_long_throw() {
+        try {
+            return Require.lsThanZero(longLsThanZeroThrow, "value");
+        } catch (final IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Long lsThanZero_boxed_long_pass() {
+        return Require.lsThanZero(boxedLongLsThanZeroPass, "value");
+    }
+
+    @Benchmark
+    public Object lsThanZero_boxed_long_throw() {
+        try {
+            return Require.lsThanZero(boxedLongLsThanZeroThrow, "value");
+        } catch (final IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public float lsThanZero_float_pass() {
+        return Require.lsThanZero(floatLsThanZeroPass, "value");
+    }
+
+    @Benchmark
+    public Object lsThanZero_float_throw() {
+        try {
+            return Require.lsThanZero(floatLsThanZeroThrow, "value");
+        } catch (final IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Float lsThanZero_boxed_float_pass() {
+        return Require.lsThanZero(boxedFloatLsThanZeroPass, "value");
+    }
+
+    @Benchmark
+    public Object lsThanZero_boxed_float_throw() {
+        try {
+            return Require.lsThanZero(boxedFloatLsThanZeroThrow, "value");
+        } catch (final IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public double lsThanZero_double_pass() {
+        return Require.lsThanZero(doubleLsThanZeroPass, "value");
+    }
+
+    @Benchmark
+    public Object lsThanZero_double_throw() {
+        try {
+            return Require.lsThanZero(doubleLsThanZeroThrow, "value");
+        } catch (final IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Double lsThanZero_boxed_double_pass() {
+        return Require.lsThanZero(boxedDoubleLsThanZeroPass, "value");
+    }
+
+    @Benchmark
+    public Object lsThanZero_boxed_double_throw() {
+        try {
+            return Require.lsThanZero(boxedDoubleLsThanZeroThrow, "value");
+        } catch (final IllegalArgumentException e) {
+            return e;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.github.ilubenets.require;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Range checks on the pass path: primitive, boxed (must not allocate) and Comparable,
+ * and index checks in a loop over an array, where the JIT can merge them with the array bounds checks.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RequireRangeBenchmark {
+
+    private int port = 8080;
+    private Integer pageSize = 128;
+    private double ratio = 0.25;
+    private BigDecimal amount = new BigDecimal("9.99");
+    private BigDecimal maxAmount = new BigDecimal("1000");
+    private int[] values;
+    private int[] indexes;
+
+    @Setup
+    public void setUp() {
+        values = new int[1024];
+        indexes = new int[1024];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = i;
+            indexes[i] = (i * 31) & 1023;
+        }
+    }
+
+    @Benchmark
+    public int inRange_int_pass() {
+        return Require.inRange(port, 1, 65535, "port");
+    }
+
+    @Benchmark
+    public Object inRange_Integer_pass() {
+        return Require.inRange(pageSize, 1, 500, "pageSize");
+    }
+
+    @Benchmark
+    public double inRangeExclusive_double_pass() {
+        return Require.inRangeExclusive(ratio, 0.0, 1.0, "ratio");
+    }
+
+    @Benchmark
+    public Object inRange_Comparable_pass() {
+        return Require.inRange(amount, BigDecimal.ZERO, maxAmount, "amount");
+    }
+
+    @Benchmark
+    public int gather_unchecked() {
+        int sum = 0;
+        for (int i = 0; i < indexes.length; i++) {
+            sum += values[indexes[i]];
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int gather_checkIndex() {
+        int sum = 0;
+        for (int i = 0; i < indexes.length; i++) {
+            sum += values[Require.checkIndex(indexes[i], values.length, "index")];
+        }
+        return sum;
+    }
+}
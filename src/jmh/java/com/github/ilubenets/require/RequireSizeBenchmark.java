@@ -0,0 +1,77 @@
+package com.github.ilubenets.require;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rejecting an oversized payload of 1M ids with a limit of 1000: {@code size()} of a concurrent queue walks
+ * the whole queue, maxSize stops after the limit. The list case must stay a plain {@code size()} call,
+ * both maxSize cases include creating the violation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RequireSizeBenchmark {
+
+    private static final int SIZE = 1 << 20;
+    private static final int LIMIT = 1000;
+
+    private List<Long> list;
+    private Queue<Long> queue;
+
+    @Setup
+    public void setUp() {
+        list = new ArrayList<>(SIZE);
+        for (long i = 0; i < SIZE; i++) {
+            list.add(i);
+        }
+        queue = new ConcurrentLinkedQueue<>(list);
+    }
+
+    @Benchmark
+    public boolean queue_size() {
+        return queue.size() <= LIMIT;
+    }
+
+    @Benchmark
+    public boolean queue_maxSize() {
+        return rejected(queue);
+    }
+
+    @Benchmark
+    public boolean list_size() {
+        return list.size() <= LIMIT;
+    }
+
+    @Benchmark
+    public boolean list_maxSize() {
+        return rejected(list);
+    }
+
+    private static boolean rejected(final Collection<Long> values) {
+        try {
+            Require.maxSize(values, LIMIT, "ids");
+            return false;
+        } catch (final RequireViolationException e) {
+            return true;
+        }
+    }
+}
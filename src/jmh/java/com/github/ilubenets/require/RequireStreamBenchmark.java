@@ -0,0 +1,50 @@
+package com.github.ilubenets.require;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reading a 1 MiB body with an 8 KiB buffer, directly and through the length limited wrapper.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RequireStreamBenchmark {
+
+    private byte[] body = new byte[1 << 20];
+    private byte[] buffer = new byte[8192];
+
+    @Benchmark
+    public long read_plain() throws IOException {
+        return drain(new ByteArrayInputStream(body));
+    }
+
+    @Benchmark
+    public long read_maxLength() throws IOException {
+        return drain(Require.maxLength(new ByteArrayInputStream(body), 1L << 20, "body"));
+    }
+
+    private long drain(final InputStream stream) throws IOException {
+        long total = 0L;
+        int read;
+        while ((read = stream.read(buffer, 0, buffer.length)) >= 0) {
+            total += read;
+        }
+        return total;
+    }
+}
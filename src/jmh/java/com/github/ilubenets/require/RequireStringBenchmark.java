@@ -0,0 +1,216 @@
+package com.github.ilubenets.require;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Pass and throw paths of the string checks.
+ * Throw path benchmarks return the caught exception so it can not be eliminated.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RequireStringBenchmark {
+
+    private String valid = "request-0123456789";
+    private String paddedValid = "   request-0123456789   ";
+    private String blank = "                  ";
+    private String unicodePaddedValid = "\u2003\u3000request-0123456789\u3000\u2003";
+    private String latin1LongPaddedValid = repeat("\t \n \r ", 16) + "request-0123456789";
+    private String utf16LongPaddedValid = repeat("\u2003 \u3000 ", 16) + "request-0123456789";
+    private StringBuilder paddedBuilder = new StringBuilder(paddedValid);
+    private String empty = "";
+    private String nullValue = null;
+    private String digits = "0123456789";
+    private String notDigits = "01234x6789";
+    private String digitsRegex = "\\d+";
+    private Pattern digitsPattern = Pattern.compile(digitsRegex);
+    private String accented = "r\u00e9qu\u00eate-\u20ac-0123456789-0123456789-0123456789";
+
+    @Benchmark
+    public Object nonNull_pass() {
+        return Require.nonNull(valid, "value");
+    }
+
+    @Benchmark
+    public Object nonNull_throw() {
+        try {
+            return Require.nonNull(nullValue, "value");
+        } catch (final IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object nonBlank_pass() {
+        return Require.nonBlank(valid, "value");
+    }
+
+    @Benchmark
+    public Object nonBlank_padded_pass() {
+        return Require.nonBlank(paddedValid, "value");
+    }
+
+    @Benchmark
+    public Object nonBlank_charSequence_padded_pass() {
+        return Require.nonBlank(paddedBuilder, "value");
+    }
+
+    @Benchmark
+    public Object nonBlank_unicode_padded_pass() {
+        return Require.nonBlank(unicodePaddedValid, Whitespace.UNICODE, "value");
+    }
+
+    @Benchmark
+    public Object nonBlank_unicode_latin1LongPadded_pass() {
+        return Require.nonBlank(latin1LongPaddedValid, Whitespace.UNICODE, "value");
+    }
+
+    @Benchmark
+    public Object nonBlank_unicode_utf16LongPadded_pass() {
+        return Require.nonBlank(utf16LongPaddedValid, Whitespace.UNICODE, "value");
+    }
+
+    @Benchmark
+    public Object nonBlank_throw() {
+        try {
+            return Require.nonBlank(blank, "value");
+        } catch (final IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object nonEmpty_pass() {
+        return Require.nonEmpty(valid, "value");
+    }
+
+    @Benchmark
+    public Object nonEmpty_throw() {
+        try {
+            return Require.nonEmpty(empty, "value");
+        } catch (final IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object length_pass() {
+        return Require.length(valid, 1, 64, "value");
+    }
+
+    @Benchmark
+    public Object length_throw() {
+        try {
+            return Require.length(valid, 1, 8, "value");
+        } catch (final IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object maxLength_pass() {
+        return Require.maxLength(valid, 64, "value");
+    }
+
+    @Benchmark
+    public Object maxLength_throw() {
+        try {
+            return Require.maxLength(valid, 8, "value");
+        } catch (final IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object minLength_pass() {
+        return Require.minLength(valid, 8, "value");
+    }
+
+    @Benchmark
+    public Object minLength_throw() {
+        try {
+            return Require.minLength(valid, 64, "value");
+        } catch (final IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object nonBlankMaxLength_pass() {
+        return Require.nonBlankMaxLength(valid, 64, "value");
+    }
+
+    @Benchmark
+    public Object nonBlankMaxLength_throw() {
+        try {
+            return Require.nonBlankMaxLength(blank, 64, "value");
+        } catch (final IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object format_pass() {
+        return Require.format(digits, digitsPattern, "value");
+    }
+
+    @Benchmark
+    public Object format_regex_pass() {
+        return Require.format(digits, digitsRegex, "value");
+    }
+
+    @Benchmark
+    public Object format_compileEachCall_pass() {
+        return Require.format(digits, Pattern.compile(digitsRegex), "value");
+    }
+
+    @Benchmark
+    public Object format_throw() {
+        try {
+            return Require.format(notDigits, digitsPattern, "value");
+        } catch (final IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object maxUtf8Length_ascii_pass() {
+        return Require.maxUtf8Length(valid, 64, "value");
+    }
+
+    @Benchmark
+    public Object maxUtf8Length_accented_pass() {
+        return Require.maxUtf8Length(accented, 64, "value");
+    }
+
+    @Benchmark
+    public Object maxUtf8Length_getBytes_pass() {
+        if (accented.getBytes(StandardCharsets.UTF_8).length > 64) {
+            throw new IllegalArgumentException("value");
+        }
+        return accented;
+    }
+
+    private static String repeat(final String part, final int count) {
+        final StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            builder.append(part);
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,54 @@
+package com.github.ilubenets.require;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Failure path throughput with and without stack trace capture.
+ * The check is called {@code depth} frames deep, the stack trace cost grows with it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class RequireViolationBenchmark {
+
+    @Param({"1", "64"})
+    private int depth;
+
+    private String blank = "   ";
+
+    @Benchmark
+    @Fork(1)
+    public Object throw_withStackTrace() {
+        return violation(depth);
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = "-D" + RequireViolationException.STACK_TRACE_PROPERTY + "=false")
+    public Object throw_withoutStackTrace() {
+        return violation(depth);
+    }
+
+    private Object violation(final int frames) {
+        if (frames > 1) {
+            return violation(frames - 1);
+        }
+        try {
+            return Require.nonBlank(blank, "value");
+        } catch (final IllegalArgumentException e) {
+            return e;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.github.ilubenets.require;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Validation of a small DTO with {@link Require} and with a reused {@link Validation}.
+ * The pass path of both must not allocate.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidationBenchmark {
+
+    private String sku = "sku-0123456789";
+    private Integer quantity = 3;
+    private long price = 1999L;
+    private String blankSku = "   ";
+    private Integer zeroQuantity = 0;
+    private long negativePrice = -1L;
+    private Validation validation = Validation.create();
+
+    @Benchmark
+    public void require_pass(final Blackhole blackhole) {
+        blackhole.consume(Require.nonBlankMaxLength(sku, 64, "sku"));
+        blackhole.consume(Require.gtThanZero(quantity, "quantity"));
+        blackhole.consume(Require.positive(price, "price"));
+    }
+
+    @Benchmark
+    public void validation_pass(final Blackhole blackhole) {
+        validation.reset();
+        blackhole.consume(validation.nonBlankMaxLength(sku, 64, "sku"));
+        blackhole.consume(validation.gtThanZero(quantity, "quantity"));
+        blackhole.consume(validation.positive(price, "price"));
+        validation.throwIfInvalid();
+    }
+
+    @Benchmark
+    public Object require_throwFirst() {
+        try {
+            Require.nonBlankMaxLength(blankSku, 64, "sku");
+            Require.gtThanZero(zeroQuantity, "quantity");
+            return Require.positive(negativePrice, "price");
+        } catch (final IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object validation_throwAll() {
+        validation.reset();
+        validation.nonBlankMaxLength(blankSku, 64, "sku");
+        validation.gtThanZero(zeroQuantity, "quantity");
+        validation.positive(negativePrice, "price");
+        try {
+            validation.throwIfInvalid();
+            return validation;
+        } catch (final IllegalArgumentException e) {
+            return e;
+        }
+    }
+}
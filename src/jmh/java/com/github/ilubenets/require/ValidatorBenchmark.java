@@ -0,0 +1,103 @@
+package com.github.ilubenets.require;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Prebuilt {@link Validator} against hand written {@link Require} calls on the same DTO.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidatorBenchmark {
+
+    private static final Validator<Order> VALIDATOR = Validator.of(Order.class)
+        .field("sku", Order::sku, Rules.nonBlank().maxLength(64))
+        .field("discount", Order::discount, Rules.positive())
+        .intField("quantity", Order::quantity, Rules.gtThanZero())
+        .longField("price", Order::price, Rules.positive())
+        .build();
+
+    private Order valid = new Order("sku-0123456789", 5, 3, 1999L);
+    private Order invalid = new Order("sku-0123456789", 5, 0, 1999L);
+
+    @Benchmark
+    public Object require_pass() {
+        return validate(valid);
+    }
+
+    @Benchmark
+    public Object validator_pass() {
+        return VALIDATOR.validate(valid);
+    }
+
+    @Benchmark
+    public Object require_throw() {
+        try {
+            return validate(invalid);
+        } catch (final IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object validator_throw() {
+        try {
+            return VALIDATOR.validate(invalid);
+        } catch (final IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    private static Order validate(final Order order) {
+        Require.nonNull(order, "Order");
+        Require.nonBlankMaxLength(order.sku(), 64, "sku");
+        Require.positive(order.discount(), "discount");
+        Require.gtThanZero(order.quantity(), "quantity");
+        Require.positive(order.price(), "price");
+        return order;
+    }
+
+    private static final class Order {
+
+        private final String sku;
+        private final Integer discount;
+        private final int quantity;
+        private final long price;
+
+        Order(final String sku, final Integer discount, final int quantity, final long price) {
+            this.sku = sku;
+            this.discount = discount;
+            this.quantity = quantity;
+            this.price = price;
+        }
+
+        String sku() {
+            return sku;
+        }
+
+        Integer discount() {
+            return discount;
+        }
+
+        int quantity() {
+            return quantity;
+        }
+
+        long price() {
+            return price;
+        }
+    }
+}
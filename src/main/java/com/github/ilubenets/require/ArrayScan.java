@@ -0,0 +1,390 @@
+package com.github.ilubenets.require;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Bulk checks over primitive arrays, each returns the index of the first element which fails the check, or -1.
+ *
+ * Integral arrays are processed in blocks. Every block is first folded into one word with a branch free
+ * OR of sign bits, which C2 compiles to SIMD code, and only a failed block is rescanned element by element
+ * to find the index. Range checks use the offset trick: {@code v - min} and {@code span - (v - min)}
+ * are both non negative only for values in range, as long as the span fits into the type.
+ *
+ * Floating point arrays are scanned with a plain comparison loop. The NaN and negative zero aware reductions
+ * ({@code Math.min}, raw bits) measured slower than the loop on JDK 8-21, so they are not used.
+ */
+final class ArrayScan {
+
+    private static final int BLOCK = 512;
+
+    private ArrayScan() {
+        // Utility class
+    }
+
+    static int notPositive(@Nonnull final int[] values) {
+        for (int from = 0; from < values.length; from += BLOCK) {
+            final int to = Math.min(values.length, from + BLOCK);
+            int signs = 0;
+            for (int i = from; i < to; i++) {
+                final int v = values[i];
+                signs |= v;
+            }
+            if (signs < 0) {
+                for (int i = from; i < to; i++) {
+                    final int v = values[i];
+                    if (v < 0) {
+                        return i;
+                    }
+                }
+            }
+        }
+
+        return -1;
+    }
+
+    static int notGtThanZero(@Nonnull final int[] values) {
+        for (int from = 0; from < values.length; from += BLOCK) {
+            final int to = Math.min(values.length, from + BLOCK);
+            int signs = 0;
+            for (int i = from; i < to; i++) {
+                final int v = values[i];
+                signs |= v | (v - 1);
+            }
+            if (signs < 0) {
+                for (int i = from; i < to; i++) {
+                    final int v = values[i];
+                    if (v <= 0) {
+                        return i;
+                    }
+                }
+            }
+        }
+
+        return -1;
+    }
+
+    static int notNegative(@Nonnull final int[] values) {
+        for (int from = 0; from < values.length; from += BLOCK) {
+            final int to = Math.min(values.length, from + BLOCK);
+            int signs = 0;
+            for (int i = from; i < to; i++) {
+                final int v = values[i];
+                signs |= -v & ~v;
+            }
+            if (signs < 0) {
+                for (int i = from; i < to; i++) {
+                    final int v = values[i];
+                    if (v > 0) {
+                        return i;
+                    }
+                }
+            }
+        }
+
+        return -1;
+    }
+
+    static int notLsThanZero(@Nonnull final int[] values) {
+        for (int from = 0; from < values.length; from += BLOCK) {
+            final int to = Math.min(values.length, from + BLOCK);
+            int signs = 0;
+            for (int i = from; i < to; i++) {
+                final int v = values[i];
+                signs |= ~v;
+            }
+            if (signs < 0) {
+                for (int i = from; i < to; i++) {
+                    final int v = values[i];
+                    if (v >= 0) {
+                        return i;
+                    }
+                }
+            }
+        }
+
+        return -1;
+    }
+
+    static int notPositive(@Nonnull final long[] values) {
+        for (int from = 0; from < values.length; from += BLOCK) {
+            final int to = Math.min(values.length, from + BLOCK);
+            long signs = 0L;
+            for (int i = from; i < to; i++) {
+                final long v = values[i];
+                signs |= v;
+            }
+            if (signs < 0L) {
+                for (int i = from; i < to; i++) {
+                    final long v = values[i];
+                    if (v < 0L) {
+                        return i;
+                    }
+                }
+            }
+        }
+
+        return -1;
+    }
+
+    static int notGtThanZero(@Nonnull final long[] values) {
+        for (int from = 0; from < values.length; from += BLOCK) {
+            final int to = Math.min(values.length, from + BLOCK);
+            long signs = 0L;
+            for (int i = from; i < to; i++) {
+                final long v = values[i];
+                signs |= v | (v - 1L);
+            }
+            if (signs < 0L) {
+                for (int i = from; i < to; i++) {
+                    final long v = values[i];
+                    if (v <= 0L) {
+                        return i;
+                    }
+                }
+            }
+        }
+
+        return -1;
+    }
+
+    static int notNegative(@Nonnull final long[] values) {
+        for (int from = 0; from < values.length; from += BLOCK) {
+            final int to = Math.min(values.length, from + BLOCK);
+            long signs = 0L;
+            for (int i = from; i < to; i++) {
+                final long v = values[i];
+                signs |= -v & ~v;
+            }
+            if (signs < 0L) {
+                for (int i = from; i < to; i++) {
+                    final long v = values[i];
+                    if (v > 0L) {
+                        return i;
+                    }
+                }
+            }
+        }
+
+        return -1;
+    }
+
+    static int notLsThanZero(@Nonnull final long[] values) {
+        for (int from = 0; from < values.length; from += BLOCK) {
+            final int to = Math.min(values.length, from + BLOCK);
+            long signs = 0L;
+            for (int i = from; i < to; i++) {
+                final long v = values[i];
+                signs |= ~v;
+            }
+            if (signs < 0L) {
+                for (int i = from; i < to; i++) {
+                    final long v = values[i];
+                    if (v >= 0L) {
+                        return i;
+                    }
+                }
+            }
+        }
+
+        return -1;
+    }
+
+    static int notInRange(@Nonnull final int[] values, final int min, final int max) {
+        final long span = (long) max - min;
+        if (span < 0L || span > Integer.MAX_VALUE) {
+            return notInRangeScalar(values, min, max);
+        }
+        final int intSpan = (int) span;
+        for (int from = 0; from < values.length; from += BLOCK) {
+            final int to = Math.min(values.length, from + BLOCK);
+            int signs = 0;
+            for (int i = from; i < to; i++) {
+                final int offset = values[i] - min;
+                signs |= offset | (intSpan - offset);
+            }
+            if (signs < 0) {
+                for (int i = from; i < to; i++) {
+                    if (values[i] < min || values[i] > max) {
+                        return i;
+                    }
+                }
+            }
+        }
+
+        return -1;
+    }
+
+    static int notInRange(@Nonnull final long[] values, final long min, final long max) {
+        final long span = max - min;
+        if (max < min || span < 0L) {
+            return notInRangeScalar(values, min, max);
+        }
+        for (int from = 0; from < values.length; from += BLOCK) {
+            final int to = Math.min(values.length, from + BLOCK);
+            long signs = 0L;
+            for (int i = from; i < to; i++) {
+                final long offset = values[i] - min;
+                signs |= offset | (span - offset);
+            }
+            if (signs < 0L) {
+                for (int i = from; i < to; i++) {
+                    if (values[i] < min || values[i] > max) {
+                        return i;
+                    }
+                }
+            }
+        }
+
+        return -1;
+    }
+
+    static int notPositive(@Nonnull final float[] values) {
+        for (int i = 0; i < values.length; i++) {
+            final float v = values[i];
+            if (v < 0.0F) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    static int notGtThanZero(@Nonnull final float[] values) {
+        for (int i = 0; i < values.length; i++) {
+            final float v = values[i];
+            if (v <= 0.0F) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    static int notNegative(@Nonnull final float[] values) {
+        for (int i = 0; i < values.length; i++) {
+            final float v = values[i];
+            if (v > 0.0F) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    static int notLsThanZero(@Nonnull final float[] values) {
+        for (int i = 0; i < values.length; i++) {
+            final float v = values[i];
+            if (v >= 0.0F) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    static int notInRange(@Nonnull final float[] values, final float min, final float max) {
+        for (int i = 0; i < values.length; i++) {
+            final float v = values[i];
+            if (!(v >= min && v <= max)) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    static int notFinite(@Nonnull final float[] values) {
+        for (int i = 0; i < values.length; i++) {
+            if (!Float.isFinite(values[i])) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    static int notPositive(@Nonnull final double[] values) {
+        for (int i = 0; i < values.length; i++) {
+            final double v = values[i];
+            if (v < 0.0D) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    static int notGtThanZero(@Nonnull final double[] values) {
+        for (int i = 0; i < values.length; i++) {
+            final double v = values[i];
+            if (v <= 0.0D) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    static int notNegative(@Nonnull final double[] values) {
+        for (int i = 0; i < values.length; i++) {
+            final double v = values[i];
+            if (v > 0.0D) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    static int notLsThanZero(@Nonnull final double[] values) {
+        for (int i = 0; i < values.length; i++) {
+            final double v = values[i];
+            if (v >= 0.0D) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    static int notInRange(@Nonnull final double[] values, final double min, final double max) {
+        for (int i = 0; i < values.length; i++) {
+            final double v = values[i];
+            if (!(v >= min && v <= max)) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    static int notFinite(@Nonnull final double[] values) {
+        for (int i = 0; i < values.length; i++) {
+            if (!Double.isFinite(values[i])) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    private static int notInRangeScalar(@Nonnull final int[] values, final int min, final int max) {
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] < min || values[i] > max) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    private static int notInRangeScalar(@Nonnull final long[] values, final long min, final long max) {
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] < min || values[i] > max) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+}
@@ -0,0 +1,94 @@
+package com.github.ilubenets.require;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Kind of requirement which was violated, together with its message template.
+ *
+ * Templates are split into literal parts once, when the enum is initialized.
+ * A message is rendered by plain concatenation only when it is requested, {@code java.util.Formatter} is not used.
+ * The first placeholder of every template is the value name, the next ones are the arguments of the violation.
+ * If the violation belongs to an element of an array or collection, its index is rendered after the name,
+ * like {@code [prices[17]]}.
+ */
+public enum Check {
+
+    NON_NULL("The value of [%s] must not be null."),
+    NON_BLANK("The value of [%s] must not be blank."),
+    NON_EMPTY("The value of [%s] must not be empty."),
+    FORMAT("The value of [%s] has invalid format."),
+    LENGTH("The length of [%s] must be between %d-%d."),
+    MIN_LENGTH("The length of [%s] must at least %d."),
+    SIZE("The size of [%s] must be between %d-%d."),
+    POSITIVE("The value of [%s] must be positive or 0."),
+    GREATER_THAN_ZERO("The value of [%s] must be greater than 0."),
+    NEGATIVE("The value of [%s] must be negative or 0."),
+    LESS_THAN_ZERO("The value of [%s] must be less than 0."),
+    FINITE("The value of [%s] must be finite."),
+    IN_RANGE("The value of [%s] must be between %s and %s."),
+    IN_RANGE_EXCLUSIVE("The value of [%s] must be greater than %s and less than %s."),
+    AT_LEAST("The value of [%s] must be at least %s."),
+    GREATER_THAN("The value of [%s] must be greater than %s."),
+    AT_MOST("The value of [%s] must be at most %s."),
+    LESS_THAN("The value of [%s] must be less than %s."),
+    INDEX("The index [%s] must be between 0 and %s exclusive."),
+    FROM_TO_INDEX("The range [%s] must be within 0 and %s."),
+    MAX_SCALE("The scale of [%s] must be at most %d."),
+    MAX_PRECISION("The precision of [%s] must be at most %d digits."),
+    MAX_INTEGER_DIGITS("The integer part of [%s] must have at most %d digits."),
+    MAX_BIT_LENGTH("The bit length of [%s] must be at most %d."),
+    NON_NULL_KEY("The keys of [%s] must not be null."),
+    UTF_8("The value of [%s] must be well-formed UTF-8."),
+    UTF_8_LENGTH("The UTF-8 length of [%s] must be between %d-%d bytes.");
+
+    private final String template;
+    private final String[] parts;
+
+    Check(@Nonnull final String template) {
+        this.template = template;
+        this.parts = template.split("%[sd]", -1);
+    }
+
+    /**
+     * Message template in the {@code String.format} syntax.
+     *
+     * @return template
+     */
+    @Nonnull
+    public String template() {
+        return template;
+    }
+
+    /**
+     * Number of arguments, not counting the value name, the message of this check is rendered with.
+     *
+     * @return number of arguments
+     */
+    public int argumentCount() {
+        return parts.length - 2;
+    }
+
+    @Nonnull
+    String render(
+        @Nullable final String valueName,
+        @Nullable final Object index,
+        @Nullable final Object first,
+        @Nullable final Object second
+    ) {
+        final StringBuilder message = new StringBuilder(template.length() + 32);
+        message.append(parts[0]).append(valueName);
+        if (index != null) {
+            message.append('[').append(index).append(']');
+        }
+        message.append(parts[1]);
+        if (parts.length > 2) {
+            message.append(first).append(parts[2]);
+        }
+        if (parts.length > 3) {
+            message.append(second).append(parts[3]);
+        }
+
+        return message.toString();
+    }
+}
@@ -0,0 +1,749 @@
+package com.github.ilubenets.require;
+
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Lazy element checks, wrappers which check every element when it is consumed from the source.
+ *
+ * A spliterator wrapper is the consumer of its source itself, so traversal allocates nothing per element
+ * and the primitive wrappers never box. Characteristics, size estimates and splitting are taken from the source,
+ * so a parallel stream over a wrapped source is split the same way as over the source.
+ * The index of the failing element is tracked only for sources which report exact sizes after a split
+ * ({@link Spliterator#SUBSIZED}), other sources report the failing element without its position.
+ * Elements which are never consumed are never checked: a short-circuiting operation stops the checks,
+ * and on Java 9 and later {@code count()} of a sized stream does not traverse it at all.
+ *
+ * Size checks follow the same rules: elements are counted while they are consumed and the check fails
+ * on the first element over the limit, so at most one element more than the limit is read from the source.
+ * A source is checked for emptiness by taking its first element, which is then replayed before the rest.
+ */
+final class CheckedSpliterators {
+
+    private static final long UNKNOWN = -1L;
+
+    private CheckedSpliterators() {
+        // Utility class
+    }
+
+    private static long offset(@Nonnull final Spliterator<?> source) {
+        return source.hasCharacteristics(Spliterator.SUBSIZED) ? 0L : UNKNOWN;
+    }
+
+    /**
+     * Position of the next element, the offset of the part plus the elements consumed from it.
+     * Counting unconditionally keeps the per element work to one increment.
+     */
+    private static long position(final long offset, final long consumed) {
+        return offset == UNKNOWN ? UNKNOWN : offset + consumed;
+    }
+
+    @Nullable
+    private static Object index(final long position) {
+        return position == UNKNOWN ? null : position;
+    }
+
+    /**
+     * Apply the rule, or the null check if there is no rule, to one element.
+     * A violation of the rule is thrown again with the position of the element.
+     */
+    private static <T> void check(
+        @Nullable final Rule<? super T> rule,
+        @Nullable final T element,
+        @Nonnull final String valueName,
+        final long offset,
+        final long consumed
+    ) {
+        if (rule == null) {
+            if (element == null) {
+                final Object index = index(position(offset, consumed));
+                throw new RequireViolationException(Check.NON_NULL, valueName, index, null, null);
+            }
+            return;
+        }
+        try {
+            rule.check(element, valueName);
+        } catch (final RequireViolationException e) {
+            if (offset == UNKNOWN || e.getIndex() != null) {
+                throw e;
+            }
+            final Object[] arguments = e.getArguments();
+            throw new RequireViolationException(
+                e.getCheck(),
+                e.getValueName(),
+                offset + consumed,
+                arguments.length > 0 ? arguments[0] : null,
+                arguments.length > 1 ? arguments[1] : null,
+                false
+            );
+        }
+    }
+
+    /**
+     * Iterator which checks every element returned by {@link #next()}, positions are always known.
+     */
+    static final class CheckedIterator<T> implements Iterator<T> {
+
+        private final Iterator<T> source;
+        private final Rule<? super T> rule;
+        private final String valueName;
+        private long consumed;
+
+        CheckedIterator(
+            @Nonnull final Iterator<T> source,
+            @Nullable final Rule<? super T> rule,
+            @Nonnull final String valueName
+        ) {
+            this.source = source;
+            this.rule = rule;
+            this.valueName = valueName;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return source.hasNext();
+        }
+
+        @Override
+        public T next() {
+            final T element = source.next();
+            check(rule, element, valueName, 0L, consumed++);
+            return element;
+        }
+
+        @Override
+        public void remove() {
+            source.remove();
+        }
+    }
+
+    /**
+     * Object elements checked with the rule, or for null if there is no rule.
+     */
+    static final class RefSpliterator<T> implements Spliterator<T>, Consumer<T> {
+
+        private final Spliterator<T> source;
+        private final Rule<? super T> rule;
+        private final String valueName;
+        private long offset;
+        private long consumed;
+        private Consumer<? super T> downstream;
+
+        RefSpliterator(
+            @Nonnull final Spliterator<T> source,
+            @Nullable final Rule<? super T> rule,
+            @Nonnull final String valueName
+        ) {
+            this(source, rule, valueName, offset(source));
+        }
+
+        private RefSpliterator(
+            @Nonnull final Spliterator<T> source,
+            @Nullable final Rule<? super T> rule,
+            @Nonnull final String valueName,
+            final long offset
+        ) {
+            this.source = source;
+            this.rule = rule;
+            this.valueName = valueName;
+            this.offset = offset;
+        }
+
+        @Override
+        public void accept(final T element) {
+            check(rule, element, valueName, offset, consumed);
+            consumed++;
+            downstream.accept(element);
+        }
+
+        @Override
+        public boolean tryAdvance(@Nonnull final Consumer<? super T> action) {
+            downstream = action;
+            return source.tryAdvance(this);
+        }
+
+        @Override
+        public void forEachRemaining(@Nonnull final Consumer<? super T> action) {
+            downstream = action;
+            source.forEachRemaining(this);
+        }
+
+        @Nullable
+        @Override
+        public Spliterator<T> trySplit() {
+            final Spliterator<T> prefix = source.trySplit();
+            if (prefix == null) {
+                return null;
+            }
+            final RefSpliterator<T> split = new RefSpliterator<>(prefix, rule, valueName, position(offset, consumed));
+            if (offset != UNKNOWN) {
+                offset += consumed + prefix.estimateSize();
+                consumed = 0L;
+            }
+            return split;
+        }
+
+        @Override
+        public long estimateSize() {
+            return source.estimateSize();
+        }
+
+        @Override
+        public int characteristics() {
+            return source.characteristics();
+        }
+
+        @Override
+        public Comparator<? super T> getComparator() {
+            return source.getComparator();
+        }
+    }
+
+    /**
+     * Int elements between min and max, inclusive. The positive check is the range from 0 with its own message.
+     */
+    static final class IntSpliterator implements Spliterator.OfInt, IntConsumer {
+
+        private final Spliterator.OfInt source;
+        private final Check check;
+        private final int min;
+        private final int max;
+        private final String valueName;
+        private long offset;
+        private long consumed;
+        private IntConsumer downstream;
+
+        IntSpliterator(
+            @Nonnull final Spliterator.OfInt source,
+            @Nonnull final Check check,
+            final int min,
+            final int max,
+            @Nonnull final String valueName
+        ) {
+            this(source, check, min, max, valueName, offset(source));
+        }
+
+        private IntSpliterator(
+            @Nonnull final Spliterator.OfInt source,
+            @Nonnull final Check check,
+            final int min,
+            final int max,
+            @Nonnull final String valueName,
+            final long offset
+        ) {
+            this.source = source;
+            this.check = check;
+            this.min = min;
+            this.max = max;
+            this.valueName = valueName;
+            this.offset = offset;
+        }
+
+        @Override
+        public void accept(final int value) {
+            if (value < min || value > max) {
+                throw check == Check.IN_RANGE
+                    ? new RequireViolationException(check, valueName, index(position(offset, consumed)), min, max)
+                    : new RequireViolationException(check, valueName, index(position(offset, consumed)), null, null);
+            }
+            consumed++;
+            downstream.accept(value);
+        }
+
+        @Override
+        public boolean tryAdvance(@Nonnull final IntConsumer action) {
+            downstream = action;
+            return source.tryAdvance((IntConsumer) this);
+        }
+
+        @Override
+        public void forEachRemaining(@Nonnull final IntConsumer action) {
+            downstream = action;
+            source.forEachRemaining((IntConsumer) this);
+        }
+
+        @Nullable
+        @Override
+        public Spliterator.OfInt trySplit() {
+            final Spliterator.OfInt prefix = source.trySplit();
+            if (prefix == null) {
+                return null;
+            }
+            final IntSpliterator split =
+                new IntSpliterator(prefix, check, min, max, valueName, position(offset, consumed));
+            if (offset != UNKNOWN) {
+                offset += consumed + prefix.estimateSize();
+                consumed = 0L;
+            }
+            return split;
+        }
+
+        @Override
+        public long estimateSize() {
+            return source.estimateSize();
+        }
+
+        @Override
+        public int characteristics() {
+            return source.characteristics();
+        }
+
+        @Override
+        public Comparator<? super Integer> getComparator() {
+            return source.getComparator();
+        }
+    }
+
+    /**
+     * Long elements between min and max, inclusive. The positive check is the range from 0 with its own message.
+     */
+    static final class LongSpliterator implements Spliterator.OfLong, LongConsumer {
+
+        private final Spliterator.OfLong source;
+        private final Check check;
+        private final long min;
+        private final long max;
+        private final String valueName;
+        private long offset;
+        private long consumed;
+        private LongConsumer downstream;
+
+        LongSpliterator(
+            @Nonnull final Spliterator.OfLong source,
+            @Nonnull final Check check,
+            final long min,
+            final long max,
+            @Nonnull final String valueName
+        ) {
+            this(source, check, min, max, valueName, offset(source));
+        }
+
+        private LongSpliterator(
+            @Nonnull final Spliterator.OfLong source,
+            @Nonnull final Check check,
+            final long min,
+            final long max,
+            @Nonnull final String valueName,
+            final long offset
+        ) {
+            this.source = source;
+            this.check = check;
+            this.min = min;
+            this.max = max;
+            this.valueName = valueName;
+            this.offset = offset;
+        }
+
+        @Override
+        public void accept(final long value) {
+            if (value < min || value > max) {
+                throw check == Check.IN_RANGE
+                    ? new RequireViolationException(check, valueName, index(position(offset, consumed)), min, max)
+                    : new RequireViolationException(check, valueName, index(position(offset, consumed)), null, null);
+            }
+            consumed++;
+            downstream.accept(value);
+        }
+
+        @Override
+        public boolean tryAdvance(@Nonnull final LongConsumer action) {
+            downstream = action;
+            return source.tryAdvance((LongConsumer) this);
+        }
+
+        @Override
+        public void forEachRemaining(@Nonnull final LongConsumer action) {
+            downstream = action;
+            source.forEachRemaining((LongConsumer) this);
+        }
+
+        @Nullable
+        @Override
+        public Spliterator.OfLong trySplit() {
+            final Spliterator.OfLong prefix = source.trySplit();
+            if (prefix == null) {
+                return null;
+            }
+            final LongSpliterator split =
+                new LongSpliterator(prefix, check, min, max, valueName, position(offset, consumed));
+            if (offset != UNKNOWN) {
+                offset += consumed + prefix.estimateSize();
+                consumed = 0L;
+            }
+            return split;
+        }
+
+        @Override
+        public long estimateSize() {
+            return source.estimateSize();
+        }
+
+        @Override
+        public int characteristics() {
+            return source.characteristics();
+        }
+
+        @Override
+        public Comparator<? super Long> getComparator() {
+            return source.getComparator();
+        }
+    }
+
+    /**
+     * Double elements checked with the {@link ArrayScan} semantics: positive fails only on values less than 0,
+     * range and finite checks fail on NaN.
+     */
+    static final class DoubleSpliterator implements Spliterator.OfDouble, DoubleConsumer {
+
+        private final Spliterator.OfDouble source;
+        private final Check check;
+        private final double min;
+        private final double max;
+        private final String valueName;
+        private long offset;
+        private long consumed;
+        private DoubleConsumer downstream;
+
+        DoubleSpliterator(
+            @Nonnull final Spliterator.OfDouble source,
+            @Nonnull final Check check,
+            final double min,
+            final double max,
+            @Nonnull final String valueName
+        ) {
+            this(source, check, min, max, valueName, offset(source));
+        }
+
+        private DoubleSpliterator(
+            @Nonnull final Spliterator.OfDouble source,
+            @Nonnull final Check check,
+            final double min,
+            final double max,
+            @Nonnull final String valueName,
+            final long offset
+        ) {
+            this.source = source;
+            this.check = check;
+            this.min = min;
+            this.max = max;
+            this.valueName = valueName;
+            this.offset = offset;
+        }
+
+        @Override
+        public void accept(final double value) {
+            final boolean valid;
+            if (check == Check.POSITIVE) {
+                valid = !(value < 0.0D);
+            } else if (check == Check.FINITE) {
+                valid = Double.isFinite(value);
+            } else {
+                valid = value >= min && value <= max;
+            }
+            if (!valid) {
+                throw check == Check.IN_RANGE
+                    ? new RequireViolationException(check, valueName, index(position(offset, consumed)), min, max)
+                    : new RequireViolationException(check, valueName, index(position(offset, consumed)), null, null);
+            }
+            consumed++;
+            downstream.accept(value);
+        }
+
+        @Override
+        public boolean tryAdvance(@Nonnull final DoubleConsumer action) {
+            downstream = action;
+            return source.tryAdvance((DoubleConsumer) this);
+        }
+
+        @Override
+        public void forEachRemaining(@Nonnull final DoubleConsumer action) {
+            downstream = action;
+            source.forEachRemaining((DoubleConsumer) this);
+        }
+
+        @Nullable
+        @Override
+        public Spliterator.OfDouble trySplit() {
+            final Spliterator.OfDouble prefix = source.trySplit();
+            if (prefix == null) {
+                return null;
+            }
+            final DoubleSpliterator split =
+                new DoubleSpliterator(prefix, check, min, max, valueName, position(offset, consumed));
+            if (offset != UNKNOWN) {
+                offset += consumed + prefix.estimateSize();
+                consumed = 0L;
+            }
+            return split;
+        }
+
+        @Override
+        public long estimateSize() {
+            return source.estimateSize();
+        }
+
+        @Override
+        public int characteristics() {
+            return source.characteristics();
+        }
+
+        @Override
+        public Comparator<? super Double> getComparator() {
+            return source.getComparator();
+        }
+    }
+
+    /**
+     * Iterator which fails when more than maxSize elements are returned by {@link #next()}.
+     */
+    static final class SizeBoundIterator<T> implements Iterator<T> {
+
+        private final Iterator<T> source;
+        private final long maxSize;
+        private final String valueName;
+        private long consumed;
+
+        SizeBoundIterator(@Nonnull final Iterator<T> source, final long maxSize, @Nonnull final String valueName) {
+            this.source = source;
+            this.maxSize = maxSize;
+            this.valueName = valueName;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return source.hasNext();
+        }
+
+        @Override
+        public T next() {
+            final T element = source.next();
+            if (++consumed > maxSize) {
+                throw new RequireViolationException(Check.SIZE, valueName, 0L, maxSize);
+            }
+            return element;
+        }
+
+        @Override
+        public void remove() {
+            source.remove();
+        }
+    }
+
+    /**
+     * Enumeration which fails when more than maxSize elements are returned by {@link #nextElement()},
+     * or when it ends before minSize elements were returned.
+     */
+    static final class SizeBoundEnumeration<T> implements Enumeration<T> {
+
+        private final Enumeration<T> source;
+        private final long minSize;
+        private final long maxSize;
+        private final String valueName;
+        private long consumed;
+
+        SizeBoundEnumeration(
+            @Nonnull final Enumeration<T> source,
+            final long minSize,
+            final long maxSize,
+            @Nonnull final String valueName
+        ) {
+            this.source = source;
+            this.minSize = minSize;
+            this.maxSize = maxSize;
+            this.valueName = valueName;
+        }
+
+        @Override
+        public boolean hasMoreElements() {
+            final boolean more = source.hasMoreElements();
+            if (!more && consumed < minSize) {
+                throw new RequireViolationException(Check.SIZE, valueName, minSize, maxSize);
+            }
+            return more;
+        }
+
+        @Override
+        public T nextElement() {
+            final T element = source.nextElement();
+            if (++consumed > maxSize) {
+                throw new RequireViolationException(Check.SIZE, valueName, minSize, maxSize);
+            }
+            return element;
+        }
+    }
+
+    /**
+     * Object elements counted against maxSize.
+     * Parts split from each other share one atomic counter, a part which was never split counts without it.
+     */
+    static final class SizeBoundSpliterator<T> implements Spliterator<T>, Consumer<T> {
+
+        private final Spliterator<T> source;
+        private final long maxSize;
+        private final String valueName;
+        private AtomicLong shared;
+        private long consumed;
+        private Consumer<? super T> downstream;
+
+        SizeBoundSpliterator(@Nonnull final Spliterator<T> source, final long maxSize, @Nonnull final String valueName) {
+            this(source, maxSize, valueName, null);
+        }
+
+        private SizeBoundSpliterator(
+            @Nonnull final Spliterator<T> source,
+            final long maxSize,
+            @Nonnull final String valueName,
+            @Nullable final AtomicLong shared
+        ) {
+            this.source = source;
+            this.maxSize = maxSize;
+            this.valueName = valueName;
+            this.shared = shared;
+        }
+
+        @Override
+        public void accept(final T element) {
+            final long size = shared == null ? ++consumed : shared.incrementAndGet();
+            if (size > maxSize) {
+                throw new RequireViolationException(Check.SIZE, valueName, 0L, maxSize);
+            }
+            downstream.accept(element);
+        }
+
+        @Override
+        public boolean tryAdvance(@Nonnull final Consumer<? super T> action) {
+            downstream = action;
+            return source.tryAdvance(this);
+        }
+
+        @Override
+        public void forEachRemaining(@Nonnull final Consumer<? super T> action) {
+            downstream = action;
+            source.forEachRemaining(this);
+        }
+
+        @Nullable
+        @Override
+        public Spliterator<T> trySplit() {
+            final Spliterator<T> prefix = source.trySplit();
+            if (prefix == null) {
+                return null;
+            }
+            if (shared == null) {
+                shared = new AtomicLong(consumed);
+            }
+            return new SizeBoundSpliterator<>(prefix, maxSize, valueName, shared);
+        }
+
+        @Override
+        public long estimateSize() {
+            return source.estimateSize();
+        }
+
+        @Override
+        public int characteristics() {
+            return source.characteristics();
+        }
+
+        @Override
+        public Comparator<? super T> getComparator() {
+            return source.getComparator();
+        }
+    }
+
+    /**
+     * Source whose first element was already taken to check it is not empty, the element is replayed first.
+     * A split before the element is replayed gives the element to the prefix, so the encounter order is kept.
+     */
+    static final class PeekedSpliterator<T> implements Spliterator<T>, Consumer<T> {
+
+        private final Spliterator<T> source;
+        private T first;
+        private boolean replay;
+
+        PeekedSpliterator(@Nonnull final Spliterator<T> source) {
+            this.source = source;
+        }
+
+        private PeekedSpliterator(@Nonnull final Spliterator<T> source, @Nullable final T first) {
+            this.source = source;
+            this.first = first;
+            this.replay = true;
+        }
+
+        /**
+         * Take the first element of the source.
+         *
+         * @return false if the source is empty
+         */
+        boolean peek() {
+            replay = source.tryAdvance(this);
+            return replay;
+        }
+
+        @Override
+        public void accept(final T element) {
+            first = element;
+        }
+
+        @Override
+        public boolean tryAdvance(@Nonnull final Consumer<? super T> action) {
+            if (replay) {
+                action.accept(takeFirst());
+                return true;
+            }
+            return source.tryAdvance(action);
+        }
+
+        @Override
+        public void forEachRemaining(@Nonnull final Consumer<? super T> action) {
+            if (replay) {
+                action.accept(takeFirst());
+            }
+            source.forEachRemaining(action);
+        }
+
+        @Nullable
+        @Override
+        public Spliterator<T> trySplit() {
+            final Spliterator<T> prefix = source.trySplit();
+            if (prefix == null || !replay) {
+                return prefix;
+            }
+            return new PeekedSpliterator<>(prefix, takeFirst());
+        }
+
+        @Override
+        public long estimateSize() {
+            final long size = source.estimateSize();
+            return replay && size != Long.MAX_VALUE ? size + 1L : size;
+        }
+
+        @Override
+        public int characteristics() {
+            return source.characteristics();
+        }
+
+        @Override
+        public Comparator<? super T> getComparator() {
+            return source.getComparator();
+        }
+
+        private T takeFirst() {
+            final T element = first;
+            first = null;
+            replay = false;
+            return element;
+        }
+    }
+}
@@ -0,0 +1,577 @@
+package com.github.ilubenets.require;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Regexp format for {@link Require#format(String, CompiledFormat, String)} which matches simple patterns
+ * without {@link java.util.regex.Matcher} allocation and backtracking.
+ *
+ * A regexp of the supported subset is compiled into a bit-parallel automaton (Shift-And), one bit per pattern
+ * position, which reads every character of the value once:
+ * literals and escaped characters, {@code .}, {@code \d \D \w \W \s \S}, {@code \t \n \r \f \e \a \xhh \\uhhhh},
+ * character classes with ranges and negation, quantifiers {@code * + ? {n} {n,} {n,m}} (greedy or reluctant),
+ * a leading {@code ^} and a trailing {@code $}. Repetitions are unrolled, so the pattern may have at most 63
+ * positions, {@code [A-Z0-9]{3,12}} has 12.
+ *
+ * Anything else, like groups, alternation, possessive quantifiers, Unicode properties, surrogate characters
+ * in the pattern, or a pattern which is too long, is matched by {@link Pattern} as before.
+ * Matching always has {@link Pattern#matches()} semantics, the whole value must match.
+ * A value with surrogate characters is matched by {@code Pattern} too if the format accepts any surrogate,
+ * because {@code Pattern} reads such values by code points.
+ * Instances are immutable and thread safe.
+ */
+public final class CompiledFormat {
+
+    private static final int MAX_POSITIONS = 63;
+    private static final int ASCII = 128;
+    private static final int MAX_CHAR = Character.MAX_VALUE;
+
+    private static final int[] DIGITS = {'0', '9'};
+    private static final int[] WORD = {'0', '9', 'A', 'Z', '_', '_', 'a', 'z'};
+    private static final int[] SPACE = {'\t', '\r', ' ', ' '};
+    private static final int[] DOT = complement(new int[]{'\n', '\n', '\r', '\r', 0x85, 0x85, 0x2028, 0x2029});
+
+    private final Pattern pattern;
+    private final long[] ascii;
+    private final long[] nonAsciiBits;
+    private final int[][] nonAsciiRanges;
+    private final long start;
+    private final long accept;
+    private final long repeat;
+    private final long optional;
+    private final long blockFirst;
+    private final long blockLast;
+    private final boolean surrogates;
+
+    private CompiledFormat(@Nonnull final Pattern pattern, @Nullable final List<Position> positions) {
+        this.pattern = pattern;
+        if (positions == null) {
+            this.ascii = null;
+            this.nonAsciiBits = null;
+            this.nonAsciiRanges = null;
+            this.start = 0L;
+            this.accept = 0L;
+            this.repeat = 0L;
+            this.optional = 0L;
+            this.blockFirst = 0L;
+            this.blockLast = 0L;
+            this.surrogates = false;
+            return;
+        }
+
+        // Bit 0 is the empty prefix, bit j is set when pattern positions 1..j have matched the value so far
+        final long[] asciiMasks = new long[ASCII];
+        final List<Long> bits = new ArrayList<>();
+        final List<int[]> ranges = new ArrayList<>();
+        long repeatMask = 0L;
+        long optionalMask = 0L;
+        long firstMask = 0L;
+        long lastMask = 0L;
+        boolean anySurrogate = false;
+        for (int j = 1; j <= positions.size(); j++) {
+            final Position position = positions.get(j - 1);
+            final long bit = 1L << j;
+            final int[] set = position.set;
+            for (int r = 0; r < set.length; r += 2) {
+                for (int c = set[r]; c <= Math.min(set[r + 1], ASCII - 1); c++) {
+                    asciiMasks[c] |= bit;
+                }
+            }
+            if (set.length > 0 && set[set.length - 1] >= ASCII) {
+                bits.add(bit);
+                ranges.add(set);
+                anySurrogate |= intersects(set, Character.MIN_SURROGATE, Character.MAX_SURROGATE);
+            }
+            if (position.repeat) {
+                repeatMask |= bit;
+            }
+            if (position.optional) {
+                optionalMask |= bit;
+                final boolean blockStart = j == 1 || !positions.get(j - 2).optional;
+                final boolean blockEnd = j == positions.size() || !positions.get(j).optional;
+                if (blockStart) {
+                    firstMask |= bit >>> 1;
+                }
+                if (blockEnd) {
+                    lastMask |= bit;
+                }
+            }
+        }
+
+        this.ascii = asciiMasks;
+        this.nonAsciiBits = new long[bits.size()];
+        for (int i = 0; i < bits.size(); i++) {
+            this.nonAsciiBits[i] = bits.get(i);
+        }
+        this.nonAsciiRanges = ranges.toArray(new int[0][]);
+        this.repeat = repeatMask;
+        this.optional = optionalMask;
+        this.blockFirst = firstMask;
+        this.blockLast = lastMask;
+        this.surrogates = anySurrogate;
+        this.accept = 1L << positions.size();
+        this.start = close(1L);
+    }
+
+    /**
+     * Compile the regexp, into an automaton if it belongs to the supported subset.
+     *
+     * @param regex - regexp format
+     * @return compiled format
+     * @throws IllegalArgumentException if regex is null or has invalid syntax
+     */
+    @Nonnull
+    public static CompiledFormat compile(@Nonnull final String regex) {
+        final Pattern pattern = Pattern.compile(Require.nonNull(regex, "regex"));
+        return new CompiledFormat(pattern, new Parser(regex).parse());
+    }
+
+    /**
+     * Check if the whole value matches the format.
+     *
+     * @param value - value to check
+     * @return true if value matches
+     */
+    public boolean matches(@Nonnull final CharSequence value) {
+        if (ascii == null) {
+            return pattern.matcher(value).matches();
+        }
+
+        // Fields are read into locals once, the loop body is a table lookup, a shift and the closure
+        final long[] table = ascii;
+        final long repeatMask = repeat;
+        final long optionalMask = optional;
+        final long first = blockFirst;
+        final long last = blockLast;
+        long state = start;
+        final int length = value.length();
+        for (int i = 0; i < length; i++) {
+            final char c = value.charAt(i);
+            final long accepted;
+            if (c < ASCII) {
+                accepted = table[c];
+            } else if (surrogates && Character.isSurrogate(c)) {
+                return pattern.matcher(value).matches();
+            } else {
+                accepted = nonAscii(c);
+            }
+            state = ((state << 1) | (state & repeatMask)) & accepted;
+            if (optionalMask != 0L) {
+                final long stopped = state | last;
+                state |= optionalMask & ~((stopped - first) ^ stopped);
+            }
+            if (state == 0L) {
+                return false;
+            }
+        }
+
+        return (state & accept) != 0L;
+    }
+
+    /**
+     * Check if the format is matched by the automaton, not by {@link Pattern}.
+     *
+     * @return true if the regexp belongs to the supported subset
+     */
+    public boolean isAutomaton() {
+        return ascii != null;
+    }
+
+    /**
+     * Compiled {@code java.util.regex} pattern of the same regexp.
+     *
+     * @return pattern
+     */
+    @Nonnull
+    public Pattern pattern() {
+        return pattern;
+    }
+
+    @Override
+    public String toString() {
+        return pattern.pattern();
+    }
+
+    /**
+     * Epsilon closure over optional positions: inside every block of consecutive optional positions, all positions
+     * after the lowest active state of the block (counting the position before the block) become active.
+     * The top bit of each block stops the borrow of the subtraction inside the block.
+     */
+    private long close(final long state) {
+        final long stopped = state | blockLast;
+        return state | (optional & ~((stopped - blockFirst) ^ stopped));
+    }
+
+    private long nonAscii(final char c) {
+        long accepted = 0L;
+        for (int i = 0; i < nonAsciiRanges.length; i++) {
+            if (contains(nonAsciiRanges[i], c)) {
+                accepted |= nonAsciiBits[i];
+            }
+        }
+
+        return accepted;
+    }
+
+    private static boolean contains(@Nonnull final int[] set, final int c) {
+        for (int r = 0; r < set.length; r += 2) {
+            if (c < set[r]) {
+                return false;
+            }
+            if (c <= set[r + 1]) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private static boolean intersects(@Nonnull final int[] set, final int from, final int to) {
+        for (int r = 0; r < set.length; r += 2) {
+            if (set[r] <= to && set[r + 1] >= from) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Sorted, merged, inclusive character ranges {@code [from0, to0, from1, to1, ...]}.
+     */
+    @Nonnull
+    private static int[] normalize(@Nonnull final List<int[]> ranges) {
+        ranges.sort((left, right) -> Integer.compare(left[0], right[0]));
+        final int[] merged = new int[ranges.size() * 2];
+        int size = 0;
+        for (final int[] range : ranges) {
+            if (size > 0 && range[0] <= merged[size - 1] + 1) {
+                merged[size - 1] = Math.max(merged[size - 1], range[1]);
+            } else {
+                merged[size++] = range[0];
+                merged[size++] = range[1];
+            }
+        }
+
+        final int[] result = new int[size];
+        System.arraycopy(merged, 0, result, 0, size);
+        return result;
+    }
+
+    @Nonnull
+    private static int[] complement(@Nonnull final int[] set) {
+        final List<int[]> result = new ArrayList<>();
+        int next = 0;
+        for (int r = 0; r < set.length; r += 2) {
+            if (set[r] > next) {
+                result.add(new int[]{next, set[r] - 1});
+            }
+            next = set[r + 1] + 1;
+        }
+        if (next <= MAX_CHAR) {
+            result.add(new int[]{next, MAX_CHAR});
+        }
+
+        return normalize(result);
+    }
+
+    private static final class Position {
+
+        final int[] set;
+        final boolean optional;
+        final boolean repeat;
+
+        Position(@Nonnull final int[] set, final boolean optional, final boolean repeat) {
+            this.set = set;
+            this.optional = optional;
+            this.repeat = repeat;
+        }
+    }
+
+    /**
+     * Parser of the supported subset, returns null for anything outside of it.
+     * The regexp was already compiled by {@link Pattern}, so it is syntactically valid.
+     */
+    private static final class Parser {
+
+        private final String regex;
+        private int index;
+        private int end;
+
+        Parser(@Nonnull final String regex) {
+            this.regex = regex;
+        }
+
+        @Nullable
+        List<Position> parse() {
+            end = regex.length();
+            if (end > 0 && regex.charAt(0) == '^') {
+                index = 1;
+            }
+            if (end > index && regex.charAt(end - 1) == '$' && !isEscaped(end - 1)) {
+                end--;
+            }
+
+            final List<Position> positions = new ArrayList<>();
+            while (index < end) {
+                final int[] set = atom();
+                if (set == null || !quantifier(set, positions) || positions.size() > MAX_POSITIONS) {
+                    return null;
+                }
+            }
+
+            return positions;
+        }
+
+        private boolean isEscaped(final int position) {
+            int backslashes = 0;
+            for (int i = position - 1; i >= 0 && regex.charAt(i) == '\\'; i--) {
+                backslashes++;
+            }
+
+            return (backslashes & 1) == 1;
+        }
+
+        @Nullable
+        private int[] atom() {
+            final char c = regex.charAt(index++);
+            if (Character.isSurrogate(c)) {
+                return null;
+            }
+            switch (c) {
+                case '\\':
+                    return escape();
+                case '[':
+                    return characterClass();
+                case '.':
+                    return DOT;
+                case '(':
+                case ')':
+                case '|':
+                case '^':
+                case '$':
+                case '*':
+                case '+':
+                case '?':
+                case '{':
+                case '}':
+                case ']':
+                    return null;
+                default:
+                    return new int[]{c, c};
+            }
+        }
+
+        /**
+         * Quantifier after an atom, repetitions are unrolled into positions.
+         */
+        private boolean quantifier(@Nonnull final int[] set, @Nonnull final List<Position> positions) {
+            int min = 1;
+            int max = 1;
+            if (index < end) {
+                switch (regex.charAt(index)) {
+                    case '*':
+                        min = 0;
+                        max = -1;
+                        index++;
+                        break;
+                    case '+':
+                        max = -1;
+                        index++;
+                        break;
+                    case '?':
+                        min = 0;
+                        index++;
+                        break;
+                    case '{':
+                        index++;
+                        min = number();
+                        max = min;
+                        if (index < end && regex.charAt(index) == ',') {
+                            index++;
+                            max = index < end && regex.charAt(index) == '}' ? -1 : number();
+                        }
+                        if (min < 0 || index >= end || regex.charAt(index) != '}') {
+                            return false;
+                        }
+                        index++;
+                        break;
+                    default:
+                        break;
+                }
+                if (index < end && (min != 1 || max != 1)) {
+                    final char mode = regex.charAt(index);
+                    if (mode == '+') {
+                        // Possessive quantifiers change what matches, they are left to Pattern
+                        return false;
+                    }
+                    if (mode == '?') {
+                        // A reluctant quantifier matches the same values when the whole value must match
+                        index++;
+                    }
+                }
+            }
+
+            if (min > MAX_POSITIONS || max > MAX_POSITIONS) {
+                return false;
+            }
+            for (int i = 0; i < min; i++) {
+                positions.add(new Position(set, false, max < 0 && i == min - 1));
+            }
+            if (max < 0) {
+                if (min == 0) {
+                    positions.add(new Position(set, true, true));
+                }
+            } else {
+                for (int i = min; i < max; i++) {
+                    positions.add(new Position(set, true, false));
+                }
+            }
+
+            return true;
+        }
+
+        private int number() {
+            int value = 0;
+            final int from = index;
+            while (index < end && regex.charAt(index) >= '0' && regex.charAt(index) <= '9') {
+                value = value * 10 + regex.charAt(index++) - '0';
+                if (value > MAX_POSITIONS) {
+                    value = MAX_POSITIONS + 1;
+                }
+            }
+
+            return index == from ? -1 : value;
+        }
+
+        @Nullable
+        private int[] escape() {
+            if (index >= end) {
+                return null;
+            }
+            final char c = regex.charAt(index++);
+            switch (c) {
+                case 'd':
+                    return DIGITS;
+                case 'D':
+                    return complement(DIGITS);
+                case 'w':
+                    return WORD;
+                case 'W':
+                    return complement(WORD);
+                case 's':
+                    return SPACE;
+                case 'S':
+                    return complement(SPACE);
+                case 't':
+                    return single('\t');
+                case 'n':
+                    return single('\n');
+                case 'r':
+                    return single('\r');
+                case 'f':
+                    return single('\f');
+                case 'e':
+                    return single('\u001B');
+                case 'a':
+                    return single('\u0007');
+                case 'x':
+                    return hex(2);
+                case 'u':
+                    return hex(4);
+                default:
+                    if (Character.isSurrogate(c) || Character.isLetterOrDigit(c)) {
+                        return null;
+                    }
+                    return single(c);
+            }
+        }
+
+        @Nullable
+        private int[] hex(final int digits) {
+            if (index + digits > end) {
+                return null;
+            }
+            int value = 0;
+            for (int i = 0; i < digits; i++) {
+                final int digit = Character.digit(regex.charAt(index++), 16);
+                if (digit < 0) {
+                    return null;
+                }
+                value = value * 16 + digit;
+            }
+
+            return Character.isSurrogate((char) value) ? null : single(value);
+        }
+
+        @Nullable
+        private int[] characterClass() {
+            boolean negated = false;
+            if (index < end && regex.charAt(index) == '^') {
+                negated = true;
+                index++;
+            }
+            if (index < end && regex.charAt(index) == ']') {
+                return null;
+            }
+
+            final List<int[]> ranges = new ArrayList<>();
+            while (index < end) {
+                final char c = regex.charAt(index);
+                if (c == ']') {
+                    index++;
+                    final int[] set = normalize(ranges);
+                    return negated ? complement(set) : set;
+                }
+                if (c == '[' || c == '&' && index + 1 < end && regex.charAt(index + 1) == '&') {
+                    return null;
+                }
+                final int[] from = classAtom();
+                if (from == null) {
+                    return null;
+                }
+                if (isSingle(from) && index + 1 < end && regex.charAt(index) == '-' && regex.charAt(index + 1) != ']') {
+                    index++;
+                    final int[] to = classAtom();
+                    if (to == null || !isSingle(to) || to[0] < from[0]) {
+                        return null;
+                    }
+                    ranges.add(new int[]{from[0], to[0]});
+                } else {
+                    for (int r = 0; r < from.length; r += 2) {
+                        ranges.add(new int[]{from[r], from[r + 1]});
+                    }
+                }
+            }
+
+            return null;
+        }
+
+        @Nullable
+        private int[] classAtom() {
+            final char c = regex.charAt(index++);
+            if (Character.isSurrogate(c) || c == '[') {
+                return null;
+            }
+            if (c == '\\') {
+                return escape();
+            }
+
+            return single(c);
+        }
+
+        private static boolean isSingle(@Nonnull final int[] set) {
+            return set.length == 2 && set[0] == set[1];
+        }
+
+        @Nonnull
+        private static int[] single(final int c) {
+            return new int[]{c, c};
+        }
+    }
+}
@@ -0,0 +1,248 @@
+package com.github.ilubenets.require;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.LinkedTransferQueue;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Element by element checks over collections and object arrays, finds the first failing element.
+ *
+ * Small sources are scanned on the caller thread, arrays and random access lists with an index loop.
+ * Sources with at least {@value #PARALLEL_THRESHOLD_PROPERTY} elements (system property, 262144 by default)
+ * are split with their {@link Spliterator} and scanned on the common fork-join pool.
+ * Collections whose {@code size()} walks all elements, like {@code ConcurrentLinkedQueue}, are not sized
+ * for the threshold, they are always scanned on the caller thread.
+ * The index of the failing element is tracked only for spliterators which report exact sizes after a split
+ * ({@link Spliterator#SUBSIZED}), other sources report the failing element without its position.
+ * Once a failure is found, parts after it are not scanned.
+ */
+final class ElementScan {
+
+    static final String PARALLEL_THRESHOLD_PROPERTY = "com.github.ilubenets.require.parallelThreshold";
+
+    private static final long PARALLEL_THRESHOLD = Long.getLong(PARALLEL_THRESHOLD_PROPERTY, 1L << 18);
+    private static final int MIN_LEAF_SIZE = 1 << 12;
+    private static final int CANCEL_CHECK_MASK = (1 << 10) - 1;
+
+    private ElementScan() {
+        // Utility class
+    }
+
+    /**
+     * Check of one element.
+     *
+     * @param <T> - element type
+     */
+    interface ElementCheck<T> {
+
+        /**
+         * Check the element.
+         *
+         * @param element - element to check
+         * @return violated requirement, null if the element is valid
+         */
+        @Nullable
+        Check check(@Nullable T element);
+    }
+
+    /**
+     * First failing element found by a scan.
+     */
+    static final class Failure {
+
+        final long index;
+        final Object element;
+        final Check check;
+
+        Failure(final long index, @Nullable final Object element, @Nonnull final Check check) {
+            this.index = index;
+            this.element = element;
+            this.check = check;
+        }
+    }
+
+    @Nullable
+    static <T> Failure scan(@Nonnull final T[] values, @Nonnull final ElementCheck<? super T> check) {
+        if (values.length >= PARALLEL_THRESHOLD) {
+            return parallel(Spliterators.spliterator(values, Spliterator.ORDERED), check);
+        }
+        for (int i = 0; i < values.length; i++) {
+            final Check violated = check.check(values[i]);
+            if (violated != null) {
+                return new Failure(i, values[i], violated);
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Collections and maps of the JDK whose {@code size()} walks all elements.
+     */
+    static boolean hasLinearSize(@Nonnull final Object value) {
+        return value instanceof ConcurrentLinkedQueue
+            || value instanceof ConcurrentLinkedDeque
+            || value instanceof LinkedTransferQueue
+            || value instanceof ConcurrentSkipListSet
+            || value instanceof ConcurrentSkipListMap;
+    }
+
+    @Nullable
+    static <T> Failure scan(@Nonnull final Collection<? extends T> source, @Nonnull final ElementCheck<T> check) {
+        return scan(source, check, hasLinearSize(source));
+    }
+
+    /**
+     * Scan a collection, a view of a map whose {@code size()} walks all entries passes {@code linearSize},
+     * the view itself can not be recognized.
+     */
+    @Nullable
+    static <T> Failure scan(
+        @Nonnull final Collection<? extends T> source,
+        @Nonnull final ElementCheck<T> check,
+        final boolean linearSize
+    ) {
+        // Elements are only read, so a collection of a subtype can be viewed as a collection of T
+        @SuppressWarnings("unchecked")
+        final Collection<T> values = (Collection<T>) source;
+        if (!linearSize && values.size() >= PARALLEL_THRESHOLD) {
+            final Spliterator<T> spliterator = values.spliterator();
+            if (!(values instanceof List) || spliterator.hasCharacteristics(Spliterator.SUBSIZED)) {
+                return parallel(spliterator, check);
+            }
+        }
+        if (values instanceof RandomAccess && values instanceof List) {
+            final List<T> list = (List<T>) values;
+            final int size = list.size();
+            for (int i = 0; i < size; i++) {
+                final T element = list.get(i);
+                final Check violated = check.check(element);
+                if (violated != null) {
+                    return new Failure(i, element, violated);
+                }
+            }
+
+            return null;
+        }
+        long index = 0L;
+        for (final T element : values) {
+            final Check violated = check.check(element);
+            if (violated != null) {
+                return new Failure(index, element, violated);
+            }
+            index++;
+        }
+
+        return null;
+    }
+
+    @Nullable
+    private static <T> Failure parallel(
+        @Nonnull final Spliterator<T> spliterator,
+        @Nonnull final ElementCheck<? super T> check
+    ) {
+        final boolean indexed = spliterator.hasCharacteristics(Spliterator.SUBSIZED);
+        final long leafSize = Math.max(
+            MIN_LEAF_SIZE,
+            spliterator.estimateSize() / (4L * ForkJoinPool.getCommonPoolParallelism())
+        );
+
+        return ForkJoinPool.commonPool().invoke(
+            new ScanTask<>(spliterator, check, indexed ? 0L : -1L, leafSize, new AtomicLong(Long.MAX_VALUE))
+        );
+    }
+
+    /**
+     * Scans a part of the source. Offset is the index of the first element of the part, -1 if it is unknown.
+     * The shared minimum holds the lowest failing index found so far, unindexed parts record 0 there.
+     */
+    private static final class ScanTask<T> extends RecursiveTask<Failure> implements Consumer<T> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final transient Spliterator<T> spliterator;
+        private final transient ElementCheck<? super T> check;
+        private final long offset;
+        private final long leafSize;
+        private final AtomicLong firstFailure;
+        private transient Object current;
+
+        ScanTask(
+            @Nonnull final Spliterator<T> spliterator,
+            @Nonnull final ElementCheck<? super T> check,
+            final long offset,
+            final long leafSize,
+            @Nonnull final AtomicLong firstFailure
+        ) {
+            this.spliterator = spliterator;
+            this.check = check;
+            this.offset = offset;
+            this.leafSize = leafSize;
+            this.firstFailure = firstFailure;
+        }
+
+        @Override
+        protected Failure compute() {
+            if (spliterator.estimateSize() > leafSize) {
+                final Spliterator<T> prefix = spliterator.trySplit();
+                if (prefix != null) {
+                    final long suffixOffset = offset < 0L ? -1L : offset + prefix.estimateSize();
+                    final ScanTask<T> left = new ScanTask<>(prefix, check, offset, leafSize, firstFailure);
+                    final ScanTask<T> right = new ScanTask<>(spliterator, check, suffixOffset, leafSize, firstFailure);
+                    left.fork();
+                    final Failure rightFailure = right.compute();
+                    final Failure leftFailure = left.join();
+
+                    return leftFailure != null ? leftFailure : rightFailure;
+                }
+            }
+
+            return scanLeaf();
+        }
+
+        @Override
+        public void accept(final T element) {
+            current = element;
+        }
+
+        @Nullable
+        @SuppressWarnings("unchecked")
+        private Failure scanLeaf() {
+            long index = offset < 0L ? 0L : offset;
+            int scanned = 0;
+            while (true) {
+                if ((scanned++ & CANCEL_CHECK_MASK) == 0 && firstFailure.get() <= index) {
+                    return null;
+                }
+                if (!spliterator.tryAdvance(this)) {
+                    return null;
+                }
+                final T element = (T) current;
+                final Check violated = check.check(element);
+                if (violated != null) {
+                    final long failureIndex = offset < 0L ? 0L : index;
+                    long first = firstFailure.get();
+                    while (failureIndex < first && !firstFailure.compareAndSet(first, failureIndex)) {
+                        first = firstFailure.get();
+                    }
+                    return new Failure(offset < 0L ? -1L : index, element, violated);
+                }
+                index++;
+            }
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.github.ilubenets.require;
+
+import java.util.regex.Pattern;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Java Flight Recorder events of the library, this is the Java 8 version where every method does nothing.
+ * The jar is a multi-release jar, on Java 11 and later this class is replaced by the one from
+ * {@code META-INF/versions/11} which emits the {@code com.github.ilubenets.require.Violation}
+ * and {@code com.github.ilubenets.require.SlowFormat} events.
+ * Both versions must have the same package-private API.
+ */
+final class JfrSupport {
+
+    private JfrSupport() {
+        // Utility class
+    }
+
+    /**
+     * Check if this runtime can emit the events.
+     *
+     * @return false, Java 8 has no event API
+     */
+    static boolean isAvailable() {
+        return false;
+    }
+
+    static void violation(
+        @Nonnull final Check check,
+        @Nullable final String valueName,
+        @Nullable final Object index,
+        @Nullable final Object first,
+        @Nullable final Object second
+    ) {
+        // No events on Java 8
+    }
+
+    @Nullable
+    static Object beginFormat() {
+        return null;
+    }
+
+    static void endFormat(
+        @Nullable final Object timing,
+        @Nonnull final Pattern pattern,
+        @Nonnull final String valueName,
+        final int valueLength,
+        final boolean matched
+    ) {
+        // No events on Java 8
+    }
+}
@@ -0,0 +1,90 @@
+package com.github.ilubenets.require;
+
+import java.io.FilterReader;
+import java.io.IOException;
+import java.io.Reader;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Reader which counts the chars read through it and fails when there are more than maxLength of them.
+ * A bulk read is passed to the wrapped stream with the caller's array, its length is capped so that at most one
+ * char after the limit is read, so nothing is copied and the violation is found on the first char over the limit.
+ * Skipped chars are counted too. Mark and reset are not supported, because a reset would have to undo the count.
+ */
+final class LengthLimitedReader extends FilterReader {
+
+    private final long maxLength;
+    private final String valueName;
+    private long length;
+
+    LengthLimitedReader(@Nonnull final Reader in, final long maxLength, @Nonnull final String valueName) {
+        super(in);
+        this.maxLength = maxLength;
+        this.valueName = valueName;
+    }
+
+    @Override
+    public int read() throws IOException {
+        final int value = in.read();
+        if (value >= 0) {
+            count(1L);
+        }
+
+        return value;
+    }
+
+    @Override
+    public int read(@Nonnull final char[] buffer, final int offset, final int length) throws IOException {
+        if (length == 0) {
+            return in.read(buffer, offset, 0);
+        }
+        final int read = in.read(buffer, offset, (int) Math.min(length, remaining()));
+        if (read > 0) {
+            count(read);
+        }
+
+        return read;
+    }
+
+    @Override
+    public long skip(final long n) throws IOException {
+        final long skipped = in.skip(Math.min(n, remaining()));
+        if (skipped > 0L) {
+            count(skipped);
+        }
+
+        return skipped;
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    @Override
+    public void mark(final int readAheadLimit) throws IOException {
+        throw new IOException("mark/reset not supported");
+    }
+
+    @Override
+    public void reset() throws IOException {
+        throw new IOException("mark/reset not supported");
+    }
+
+    /**
+     * Chars which may be read in one call: all up to the limit and one more to detect the violation.
+     */
+    private long remaining() {
+        final long left = Math.max(maxLength - length, 0L);
+        // saturate, a limit of Long.MAX_VALUE must not wrap around to a negative length
+        return left == Long.MAX_VALUE ? left : left + 1L;
+    }
+
+    private void count(final long read) {
+        length += read;
+        if (length > maxLength) {
+            throw new RequireViolationException(Check.LENGTH, valueName, 0L, maxLength);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.github.ilubenets.require;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Sign rule for numeric values, delegates to the matching {@link Require} overload.
+ * It checks boxed values as a {@link Rule} and primitive values of
+ * {@link Validator.Builder#intField}, {@link Validator.Builder#longField} and {@link Validator.Builder#doubleField}
+ * without boxing.
+ * Instances are immutable and thread safe.
+ */
+public final class NumberRule implements Rule<Number> {
+
+    static final NumberRule POSITIVE = new NumberRule(Check.POSITIVE, 0L, Long.MAX_VALUE, 0D, Double.POSITIVE_INFINITY);
+    static final NumberRule NEGATIVE = new NumberRule(Check.NEGATIVE, Long.MIN_VALUE, 0L, Double.NEGATIVE_INFINITY, 0D);
+    static final NumberRule GREATER_THAN_ZERO =
+        new NumberRule(Check.GREATER_THAN_ZERO, 1L, Long.MAX_VALUE, Double.MIN_VALUE, Double.POSITIVE_INFINITY);
+    static final NumberRule LESS_THAN_ZERO =
+        new NumberRule(Check.LESS_THAN_ZERO, Long.MIN_VALUE, -1L, Double.NEGATIVE_INFINITY, -Double.MIN_VALUE);
+
+    private final Check check;
+    private final long min;
+    private final long max;
+    private final double floatingMin;
+    private final double floatingMax;
+
+    /**
+     * Sign checks are kept as closed bounds, so every check is one small range test which is inlined into the
+     * validator chain. Floating point bounds exclude 0 with the smallest double, which is exact for floats too.
+     * NaN passes like in {@link Require}.
+     */
+    private NumberRule(
+        @Nonnull final Check check,
+        final long min,
+        final long max,
+        final double floatingMin,
+        final double floatingMax
+    ) {
+        this.check = check;
+        this.min = min;
+        this.max = max;
+        this.floatingMin = floatingMin;
+        this.floatingMax = floatingMax;
+    }
+
+    /**
+     * Check if value is not null and meets the sign requirement.
+     * Integer, Long, Short, Byte, AtomicInteger and AtomicLong are checked as long, BigDecimal and BigInteger
+     * by their signum like the {@link Require} overloads, so they do not underflow or overflow a double.
+     * Other numbers are checked by their double value.
+     * If not throw an exception.
+     *
+     * @param value     - value to check
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return value back to client
+     * @throws IllegalArgumentException if statement false
+     */
+    @Override
+    public Number check(@Nullable final Number value, @Nonnull final String valueName) {
+        Require.nonNull(value, valueName);
+
+        if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte
+            || value instanceof AtomicInteger || value instanceof AtomicLong) {
+            checkLong(value.longValue(), valueName);
+        } else if (value instanceof BigDecimal) {
+            // the bounds are sign bounds, so the signum is checked like a long with the same result
+            checkLong(((BigDecimal) value).signum(), valueName);
+        } else if (value instanceof BigInteger) {
+            checkLong(((BigInteger) value).signum(), valueName);
+        } else {
+            checkDouble(value.doubleValue(), valueName);
+        }
+
+        return value;
+    }
+
+    void checkInt(final int value, @Nonnull final String valueName) {
+        checkLong(value, valueName);
+    }
+
+    void checkLong(final long value, @Nonnull final String valueName) {
+        if (value < min || value > max) {
+            throw new RequireViolationException(check, valueName);
+        }
+    }
+
+    void checkDouble(final double value, @Nonnull final String valueName) {
+        if (value < floatingMin || value > floatingMax) {
+            throw new RequireViolationException(check, valueName);
+        }
+    }
+}
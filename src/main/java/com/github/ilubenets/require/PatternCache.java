@@ -0,0 +1,163 @@
+package com.github.ilubenets.require;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Bounded cache of compiled regexp patterns, used by {@link Require#format(String, String, String)}.
+ *
+ * A hit is one {@link ConcurrentHashMap#get(Object)}, it takes no lock and does not write shared state
+ * except the hit counter and the reference bit of an entry which was not used since the last eviction pass.
+ * A miss compiles the pattern and inserts it. When the cache is full, an entry is evicted with the CLOCK
+ * (second chance) policy, an approximation of LRU: entries are kept in insertion order and an entry used
+ * since the last pass is moved to the end instead of being evicted.
+ *
+ * The capacity is set with the system property {@value #CAPACITY_PROPERTY}, 256 by default,
+ * the property is read once, when the class is initialized.
+ * Hit and miss counters help to size the cache.
+ *
+ * The patterns, the eviction queue and the counters live in one state object, {@link #clear()} replaces it
+ * with a fresh one by a single volatile write. A lookup which runs during the clear finishes in the state
+ * it started with, so its pattern may be dropped with that state, but the counters always describe
+ * the patterns of the state they belong to.
+ */
+public final class PatternCache {
+
+    /**
+     * System property with the maximal number of cached patterns.
+     */
+    public static final String CAPACITY_PROPERTY = "com.github.ilubenets.require.patternCacheSize";
+
+    private static final int CAPACITY = Math.max(1, Integer.getInteger(CAPACITY_PROPERTY, 256));
+
+    private static volatile State state = new State();
+
+    private PatternCache() {
+        // Utility class
+    }
+
+    /**
+     * Get compiled pattern of the regexp, compile and cache it on the first call.
+     *
+     * @param regex - regexp
+     * @return compiled pattern
+     * @throws IllegalArgumentException if regex is null or has invalid syntax
+     */
+    @Nonnull
+    public static Pattern pattern(@Nonnull final String regex) {
+        final State current = state;
+        final Entry cached = current.patterns.get(Require.nonNull(regex, "regex"));
+        if (cached != null) {
+            current.hits.increment();
+            if (!cached.referenced) {
+                cached.referenced = true;
+            }
+            return cached.pattern;
+        }
+
+        current.misses.increment();
+        final Entry entry = new Entry(regex, Pattern.compile(regex));
+        final Entry raced = current.patterns.putIfAbsent(regex, entry);
+        if (raced != null) {
+            return raced.pattern;
+        }
+        current.clock.offer(entry);
+        if (current.size.incrementAndGet() > CAPACITY) {
+            evict(current);
+        }
+
+        return entry.pattern;
+    }
+
+    /**
+     * Number of lookups which found a cached pattern.
+     *
+     * @return hit count since start or the last {@link #clear()}
+     */
+    public static long hitCount() {
+        return state.hits.sum();
+    }
+
+    /**
+     * Number of lookups which compiled the pattern.
+     *
+     * @return miss count since start or the last {@link #clear()}
+     */
+    public static long missCount() {
+        return state.misses.sum();
+    }
+
+    /**
+     * Number of cached patterns.
+     *
+     * @return size, not more than capacity
+     */
+    public static int size() {
+        return Math.min(state.size.get(), CAPACITY);
+    }
+
+    /**
+     * Maximal number of cached patterns.
+     *
+     * @return value of the {@value #CAPACITY_PROPERTY} property
+     */
+    public static int capacity() {
+        return CAPACITY;
+    }
+
+    /**
+     * Remove all cached patterns and reset the counters.
+     */
+    public static void clear() {
+        state = new State();
+    }
+
+    private static void evict(@Nonnull final State current) {
+        synchronized (current.clock) {
+            // Hits may set reference bits again during the pass, the budget bounds the number of second chances
+            int secondChances = CAPACITY;
+            while (current.size.get() > CAPACITY) {
+                final Entry entry = current.clock.poll();
+                if (entry == null) {
+                    return;
+                }
+                if (entry.referenced && secondChances-- > 0) {
+                    entry.referenced = false;
+                    current.clock.offer(entry);
+                } else {
+                    current.patterns.remove(entry.regex, entry);
+                    current.size.decrementAndGet();
+                }
+            }
+        }
+    }
+
+    private static final class Entry {
+
+        final String regex;
+        final Pattern pattern;
+        volatile boolean referenced;
+
+        Entry(@Nonnull final String regex, @Nonnull final Pattern pattern) {
+            this.regex = regex;
+            this.pattern = pattern;
+        }
+    }
+
+    /**
+     * Cached patterns together with their eviction queue and counters.
+     */
+    private static final class State {
+
+        final ConcurrentHashMap<String, Entry> patterns = new ConcurrentHashMap<>(CAPACITY * 2);
+        final ConcurrentLinkedQueue<Entry> clock = new ConcurrentLinkedQueue<>();
+        final AtomicInteger size = new AtomicInteger();
+        final LongAdder hits = new LongAdder();
+        final LongAdder misses = new LongAdder();
+    }
+}
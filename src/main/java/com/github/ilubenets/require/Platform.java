@@ -0,0 +1,40 @@
+package com.github.ilubenets.require;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Hot helpers which have faster JDK counterparts on newer runtimes, this is the Java 8 version.
+ * The jar is a multi-release jar, on Java 11 and later this class is replaced by the one from
+ * {@code META-INF/versions/11}. Both versions must have the same package-private API and behaviour.
+ */
+final class Platform {
+
+    private Platform() {
+        // Utility class
+    }
+
+    /**
+     * Java feature version this class was built for.
+     *
+     * @return 8
+     */
+    static int version() {
+        return 8;
+    }
+
+    /**
+     * Check if value has only {@link Character#isWhitespace(char)} characters, the {@link Whitespace#UNICODE} rule.
+     *
+     * @param value - value to check
+     * @return true if value is empty or has only whitespace
+     */
+    static boolean isUnicodeBlank(@Nonnull final String value) {
+        final int length = value.length();
+        for (int i = 0; i < length; i++) {
+            if (!Whitespace.UNICODE.isWhitespace(value.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -1,9 +1,28 @@
 package com.github.ilubenets.require;
 
+import java.io.InputStream;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Enumeration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Spliterator;
 import java.util.regex.Pattern;
+import java.util.stream.Collector;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -13,7 +32,12 @@ import javax.annotation.Nullable;
  * It has predefined error messages.
  *
  * If the requirements is not met, the {@code Require} method throws an unchecked exception {@code IllegalArgumentException},
- * to communicate that caller has made a mistake.
+ * to communicate that caller has made a mistake. The exact type is {@link RequireViolationException},
+ * which can be configured to skip the stack trace capture.
+ *
+ * Lazy stream checks, like {@code allPositive(IntStream, String)} or {@code eachNonNull(Stream, String)}, wrap the
+ * spliterator of the stream. The wrapper splits with it and has its characteristics, so parallel streams scale
+ * as before.
  *
  * Example:
  *
@@ -28,17 +52,6 @@ import javax.annotation.Nullable;
  */
 public final class Require {
 
-    private final static String VALUE_IS_NULL_FORMAT = "The value of [%s] must not be null.";
-    private final static String VALUE_IS_BLANK_FORMAT = "The value of [%s] must not be blank.";
-    private final static String VALUE_IS_EMPTY_FORMAT = "The value of [%s] must not be empty.";
-    private final static String VALUE_HAS_WRONG_FORMAT_FORMAT = "The value of [%s] has invalid format.";
-    private final static String VALUE_HAS_WRONG_LENGTH_FORMAT = "The length of [%s] must be between %d-%d.";
-    private final static String VALUE_HAS_WRONG_MIN_LENGTH_FORMAT = "The length of [%s] must at least %d.";
-    private final static String VALUE_IS_NOT_POSITIVE_FORMAT = "The value of [%s] must be positive or 0.";
-    private final static String VALUE_IS_NOT_GREATER_THAN_ZERO_FORMAT = "The value of [%s] must be greater than 0.";
-    private final static String VALUE_IS_NOT_NEGATIVE_FORMAT = "The value of [%s] must be negative or 0.";
-    private final static String VALUE_IS_NOT_LESS_THAN_ZERO_FORMAT = "The value of [%s] must be less than 0.";
-
     private Require() {
         // Utility class
     }
@@ -56,7 +69,7 @@ public final class Require {
     @Nonnull
     public static <T> T nonNull(@Nullable final T value, @Nonnull final String valueName) {
         if (value == null) {
-            throw new IllegalArgumentException(String.format(VALUE_IS_NULL_FORMAT, valueName));
+            throw new RequireViolationException(Check.NON_NULL, valueName);
         }
 
         return value;
@@ -64,6 +77,8 @@ public final class Require {
 
     /**
      * Check if value is not null and not blank, contains any character different from whitespace.
+     * Whitespace is any character less than or equal to space, the same rule as {@link String#trim()} uses.
+     * The value is scanned in place, no trimmed copy is allocated.
      * If not throw an exception.
      *
      * @param value     - value to check
@@ -73,11 +88,49 @@ public final class Require {
      */
     @Nonnull
     public static String nonBlank(@Nullable final String value, @Nonnull final String valueName) {
+        return nonBlank(value, Whitespace.TRIM, valueName);
+    }
+
+    /**
+     * Check if value is not null and not blank, contains any character different from whitespace.
+     * Whitespace is any character less than or equal to space, the same rule as {@link String#trim()} uses.
+     * The value is scanned in place, no trimmed copy is allocated.
+     * If not throw an exception.
+     *
+     * @param value     - value to check
+     * @param valueName - value parameter name which will be printed in the error message
+     * @param <T>       - value type
+     * @return value back to client
+     * @throws IllegalArgumentException if statement false
+     */
+    @Nonnull
+    public static <T extends CharSequence> T nonBlank(@Nullable final T value, @Nonnull final String valueName) {
+        return nonBlank(value, Whitespace.TRIM, valueName);
+    }
+
+    /**
+     * Check if value is not null and not blank, contains any character different from whitespace.
+     * Whitespace is defined by the given rule.
+     * The value is scanned in place, no trimmed copy is allocated.
+     * If not throw an exception.
+     *
+     * @param value      - value to check
+     * @param whitespace - rule which decides what character is a whitespace
+     * @param valueName  - value parameter name which will be printed in the error message
+     * @param <T>        - value type
+     * @return value back to client
+     * @throws IllegalArgumentException if statement false
+     */
+    @Nonnull
+    public static <T extends CharSequence> T nonBlank(
+        @Nullable final T value,
+        @Nonnull final Whitespace whitespace,
+        @Nonnull final String valueName
+    ) {
         nonNull(value, valueName);
 
-        final String valueWithoutWhitespaces = value.trim();
-        if (valueWithoutWhitespaces.isEmpty()) {
-            throw new IllegalArgumentException(String.format(VALUE_IS_BLANK_FORMAT, valueName));
+        if (whitespace.isBlank(value)) {
+            throw new RequireViolationException(Check.NON_BLANK, valueName);
         }
 
         return value;
@@ -98,7 +151,7 @@ public final class Require {
         nonNull(value, valueName);
 
         if (value.length() == 0) {
-            throw new IllegalArgumentException(String.format(VALUE_IS_EMPTY_FORMAT, valueName));
+            throw new RequireViolationException(Check.NON_EMPTY, valueName);
         }
 
         return value;
@@ -119,7 +172,7 @@ public final class Require {
         nonNull(value, valueName);
 
         if (value.isEmpty()) {
-            throw new IllegalArgumentException(String.format(VALUE_IS_EMPTY_FORMAT, valueName));
+            throw new RequireViolationException(Check.NON_EMPTY, valueName);
         }
 
         return value;
@@ -140,7 +193,7 @@ public final class Require {
         nonNull(value, valueName);
 
         if (value.isEmpty()) {
-            throw new IllegalArgumentException(String.format(VALUE_IS_EMPTY_FORMAT, valueName));
+            throw new RequireViolationException(Check.NON_EMPTY, valueName);
         }
 
         return value;
@@ -161,12 +214,97 @@ public final class Require {
         nonNull(value, valueName);
 
         if (!value.hasMoreElements()) {
-            throw new IllegalArgumentException(String.format(VALUE_IS_EMPTY_FORMAT, valueName));
+            throw new RequireViolationException(Check.NON_EMPTY, valueName);
+        }
+
+        return value;
+    }
+
+    /**
+     * Check if iterable is not null and not empty.
+     * Collections are checked by {@code isEmpty()}, other iterables by {@code hasNext()} of a new iterator,
+     * no element is read. For a source which can be iterated only once check its iterator or stream instead.
+     * If not throw an exception.
+     *
+     * @param value     - value to check
+     * @param valueName - value parameter name which will be printed in the error message
+     * @param <T>       - value type
+     * @return value back to client
+     * @throws IllegalArgumentException if statement false
+     */
+    @Nonnull
+    @SuppressWarnings("rawtypes")
+    public static <T extends Iterable> T nonEmpty(@Nullable final T value, @Nonnull final String valueName) {
+        nonNull(value, valueName);
+
+        final boolean empty = value instanceof Collection
+            ? ((Collection<?>) value).isEmpty()
+            : !((Iterable<?>) value).iterator().hasNext();
+        if (empty) {
+            throw new RequireViolationException(Check.NON_EMPTY, valueName);
+        }
+
+        return value;
+    }
+
+    /**
+     * Check if iterator is not null and has a next element.
+     * Only {@link Iterator#hasNext()} is called, no element is read.
+     * If not throw an exception.
+     *
+     * @param value     - value to check
+     * @param valueName - value parameter name which will be printed in the error message
+     * @param <T>       - value type
+     * @return value back to client
+     * @throws IllegalArgumentException if statement false
+     */
+    @Nonnull
+    @SuppressWarnings("rawtypes")
+    public static <T extends Iterator> T nonEmpty(@Nullable final T value, @Nonnull final String valueName) {
+        nonNull(value, valueName);
+
+        if (!((Iterator<?>) value).hasNext()) {
+            throw new RequireViolationException(Check.NON_EMPTY, valueName);
         }
 
         return value;
     }
 
+    /**
+     * Check if stream is not null and not empty.
+     * A stream of known size is checked without reading it. Otherwise its first element is taken
+     * and replayed by the returned stream, so the source is read once and nothing is buffered.
+     * Once an element was taken from a stream with intermediate operations, the JDK pulls its other elements
+     * one by one, which is several times slower than one pass, so check the stream before adding operations.
+     * Splitting and characteristics of the stream are kept, closing the returned stream closes the value.
+     * If not throw an exception.
+     *
+     * @param value     - value to check
+     * @param valueName - value parameter name which will be printed in the error message
+     * @param <T>       - element type
+     * @return stream with all elements of the value, which must be used instead of value
+     * @throws IllegalArgumentException if statement false
+     */
+    @Nonnull
+    public static <T> Stream<T> nonEmpty(@Nullable final Stream<T> value, @Nonnull final String valueName) {
+        nonNull(value, valueName);
+
+        final Spliterator<T> source = value.spliterator();
+        final long size = source.getExactSizeIfKnown();
+        if (size == 0L) {
+            throw new RequireViolationException(Check.NON_EMPTY, valueName);
+        }
+        if (size > 0L) {
+            return StreamSupport.stream(source, value.isParallel()).onClose(value::close);
+        }
+        final CheckedSpliterators.PeekedSpliterator<T> peeked = new CheckedSpliterators.PeekedSpliterator<>(source);
+        if (!peeked.peek()) {
+            throw new RequireViolationException(Check.NON_EMPTY, valueName);
+        }
+
+        return StreamSupport.stream(peeked, value.isParallel()).onClose(value::close);
+    }
+
     /**
      * Check if objects array is not null and not empty.
      * If not throw an exception.
@@ -182,7 +320,7 @@ public final class Require {
         nonNull(value, valueName);
 
         if (value.length == 0) {
-            throw new IllegalArgumentException(String.format(VALUE_IS_EMPTY_FORMAT, valueName));
+            throw new RequireViolationException(Check.NON_EMPTY, valueName);
         }
 
         return value;
@@ -202,7 +340,7 @@ public final class Require {
         nonNull(value, valueName);
 
         if (value.length == 0) {
-            throw new IllegalArgumentException(String.format(VALUE_IS_EMPTY_FORMAT, valueName));
+            throw new RequireViolationException(Check.NON_EMPTY, valueName);
         }
 
         return value;
@@ -222,7 +360,29 @@ public final class Require {
         nonNull(value, valueName);
 
         if (value.length == 0) {
-            throw new IllegalArgumentException(String.format(VALUE_IS_EMPTY_FORMAT, valueName));
+            throw new RequireViolationException(Check.NON_EMPTY, valueName);
+        }
+
+        return value;
+    }
+
+    /**
+     * Check if buffer is not null and has remaining bytes between position and limit.
+     * The buffer is not copied and its position is not changed.
+     * If not throw an exception.
+     *
+     * @param value     - value to check
+     * @param valueName - value parameter name which will be printed in the error message
+     * @param <T>       - value type
+     * @return value back to client
+     * @throws IllegalArgumentException if statement false
+     */
+    @Nonnull
+    public static <T extends ByteBuffer> T nonEmpty(@Nullable final T value, @Nonnull final String valueName) {
+        nonNull(value, valueName);
+
+        if (!value.hasRemaining()) {
+            throw new RequireViolationException(Check.NON_EMPTY, valueName);
         }
 
         return value;
@@ -242,7 +402,7 @@ public final class Require {
         nonNull(value, valueName);
 
         if (value.length == 0) {
-            throw new IllegalArgumentException(String.format(VALUE_IS_EMPTY_FORMAT, valueName));
+            throw new RequireViolationException(Check.NON_EMPTY, valueName);
         }
 
         return value;
@@ -262,7 +422,7 @@ public final class Require {
         nonNull(value, valueName);
 
         if (value.length == 0) {
-            throw new IllegalArgumentException(String.format(VALUE_IS_EMPTY_FORMAT, valueName));
+            throw new RequireViolationException(Check.NON_EMPTY, valueName);
         }
 
         return value;
@@ -282,7 +442,7 @@ public final class Require {
         nonNull(value, valueName);
 
         if (value.length == 0) {
-            throw new IllegalArgumentException(String.format(VALUE_IS_EMPTY_FORMAT, valueName));
+            throw new RequireViolationException(Check.NON_EMPTY, valueName);
         }
 
         return value;
@@ -302,7 +462,7 @@ public final class Require {
         nonNull(value, valueName);
 
         if (value.length == 0) {
-            throw new IllegalArgumentException(String.format(VALUE_IS_EMPTY_FORMAT, valueName));
+            throw new RequireViolationException(Check.NON_EMPTY, valueName);
         }
 
         return value;
@@ -330,267 +490,582 @@ public final class Require {
 
         final int valueLength = value.length();
         if (valueLength < minLength || valueLength > maxLength) {
-            throw new IllegalArgumentException(
-                String.format(VALUE_HAS_WRONG_LENGTH_FORMAT, valueName, minLength, maxLength)
-            );
+            throw new RequireViolationException(Check.LENGTH, valueName, minLength, maxLength);
         }
 
         return value;
     }
 
     /**
-     * Check if value is not null and has length between 0 and maxLength.
+     * Check if buffer is not null and has between minLength and maxLength remaining bytes.
+     * The buffer is not copied and its position is not changed.
      * If not throw an exception.
      *
      * @param value     - value to check
+     * @param minLength - minimal expected value length
      * @param maxLength - maximal expected value length
      * @param valueName - value parameter name which will be printed in the error message
+     * @param <T>       - value type
      * @return value back to client
      * @throws IllegalArgumentException if statement false
      */
     @Nonnull
-    public static String maxLength(
-        @Nullable final String value,
+    public static <T extends ByteBuffer> T length(
+        @Nullable final T value,
+        final int minLength,
         final int maxLength,
         @Nonnull final String valueName
     ) {
-        return length(value, 0, maxLength, valueName);
-    }
+        nonNull(value, valueName);
 
-    /**
-     * Check if value is not blank and has length between 1 and maxLength.
-     * If not throw an exception.
-     *
-     * @param value     - value to check
-     * @param maxLength - maximal expected value length
-     * @param valueName - value parameter name which will be printed in the error message
-     * @return value back to client
-     * @throws IllegalArgumentException if statement false
-     */
-    @Nonnull
-    public static String nonBlankMaxLength(
-        @Nullable final String value,
-        final int maxLength,
-        @Nonnull final String valueName
-    ) {
-        return length(nonBlank(value, valueName), 1, maxLength, valueName);
+        final int valueLength = value.remaining();
+        if (valueLength < minLength || valueLength > maxLength) {
+            throw new RequireViolationException(Check.LENGTH, valueName, minLength, maxLength);
+        }
+
+        return value;
     }
 
     /**
-     * Check if value is not null and has length more then minLength.
+     * Check if buffer is not null and has between minLength and maxLength remaining chars.
+     * The buffer is not copied and its position is not changed.
      * If not throw an exception.
      *
      * @param value     - value to check
      * @param minLength - minimal expected value length
+     * @param maxLength - maximal expected value length
      * @param valueName - value parameter name which will be printed in the error message
      * @return value back to client
      * @throws IllegalArgumentException if statement false
      */
     @Nonnull
-    public static String minLength(
-        @Nullable final String value,
+    public static CharBuffer length(
+        @Nullable final CharBuffer value,
         final int minLength,
+        final int maxLength,
         @Nonnull final String valueName
     ) {
         nonNull(value, valueName);
 
-        final int valueLength = value.length();
-        if (valueLength < minLength) {
-            throw new IllegalArgumentException(String.format(VALUE_HAS_WRONG_MIN_LENGTH_FORMAT, valueName, minLength));
+        final int valueLength = value.remaining();
+        if (valueLength < minLength || valueLength > maxLength) {
+            throw new RequireViolationException(Check.LENGTH, valueName, minLength, maxLength);
         }
 
         return value;
     }
 
     /**
-     * Check if value is not null and has match regexp pattern format.
+     * Check if value is not null and has length between 0 and maxLength.
      * If not throw an exception.
      *
-     * @param value         - value to check
-     * @param formatPattern - regexp format
-     * @param valueName     - value parameter name which will be printed in the error message
+     * @param value     - value to check
+     * @param maxLength - maximal expected value length
+     * @param valueName - value parameter name which will be printed in the error message
      * @return value back to client
      * @throws IllegalArgumentException if statement false
      */
     @Nonnull
-    public static String format(
+    public static String maxLength(
         @Nullable final String value,
-        @Nonnull final Pattern formatPattern,
+        final int maxLength,
         @Nonnull final String valueName
     ) {
-        nonNull(value, valueName);
-
-        if (!formatPattern.matcher(value).matches()) {
-            throw new IllegalArgumentException(String.format(VALUE_HAS_WRONG_FORMAT_FORMAT, valueName));
-        }
-
-        return value;
+        return length(value, 0, maxLength, valueName);
     }
 
     /**
-     * Check if numeric value is positive.
+     * Check if buffer is not null and has between 0 and maxLength remaining bytes.
+     * The buffer is not copied and its position is not changed.
      * If not throw an exception.
      *
      * @param value     - value to check
+     * @param maxLength - maximal expected value length
      * @param valueName - value parameter name which will be printed in the error message
+     * @param <T>       - value type
      * @return value back to client
      * @throws IllegalArgumentException if statement false
      */
-    public static int positive(final int value, @Nonnull final String valueName) {
-        if (value < 0) {
-            throw new IllegalArgumentException(String.format(VALUE_IS_NOT_POSITIVE_FORMAT, valueName));
-        }
-
-        return value;
+    @Nonnull
+    public static <T extends ByteBuffer> T maxLength(
+        @Nullable final T value,
+        final int maxLength,
+        @Nonnull final String valueName
+    ) {
+        return length(value, 0, maxLength, valueName);
     }
 
     /**
-     * Check if numeric value is not null and positive.
+     * Check if buffer is not null and has between 0 and maxLength remaining chars.
+     * The buffer is not copied and its position is not changed.
      * If not throw an exception.
      *
      * @param value     - value to check
+     * @param maxLength - maximal expected value length
      * @param valueName - value parameter name which will be printed in the error message
      * @return value back to client
      * @throws IllegalArgumentException if statement false
      */
     @Nonnull
-    public static Integer positive(@Nullable final Integer value, @Nonnull final String valueName) {
-        nonNull(value, valueName);
-        positive(value.intValue(), valueName);
-
-        return value;
+    public static CharBuffer maxLength(
+        @Nullable final CharBuffer value,
+        final int maxLength,
+        @Nonnull final String valueName
+    ) {
+        return length(value, 0, maxLength, valueName);
     }
 
     /**
-     * Check if numeric value is positive.
+     * Check if value is not null and its UTF-8 encoding has length between minLength and maxLength bytes.
+     * The length is counted from the chars without encoding the value, as {@code String.getBytes(UTF_8)} would
+     * produce it: a surrogate pair takes 4 bytes, a lone surrogate 1 byte. The count stops once maxLength is crossed.
      * If not throw an exception.
      *
      * @param value     - value to check
+     * @param minLength - minimal expected value length in bytes
+     * @param maxLength - maximal expected value length in bytes
      * @param valueName - value parameter name which will be printed in the error message
+     * @param <T>       - value type
      * @return value back to client
      * @throws IllegalArgumentException if statement false
      */
-    public static float positive(final float value, @Nonnull final String valueName) {
-        if (value < 0.0F) {
-            throw new IllegalArgumentException(String.format(VALUE_IS_NOT_POSITIVE_FORMAT, valueName));
+    @Nonnull
+    public static <T extends CharSequence> T utf8Length(
+        @Nullable final T value,
+        final int minLength,
+        final int maxLength,
+        @Nonnull final String valueName
+    ) {
+        nonNull(value, valueName);
+
+        // A char takes 1 to 3 bytes, a pair of chars 4, so the bounds alone often decide without a scan
+        final long chars = value.length();
+        if (chars >= minLength && chars * 3L <= maxLength) {
+            return value;
+        }
+        final long bytes = Utf8.encodedLength(value, maxLength);
+        if (bytes < minLength || bytes > maxLength) {
+            throw new RequireViolationException(Check.UTF_8_LENGTH, valueName, minLength, maxLength);
         }
 
         return value;
     }
 
     /**
-     * Check if numeric value is not null and positive.
+     * Check if value is not null and its UTF-8 encoding has length between 0 and maxLength bytes.
+     * The length is counted from the chars without encoding the value, see {@link #utf8Length}.
      * If not throw an exception.
      *
      * @param value     - value to check
+     * @param maxLength - maximal expected value length in bytes
      * @param valueName - value parameter name which will be printed in the error message
+     * @param <T>       - value type
      * @return value back to client
      * @throws IllegalArgumentException if statement false
      */
     @Nonnull
-    public static Float positive(@Nullable final Float value, @Nonnull final String valueName) {
-        nonNull(value, valueName);
-        positive(value.floatValue(), valueName);
-
-        return value;
+    public static <T extends CharSequence> T maxUtf8Length(
+        @Nullable final T value,
+        final int maxLength,
+        @Nonnull final String valueName
+    ) {
+        return utf8Length(value, 0, maxLength, valueName);
     }
 
     /**
-     * Check if numeric value is positive.
-     * If not throw an exception.
+     * Check if buffer is not null and its remaining bytes are well-formed UTF-8.
+     * The buffer is checked in place, heap, direct and memory mapped buffers alike, its position is not changed.
+     * If not throw an exception with the offset of the first malformed sequence from the buffer position.
      *
      * @param value     - value to check
      * @param valueName - value parameter name which will be printed in the error message
+     * @param <T>       - value type
      * @return value back to client
      * @throws IllegalArgumentException if statement false
      */
-    public static double positive(final double value, @Nonnull final String valueName) {
-        if (value < 0.0D) {
-            throw new IllegalArgumentException(String.format(VALUE_IS_NOT_POSITIVE_FORMAT, valueName));
+    @Nonnull
+    public static <T extends ByteBuffer> T wellFormedUtf8(@Nullable final T value, @Nonnull final String valueName) {
+        nonNull(value, valueName);
+
+        final int malformed = Utf8.malformedOffset(value);
+        if (malformed >= 0) {
+            throw new RequireViolationException(Check.UTF_8, valueName, (long) malformed, null, null);
         }
 
         return value;
     }
 
     /**
-     * Check if numeric value is not null and positive.
+     * Check if stream is not null and wrap it to check that it has length between 0 and maxLength bytes.
+     * Bytes are counted while they are read, the wrapper throws as soon as more than maxLength were read,
+     * without buffering the stream. Skipped bytes are counted too, mark and reset are not supported.
      * If not throw an exception.
      *
      * @param value     - value to check
+     * @param maxLength - maximal expected value length in bytes
      * @param valueName - value parameter name which will be printed in the error message
-     * @return value back to client
-     * @throws IllegalArgumentException if statement false
+     * @return wrapped stream which must be read instead of value
+     * @throws IllegalArgumentException if statement false, also from the read methods of the wrapped stream
      */
     @Nonnull
-    public static Double positive(@Nullable final Double value, @Nonnull final String valueName) {
+    public static InputStream maxLength(
+        @Nullable final InputStream value,
+        final long maxLength,
+        @Nonnull final String valueName
+    ) {
         nonNull(value, valueName);
-        positive(value.doubleValue(), valueName);
 
-        return value;
+        return new LengthLimitedInputStream(value, positive(maxLength, "maxLength"), valueName);
     }
 
     /**
-     * Check if numeric value is positive.
+     * Check if reader is not null and wrap it to check that it has length between 0 and maxLength chars.
+     * Chars are counted while they are read, the wrapper throws as soon as more than maxLength were read,
+     * without buffering the reader. Skipped chars are counted too, mark and reset are not supported.
      * If not throw an exception.
      *
      * @param value     - value to check
+     * @param maxLength - maximal expected value length in chars
      * @param valueName - value parameter name which will be printed in the error message
-     * @return value back to client
-     * @throws IllegalArgumentException if statement false
+     * @return wrapped reader which must be read instead of value
+     * @throws IllegalArgumentException if statement false, also from the read methods of the wrapped reader
      */
-    public static long positive(final long value, @Nonnull final String valueName) {
-        if (value < 0L) {
-            throw new IllegalArgumentException(String.format(VALUE_IS_NOT_POSITIVE_FORMAT, valueName));
-        }
+    @Nonnull
+    public static Reader maxLength(
+        @Nullable final Reader value,
+        final long maxLength,
+        @Nonnull final String valueName
+    ) {
+        nonNull(value, valueName);
 
-        return value;
+        return new LengthLimitedReader(value, positive(maxLength, "maxLength"), valueName);
     }
 
     /**
-     * Check if numeric value is not null and positive.
+     * Check if value is not blank and has length between 1 and maxLength.
      * If not throw an exception.
      *
      * @param value     - value to check
+     * @param maxLength - maximal expected value length
      * @param valueName - value parameter name which will be printed in the error message
      * @return value back to client
      * @throws IllegalArgumentException if statement false
      */
     @Nonnull
-    public static Long positive(@Nullable final Long value, @Nonnull final String valueName) {
-        nonNull(value, valueName);
-        positive(value.longValue(), valueName);
-
-        return value;
+    public static String nonBlankMaxLength(
+        @Nullable final String value,
+        final int maxLength,
+        @Nonnull final String valueName
+    ) {
+        return length(nonBlank(value, valueName), 1, maxLength, valueName);
     }
 
     /**
-     * Check if numeric value is negative.
+     * Strip whitespace at both ends of the value and check if the result is not blank
+     * and has length between 1 and maxLength.
+     * Whitespace is any character less than or equal to space, the same rule as {@link String#trim()} uses.
+     * Only the whitespace at both ends is read, a new string is allocated only if there is any.
      * If not throw an exception.
      *
      * @param value     - value to check
+     * @param maxLength - maximal expected length of the stripped value
      * @param valueName - value parameter name which will be printed in the error message
-     * @return value back to client
+     * @return stripped value, the value itself if there is no whitespace at its ends
      * @throws IllegalArgumentException if statement false
      */
-    public static int negative(final int value, @Nonnull final String valueName) {
-        if (value > 0) {
-            throw new IllegalArgumentException(String.format(VALUE_IS_NOT_NEGATIVE_FORMAT, valueName));
+    @Nonnull
+    public static String trimmedNonBlankMaxLength(
+        @Nullable final String value,
+        final int maxLength,
+        @Nonnull final String valueName
+    ) {
+        nonNull(value, valueName);
+
+        final int length = value.length();
+        int start = 0;
+        while (start < length && value.charAt(start) <= ' ') {
+            start++;
+        }
+        if (start == length) {
+            throw new RequireViolationException(Check.NON_BLANK, valueName);
+        }
+        int end = length;
+        while (value.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        if (end - start > maxLength) {
+            throw new RequireViolationException(Check.LENGTH, valueName, 1, maxLength);
         }
 
-        return value;
+        return start == 0 && end == length ? value : value.substring(start, end);
     }
 
     /**
-     * Check if numeric value is not null and negative.
+     * Check if value is not null and has length more then minLength.
      * If not throw an exception.
      *
      * @param value     - value to check
+     * @param minLength - minimal expected value length
      * @param valueName - value parameter name which will be printed in the error message
      * @return value back to client
      * @throws IllegalArgumentException if statement false
      */
     @Nonnull
-    public static Integer negative(@Nullable final Integer value, @Nonnull final String valueName) {
+    public static String minLength(
+        @Nullable final String value,
+        final int minLength,
+        @Nonnull final String valueName
+    ) {
+        nonNull(value, valueName);
+
+        final int valueLength = value.length();
+        if (valueLength < minLength) {
+            throw new RequireViolationException(Check.MIN_LENGTH, valueName, minLength);
+        }
+
+        return value;
+    }
+
+    /**
+     * Check if value is not null and has match regexp pattern format.
+     * On Java 11 and later a match slower than the threshold is recorded as a
+     * {@code com.github.ilubenets.require.SlowFormat} flight recorder event, when the event is enabled.
+     * If not throw an exception.
+     *
+     * @param value         - value to check
+     * @param formatPattern - regexp format
+     * @param valueName     - value parameter name which will be printed in the error message
+     * @return value back to client
+     * @throws IllegalArgumentException if statement false
+     */
+    @Nonnull
+    public static String format(
+        @Nullable final String value,
+        @Nonnull final Pattern formatPattern,
+        @Nonnull final String valueName
+    ) {
+        nonNull(value, valueName);
+
+        final Object timing = JfrSupport.beginFormat();
+        final boolean matches = formatPattern.matcher(value).matches();
+        JfrSupport.endFormat(timing, formatPattern, valueName, value.length(), matches);
+        if (!matches) {
+            throw new RequireViolationException(Check.FORMAT, valueName);
+        }
+
+        return value;
+    }
+
+    /**
+     * Check if value is not null and has match regexp format.
+     * Compiled patterns are cached in {@link PatternCache}, the regexp is compiled only on a cache miss.
+     * If not throw an exception.
+     *
+     * @param value     - value to check
+     * @param regex     - regexp format
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return value back to client
+     * @throws IllegalArgumentException if statement false or regex has invalid syntax
+     */
+    @Nonnull
+    public static String format(
+        @Nullable final String value,
+        @Nonnull final String regex,
+        @Nonnull final String valueName
+    ) {
+        return format(value, PatternCache.pattern(regex), valueName);
+    }
+
+    /**
+     * Check if value is not null and has match the compiled format.
+     * Simple formats are matched without {@code Matcher} allocation, see {@link CompiledFormat}.
+     * If not throw an exception.
+     *
+     * @param value     - value to check
+     * @param format    - compiled regexp format
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return value back to client
+     * @throws IllegalArgumentException if statement false
+     */
+    @Nonnull
+    public static String format(
+        @Nullable final String value,
+        @Nonnull final CompiledFormat format,
+        @Nonnull final String valueName
+    ) {
+        nonNull(value, valueName);
+
+        if (!format.matches(value)) {
+            throw new RequireViolationException(Check.FORMAT, valueName);
+        }
+
+        return value;
+    }
+
+    /**
+     * Check if numeric value is positive.
+     * If not throw an exception.
+     *
+     * @param value     - value to check
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return value back to client
+     * @throws IllegalArgumentException if statement false
+     */
+    public static int positive(final int value, @Nonnull final String valueName) {
+        if (value < 0) {
+            throw new RequireViolationException(Check.POSITIVE, valueName);
+        }
+
+        return value;
+    }
+
+    /**
+     * Check if numeric value is not null and positive.
+     * If not throw an exception.
+     *
+     * @param value     - value to check
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return value back to client
+     * @throws IllegalArgumentException if statement false
+     */
+    @Nonnull
+    public static Integer positive(@Nullable final Integer value, @Nonnull final String valueName) {
+        nonNull(value, valueName);
+        positive(value.intValue(), valueName);
+
+        return value;
+    }
+
+    /**
+     * Check if numeric value is positive.
+     * If not throw an exception.
+     *
+     * @param value     - value to check
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return value back to client
+     * @throws IllegalArgumentException if statement false
+     */
+    public static float positive(final float value, @Nonnull final String valueName) {
+        if (value < 0.0F) {
+            throw new RequireViolationException(Check.POSITIVE, valueName);
+        }
+
+        return value;
+    }
+
+    /**
+     * Check if numeric value is not null and positive.
+     * If not throw an exception.
+     *
+     * @param value     - value to check
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return value back to client
+     * @throws IllegalArgumentException if statement false
+     */
+    @Nonnull
+    public static Float positive(@Nullable final Float value, @Nonnull final String valueName) {
+        nonNull(value, valueName);
+        positive(value.floatValue(), valueName);
+
+        return value;
+    }
+
+    /**
+     * Check if numeric value is positive.
+     * If not throw an exception.
+     *
+     * @param value     - value to check
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return value back to client
+     * @throws IllegalArgumentException if statement false
+     */
+    public static double positive(final double value, @Nonnull final String valueName) {
+        if (value < 0.0D) {
+            throw new RequireViolationException(Check.POSITIVE, valueName);
+        }
+
+        return value;
+    }
+
+    /**
+     * Check if numeric value is not null and positive.
+     * If not throw an exception.
+     *
+     * @param value     - value to check
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return value back to client
+     * @throws IllegalArgumentException if statement false
+     */
+    @Nonnull
+    public static Double positive(@Nullable final Double value, @Nonnull final String valueName) {
+        nonNull(value, valueName);
+        positive(value.doubleValue(), valueName);
+
+        return value;
+    }
+
+    /**
+     * Check if numeric value is positive.
+     * If not throw an exception.
+     *
+     * @param value     - value to check
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return value back to client
+     * @throws IllegalArgumentException if statement false
+     */
+    public static long positive(final long value, @Nonnull final String valueName) {
+        if (value < 0L) {
+            throw new RequireViolationException(Check.POSITIVE, valueName);
+        }
+
+        return value;
+    }
+
+    /**
+     * Check if numeric value is not null and positive.
+     * If not throw an exception.
+     *
+     * @param value     - value to check
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return value back to client
+     * @throws IllegalArgumentException if statement false
+     */
+    @Nonnull
+    public static Long positive(@Nullable final Long value, @Nonnull final String valueName) {
+        nonNull(value, valueName);
+        positive(value.longValue(), valueName);
+
+        return value;
+    }
+
+    /**
+     * Check if numeric value is negative.
+     * If not throw an exception.
+     *
+     * @param value     - value to check
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return value back to client
+     * @throws IllegalArgumentException if statement false
+     */
+    public static int negative(final int value, @Nonnull final String valueName) {
+        if (value > 0) {
+            throw new RequireViolationException(Check.NEGATIVE, valueName);
+        }
+
+        return value;
+    }
+
+    /**
+     * Check if numeric value is not null and negative.
+     * If not throw an exception.
+     *
+     * @param value     - value to check
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return value back to client
+     * @throws IllegalArgumentException if statement false
+     */
+    @Nonnull
+    public static Integer negative(@Nullable final Integer value, @Nonnull final String valueName) {
         nonNull(value, valueName);
         negative(value.intValue(), valueName);
 
@@ -608,7 +1083,7 @@ public final class Require {
      */
     public static float negative(final float value, @Nonnull final String valueName) {
         if (value > 0.0F) {
-            throw new IllegalArgumentException(String.format(VALUE_IS_NOT_NEGATIVE_FORMAT, valueName));
+            throw new RequireViolationException(Check.NEGATIVE, valueName);
         }
 
         return value;
@@ -642,7 +1117,7 @@ public final class Require {
      */
     public static double negative(final double value, @Nonnull final String valueName) {
         if (value > 0.0D) {
-            throw new IllegalArgumentException(String.format(VALUE_IS_NOT_NEGATIVE_FORMAT, valueName));
+            throw new RequireViolationException(Check.NEGATIVE, valueName);
         }
 
         return value;
@@ -676,7 +1151,7 @@ public final class Require {
      */
     public static long negative(final long value, @Nonnull final String valueName) {
         if (value > 0L) {
-            throw new IllegalArgumentException(String.format(VALUE_IS_NOT_NEGATIVE_FORMAT, valueName));
+            throw new RequireViolationException(Check.NEGATIVE, valueName);
         }
 
         return value;
@@ -710,7 +1185,7 @@ public final class Require {
      */
     public static int gtThanZero(final int value, @Nonnull final String valueName) {
         if (value <= 0) {
-            throw new IllegalArgumentException(String.format(VALUE_IS_NOT_GREATER_THAN_ZERO_FORMAT, valueName));
+            throw new RequireViolationException(Check.GREATER_THAN_ZERO, valueName);
         }
 
         return value;
@@ -744,7 +1219,7 @@ public final class Require {
      */
     public static float gtThanZero(final float value, @Nonnull final String valueName) {
         if (value <= 0.0F) {
-            throw new IllegalArgumentException(String.format(VALUE_IS_NOT_GREATER_THAN_ZERO_FORMAT, valueName));
+            throw new RequireViolationException(Check.GREATER_THAN_ZERO, valueName);
         }
 
         return value;
@@ -778,7 +1253,7 @@ public final class Require {
      */
     public static double gtThanZero(final double value, @Nonnull final String valueName) {
         if (value <= 0.0D) {
-            throw new IllegalArgumentException(String.format(VALUE_IS_NOT_GREATER_THAN_ZERO_FORMAT, valueName));
+            throw new RequireViolationException(Check.GREATER_THAN_ZERO, valueName);
         }
 
         return value;
@@ -812,7 +1287,7 @@ public final class Require {
      */
     public static long gtThanZero(final long value, @Nonnull final String valueName) {
         if (value <= 0L) {
-            throw new IllegalArgumentException(String.format(VALUE_IS_NOT_GREATER_THAN_ZERO_FORMAT, valueName));
+            throw new RequireViolationException(Check.GREATER_THAN_ZERO, valueName);
         }
 
         return value;
@@ -846,7 +1321,7 @@ public final class Require {
      */
     public static int lsThanZero(final int value, @Nonnull final String valueName) {
         if (value >= 0) {
-            throw new IllegalArgumentException(String.format(VALUE_IS_NOT_LESS_THAN_ZERO_FORMAT, valueName));
+            throw new RequireViolationException(Check.LESS_THAN_ZERO, valueName);
         }
 
         return value;
@@ -880,7 +1355,7 @@ public final class Require {
      */
     public static float lsThanZero(final float value, @Nonnull final String valueName) {
         if (value >= 0.0F) {
-            throw new IllegalArgumentException(String.format(VALUE_IS_NOT_LESS_THAN_ZERO_FORMAT, valueName));
+            throw new RequireViolationException(Check.LESS_THAN_ZERO, valueName);
         }
 
         return value;
@@ -914,7 +1389,7 @@ public final class Require {
      */
     public static double lsThanZero(final double value, @Nonnull final String valueName) {
         if (value >= 0.0D) {
-            throw new IllegalArgumentException(String.format(VALUE_IS_NOT_LESS_THAN_ZERO_FORMAT, valueName));
+            throw new RequireViolationException(Check.LESS_THAN_ZERO, valueName);
         }
 
         return value;
@@ -948,7 +1423,7 @@ public final class Require {
      */
     public static long lsThanZero(final long value, @Nonnull final String valueName) {
         if (value >= 0L) {
-            throw new IllegalArgumentException(String.format(VALUE_IS_NOT_LESS_THAN_ZERO_FORMAT, valueName));
+            throw new RequireViolationException(Check.LESS_THAN_ZERO, valueName);
         }
 
         return value;
@@ -970,4 +1445,3530 @@ public final class Require {
 
         return value;
     }
+
+    /**
+     * Check if numeric value is not null and positive.
+     * The sign is read with {@link BigDecimal#signum()}, no comparison with a zero constant.
+     * If not throw an exception.
+     *
+     * @param value     - value to check
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return value back to client
+     * @throws IllegalArgumentException if statement false
+     */
+    @Nonnull
+    public static BigDecimal positive(@Nullable final BigDecimal value, @Nonnull final String valueName) {
+        nonNull(value, valueName);
+        if (value.signum() < 0) {
+            throw new RequireViolationException(Check.POSITIVE, valueName);
+        }
+
+        return value;
+    }
+
+    /**
+     * Check if numeric value is not null and positive.
+     * If not throw an exception.
+     *
+     * @param value     - value to check
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return value back to client
+     * @throws IllegalArgumentException if statement false
+     */
+    @Nonnull
+    public static BigInteger positive(@Nullable final BigInteger value, @Nonnull final String valueName) {
+        nonNull(value, valueName);
+        if (value.signum() < 0) {
+            throw new RequireViolationException(Check.POSITIVE, valueName);
+        }
+
+        return value;
+    }
+
+    /**
+     * Check if numeric value is not null and negative.
+     * If not throw an exception.
+     *
+     * @param value     - value to check
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return value back to client
+     * @throws IllegalArgumentException if statement false
+     */
+    @Nonnull
+    public static BigDecimal negative(@Nullable final BigDecimal value, @Nonnull final String valueName) {
+        nonNull(value, valueName);
+        if (value.signum() > 0) {
+            throw new RequireViolationException(Check.NEGATIVE, valueName);
+        }
+
+        return value;
+    }
+
+    /**
+     * Check if numeric value is not null and negative.
+     * If not throw an exception.
+     *
+     * @param value     - value to check
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return value back to client
+     * @throws IllegalArgumentException if statement false
+     */
+    @Nonnull
+    public static BigInteger negative(@Nullable final BigInteger value, @Nonnull final String valueName) {
+        nonNull(value, valueName);
+        if (value.signum() > 0) {
+            throw new RequireViolationException(Check.NEGATIVE, valueName);
+        }
+
+        return value;
+    }
+
+    /**
+     * Check if numeric value is not null and greater than 0.
+     * Zero of any scale, like {@code 0.00}, is not greater than 0.
+     * If not throw an exception.
+     *
+     * @param value     - value to check
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return value back to client
+     * @throws IllegalArgumentException if statement false
+     */
+    @Nonnull
+    public static BigDecimal gtThanZero(@Nullable final BigDecimal value, @Nonnull final String valueName) {
+        nonNull(value, valueName);
+        if (value.signum() <= 0) {
+            throw new RequireViolationException(Check.GREATER_THAN_ZERO, valueName);
+        }
+
+        return value;
+    }
+
+    /**
+     * Check if numeric value is not null and greater than 0.
+     * If not throw an exception.
+     *
+     * @param value     - value to check
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return value back to client
+     * @throws IllegalArgumentException if statement false
+     */
+    @Nonnull
+    public static BigInteger gtThanZero(@Nullable final BigInteger value, @Nonnull final String valueName) {
+        nonNull(value, valueName);
+        if (value.signum() <= 0) {
+            throw new RequireViolationException(Check.GREATER_THAN_ZERO, valueName);
+        }
+
+        return value;
+    }
+
+    /**
+     * Check if numeric value is not null and less than 0.
+     * If not throw an exception.
+     *
+     * @param value     - value to check
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return value back to client
+     * @throws IllegalArgumentException if statement false
+     */
+    @Nonnull
+    public static BigDecimal lsThanZero(@Nullable final BigDecimal value, @Nonnull final String valueName) {
+        nonNull(value, valueName);
+        if (value.signum() >= 0) {
+            throw new RequireViolationException(Check.LESS_THAN_ZERO, valueName);
+        }
+
+        return value;
+    }
+
+    /**
+     * Check if numeric value is not null and less than 0.
+     * If not throw an exception.
+     *
+     * @param value     - value to check
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return value back to client
+     * @throws IllegalArgumentException if statement false
+     */
+    @Nonnull
+    public static BigInteger lsThanZero(@Nullable final BigInteger value, @Nonnull final String valueName) {
+        nonNull(value, valueName);
+        if (value.signum() >= 0) {
+            throw new RequireViolationException(Check.LESS_THAN_ZERO, valueName);
+        }
+
+        return value;
+    }
+
+    /**
+     * Check if decimal value is not null and has at most maxScale digits after the decimal point.
+     * The scale is compared as is, {@code 1.50} has scale 2 even though the trailing zero adds nothing.
+     * If not throw an exception.
+     *
+     * @param value     - value to check
+     * @param maxScale  - maximal allowed scale
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return value back to client
+     * @throws IllegalArgumentException if statement false
+     */
+    @Nonnull
+    public static BigDecimal maxScale(
+        @Nullable final BigDecimal value,
+        final int maxScale,
+        @Nonnull final String valueName
+    ) {
+        nonNull(value, valueName);
+        if (value.scale() > maxScale) {
+            throw new RequireViolationException(Check.MAX_SCALE, valueName, maxScale);
+        }
+
+        return value;
+    }
+
+    /**
+     * Check if decimal value is not null and has at most maxPrecision significant digits.
+     * The precision is computed by {@link BigDecimal#precision()} and cached by the value,
+     * for values of up to 18 digits without allocation.
+     * If not throw an exception.
+     *
+     * @param value        - value to check
+     * @param maxPrecision - maximal allowed number of digits
+     * @param valueName    - value parameter name which will be printed in the error message
+     * @return value back to client
+     * @throws IllegalArgumentException if statement false
+     */
+    @Nonnull
+    public static BigDecimal maxPrecision(
+        @Nullable final BigDecimal value,
+        final int maxPrecision,
+        @Nonnull final String valueName
+    ) {
+        nonNull(value, valueName);
+        if (value.precision() > maxPrecision) {
+            throw new RequireViolationException(Check.MAX_PRECISION, valueName, maxPrecision);
+        }
+
+        return value;
+    }
+
+    /**
+     * Check if decimal value is not null and has at most maxIntegerDigits digits before the decimal point,
+     * like the integer part of a {@code DECIMAL(p, s)} column.
+     * The digits are computed as precision minus scale, the value is not converted to a string.
+     * Zero has no integer digits, whatever its scale.
+     * If not throw an exception.
+     *
+     * @param value            - value to check
+     * @param maxIntegerDigits - maximal allowed number of integer digits
+     * @param valueName        - value parameter name which will be printed in the error message
+     * @return value back to client
+     * @throws IllegalArgumentException if statement false
+     */
+    @Nonnull
+    public static BigDecimal maxIntegerDigits(
+        @Nullable final BigDecimal value,
+        final int maxIntegerDigits,
+        @Nonnull final String valueName
+    ) {
+        nonNull(value, valueName);
+        // zero has no integer digits whatever its scale, 0E+3 has precision 1 and scale -3
+        final long integerDigits = value.signum() == 0 ? 0L : (long) value.precision() - value.scale();
+        if (integerDigits > maxIntegerDigits) {
+            throw new RequireViolationException(Check.MAX_INTEGER_DIGITS, valueName, maxIntegerDigits);
+        }
+
+        return value;
+    }
+
+    /**
+     * Check if integer value is not null and its two's complement form, without the sign bit,
+     * fits into maxBitLength bits. {@code maxBitLength(value, 63, name)} checks that the value fits into a long.
+     * If not throw an exception.
+     *
+     * @param value        - value to check
+     * @param maxBitLength - maximal allowed {@link BigInteger#bitLength()}
+     * @param valueName    - value parameter name which will be printed in the error message
+     * @return value back to client
+     * @throws IllegalArgumentException if statement false
+     */
+    @Nonnull
+    public static BigInteger maxBitLength(
+        @Nullable final BigInteger value,
+        final int maxBitLength,
+        @Nonnull final String valueName
+    ) {
+        nonNull(value, valueName);
+        if (value.bitLength() > maxBitLength) {
+            throw new RequireViolationException(Check.MAX_BIT_LENGTH, valueName, maxBitLength);
+        }
+
+        return value;
+    }
+
+    /**
+     * Check if numeric value is between min and max, inclusive.
+     * If not throw an exception.
+     *
+     * @param value     - value to check
+     * @param min       - minimal allowed value
+     * @param max       - maximal allowed value
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return value back to client
+     * @throws IllegalArgumentException if statement false
+     */
+    public static int inRange(
+        final int value,
+        final int min,
+        final int max,
+        @Nonnull final String valueName
+    ) {
+        if (value < min || value > max) {
+            throw new RequireViolationException(Check.IN_RANGE, valueName, min, max);
+        }
+
+        return value;
+    }
+
+    /**
+     * Check if numeric value is not null and between min and max, inclusive.
+     * The value is unboxed once.
+     * If not throw an exception.
+     *
+     * @param value     - value to check
+     * @param min       - minimal allowed value
+     * @param max       - maximal allowed value
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return value back to client
+     * @throws IllegalArgumentException if statement false
+     */
+    @Nonnull
+    public static Integer inRange(
+        @Nullable final Integer value,
+        final int min,
+        final int max,
+        @Nonnull final String valueName
+    ) {
+        if (value == null) {
+            throw new RequireViolationException(Check.NON_NULL, valueName);
+        }
+        final int unboxed = value;
+        if (unboxed < min || unboxed > max) {
+            throw new RequireViolationException(Check.IN_RANGE, valueName, min, max);
+        }
+
+        return value;
+    }
+
+    /**
+     * Check if numeric value is between min and max, inclusive.
+     * If not throw an exception.
+     *
+     * @param value     - value to check
+     * @param min       - minimal allowed value
+     * @param max       - maximal allowed value
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return value back to client
+     * @throws IllegalArgumentException if statement false
+     */
+    public static long inRange(
+        final long value,
+        final long min,
+        final long max,
+        @Nonnull final String valueName
+    ) {
+        if (value < min || value > max) {
+            throw new RequireViolationException(Check.IN_RANGE, valueName, min, max);
+        }
+
+        return value;
+    }
+
+    /**
+     * Check if numeric value is not null and between min and max, inclusive.
+     * The value is unboxed once.
+     * If not throw an exception.
+     *
+     * @param value     - value to check
+     * @param min       - minimal allowed value
+     * @param max       - maximal allowed value
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return value back to client
+     * @throws IllegalArgumentException if statement false
+     */
+    @Nonnull
+    public static Long inRange(
+        @Nullable final Long value,
+        final long min,
+        final long max,
+        @Nonnull final String valueName
+    ) {
+        if (value == null) {
+            throw new RequireViolationException(Check.NON_NULL, valueName);
+        }
+        final long unboxed = value;
+        if (unboxed < min || unboxed > max) {
+            throw new RequireViolationException(Check.IN_RANGE, valueName, min, max);
+        }
+
+        return value;
+    }
+
+    /**
+     * Check if numeric value is between min and max, inclusive.
+     * NaN never passes the check.
+     * If not throw an exception.
+     *
+     * @param value     - value to check
+     * @param min       - minimal allowed value
+     * @param max       - maximal allowed value
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return value back to client
+     * @throws IllegalArgumentException if statement false
+     */
+    public static float inRange(
+        final float value,
+        final float min,
+        final float max,
+        @Nonnull final String valueName
+    ) {
+        if (!(value >= min && value <= max)) {
+            throw new RequireViolationException(Check.IN_RANGE, valueName, min, max);
+        }
+
+        return value;
+    }
+
+    /**
+     * Check if numeric value is not null and between min and max, inclusive.
+     * NaN never passes the check.
+     * The value is unboxed once.
+     * If not throw an exception.
+     *
+     * @param value     - value to check
+     * @param min       - minimal allowed value
+     * @param max       - maximal allowed value
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return value back to client
+     * @throws IllegalArgumentException if statement false
+     */
+    @Nonnull
+    public static Float inRange(
+        @Nullable final Float value,
+        final float min,
+        final float max,
+        @Nonnull final String valueName
+    ) {
+        if (value == null) {
+            throw new RequireViolationException(Check.NON_NULL, valueName);
+        }
+        final float unboxed = value;
+        if (!(unboxed >= min && unboxed <= max)) {
+            throw new RequireViolationException(Check.IN_RANGE, valueName, min, max);
+        }
+
+        return value;
+    }
+
+    /**
+     * Check if numeric value is between min and max, inclusive.
+     * NaN never passes the check.
+     * If not throw an exception.
+     *
+     * @param value     - value to check
+     * @param min       - minimal allowed value
+     * @param max       - maximal allowed value
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return value back to client
+     * @throws IllegalArgumentException if statement false
+     */
+    public static double inRange(
+        final double value,
+        final double min,
+        final double max,
+        @Nonnull final String valueName
+    ) {
+        if (!(value >= min && value <= max)) {
+            throw new RequireViolationException(Check.IN_RANGE, valueName, min, max);
+        }
+
+        return value;
+    }
+
+    /**
+     * Check if numeric value is not null and between min and max, inclusive.
+     * NaN never passes the check.
+     * The value is unboxed once.
+     * If not throw an exception.
+     *
+     * @param value     - value to check
+     * @param min       - minimal allowed value
+     * @param max       - maximal allowed value
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return value back to client
+     * @throws IllegalArgumentException if statement false
+     */
+    @Nonnull
+    public static Double inRange(
+        @Nullable final Double value,
+        final double min,
+        final double max,
+        @Nonnull final String valueName
+    ) {
+        if (value == null) {
+            throw new RequireViolationException(Check.NON_NULL, valueName);
+        }
+        final double unboxed = value;
+        if (!(unboxed >= min && unboxed <= max)) {
+            throw new RequireViolationException(Check.IN_RANGE, valueName, min, max);
+        }
+
+        return value;
+    }
+
+    /**
+     * Check if value is not null and between min and max, inclusive.
+     * Values are compared with {@link Comparable#compareTo(Object)}.
+     * If not throw an exception.
+     *
+     * @param value     - value to check
+     * @param min       - minimal allowed value, not null
+     * @param max       - maximal allowed value, not null
+     * @param valueName - value parameter name which will be printed in the error message
+     * @param <T>       - value type
+     * @return value back to client
+     * @throws IllegalArgumentException if statement false
+     */
+    @Nonnull
+    public static <T extends Comparable<? super T>> T inRange(
+        @Nullable final T value,
+        @Nonnull final T min,
+        @Nonnull final T max,
+        @Nonnull final String valueName
+    ) {
+        nonNull(value, valueName);
+
+        if (value.compareTo(min) < 0 || value.compareTo(max) > 0) {
+            throw new RequireViolationException(Check.IN_RANGE, valueName, min, max);
+        }
+
+        return value;
+    }
+
+    /**
+     * Check if numeric value is greater than min and less than max.
+     * If not throw an exception.
+     *
+     * @param value     - value to check
+     * @param min       - value must be greater than min
+     * @param max       - value must be less than max
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return value back to client
+     * @throws IllegalArgumentException if statement false
+     */
+    public static int inRangeExclusive(
+        final int value,
+        final int min,
+        final int max,
+        @Nonnull final String valueName
+    ) {
+        if (value <= min || value >= max) {
+            throw new RequireViolationException(Check.IN_RANGE_EXCLUSIVE, valueName, min, max);
+        }
+
+        return value;
+    }
+
+    /**
+     * Check if numeric value is not null and greater than min and less than max.
+     * The value is unboxed once.
+     * If not throw an exception.
+     *
+     * @param value     - value to check
+     * @param min       - value must be greater than min
+     * @param max       - value must be less than max
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return value back to client
+     * @throws IllegalArgumentException if statement false
+     */
+    @Nonnull
+    public static Integer inRangeExclusive(
+        @Nullable final Integer value,
+        final int min,
+        final int max,
+        @Nonnull final String valueName
+    ) {
+        if (value == null) {
+            throw new RequireViolationException(Check.NON_NULL, valueName);
+        }
+        final int unboxed = value;
+        if (unboxed <= min || unboxed >= max) {
+            throw new RequireViolationException(Check.IN_RANGE_EXCLUSIVE, valueName, min, max);
+        }
+
+        return value;
+    }
+
+    /**
+     * Check if numeric value is greater than min and less than max.
+     * If not throw an exception.
+     *
+     * @param value     - value to check
+     * @param min       - value must be greater than min
+     * @param max       - value must be less than max
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return value back to client
+     * @throws IllegalArgumentException if statement false
+     */
+    public static long inRangeExclusive(
+        final long value,
+        final long min,
+        final long max,
+        @Nonnull final String valueName
+    ) {
+        if (value <= min || value >= max) {
+            throw new RequireViolationException(Check.IN_RANGE_EXCLUSIVE, valueName, min, max);
+        }
+
+        return value;
+    }
+
+    /**
+     * Check if numeric value is not null and greater than min and less than max.
+     * The value is unboxed once.
+     * If not throw an exception.
+     *
+     * @param value     - value to check
+     * @param min       - value must be greater than min
+     * @param max       - value must be less than max
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return value back to client
+     * @throws IllegalArgumentException if statement false
+     */
+    @Nonnull
+    public static Long inRangeExclusive(
+        @Nullable final Long value,
+        final long min,
+        final long max,
+        @Nonnull final String valueName
+    ) {
+        if (value == null) {
+            throw new RequireViolationException(Check.NON_NULL, valueName);
+        }
+        final long unboxed = value;
+        if (unboxed <= min || unboxed >= max) {
+            throw new RequireViolationException(Check.IN_RANGE_EXCLUSIVE, valueName, min, max);
+        }
+
+        return value;
+    }
+
+    /**
+     * Check if numeric value is greater than min and less than max.
+     * NaN never passes the check.
+     * If not throw an exception.
+     *
+     * @param value     - value to check
+     * @param min       - value must be greater than min
+     * @param max       - value must be less than max
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return value back to client
+     * @throws IllegalArgumentException if statement false
+     */
+    public static float inRangeExclusive(
+        final float value,
+        final float min,
+        final float max,
+        @Nonnull final String valueName
+    ) {
+        if (!(value > min && value < max)) {
+            throw new RequireViolationException(Check.IN_RANGE_EXCLUSIVE, valueName, min, max);
+        }
+
+        return value;
+    }
+
+    /**
+     * Check if numeric value is not null and greater than min and less than max.
+     * NaN never passes the check.
+     * The value is unboxed once.
+     * If not throw an exception.
+     *
+     * @param value     - value to check
+     * @param min       - value must be greater than min
+     * @param max       - value must be less than max
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return value back to client
+     * @throws IllegalArgumentException if statement false
+     */
+    @Nonnull
+    public static Float inRangeExclusive(
+        @Nullable final Float value,
+        final float min,
+        final float max,
+        @Nonnull final String valueName
+    ) {
+        if (value == null) {
+            throw new RequireViolationException(Check.NON_NULL, valueName);
+        }
+        final float unboxed = value;
+        if (!(unboxed > min && unboxed < max)) {
+            throw new RequireViolationException(Check.IN_RANGE_EXCLUSIVE, valueName, min, max);
+        }
+
+        return value;
+    }
+
+    /**
+     * Check if numeric value is greater than min and less than max.
+     * NaN never passes the check.
+     * If not throw an exception.
+     *
+     * @param value     - value to check
+     * @param min       - value must be greater than min
+     * @param max       - value must be less than max
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return value back to client
+     * @throws IllegalArgumentException if statement false
+     */
+    public static double inRangeExclusive(
+        final double value,
+        final double min,
+        final double max,
+        @Nonnull final String valueName
+    ) {
+        if (!(value > min && value < max)) {
+            throw new RequireViolationException(Check.IN_RANGE_EXCLUSIVE, valueName, min, max);
+        }
+
+        return value;
+    }
+
+    /**
+     * Check if numeric value is not null and greater than min and less than max.
+     * NaN never passes the check.
+     * The value is unboxed once.
+     * If not throw an exception.
+     *
+     * @param value     - value to check
+     * @param min       - value must be greater than min
+     * @param max       - value must be less than max
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return value back to client
+     * @throws IllegalArgumentException if statement false
+     */
+    @Nonnull
+    public static Double inRangeExclusive(
+        @Nullable final Double value,
+        final double min,
+        final double max,
+        @Nonnull final String valueName
+    ) {
+        if (value == null) {
+            throw new RequireViolationException(Check.NON_NULL, valueName);
+        }
+        final double unboxed = value;
+        if (!(unboxed > min && unboxed < max)) {
+            throw new RequireViolationException(Check.IN_RANGE_EXCLUSIVE, valueName, min, max);
+        }
+
+        return value;
+    }
+
+    /**
+     * Check if value is not null and greater than min and less than max.
+     * Values are compared with {@link Comparable#compareTo(Object)}.
+     * If not throw an exception.
+     *
+     * @param value     - value to check
+     * @param min       - value must be greater than min, not null
+     * @param max       - value must be less than max, not null
+     * @param valueName - value parameter name which will be printed in the error message
+     * @param <T>       - value type
+     * @return value back to client
+     * @throws IllegalArgumentException if statement false
+     */
+    @Nonnull
+    public static <T extends Comparable<? super T>> T inRangeExclusive(
+        @Nullable final T value,
+        @Nonnull final T min,
+        @Nonnull final T max,
+        @Nonnull final String valueName
+    ) {
+        nonNull(value, valueName);
+
+        if (value.compareTo(min) <= 0 || value.compareTo(max) >= 0) {
+            throw new RequireViolationException(Check.IN_RANGE_EXCLUSIVE, valueName, min, max);
+        }
+
+        return value;
+    }
+
+    /**
+     * Check if numeric value is greater than or equal to min.
+     * If not throw an exception.
+     *
+     * @param value     - value to check
+     * @param min       - minimal allowed value
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return value back to client
+     * @throws IllegalArgumentException if statement false
+     */
+    public static int atLeast(
+        final int value,
+        final int min,
+        @Nonnull final String valueName
+    ) {
+        if (value < min) {
+            throw new RequireViolationException(Check.AT_LEAST, valueName, min);
+        }
+
+        return value;
+    }
+
+    /**
+     * Check if numeric value is not null and greater than or equal to min.
+     * The value is unboxed once.
+     * If not throw an exception.
+     *
+     * @param value     - value to check
+     * @param min       - minimal allowed value
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return value back to client
+     * @throws IllegalArgumentException if statement false
+     */
+    @Nonnull
+    public static Integer atLeast(
+        @Nullable final Integer value,
+        final int min,
+        @Nonnull final String valueName
+    ) {
+        if (value == null) {
+            throw new RequireViolationException(Check.NON_NULL, valueName);
+        }
+        final int unboxed = value;
+        if (unboxed < min) {
+            throw new RequireViolationException(Check.AT_LEAST, valueName, min);
+        }
+
+        return value;
+    }
+
+    /**
+     * Check if numeric value is greater than or equal to min.
+     * If not throw an exception.
+     *
+     * @param value     - value to check
+     * @param min       - minimal allowed value
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return value back to client
+     * @throws IllegalArgumentException if statement false
+     */
+    public static long atLeast(
+        final long value,
+        final long min,
+        @Nonnull final String valueName
+    ) {
+        if (value < min) {
+            throw new RequireViolationException(Check.AT_LEAST, valueName, min);
+        }
+
+        return value;
+    }
+
+    /**
+     * Check if numeric value is not null and greater than or equal to min.
+     * The value is unboxed once.
+     * If not throw an exception.
+     *
+     * @param value     - value to check
+     * @param min       - minimal allowed value
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return value back to client
+     * @throws IllegalArgumentException if statement false
+     */
+    @Nonnull
+    public static Long atLeast(
+        @Nullable final Long value,
+        final long min,
+        @Nonnull final String valueName
+    ) {
+        if (value == null) {
+            throw new RequireViolationException(Check.NON_NULL, valueName);
+        }
+        final long unboxed = value;
+        if (unboxed < min) {
+            throw new RequireViolationException(Check.AT_LEAST, valueName, min);
+        }
+
+        return value;
+    }
+
+    /**
+     * Check if numeric value is greater than or equal to min.
+     * NaN never passes the check.
+     * If not throw an exception.
+     *
+     * @param value     - value to check
+     * @param min       - minimal allowed value
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return value back to client
+     * @throws IllegalArgumentException if statement false
+     */
+    public static float atLeast(
+        final float value,
+        final float min,
+        @Nonnull final String valueName
+    ) {
+        if (!(value >= min)) {
+            throw new RequireViolationException(Check.AT_LEAST, valueName, min);
+        }
+
+        return value;
+    }
+
+    /**
+     * Check if numeric value is not null and greater than or equal to min.
+     * NaN never passes the check.
+     * The value is unboxed once.
+     * If not throw an exception.
+     *
+     * @param value     - value to check
+     * @param min       - minimal allowed value
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return value back to client
+     * @throws IllegalArgumentException if statement false
+     */
+    @Nonnull
+    public static Float atLeast(
+        @Nullable final Float value,
+        final float min,
+        @Nonnull final String valueName
+    ) {
+        if (value == null) {
+            throw new RequireViolationException(Check.NON_NULL, valueName);
+        }
+        final float unboxed = value;
+        if (!(unboxed >= min)) {
+            throw new RequireViolationException(Check.AT_LEAST, valueName, min);
+        }
+
+        return value;
+    }
+
+    /**
+     * Check if numeric value is greater than or equal to min.
+     * NaN never passes the check.
+     * If not throw an exception.
+     *
+     * @param value     - value to check
+     * @param min       - minimal allowed value
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return value back to client
+     * @throws IllegalArgumentException if statement false
+     */
+    public static double atLeast(
+        final double value,
+        final double min,
+        @Nonnull final String valueName
+    ) {
+        if (!(value >= min)) {
+            throw new RequireViolationException(Check.AT_LEAST, valueName, min);
+        }
+
+        return value;
+    }
+
+    /**
+     * Check if numeric value is not null and greater than or equal to min.
+     * NaN never passes the check.
+     * The value is unboxed once.
+     * If not throw an exception.
+     *
+     * @param value     - value to check
+     * @param min       - minimal allowed value
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return value back to client
+     * @throws IllegalArgumentException if statement false
+     */
+    @Nonnull
+    public static Double atLeast(
+        @Nullable final Double value,
+        final double min,
+        @Nonnull final String valueName
+    ) {
+        if (value == null) {
+            throw new RequireViolationException(Check.NON_NULL, valueName);
+        }
+        final double unboxed = value;
+        if (!(unboxed >= min)) {
+            throw new RequireViolationException(Check.AT_LEAST, valueName, min);
+        }
+
+        return value;
+    }
+
+    /**
+     * Check if value is not null and greater than or equal to min.
+     * Values are compared with {@link Comparable#compareTo(Object)}.
+     * If not throw an exception.
+     *
+     * @param value     - value to check
+     * @param min       - minimal allowed value, not null
+     * @param valueName - value parameter name which will be printed in the error message
+     * @param <T>       - value type
+     * @return value back to client
+     * @throws IllegalArgumentException if statement false
+     */
+    @Nonnull
+    public static <T extends Comparable<? super T>> T atLeast(
+        @Nullable final T value,
+        @Nonnull final T min,
+        @Nonnull final String valueName
+    ) {
+        nonNull(value, valueName);
+
+        if (value.compareTo(min) < 0) {
+            throw new RequireViolationException(Check.AT_LEAST, valueName, min);
+        }
+
+        return value;
+    }
+
+    /**
+     * Check if numeric value is greater than min.
+     * If not throw an exception.
+     *
+     * @param value     - value to check
+     * @param min       - value must be greater than min
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return value back to client
+     * @throws IllegalArgumentException if statement false
+     */
+    public static int gtThan(
+        final int value,
+        final int min,
+        @Nonnull final String valueName
+    ) {
+        if (value <= min) {
+            throw new RequireViolationException(Check.GREATER_THAN, valueName, min);
+        }
+
+        return value;
+    }
+
+    /**
+     * Check if numeric value is not null and greater than min.
+     * The value is unboxed once.
+     * If not throw an exception.
+     *
+     * @param value     - value to check
+     * @param min       - value must be greater than min
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return value back to client
+     * @throws IllegalArgumentException if statement false
+     */
+    @Nonnull
+    public static Integer gtThan(
+        @Nullable final Integer value,
+        final int min,
+        @Nonnull final String valueName
+    ) {
+        if (value == null) {
+            throw new RequireViolationException(Check.NON_NULL, valueName);
+        }
+        final int unboxed = value;
+        if (unboxed <= min) {
+            throw new RequireViolationException(Check.GREATER_THAN, valueName, min);
+        }
+
+        return value;
+    }
+
+    /**
+     * Check if numeric value is greater than min.
+     * If not throw an exception.
+     *
+     * @param value     - value to check
+     * @param min       - value must be greater than min
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return value back to client
+     * @throws IllegalArgumentException if statement false
+     */
+    public static long gtThan(
+        final long value,
+        final long min,
+        @Nonnull final String valueName
+    ) {
+        if (value <= min) {
+            throw new RequireViolationException(Check.GREATER_THAN, valueName, min);
+        }
+
+        return value;
+    }
+
+    /**
+     * Check if numeric value is not null and greater than min.
+     * The value is unboxed once.
+     * If not throw an exception.
+     *
+     * @param value     - value to check
+     * @param min       - value must be greater than min
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return value back to client
+     * @throws IllegalArgumentException if statement false
+     */
+    @Nonnull
+    public static Long gtThan(
+        @Nullable final Long value,
+        final long min,
+        @Nonnull final String valueName
+    ) {
+        if (value == null) {
+            throw new RequireViolationException(Check.NON_NULL, valueName);
+        }
+        final long unboxed = value;
+        if (unboxed <= min) {
+            throw new RequireViolationException(Check.GREATER_THAN, valueName, min);
+        }
+
+        return value;
+    }
+
+    /**
+     * Check if numeric value is greater than min.
+     * NaN never passes the check.
+     * If not throw an exception.
+     *
+     * @param value     - value to check
+     * @param min       - value must be greater than min
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return value back to client
+     * @throws IllegalArgumentException if statement false
+     */
+    public static float gtThan(
+        final float value,
+        final float min,
+        @Nonnull final String valueName
+    ) {
+        if (!(value > min)) {
+            throw new RequireViolationException(Check.GREATER_THAN, valueName, min);
+        }
+
+        return value;
+    }
+
+    /**
+     * Check if numeric value is not null and greater than min.
+     * NaN never passes the check.
+     * The value is unboxed once.
+     * If not throw an exception.
+     *
+     * @param value     - value to check
+     * @param min       - value must be greater than min
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return value back to client
+     * @throws IllegalArgumentException if statement false
+     */
+    @Nonnull
+    public static Float gtThan(
+        @Nullable final Float value,
+        final float min,
+        @Nonnull final String valueName
+    ) {
+        if (value == null) {
+            throw new RequireViolationException(Check.NON_NULL, valueName);
+        }
+        final float unboxed = value;
+        if (!(unboxed > min)) {
+            throw new RequireViolationException(Check.GREATER_THAN, valueName, min);
+        }
+
+        return value;
+    }
+
+    /**
+     * Check if numeric value is greater than min.
+     * NaN never passes the check.
+     * If not throw an exception.
+     *
+     * @param value     - value to check
+     * @param min       - value must be greater than min
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return value back to client
+     * @throws IllegalArgumentException if statement false
+     */
+    public static double gtThan(
+        final double value,
+        final double min,
+        @Nonnull final String valueName
+    ) {
+        if (!(value > min)) {
+            throw new RequireViolationException(Check.GREATER_THAN, valueName, min);
+        }
+
+        return value;
+    }
+
+    /**
+     * Check if numeric value is not null and greater than min.
+     * NaN never passes the check.
+     * The value is unboxed once.
+     * If not throw an exception.
+     *
+     * @param value     - value to check
+     * @param min       - value must be greater than min
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return value back to client
+     * @throws IllegalArgumentException if statement false
+     */
+    @Nonnull
+    public static Double gtThan(
+        @Nullable final Double value,
+        final double min,
+        @Nonnull final String valueName
+    ) {
+        if (value == null) {
+            throw new RequireViolationException(Check.NON_NULL, valueName);
+        }
+        final double unboxed = value;
+        if (!(unboxed > min)) {
+            throw new RequireViolationException(Check.GREATER_THAN, valueName, min);
+        }
+
+        return value;
+    }
+
+    /**
+     * Check if value is not null and greater than min.
+     * Values are compared with {@link Comparable#compareTo(Object)}.
+     * If not throw an exception.
+     *
+     * @param value     - value to check
+     * @param min       - value must be greater than min, not null
+     * @param valueName - value parameter name which will be printed in the error message
+     * @param <T>       - value type
+     * @return value back to client
+     * @throws IllegalArgumentException if statement false
+     */
+    @Nonnull
+    public static <T extends Comparable<? super T>> T gtThan(
+        @Nullable final T value,
+        @Nonnull final T min,
+        @Nonnull final String valueName
+    ) {
+        nonNull(value, valueName);
+
+        if (value.compareTo(min) <= 0) {
+            throw new RequireViolationException(Check.GREATER_THAN, valueName, min);
+        }
+
+        return value;
+    }
+
+    /**
+     * Check if numeric value is less than or equal to max.
+     * If not throw an exception.
+     *
+     * @param value     - value to check
+     * @param max       - maximal allowed value
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return value back to client
+     * @throws IllegalArgumentException if statement false
+     */
+    public static int atMost(
+        final int value,
+        final int max,
+        @Nonnull final String valueName
+    ) {
+        if (value > max) {
+            throw new RequireViolationException(Check.AT_MOST, valueName, max);
+        }
+
+        return value;
+    }
+
+    /**
+     * Check if numeric value is not null and less than or equal to max.
+     * The value is unboxed once.
+     * If not throw an exception.
+     *
+     * @param value     - value to check
+     * @param max       - maximal allowed value
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return value back to client
+     * @throws IllegalArgumentException if statement false
+     */
+    @Nonnull
+    public static Integer atMost(
+        @Nullable final Integer value,
+        final int max,
+        @Nonnull final String valueName
+    ) {
+        if (value == null) {
+            throw new RequireViolationException(Check.NON_NULL, valueName);
+        }
+        final int unboxed = value;
+        if (unboxed > max) {
+            throw new RequireViolationException(Check.AT_MOST, valueName, max);
+        }
+
+        return value;
+    }
+
+    /**
+     * Check if numeric value is less than or equal to max.
+     * If not throw an exception.
+     *
+     * @param value     - value to check
+     * @param max       - maximal allowed value
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return value back to client
+     * @throws IllegalArgumentException if statement false
+     */
+    public static long atMost(
+        final long value,
+        final long max,
+        @Nonnull final String valueName
+    ) {
+        if (value > max) {
+            throw new RequireViolationException(Check.AT_MOST, valueName, max);
+        }
+
+        return value;
+    }
+
+    /**
+     * Check if numeric value is not null and less than or equal to max.
+     * The value is unboxed once.
+     * If not throw an exception.
+     *
+     * @param value     - value to check
+     * @param max       - maximal allowed value
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return value back to client
+     * @throws IllegalArgumentException if statement false
+     */
+    @Nonnull
+    public static Long atMost(
+        @Nullable final Long value,
+        final long max,
+        @Nonnull final String valueName
+    ) {
+        if (value == null) {
+            throw new RequireViolationException(Check.NON_NULL, valueName);
+        }
+        final long unboxed = value;
+        if (unboxed > max) {
+            throw new RequireViolationException(Check.AT_MOST, valueName, max);
+        }
+
+        return value;
+    }
+
+    /**
+     * Check if numeric value is less than or equal to max.
+     * NaN never passes the check.
+     * If not throw an exception.
+     *
+     * @param value     - value to check
+     * @param max       - maximal allowed value
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return value back to client
+     * @throws IllegalArgumentException if statement false
+     */
+    public static float atMost(
+        final float value,
+        final float max,
+        @Nonnull final String valueName
+    ) {
+        if (!(value <= max)) {
+            throw new RequireViolationException(Check.AT_MOST, valueName, max);
+        }
+
+        return value;
+    }
+
+    /**
+     * Check if numeric value is not null and less than or equal to max.
+     * NaN never passes the check.
+     * The value is unboxed once.
+     * If not throw an exception.
+     *
+     * @param value     - value to check
+     * @param max       - maximal allowed value
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return value back to client
+     * @throws IllegalArgumentException if statement false
+     */
+    @Nonnull
+    public static Float atMost(
+        @Nullable final Float value,
+        final float max,
+        @Nonnull final String valueName
+    ) {
+        if (value == null) {
+            throw new RequireViolationException(Check.NON_NULL, valueName);
+        }
+        final float unboxed = value;
+        if (!(unboxed <= max)) {
+            throw new RequireViolationException(Check.AT_MOST, valueName, max);
+        }
+
+        return value;
+    }
+
+    /**
+     * Check if numeric value is less than or equal to max.
+     * NaN never passes the check.
+     * If not throw an exception.
+     *
+     * @param value     - value to check
+     * @param max       - maximal allowed value
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return value back to client
+     * @throws IllegalArgumentException if statement false
+     */
+    public static double atMost(
+        final double value,
+        final double max,
+        @Nonnull final String valueName
+    ) {
+        if (!(value <= max)) {
+            throw new RequireViolationException(Check.AT_MOST, valueName, max);
+        }
+
+        return value;
+    }
+
+    /**
+     * Check if numeric value is not null and less than or equal to max.
+     * NaN never passes the check.
+     * The value is unboxed once.
+     * If not throw an exception.
+     *
+     * @param value     - value to check
+     * @param max       - maximal allowed value
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return value back to client
+     * @throws IllegalArgumentException if statement false
+     */
+    @Nonnull
+    public static Double atMost(
+        @Nullable final Double value,
+        final double max,
+        @Nonnull final String valueName
+    ) {
+        if (value == null) {
+            throw new RequireViolationException(Check.NON_NULL, valueName);
+        }
+        final double unboxed = value;
+        if (!(unboxed <= max)) {
+            throw new RequireViolationException(Check.AT_MOST, valueName, max);
+        }
+
+        return value;
+    }
+
+    /**
+     * Check if value is not null and less than or equal to max.
+     * Values are compared with {@link Comparable#compareTo(Object)}.
+     * If not throw an exception.
+     *
+     * @param value     - value to check
+     * @param max       - maximal allowed value, not null
+     * @param valueName - value parameter name which will be printed in the error message
+     * @param <T>       - value type
+     * @return value back to client
+     * @throws IllegalArgumentException if statement false
+     */
+    @Nonnull
+    public static <T extends Comparable<? super T>> T atMost(
+        @Nullable final T value,
+        @Nonnull final T max,
+        @Nonnull final String valueName
+    ) {
+        nonNull(value, valueName);
+
+        if (value.compareTo(max) > 0) {
+            throw new RequireViolationException(Check.AT_MOST, valueName, max);
+        }
+
+        return value;
+    }
+
+    /**
+     * Check if numeric value is less than max.
+     * If not throw an exception.
+     *
+     * @param value     - value to check
+     * @param max       - value must be less than max
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return value back to client
+     * @throws IllegalArgumentException if statement false
+     */
+    public static int lsThan(
+        final int value,
+        final int max,
+        @Nonnull final String valueName
+    ) {
+        if (value >= max) {
+            throw new RequireViolationException(Check.LESS_THAN, valueName, max);
+        }
+
+        return value;
+    }
+
+    /**
+     * Check if numeric value is not null and less than max.
+     * The value is unboxed once.
+     * If not throw an exception.
+     *
+     * @param value     - value to check
+     * @param max       - value must be less than max
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return value back to client
+     * @throws IllegalArgumentException if statement false
+     */
+    @Nonnull
+    public static Integer lsThan(
+        @Nullable final Integer value,
+        final int max,
+        @Nonnull final String valueName
+    ) {
+        if (value == null) {
+            throw new RequireViolationException(Check.NON_NULL, valueName);
+        }
+        final int unboxed = value;
+        if (unboxed >= max) {
+            throw new RequireViolationException(Check.LESS_THAN, valueName, max);
+        }
+
+        return value;
+    }
+
+    /**
+     * Check if numeric value is less than max.
+     * If not throw an exception.
+     *
+     * @param value     - value to check
+     * @param max       - value must be less than max
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return value back to client
+     * @throws IllegalArgumentException if statement false
+     */
+    public static long lsThan(
+        final long value,
+        final long max,
+        @Nonnull final String valueName
+    ) {
+        if (value >= max) {
+            throw new RequireViolationException(Check.LESS_THAN, valueName, max);
+        }
+
+        return value;
+    }
+
+    /**
+     * Check if numeric value is not null and less than max.
+     * The value is unboxed once.
+     * If not throw an exception.
+     *
+     * @param value     - value to check
+     * @param max       - value must be less than max
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return value back to client
+     * @throws IllegalArgumentException if statement false
+     */
+    @Nonnull
+    public static Long lsThan(
+        @Nullable final Long value,
+        final long max,
+        @Nonnull final String valueName
+    ) {
+        if (value == null) {
+            throw new RequireViolationException(Check.NON_NULL, valueName);
+        }
+        final long unboxed = value;
+        if (unboxed >= max) {
+            throw new RequireViolationException(Check.LESS_THAN, valueName, max);
+        }
+
+        return value;
+    }
+
+    /**
+     * Check if numeric value is less than max.
+     * NaN never passes the check.
+     * If not throw an exception.
+     *
+     * @param value     - value to check
+     * @param max       - value must be less than max
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return value back to client
+     * @throws IllegalArgumentException if statement false
+     */
+    public static float lsThan(
+        final float value,
+        final float max,
+        @Nonnull final String valueName
+    ) {
+        if (!(value < max)) {
+            throw new RequireViolationException(Check.LESS_THAN, valueName, max);
+        }
+
+        return value;
+    }
+
+    /**
+     * Check if numeric value is not null and less than max.
+     * NaN never passes the check.
+     * The value is unboxed once.
+     * If not throw an exception.
+     *
+     * @param value     - value to check
+     * @param max       - value must be less than max
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return value back to client
+     * @throws IllegalArgumentException if statement false
+     */
+    @Nonnull
+    public static Float lsThan(
+        @Nullable final Float value,
+        final float max,
+        @Nonnull final String valueName
+    ) {
+        if (value == null) {
+            throw new RequireViolationException(Check.NON_NULL, valueName);
+        }
+        final float unboxed = value;
+        if (!(unboxed < max)) {
+            throw new RequireViolationException(Check.LESS_THAN, valueName, max);
+        }
+
+        return value;
+    }
+
+    /**
+     * Check if numeric value is less than max.
+     * NaN never passes the check.
+     * If not throw an exception.
+     *
+     * @param value     - value to check
+     * @param max       - value must be less than max
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return value back to client
+     * @throws IllegalArgumentException if statement false
+     */
+    public static double lsThan(
+        final double value,
+        final double max,
+        @Nonnull final String valueName
+    ) {
+        if (!(value < max)) {
+            throw new RequireViolationException(Check.LESS_THAN, valueName, max);
+        }
+
+        return value;
+    }
+
+    /**
+     * Check if numeric value is not null and less than max.
+     * NaN never passes the check.
+     * The value is unboxed once.
+     * If not throw an exception.
+     *
+     * @param value     - value to check
+     * @param max       - value must be less than max
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return value back to client
+     * @throws IllegalArgumentException if statement false
+     */
+    @Nonnull
+    public static Double lsThan(
+        @Nullable final Double value,
+        final double max,
+        @Nonnull final String valueName
+    ) {
+        if (value == null) {
+            throw new RequireViolationException(Check.NON_NULL, valueName);
+        }
+        final double unboxed = value;
+        if (!(unboxed < max)) {
+            throw new RequireViolationException(Check.LESS_THAN, valueName, max);
+        }
+
+        return value;
+    }
+
+    /**
+     * Check if value is not null and less than max.
+     * Values are compared with {@link Comparable#compareTo(Object)}.
+     * If not throw an exception.
+     *
+     * @param value     - value to check
+     * @param max       - value must be less than max, not null
+     * @param valueName - value parameter name which will be printed in the error message
+     * @param <T>       - value type
+     * @return value back to client
+     * @throws IllegalArgumentException if statement false
+     */
+    @Nonnull
+    public static <T extends Comparable<? super T>> T lsThan(
+        @Nullable final T value,
+        @Nonnull final T max,
+        @Nonnull final String valueName
+    ) {
+        nonNull(value, valueName);
+
+        if (value.compareTo(max) >= 0) {
+            throw new RequireViolationException(Check.LESS_THAN, valueName, max);
+        }
+
+        return value;
+    }
+
+    /**
+     * Check if index is between 0 inclusive and length exclusive, like {@code Objects.checkIndex}.
+     * The plain comparison is the range check pattern the JIT merges with the array bounds checks around it.
+     * {@code Objects.checkIndex} is not used on Java 11 and later: turning its exception into this one
+     * made a loop of checked array reads 50% slower.
+     * If not throw an exception.
+     *
+     * @param index     - index to check
+     * @param length    - length of the indexed range
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return index back to client
+     * @throws IllegalArgumentException if statement false
+     */
+    public static int checkIndex(final int index, final int length, @Nonnull final String valueName) {
+        if (index < 0 || index >= length) {
+            throw new RequireViolationException(Check.INDEX, valueName, length);
+        }
+
+        return index;
+    }
+
+    /**
+     * Check if range from fromIndex inclusive to toIndex exclusive is within 0 and length,
+     * that is {@code 0 <= fromIndex <= toIndex <= length}, like {@code Objects.checkFromToIndex}.
+     * If not throw an exception.
+     *
+     * @param fromIndex - first index of the range
+     * @param toIndex   - index after the last one of the range
+     * @param length    - length of the indexed range
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return fromIndex back to client
+     * @throws IllegalArgumentException if statement false
+     */
+    public static int checkFromToIndex(
+        final int fromIndex,
+        final int toIndex,
+        final int length,
+        @Nonnull final String valueName
+    ) {
+        if (fromIndex < 0 || fromIndex > toIndex || toIndex > length) {
+            throw new RequireViolationException(Check.FROM_TO_INDEX, valueName, length);
+        }
+
+        return fromIndex;
+    }
+
+    /**
+     * Check if array is not null and every element is positive.
+     * Elements are checked in blocks with a vectorizable reduction.
+     * If not throw an exception with the index of the first failing element.
+     *
+     * @param values    - values to check
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return values back to client
+     * @throws IllegalArgumentException if statement false
+     */
+    @Nonnull
+    public static int[] allPositive(@Nullable final int[] values, @Nonnull final String valueName) {
+        nonNull(values, valueName);
+
+        final int index = ArrayScan.notPositive(values);
+        if (index >= 0) {
+            throw new RequireViolationException(Check.POSITIVE, valueName, (long) index, null, null);
+        }
+
+        return values;
+    }
+
+    /**
+     * Check if array is not null and every element is positive.
+     * Elements are checked in blocks with a vectorizable reduction.
+     * If not throw an exception with the index of the first failing element.
+     *
+     * @param values    - values to check
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return values back to client
+     * @throws IllegalArgumentException if statement false
+     */
+    @Nonnull
+    public static long[] allPositive(@Nullable final long[] values, @Nonnull final String valueName) {
+        nonNull(values, valueName);
+
+        final int index = ArrayScan.notPositive(values);
+        if (index >= 0) {
+            throw new RequireViolationException(Check.POSITIVE, valueName, (long) index, null, null);
+        }
+
+        return values;
+    }
+
+    /**
+     * Check if array is not null and every element is positive.
+     * Elements are checked by a plain loop which stops at the first failing element.
+     * If not throw an exception with the index of the first failing element.
+     *
+     * @param values    - values to check
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return values back to client
+     * @throws IllegalArgumentException if statement false
+     */
+    @Nonnull
+    public static float[] allPositive(@Nullable final float[] values, @Nonnull final String valueName) {
+        nonNull(values, valueName);
+
+        final int index = ArrayScan.notPositive(values);
+        if (index >= 0) {
+            throw new RequireViolationException(Check.POSITIVE, valueName, (long) index, null, null);
+        }
+
+        return values;
+    }
+
+    /**
+     * Check if array is not null and every element is positive.
+     * Elements are checked by a plain loop which stops at the first failing element.
+     * If not throw an exception with the index of the first failing element.
+     *
+     * @param values    - values to check
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return values back to client
+     * @throws IllegalArgumentException if statement false
+     */
+    @Nonnull
+    public static double[] allPositive(@Nullable final double[] values, @Nonnull final String valueName) {
+        nonNull(values, valueName);
+
+        final int index = ArrayScan.notPositive(values);
+        if (index >= 0) {
+            throw new RequireViolationException(Check.POSITIVE, valueName, (long) index, null, null);
+        }
+
+        return values;
+    }
+
+    /**
+     * Check if array is not null and every element grate than 0.
+     * Elements are checked in blocks with a vectorizable reduction.
+     * If not throw an exception with the index of the first failing element.
+     *
+     * @param values    - values to check
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return values back to client
+     * @throws IllegalArgumentException if statement false
+     */
+    @Nonnull
+    public static int[] allGtThanZero(@Nullable final int[] values, @Nonnull final String valueName) {
+        nonNull(values, valueName);
+
+        final int index = ArrayScan.notGtThanZero(values);
+        if (index >= 0) {
+            throw new RequireViolationException(Check.GREATER_THAN_ZERO, valueName, (long) index, null, null);
+        }
+
+        return values;
+    }
+
+    /**
+     * Check if array is not null and every element grate than 0.
+     * Elements are checked in blocks with a vectorizable reduction.
+     * If not throw an exception with the index of the first failing element.
+     *
+     * @param values    - values to check
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return values back to client
+     * @throws IllegalArgumentException if statement false
+     */
+    @Nonnull
+    public static long[] allGtThanZero(@Nullable final long[] values, @Nonnull final String valueName) {
+        nonNull(values, valueName);
+
+        final int index = ArrayScan.notGtThanZero(values);
+        if (index >= 0) {
+            throw new RequireViolationException(Check.GREATER_THAN_ZERO, valueName, (long) index, null, null);
+        }
+
+        return values;
+    }
+
+    /**
+     * Check if array is not null and every element grate than 0.
+     * Elements are checked by a plain loop which stops at the first failing element.
+     * If not throw an exception with the index of the first failing element.
+     *
+     * @param values    - values to check
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return values back to client
+     * @throws IllegalArgumentException if statement false
+     */
+    @Nonnull
+    public static float[] allGtThanZero(@Nullable final float[] values, @Nonnull final String valueName) {
+        nonNull(values, valueName);
+
+        final int index = ArrayScan.notGtThanZero(values);
+        if (index >= 0) {
+            throw new RequireViolationException(Check.GREATER_THAN_ZERO, valueName, (long) index, null, null);
+        }
+
+        return values;
+    }
+
+    /**
+     * Check if array is not null and every element grate than 0.
+     * Elements are checked by a plain loop which stops at the first failing element.
+     * If not throw an exception with the index of the first failing element.
+     *
+     * @param values    - values to check
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return values back to client
+     * @throws IllegalArgumentException if statement false
+     */
+    @Nonnull
+    public static double[] allGtThanZero(@Nullable final double[] values, @Nonnull final String valueName) {
+        nonNull(values, valueName);
+
+        final int index = ArrayScan.notGtThanZero(values);
+        if (index >= 0) {
+            throw new RequireViolationException(Check.GREATER_THAN_ZERO, valueName, (long) index, null, null);
+        }
+
+        return values;
+    }
+
+    /**
+     * Check if array is not null and every element is negative.
+     * Elements are checked in blocks with a vectorizable reduction.
+     * If not throw an exception with the index of the first failing element.
+     *
+     * @param values    - values to check
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return values back to client
+     * @throws IllegalArgumentException if statement false
+     */
+    @Nonnull
+    public static int[] allNegative(@Nullable final int[] values, @Nonnull final String valueName) {
+        nonNull(values, valueName);
+
+        final int index = ArrayScan.notNegative(values);
+        if (index >= 0) {
+            throw new RequireViolationException(Check.NEGATIVE, valueName, (long) index, null, null);
+        }
+
+        return values;
+    }
+
+    /**
+     * Check if array is not null and every element is negative.
+     * Elements are checked in blocks with a vectorizable reduction.
+     * If not throw an exception with the index of the first failing element.
+     *
+     * @param values    - values to check
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return values back to client
+     * @throws IllegalArgumentException if statement false
+     */
+    @Nonnull
+    public static long[] allNegative(@Nullable final long[] values, @Nonnull final String valueName) {
+        nonNull(values, valueName);
+
+        final int index = ArrayScan.notNegative(values);
+        if (index >= 0) {
+            throw new RequireViolationException(Check.NEGATIVE, valueName, (long) index, null, null);
+        }
+
+        return values;
+    }
+
+    /**
+     * Check if array is not null and every element is negative.
+     * Elements are checked by a plain loop which stops at the first failing element.
+     * If not throw an exception with the index of the first failing element.
+     *
+     * @param values    - values to check
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return values back to client
+     * @throws IllegalArgumentException if statement false
+     */
+    @Nonnull
+    public static float[] allNegative(@Nullable final float[] values, @Nonnull final String valueName) {
+        nonNull(values, valueName);
+
+        final int index = ArrayScan.notNegative(values);
+        if (index >= 0) {
+            throw new RequireViolationException(Check.NEGATIVE, valueName, (long) index, null, null);
+        }
+
+        return values;
+    }
+
+    /**
+     * Check if array is not null and every element is negative.
+     * Elements are checked by a plain loop which stops at the first failing element.
+     * If not throw an exception with the index of the first failing element.
+     *
+     * @param values    - values to check
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return values back to client
+     * @throws IllegalArgumentException if statement false
+     */
+    @Nonnull
+    public static double[] allNegative(@Nullable final double[] values, @Nonnull final String valueName) {
+        nonNull(values, valueName);
+
+        final int index = ArrayScan.notNegative(values);
+        if (index >= 0) {
+            throw new RequireViolationException(Check.NEGATIVE, valueName, (long) index, null, null);
+        }
+
+        return values;
+    }
+
+    /**
+     * Check if array is not null and every element less than 0.
+     * Elements are checked in blocks with a vectorizable reduction.
+     * If not throw an exception with the index of the first failing element.
+     *
+     * @param values    - values to check
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return values back to client
+     * @throws IllegalArgumentException if statement false
+     */
+    @Nonnull
+    public static int[] allLsThanZero(@Nullable final int[] values, @Nonnull final String valueName) {
+        nonNull(values, valueName);
+
+        final int index = ArrayScan.notLsThanZero(values);
+        if (index >= 0) {
+            throw new RequireViolationException(Check.LESS_THAN_ZERO, valueName, (long) index, null, null);
+        }
+
+        return values;
+    }
+
+    /**
+     * Check if array is not null and every element less than 0.
+     * Elements are checked in blocks with a vectorizable reduction.
+     * If not throw an exception with the index of the first failing element.
+     *
+     * @param values    - values to check
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return values back to client
+     * @throws IllegalArgumentException if statement false
+     */
+    @Nonnull
+    public static long[] allLsThanZero(@Nullable final long[] values, @Nonnull final String valueName) {
+        nonNull(values, valueName);
+
+        final int index = ArrayScan.notLsThanZero(values);
+        if (index >= 0) {
+            throw new RequireViolationException(Check.LESS_THAN_ZERO, valueName, (long) index, null, null);
+        }
+
+        return values;
+    }
+
+    /**
+     * Check if array is not null and every element less than 0.
+     * Elements are checked by a plain loop which stops at the first failing element.
+     * If not throw an exception with the index of the first failing element.
+     *
+     * @param values    - values to check
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return values back to client
+     * @throws IllegalArgumentException if statement false
+     */
+    @Nonnull
+    public static float[] allLsThanZero(@Nullable final float[] values, @Nonnull final String valueName) {
+        nonNull(values, valueName);
+
+        final int index = ArrayScan.notLsThanZero(values);
+        if (index >= 0) {
+            throw new RequireViolationException(Check.LESS_THAN_ZERO, valueName, (long) index, null, null);
+        }
+
+        return values;
+    }
+
+    /**
+     * Check if array is not null and every element less than 0.
+     * Elements are checked by a plain loop which stops at the first failing element.
+     * If not throw an exception with the index of the first failing element.
+     *
+     * @param values    - values to check
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return values back to client
+     * @throws IllegalArgumentException if statement false
+     */
+    @Nonnull
+    public static double[] allLsThanZero(@Nullable final double[] values, @Nonnull final String valueName) {
+        nonNull(values, valueName);
+
+        final int index = ArrayScan.notLsThanZero(values);
+        if (index >= 0) {
+            throw new RequireViolationException(Check.LESS_THAN_ZERO, valueName, (long) index, null, null);
+        }
+
+        return values;
+    }
+
+    /**
+     * Check if array is not null and every element is finite, neither NaN nor infinite.
+     * Elements are checked by a plain loop which stops at the first failing element.
+     * If not throw an exception with the index of the first failing element.
+     *
+     * @param values    - values to check
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return values back to client
+     * @throws IllegalArgumentException if statement false
+     */
+    @Nonnull
+    public static float[] allFinite(@Nullable final float[] values, @Nonnull final String valueName) {
+        nonNull(values, valueName);
+
+        final int index = ArrayScan.notFinite(values);
+        if (index >= 0) {
+            throw new RequireViolationException(Check.FINITE, valueName, (long) index, null, null);
+        }
+
+        return values;
+    }
+
+    /**
+     * Check if array is not null and every element is finite, neither NaN nor infinite.
+     * Elements are checked by a plain loop which stops at the first failing element.
+     * If not throw an exception with the index of the first failing element.
+     *
+     * @param values    - values to check
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return values back to client
+     * @throws IllegalArgumentException if statement false
+     */
+    @Nonnull
+    public static double[] allFinite(@Nullable final double[] values, @Nonnull final String valueName) {
+        nonNull(values, valueName);
+
+        final int index = ArrayScan.notFinite(values);
+        if (index >= 0) {
+            throw new RequireViolationException(Check.FINITE, valueName, (long) index, null, null);
+        }
+
+        return values;
+    }
+
+    /**
+     * Check if array is not null and every element is between min and max, inclusive.
+     * Elements are checked in blocks with a vectorizable reduction.
+     * If not throw an exception with the index of the first failing element.
+     *
+     * @param values    - values to check
+     * @param min       - minimal allowed value
+     * @param max       - maximal allowed value
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return values back to client
+     * @throws IllegalArgumentException if statement false
+     */
+    @Nonnull
+    public static int[] allInRange(
+        @Nullable final int[] values,
+        final int min,
+        final int max,
+        @Nonnull final String valueName
+    ) {
+        nonNull(values, valueName);
+
+        final int index = ArrayScan.notInRange(values, min, max);
+        if (index >= 0) {
+            throw new RequireViolationException(Check.IN_RANGE, valueName, (long) index, min, max);
+        }
+
+        return values;
+    }
+
+    /**
+     * Check if array is not null and every element is between min and max, inclusive.
+     * Elements are checked in blocks with a vectorizable reduction.
+     * If not throw an exception with the index of the first failing element.
+     *
+     * @param values    - values to check
+     * @param min       - minimal allowed value
+     * @param max       - maximal allowed value
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return values back to client
+     * @throws IllegalArgumentException if statement false
+     */
+    @Nonnull
+    public static long[] allInRange(
+        @Nullable final long[] values,
+        final long min,
+        final long max,
+        @Nonnull final String valueName
+    ) {
+        nonNull(values, valueName);
+
+        final int index = ArrayScan.notInRange(values, min, max);
+        if (index >= 0) {
+            throw new RequireViolationException(Check.IN_RANGE, valueName, (long) index, min, max);
+        }
+
+        return values;
+    }
+
+    /**
+     * Check if array is not null and every element is between min and max, inclusive.
+     * NaN never passes the check.
+     * Elements are checked by a plain loop which stops at the first failing element.
+     * If not throw an exception with the index of the first failing element.
+     *
+     * @param values    - values to check
+     * @param min       - minimal allowed value
+     * @param max       - maximal allowed value
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return values back to client
+     * @throws IllegalArgumentException if statement false
+     */
+    @Nonnull
+    public static float[] allInRange(
+        @Nullable final float[] values,
+        final float min,
+        final float max,
+        @Nonnull final String valueName
+    ) {
+        nonNull(values, valueName);
+
+        final int index = ArrayScan.notInRange(values, min, max);
+        if (index >= 0) {
+            throw new RequireViolationException(Check.IN_RANGE, valueName, (long) index, min, max);
+        }
+
+        return values;
+    }
+
+    /**
+     * Check if array is not null and every element is between min and max, inclusive.
+     * NaN never passes the check.
+     * Elements are checked by a plain loop which stops at the first failing element.
+     * If not throw an exception with the index of the first failing element.
+     *
+     * @param values    - values to check
+     * @param min       - minimal allowed value
+     * @param max       - maximal allowed value
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return values back to client
+     * @throws IllegalArgumentException if statement false
+     */
+    @Nonnull
+    public static double[] allInRange(
+        @Nullable final double[] values,
+        final double min,
+        final double max,
+        @Nonnull final String valueName
+    ) {
+        nonNull(values, valueName);
+
+        final int index = ArrayScan.notInRange(values, min, max);
+        if (index >= 0) {
+            throw new RequireViolationException(Check.IN_RANGE, valueName, (long) index, min, max);
+        }
+
+        return values;
+    }
+
+    /**
+     * Check if stream is not null and every int element is positive, lazily.
+     * Elements are checked when they are consumed by the stream pipeline, elements skipped by the pipeline
+     * are not checked. Elements are never boxed.
+     * If not throw an exception from the terminal operation, with the index of the first failing element
+     * if the stream source has exact sizes after a split.
+     *
+     * @param values    - values to check
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return stream which checks its elements
+     * @throws IllegalArgumentException if statement false
+     */
+    @Nonnull
+    public static IntStream allPositive(@Nullable final IntStream values, @Nonnull final String valueName) {
+        nonNull(values, valueName);
+
+        return checked(values, Check.POSITIVE, 0, Integer.MAX_VALUE, valueName);
+    }
+
+    /**
+     * Check if stream is not null and every long element is positive, lazily.
+     * Elements are checked when they are consumed by the stream pipeline, elements skipped by the pipeline
+     * are not checked. Elements are never boxed.
+     * If not throw an exception from the terminal operation, with the index of the first failing element
+     * if the stream source has exact sizes after a split.
+     *
+     * @param values    - values to check
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return stream which checks its elements
+     * @throws IllegalArgumentException if statement false
+     */
+    @Nonnull
+    public static LongStream allPositive(@Nullable final LongStream values, @Nonnull final String valueName) {
+        nonNull(values, valueName);
+
+        return checked(values, Check.POSITIVE, 0L, Long.MAX_VALUE, valueName);
+    }
+
+    /**
+     * Check if stream is not null and every double element is positive, lazily.
+     * Elements are checked when they are consumed by the stream pipeline, elements skipped by the pipeline
+     * are not checked. Elements are never boxed.
+     * If not throw an exception from the terminal operation, with the index of the first failing element
+     * if the stream source has exact sizes after a split.
+     *
+     * @param values    - values to check
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return stream which checks its elements
+     * @throws IllegalArgumentException if statement false
+     */
+    @Nonnull
+    public static DoubleStream allPositive(@Nullable final DoubleStream values, @Nonnull final String valueName) {
+        nonNull(values, valueName);
+
+        return checked(values, Check.POSITIVE, 0.0D, Double.POSITIVE_INFINITY, valueName);
+    }
+
+    /**
+     * Check if stream is not null and every int element is between min and max, inclusive, lazily.
+     * Elements are checked when they are consumed by the stream pipeline, elements skipped by the pipeline
+     * are not checked. Elements are never boxed.
+     * If not throw an exception from the terminal operation, with the index of the first failing element
+     * if the stream source has exact sizes after a split.
+     *
+     * @param values    - values to check
+     * @param min       - minimal allowed value
+     * @param max       - maximal allowed value
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return stream which checks its elements
+     * @throws IllegalArgumentException if statement false
+     */
+    @Nonnull
+    public static IntStream allInRange(
+        @Nullable final IntStream values,
+        final int min,
+        final int max,
+        @Nonnull final String valueName
+    ) {
+        nonNull(values, valueName);
+
+        return checked(values, Check.IN_RANGE, min, max, valueName);
+    }
+
+    /**
+     * Check if stream is not null and every long element is between min and max, inclusive, lazily.
+     * Elements are checked when they are consumed by the stream pipeline, elements skipped by the pipeline
+     * are not checked. Elements are never boxed.
+     * If not throw an exception from the terminal operation, with the index of the first failing element
+     * if the stream source has exact sizes after a split.
+     *
+     * @param values    - values to check
+     * @param min       - minimal allowed value
+     * @param max       - maximal allowed value
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return stream which checks its elements
+     * @throws IllegalArgumentException if statement false
+     */
+    @Nonnull
+    public static LongStream allInRange(
+        @Nullable final LongStream values,
+        final long min,
+        final long max,
+        @Nonnull final String valueName
+    ) {
+        nonNull(values, valueName);
+
+        return checked(values, Check.IN_RANGE, min, max, valueName);
+    }
+
+    /**
+     * Check if stream is not null and every double element is between min and max, inclusive, lazily.
+     * NaN is not in any range.
+     * Elements are checked when they are consumed by the stream pipeline, elements skipped by the pipeline
+     * are not checked. Elements are never boxed.
+     * If not throw an exception from the terminal operation, with the index of the first failing element
+     * if the stream source has exact sizes after a split.
+     *
+     * @param values    - values to check
+     * @param min       - minimal allowed value
+     * @param max       - maximal allowed value
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return stream which checks its elements
+     * @throws IllegalArgumentException if statement false
+     */
+    @Nonnull
+    public static DoubleStream allInRange(
+        @Nullable final DoubleStream values,
+        final double min,
+        final double max,
+        @Nonnull final String valueName
+    ) {
+        nonNull(values, valueName);
+
+        return checked(values, Check.IN_RANGE, min, max, valueName);
+    }
+
+    /**
+     * Check if stream is not null and every element is finite, neither NaN nor infinite, lazily.
+     * Elements are checked when they are consumed by the stream pipeline, elements skipped by the pipeline
+     * are not checked. Elements are never boxed.
+     * If not throw an exception from the terminal operation, with the index of the first failing element
+     * if the stream source has exact sizes after a split.
+     *
+     * @param values    - values to check
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return stream which checks its elements
+     * @throws IllegalArgumentException if statement false
+     */
+    @Nonnull
+    public static DoubleStream allFinite(@Nullable final DoubleStream values, @Nonnull final String valueName) {
+        nonNull(values, valueName);
+
+        return checked(values, Check.FINITE, Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY, valueName);
+    }
+
+    /**
+     * Check if iterator is not null and every element it returns is not null, lazily.
+     * Elements are checked by {@link Iterator#next()}, so unbounded sources can be checked too.
+     * If not throw an exception from {@code next()} with the index of the failing element.
+     *
+     * @param values    - values to check
+     * @param valueName - value parameter name which will be printed in the error message
+     * @param <T>       - element type
+     * @return iterator which checks its elements
+     * @throws IllegalArgumentException if statement false
+     */
+    @Nonnull
+    public static <T> Iterator<T> eachNonNull(@Nullable final Iterator<T> values, @Nonnull final String valueName) {
+        nonNull(values, valueName);
+
+        return new CheckedSpliterators.CheckedIterator<>(values, null, valueName);
+    }
+
+    /**
+     * Check if stream is not null and has no null elements, lazily.
+     * Elements are checked when they are consumed by the stream pipeline, elements skipped by the pipeline
+     * are not checked.
+     * If not throw an exception from the terminal operation, with the index of the first failing element
+     * if the stream source has exact sizes after a split.
+     *
+     * @param values    - values to check
+     * @param valueName - value parameter name which will be printed in the error message
+     * @param <T>       - element type
+     * @return stream which checks its elements
+     * @throws IllegalArgumentException if statement false
+     */
+    @Nonnull
+    public static <T> Stream<T> eachNonNull(@Nullable final Stream<T> values, @Nonnull final String valueName) {
+        nonNull(values, valueName);
+
+        return checked(values, null, valueName);
+    }
+
+    /**
+     * Check if iterator is not null and every element it returns meets the rule, lazily.
+     * Rules are {@link Rules standard rules} or {@code Require} methods, like {@code Require::nonBlank}.
+     * If not throw the exception of the rule from {@link Iterator#next()}, with the index of the failing element.
+     *
+     * @param values    - values to check
+     * @param rule      - rule of every element
+     * @param valueName - value parameter name which will be printed in the error message
+     * @param <T>       - element type
+     * @return iterator which checks its elements
+     * @throws IllegalArgumentException if statement false
+     */
+    @Nonnull
+    public static <T> Iterator<T> validating(
+        @Nullable final Iterator<T> values,
+        @Nonnull final Rule<? super T> rule,
+        @Nonnull final String valueName
+    ) {
+        nonNull(values, valueName);
+
+        return new CheckedSpliterators.CheckedIterator<>(values, nonNull(rule, "rule"), valueName);
+    }
+
+    /**
+     * Check if spliterator is not null and every element it returns meets the rule, lazily.
+     * Rules are {@link Rules standard rules} or {@code Require} methods, like {@code Require::nonBlank}.
+     * The wrapper has the characteristics of the spliterator and splits with it.
+     * If not throw the exception of the rule from the traversal, with the index of the failing element
+     * if the spliterator has exact sizes after a split.
+     *
+     * @param values    - values to check
+     * @param rule      - rule of every element
+     * @param valueName - value parameter name which will be printed in the error message
+     * @param <T>       - element type
+     * @return spliterator which checks its elements
+     * @throws IllegalArgumentException if statement false
+     */
+    @Nonnull
+    public static <T> Spliterator<T> validating(
+        @Nullable final Spliterator<T> values,
+        @Nonnull final Rule<? super T> rule,
+        @Nonnull final String valueName
+    ) {
+        nonNull(values, valueName);
+
+        return new CheckedSpliterators.RefSpliterator<>(values, nonNull(rule, "rule"), valueName);
+    }
+
+    /**
+     * Check if stream is not null and every element meets the rule, lazily.
+     * Rules are {@link Rules standard rules} or {@code Require} methods, like {@code Require::nonBlank}.
+     * Elements are checked when they are consumed by the stream pipeline, elements skipped by the pipeline
+     * are not checked.
+     * If not throw the exception of the rule from the terminal operation, with the index of the failing element
+     * if the stream source has exact sizes after a split.
+     *
+     * @param values    - values to check
+     * @param rule      - rule of every element
+     * @param valueName - value parameter name which will be printed in the error message
+     * @param <T>       - element type
+     * @return stream which checks its elements
+     * @throws IllegalArgumentException if statement false
+     */
+    @Nonnull
+    public static <T> Stream<T> validating(
+        @Nullable final Stream<T> values,
+        @Nonnull final Rule<? super T> rule,
+        @Nonnull final String valueName
+    ) {
+        nonNull(values, valueName);
+
+        return checked(values, nonNull(rule, "rule"), valueName);
+    }
+
+    /**
+     * Check if collection is not null and has between minSize and maxSize elements.
+     * Collections whose {@code size()} walks all elements, like {@code ConcurrentLinkedQueue},
+     * are counted only up to maxSize + 1 elements.
+     * If not throw an exception.
+     *
+     * @param value     - value to check
+     * @param minSize   - minimal expected number of elements
+     * @param maxSize   - maximal expected number of elements
+     * @param valueName - value parameter name which will be printed in the error message
+     * @param <T>       - value type
+     * @return value back to client
+     * @throws IllegalArgumentException if statement false
+     */
+    @Nonnull
+    public static <T extends Collection<?>> T size(
+        @Nullable final T value,
+        final int minSize,
+        final int maxSize,
+        @Nonnull final String valueName
+    ) {
+        nonNull(value, valueName);
+
+        final long size = size(value, maxSize);
+        if (size < minSize || size > maxSize) {
+            throw new RequireViolationException(Check.SIZE, valueName, minSize, maxSize);
+        }
+
+        return value;
+    }
+
+    /**
+     * Check if collection is not null and has between 0 and maxSize elements.
+     * Collections whose {@code size()} walks all elements, like {@code ConcurrentLinkedQueue},
+     * are counted only up to maxSize + 1 elements.
+     * If not throw an exception.
+     *
+     * @param value     - value to check
+     * @param maxSize   - maximal expected number of elements
+     * @param valueName - value parameter name which will be printed in the error message
+     * @param <T>       - value type
+     * @return value back to client
+     * @throws IllegalArgumentException if statement false
+     */
+    @Nonnull
+    public static <T extends Collection<?>> T maxSize(
+        @Nullable final T value,
+        final int maxSize,
+        @Nonnull final String valueName
+    ) {
+        return size(value, 0, maxSize, valueName);
+    }
+
+    /**
+     * Check if map is not null and has between minSize and maxSize elements.
+     * Maps whose {@code size()} walks all entries, like {@code ConcurrentSkipListMap},
+     * are counted only up to maxSize + 1 entries.
+     * If not throw an exception.
+     *
+     * @param value     - value to check
+     * @param minSize   - minimal expected number of elements
+     * @param maxSize   - maximal expected number of elements
+     * @param valueName - value parameter name which will be printed in the error message
+     * @param <T>       - value type
+     * @return value back to client
+     * @throws IllegalArgumentException if statement false
+     */
+    @Nonnull
+    public static <T extends Map<?, ?>> T size(
+        @Nullable final T value,
+        final int minSize,
+        final int maxSize,
+        @Nonnull final String valueName
+    ) {
+        nonNull(value, valueName);
+
+        final long size = size(value, maxSize);
+        if (size < minSize || size > maxSize) {
+            throw new RequireViolationException(Check.SIZE, valueName, minSize, maxSize);
+        }
+
+        return value;
+    }
+
+    /**
+     * Check if map is not null and has between 0 and maxSize elements.
+     * Maps whose {@code size()} walks all entries, like {@code ConcurrentSkipListMap},
+     * are counted only up to maxSize + 1 entries.
+     * If not throw an exception.
+     *
+     * @param value     - value to check
+     * @param maxSize   - maximal expected number of elements
+     * @param valueName - value parameter name which will be printed in the error message
+     * @param <T>       - value type
+     * @return value back to client
+     * @throws IllegalArgumentException if statement false
+     */
+    @Nonnull
+    public static <T extends Map<?, ?>> T maxSize(
+        @Nullable final T value,
+        final int maxSize,
+        @Nonnull final String valueName
+    ) {
+        return size(value, 0, maxSize, valueName);
+    }
+
+    /**
+     * Check if iterable is not null and has between minSize and maxSize elements.
+     * Iterables which are not collections are counted with a new iterator, only up to maxSize + 1 elements.
+     * If not throw an exception.
+     *
+     * @param value     - value to check
+     * @param minSize   - minimal expected number of elements
+     * @param maxSize   - maximal expected number of elements
+     * @param valueName - value parameter name which will be printed in the error message
+     * @param <T>       - value type
+     * @return value back to client
+     * @throws IllegalArgumentException if statement false
+     */
+    @Nonnull
+    public static <T extends Iterable<?>> T size(
+        @Nullable final T value,
+        final int minSize,
+        final int maxSize,
+        @Nonnull final String valueName
+    ) {
+        nonNull(value, valueName);
+
+        final long size = value instanceof Collection
+            ? size((Collection<?>) value, maxSize)
+            : count(value.iterator(), maxSize);
+        if (size < minSize || size > maxSize) {
+            throw new RequireViolationException(Check.SIZE, valueName, minSize, maxSize);
+        }
+
+        return value;
+    }
+
+    /**
+     * Check if iterable is not null and has between 0 and maxSize elements.
+     * Iterables which are not collections are counted with a new iterator, only up to maxSize + 1 elements.
+     * If not throw an exception.
+     *
+     * @param value     - value to check
+     * @param maxSize   - maximal expected number of elements
+     * @param valueName - value parameter name which will be printed in the error message
+     * @param <T>       - value type
+     * @return value back to client
+     * @throws IllegalArgumentException if statement false
+     */
+    @Nonnull
+    public static <T extends Iterable<?>> T maxSize(
+        @Nullable final T value,
+        final int maxSize,
+        @Nonnull final String valueName
+    ) {
+        return size(value, 0, maxSize, valueName);
+    }
+
+    /**
+     * Check if objects array is not null and has between minSize and maxSize elements.
+     * If not throw an exception.
+     *
+     * @param value     - value to check
+     * @param minSize   - minimal expected number of elements
+     * @param maxSize   - maximal expected number of elements
+     * @param valueName - value parameter name which will be printed in the error message
+     * @param <T>       - value type
+     * @return value back to client
+     * @throws IllegalArgumentException if statement false
+     */
+    @Nonnull
+    public static <T> T[] size(
+        @Nullable final T[] value,
+        final int minSize,
+        final int maxSize,
+        @Nonnull final String valueName
+    ) {
+        nonNull(value, valueName);
+
+        final long size = value.length;
+        if (size < minSize || size > maxSize) {
+            throw new RequireViolationException(Check.SIZE, valueName, minSize, maxSize);
+        }
+
+        return value;
+    }
+
+    /**
+     * Check if objects array is not null and has between 0 and maxSize elements.
+     * If not throw an exception.
+     *
+     * @param value     - value to check
+     * @param maxSize   - maximal expected number of elements
+     * @param valueName - value parameter name which will be printed in the error message
+     * @param <T>       - value type
+     * @return value back to client
+     * @throws IllegalArgumentException if statement false
+     */
+    @Nonnull
+    public static <T> T[] maxSize(
+        @Nullable final T[] value,
+        final int maxSize,
+        @Nonnull final String valueName
+    ) {
+        return size(value, 0, maxSize, valueName);
+    }
+
+    /**
+     * Check if char array is not null and has between minSize and maxSize elements.
+     * If not throw an exception.
+     *
+     * @param value     - value to check
+     * @param minSize   - minimal expected number of elements
+     * @param maxSize   - maximal expected number of elements
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return value back to client
+     * @throws IllegalArgumentException if statement false
+     */
+    @Nonnull
+    public static char[] size(
+        @Nullable final char[] value,
+        final int minSize,
+        final int maxSize,
+        @Nonnull final String valueName
+    ) {
+        nonNull(value, valueName);
+
+        final long size = value.length;
+        if (size < minSize || size > maxSize) {
+            throw new RequireViolationException(Check.SIZE, valueName, minSize, maxSize);
+        }
+
+        return value;
+    }
+
+    /**
+     * Check if char array is not null and has between 0 and maxSize elements.
+     * If not throw an exception.
+     *
+     * @param value     - value to check
+     * @param maxSize   - maximal expected number of elements
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return value back to client
+     * @throws IllegalArgumentException if statement false
+     */
+    @Nonnull
+    public static char[] maxSize(
+        @Nullable final char[] value,
+        final int maxSize,
+        @Nonnull final String valueName
+    ) {
+        return size(value, 0, maxSize, valueName);
+    }
+
+    /**
+     * Check if byte array is not null and has between minSize and maxSize elements.
+     * If not throw an exception.
+     *
+     * @param value     - value to check
+     * @param minSize   - minimal expected number of elements
+     * @param maxSize   - maximal expected number of elements
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return value back to client
+     * @throws IllegalArgumentException if statement false
+     */
+    @Nonnull
+    public static byte[] size(
+        @Nullable final byte[] value,
+        final int minSize,
+        final int maxSize,
+        @Nonnull final String valueName
+    ) {
+        nonNull(value, valueName);
+
+        final long size = value.length;
+        if (size < minSize || size > maxSize) {
+            throw new RequireViolationException(Check.SIZE, valueName, minSize, maxSize);
+        }
+
+        return value;
+    }
+
+    /**
+     * Check if byte array is not null and has between 0 and maxSize elements.
+     * If not throw an exception.
+     *
+     * @param value     - value to check
+     * @param maxSize   - maximal expected number of elements
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return value back to client
+     * @throws IllegalArgumentException if statement false
+     */
+    @Nonnull
+    public static byte[] maxSize(
+        @Nullable final byte[] value,
+        final int maxSize,
+        @Nonnull final String valueName
+    ) {
+        return size(value, 0, maxSize, valueName);
+    }
+
+    /**
+     * Check if int array is not null and has between minSize and maxSize elements.
+     * If not throw an exception.
+     *
+     * @param value     - value to check
+     * @param minSize   - minimal expected number of elements
+     * @param maxSize   - maximal expected number of elements
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return value back to client
+     * @throws IllegalArgumentException if statement false
+     */
+    @Nonnull
+    public static int[] size(
+        @Nullable final int[] value,
+        final int minSize,
+        final int maxSize,
+        @Nonnull final String valueName
+    ) {
+        nonNull(value, valueName);
+
+        final long size = value.length;
+        if (size < minSize || size > maxSize) {
+            throw new RequireViolationException(Check.SIZE, valueName, minSize, maxSize);
+        }
+
+        return value;
+    }
+
+    /**
+     * Check if int array is not null and has between 0 and maxSize elements.
+     * If not throw an exception.
+     *
+     * @param value     - value to check
+     * @param maxSize   - maximal expected number of elements
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return value back to client
+     * @throws IllegalArgumentException if statement false
+     */
+    @Nonnull
+    public static int[] maxSize(
+        @Nullable final int[] value,
+        final int maxSize,
+        @Nonnull final String valueName
+    ) {
+        return size(value, 0, maxSize, valueName);
+    }
+
+    /**
+     * Check if long array is not null and has between minSize and maxSize elements.
+     * If not throw an exception.
+     *
+     * @param value     - value to check
+     * @param minSize   - minimal expected number of elements
+     * @param maxSize   - maximal expected number of elements
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return value back to client
+     * @throws IllegalArgumentException if statement false
+     */
+    @Nonnull
+    public static long[] size(
+        @Nullable final long[] value,
+        final int minSize,
+        final int maxSize,
+        @Nonnull final String valueName
+    ) {
+        nonNull(value, valueName);
+
+        final long size = value.length;
+        if (size < minSize || size > maxSize) {
+            throw new RequireViolationException(Check.SIZE, valueName, minSize, maxSize);
+        }
+
+        return value;
+    }
+
+    /**
+     * Check if long array is not null and has between 0 and maxSize elements.
+     * If not throw an exception.
+     *
+     * @param value     - value to check
+     * @param maxSize   - maximal expected number of elements
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return value back to client
+     * @throws IllegalArgumentException if statement false
+     */
+    @Nonnull
+    public static long[] maxSize(
+        @Nullable final long[] value,
+        final int maxSize,
+        @Nonnull final String valueName
+    ) {
+        return size(value, 0, maxSize, valueName);
+    }
+
+    /**
+     * Check if float array is not null and has between minSize and maxSize elements.
+     * If not throw an exception.
+     *
+     * @param value     - value to check
+     * @param minSize   - minimal expected number of elements
+     * @param maxSize   - maximal expected number of elements
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return value back to client
+     * @throws IllegalArgumentException if statement false
+     */
+    @Nonnull
+    public static float[] size(
+        @Nullable final float[] value,
+        final int minSize,
+        final int maxSize,
+        @Nonnull final String valueName
+    ) {
+        nonNull(value, valueName);
+
+        final long size = value.length;
+        if (size < minSize || size > maxSize) {
+            throw new RequireViolationException(Check.SIZE, valueName, minSize, maxSize);
+        }
+
+        return value;
+    }
+
+    /**
+     * Check if float array is not null and has between 0 and maxSize elements.
+     * If not throw an exception.
+     *
+     * @param value     - value to check
+     * @param maxSize   - maximal expected number of elements
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return value back to client
+     * @throws IllegalArgumentException if statement false
+     */
+    @Nonnull
+    public static float[] maxSize(
+        @Nullable final float[] value,
+        final int maxSize,
+        @Nonnull final String valueName
+    ) {
+        return size(value, 0, maxSize, valueName);
+    }
+
+    /**
+     * Check if double array is not null and has between minSize and maxSize elements.
+     * If not throw an exception.
+     *
+     * @param value     - value to check
+     * @param minSize   - minimal expected number of elements
+     * @param maxSize   - maximal expected number of elements
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return value back to client
+     * @throws IllegalArgumentException if statement false
+     */
+    @Nonnull
+    public static double[] size(
+        @Nullable final double[] value,
+        final int minSize,
+        final int maxSize,
+        @Nonnull final String valueName
+    ) {
+        nonNull(value, valueName);
+
+        final long size = value.length;
+        if (size < minSize || size > maxSize) {
+            throw new RequireViolationException(Check.SIZE, valueName, minSize, maxSize);
+        }
+
+        return value;
+    }
+
+    /**
+     * Check if double array is not null and has between 0 and maxSize elements.
+     * If not throw an exception.
+     *
+     * @param value     - value to check
+     * @param maxSize   - maximal expected number of elements
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return value back to client
+     * @throws IllegalArgumentException if statement false
+     */
+    @Nonnull
+    public static double[] maxSize(
+        @Nullable final double[] value,
+        final int maxSize,
+        @Nonnull final String valueName
+    ) {
+        return size(value, 0, maxSize, valueName);
+    }
+
+    /**
+     * Check if enumeration is not null and wrap it to check that it has between minSize and maxSize elements.
+     * Elements are counted by {@link Enumeration#nextElement()}, the wrapper throws on the first element
+     * over the limit and from {@link Enumeration#hasMoreElements()} when the enumeration ends before minSize
+     * elements, so at most maxSize + 1 elements are read and nothing is buffered.
+     * If not throw an exception.
+     *
+     * @param values    - values to check
+     * @param minSize   - minimal expected number of elements
+     * @param maxSize   - maximal expected number of elements
+     * @param valueName - value parameter name which will be printed in the error message
+     * @param <T>       - element type
+     * @return wrapped enumeration which must be used instead of values
+     * @throws IllegalArgumentException if statement false, also from the methods of the wrapped enumeration
+     */
+    @Nonnull
+    public static <T> Enumeration<T> size(
+        @Nullable final Enumeration<T> values,
+        final long minSize,
+        final long maxSize,
+        @Nonnull final String valueName
+    ) {
+        nonNull(values, valueName);
+        positive(minSize, "minSize");
+        atLeast(maxSize, minSize, "maxSize");
+
+        return new CheckedSpliterators.SizeBoundEnumeration<>(values, minSize, maxSize, valueName);
+    }
+
+    /**
+     * Check if enumeration is not null and wrap it to check that it has between 0 and maxSize elements.
+     * Elements are counted by {@link Enumeration#nextElement()}, the wrapper throws on the first element
+     * over the limit, so at most maxSize + 1 elements are read and nothing is buffered.
+     * If not throw an exception.
+     *
+     * @param values    - values to check
+     * @param maxSize   - maximal expected number of elements
+     * @param valueName - value parameter name which will be printed in the error message
+     * @param <T>       - element type
+     * @return wrapped enumeration which must be used instead of values
+     * @throws IllegalArgumentException if statement false, also from {@code nextElement()} of the wrapped enumeration
+     */
+    @Nonnull
+    public static <T> Enumeration<T> maxSize(
+        @Nullable final Enumeration<T> values,
+        final long maxSize,
+        @Nonnull final String valueName
+    ) {
+        return size(values, 0L, maxSize, valueName);
+    }
+
+    /**
+     * Check if iterator is not null and wrap it to check that it returns between 0 and maxSize elements.
+     * Elements are counted by {@link Iterator#next()}, the wrapper throws on the first element over the limit,
+     * so at most maxSize + 1 elements are read and nothing is buffered.
+     * If not throw an exception.
+     *
+     * @param values    - values to check
+     * @param maxSize   - maximal expected number of elements
+     * @param valueName - value parameter name which will be printed in the error message
+     * @param <T>       - element type
+     * @return wrapped iterator which must be used instead of values
+     * @throws IllegalArgumentException if statement false, also from {@code next()} of the wrapped iterator
+     */
+    @Nonnull
+    public static <T> Iterator<T> maxSize(
+        @Nullable final Iterator<T> values,
+        final long maxSize,
+        @Nonnull final String valueName
+    ) {
+        nonNull(values, valueName);
+
+        return new CheckedSpliterators.SizeBoundIterator<>(values, positive(maxSize, "maxSize"), valueName);
+    }
+
+    /**
+     * Check if stream is not null and has between 0 and maxSize elements.
+     * A stream of known size is checked at once, without reading it. Otherwise elements are counted
+     * when they are consumed by the stream pipeline and the terminal operation throws on the first element
+     * over the limit, so at most maxSize + 1 elements are read and nothing is buffered.
+     * Splitting and characteristics of the stream are kept, closing the returned stream closes the value.
+     * If not throw an exception.
+     *
+     * @param values    - values to check
+     * @param maxSize   - maximal expected number of elements
+     * @param valueName - value parameter name which will be printed in the error message
+     * @param <T>       - element type
+     * @return stream with all elements of the value, which must be used instead of values
+     * @throws IllegalArgumentException if statement false, also from the terminal operation of the returned stream
+     */
+    @Nonnull
+    public static <T> Stream<T> maxSize(
+        @Nullable final Stream<T> values,
+        final long maxSize,
+        @Nonnull final String valueName
+    ) {
+        nonNull(values, valueName);
+        positive(maxSize, "maxSize");
+
+        final Spliterator<T> source = values.spliterator();
+        final long size = source.getExactSizeIfKnown();
+        if (size > maxSize) {
+            throw new RequireViolationException(Check.SIZE, valueName, 0L, maxSize);
+        }
+        final Spliterator<T> spliterator = size >= 0L
+            ? source
+            : new CheckedSpliterators.SizeBoundSpliterator<>(source, maxSize, valueName);
+
+        return StreamSupport.stream(spliterator, values.isParallel()).onClose(values::close);
+    }
+
+    /**
+     * Check if collection is not null and has no null elements.
+     * Collections of at least {@code com.github.ilubenets.require.parallelThreshold} elements are checked
+     * in parallel on the common fork-join pool.
+     * If not throw an exception, for lists with the index of the first failing element.
+     *
+     * @param values    - values to check
+     * @param valueName - value parameter name which will be printed in the error message
+     * @param <T>       - value type
+     * @return values back to client
+     * @throws IllegalArgumentException if statement false
+     */
+    @Nonnull
+    public static <T extends Collection<?>> T eachNonNull(@Nullable final T values, @Nonnull final String valueName) {
+        nonNull(values, valueName);
+
+        throwIfFailed(ElementScan.scan(values, NON_NULL_ELEMENT), values instanceof List, valueName, null, null);
+
+        return values;
+    }
+
+    /**
+     * Check if array is not null and has no null elements.
+     * Arrays of at least {@code com.github.ilubenets.require.parallelThreshold} elements are checked
+     * in parallel on the common fork-join pool.
+     * If not throw an exception with the index of the first failing element.
+     *
+     * @param values    - values to check
+     * @param valueName - value parameter name which will be printed in the error message
+     * @param <T>       - element type
+     * @return values back to client
+     * @throws IllegalArgumentException if statement false
+     */
+    @Nonnull
+    public static <T> T[] eachNonNull(@Nullable final T[] values, @Nonnull final String valueName) {
+        nonNull(values, valueName);
+
+        throwIfFailed(ElementScan.scan(values, NON_NULL_ELEMENT), true, valueName, null, null);
+
+        return values;
+    }
+
+    /**
+     * Check if collection is not null and every element is not null and not blank.
+     * Whitespace is any character less than or equal to space, the same rule as {@link String#trim()} uses.
+     * Collections of at least {@code com.github.ilubenets.require.parallelThreshold} elements are checked
+     * in parallel on the common fork-join pool.
+     * If not throw an exception, for lists with the index of the first failing element.
+     *
+     * @param values    - values to check
+     * @param valueName - value parameter name which will be printed in the error message
+     * @param <T>       - value type
+     * @return values back to client
+     * @throws IllegalArgumentException if statement false
+     */
+    @Nonnull
+    public static <T extends Collection<? extends CharSequence>> T eachNonBlank(
+        @Nullable final T values,
+        @Nonnull final String valueName
+    ) {
+        nonNull(values, valueName);
+
+        throwIfFailed(ElementScan.scan(values, NON_BLANK_ELEMENT), values instanceof List, valueName, null, null);
+
+        return values;
+    }
+
+    /**
+     * Check if array is not null and every element is not null and not blank.
+     * Whitespace is any character less than or equal to space, the same rule as {@link String#trim()} uses.
+     * Arrays of at least {@code com.github.ilubenets.require.parallelThreshold} elements are checked
+     * in parallel on the common fork-join pool.
+     * If not throw an exception with the index of the first failing element.
+     *
+     * @param values    - values to check
+     * @param valueName - value parameter name which will be printed in the error message
+     * @param <T>       - element type
+     * @return values back to client
+     * @throws IllegalArgumentException if statement false
+     */
+    @Nonnull
+    public static <T extends CharSequence> T[] eachNonBlank(@Nullable final T[] values, @Nonnull final String valueName) {
+        nonNull(values, valueName);
+
+        throwIfFailed(ElementScan.scan(values, NON_BLANK_ELEMENT), true, valueName, null, null);
+
+        return values;
+    }
+
+    /**
+     * Check if collection is not null and every element is not null and has length between 0 and maxLength.
+     * Collections of at least {@code com.github.ilubenets.require.parallelThreshold} elements are checked
+     * in parallel on the common fork-join pool.
+     * If not throw an exception, for lists with the index of the first failing element.
+     *
+     * @param values    - values to check
+     * @param maxLength - maximal expected element length
+     * @param valueName - value parameter name which will be printed in the error message
+     * @param <T>       - value type
+     * @return values back to client
+     * @throws IllegalArgumentException if statement false
+     */
+    @Nonnull
+    public static <T extends Collection<? extends CharSequence>> T eachMaxLength(
+        @Nullable final T values,
+        final int maxLength,
+        @Nonnull final String valueName
+    ) {
+        nonNull(values, valueName);
+
+        final ElementScan.Failure failure = ElementScan.scan(values, maxLengthElement(maxLength));
+        throwIfFailed(failure, values instanceof List, valueName, 0, maxLength);
+
+        return values;
+    }
+
+    /**
+     * Check if array is not null and every element is not null and has length between 0 and maxLength.
+     * Arrays of at least {@code com.github.ilubenets.require.parallelThreshold} elements are checked
+     * in parallel on the common fork-join pool.
+     * If not throw an exception with the index of the first failing element.
+     *
+     * @param values    - values to check
+     * @param maxLength - maximal expected element length
+     * @param valueName - value parameter name which will be printed in the error message
+     * @param <T>       - element type
+     * @return values back to client
+     * @throws IllegalArgumentException if statement false
+     */
+    @Nonnull
+    public static <T extends CharSequence> T[] eachMaxLength(
+        @Nullable final T[] values,
+        final int maxLength,
+        @Nonnull final String valueName
+    ) {
+        nonNull(values, valueName);
+
+        throwIfFailed(ElementScan.scan(values, maxLengthElement(maxLength)), true, valueName, 0, maxLength);
+
+        return values;
+    }
+
+    /**
+     * Check if map is not null and has no null keys.
+     * Maps of at least {@code com.github.ilubenets.require.parallelThreshold} entries are checked
+     * in parallel on the common fork-join pool.
+     * If not throw an exception.
+     *
+     * @param value     - value to check
+     * @param valueName - value parameter name which will be printed in the error message
+     * @param <T>       - value type
+     * @return value back to client
+     * @throws IllegalArgumentException if statement false
+     */
+    @Nonnull
+    public static <T extends Map<?, ?>> T nonNullKeys(@Nullable final T value, @Nonnull final String valueName) {
+        nonNull(value, valueName);
+
+        if (ElementScan.scan(value.keySet(), NON_NULL_ELEMENT, ElementScan.hasLinearSize(value)) != null) {
+            throw new RequireViolationException(Check.NON_NULL_KEY, valueName);
+        }
+
+        return value;
+    }
+
+    /**
+     * Check if map is not null and has no null values.
+     * Maps of at least {@code com.github.ilubenets.require.parallelThreshold} entries are checked
+     * in parallel on the common fork-join pool.
+     * If not throw an exception with the key of a failing entry.
+     *
+     * @param value     - value to check
+     * @param valueName - value parameter name which will be printed in the error message
+     * @param <T>       - value type
+     * @return value back to client
+     * @throws IllegalArgumentException if statement false
+     */
+    @Nonnull
+    public static <T extends Map<?, ?>> T nonNullValues(@Nullable final T value, @Nonnull final String valueName) {
+        nonNull(value, valueName);
+
+        final ElementScan.Failure failure =
+            ElementScan.scan(value.entrySet(), NON_NULL_ENTRY_VALUE, ElementScan.hasLinearSize(value));
+        if (failure != null) {
+            final Object key = ((Map.Entry<?, ?>) failure.element).getKey();
+            throw new RequireViolationException(Check.NON_NULL, valueName, key, null, null);
+        }
+
+        return value;
+    }
+
+    /**
+     * Check if list is not null and not empty and return its unmodifiable copy.
+     * The elements are copied once with {@link List#toArray()}, the emptiness is checked on the copy,
+     * so a list changed by another thread can not pass the check empty. The copy is a random access list.
+     * If not throw an exception.
+     *
+     * @param value     - value to check
+     * @param valueName - value parameter name which will be printed in the error message
+     * @param <T>       - element type
+     * @return unmodifiable copy of the value
+     * @throws IllegalArgumentException if statement false
+     */
+    @Nonnull
+    public static <T> List<T> nonEmptyCopy(@Nullable final List<? extends T> value, @Nonnull final String valueName) {
+        nonNull(value, valueName);
+
+        final Object[] elements = value.toArray();
+        if (elements.length == 0) {
+            throw new RequireViolationException(Check.NON_EMPTY, valueName);
+        }
+
+        return unmodifiableList(elements);
+    }
+
+    /**
+     * Check if map is not null and not empty and return its unmodifiable copy.
+     * The copy is a presized {@link LinkedHashMap}, filled in one pass, which keeps the iteration order of the value.
+     * The emptiness is checked on the copy, so a map changed by another thread can not pass the check empty.
+     * If not throw an exception.
+     *
+     * @param value     - value to check
+     * @param valueName - value parameter name which will be printed in the error message
+     * @param <K>       - key type
+     * @param <V>       - value type
+     * @return unmodifiable copy of the value
+     * @throws IllegalArgumentException if statement false
+     */
+    @Nonnull
+    public static <K, V> Map<K, V> nonEmptyCopy(
+        @Nullable final Map<? extends K, ? extends V> value,
+        @Nonnull final String valueName
+    ) {
+        nonNull(value, valueName);
+
+        final Map<K, V> copy = new LinkedHashMap<>((int) (value.size() / 0.75F) + 1);
+        copy.putAll(value);
+        if (copy.isEmpty()) {
+            throw new RequireViolationException(Check.NON_EMPTY, valueName);
+        }
+
+        return Collections.unmodifiableMap(copy);
+    }
+
+    /**
+     * Check if collection is not null and has no null elements and return its unmodifiable copy as a list.
+     * The elements are copied once with {@link Collection#toArray()} and checked on the copy,
+     * so a collection changed by another thread can not pass a null element to the copy.
+     * If not throw an exception, for lists with the index of the first failing element.
+     *
+     * @param values    - values to check
+     * @param valueName - value parameter name which will be printed in the error message
+     * @param <T>       - element type
+     * @return unmodifiable copy of the values, in their iteration order
+     * @throws IllegalArgumentException if statement false
+     */
+    @Nonnull
+    public static <T> List<T> nonNullElementsCopy(
+        @Nullable final Collection<? extends T> values,
+        @Nonnull final String valueName
+    ) {
+        nonNull(values, valueName);
+
+        final Object[] elements = values.toArray();
+        for (int i = 0; i < elements.length; i++) {
+            if (elements[i] == null) {
+                final Object index = values instanceof List ? (long) i : null;
+                throw new RequireViolationException(Check.NON_NULL, valueName, index, null, null);
+            }
+        }
+
+        return unmodifiableList(elements);
+    }
+
+    /**
+     * Collector into an unmodifiable list which checks every element while the stream is collected.
+     * The stream fails on the first null element, elements after it are not collected.
+     * Parallel streams are supported, the position of the failing element is not reported.
+     *
+     * @param valueName - value parameter name which will be printed in the error message
+     * @param <T>       - element type
+     * @return collector which throws an exception on a null element
+     */
+    @Nonnull
+    public static <T> Collector<T, ?, List<T>> toNonNullList(@Nonnull final String valueName) {
+        return Collector.<T, List<T>, List<T>>of(
+            ArrayList::new,
+            (list, element) -> {
+                if (element == null) {
+                    throw new RequireViolationException(Check.NON_NULL, valueName);
+                }
+                list.add(element);
+            },
+            (left, right) -> {
+                left.addAll(right);
+                return left;
+            },
+            Collections::unmodifiableList
+        );
+    }
+
+    private static final ElementScan.ElementCheck<Object> NON_NULL_ELEMENT =
+        element -> element == null ? Check.NON_NULL : null;
+
+    private static final ElementScan.ElementCheck<CharSequence> NON_BLANK_ELEMENT = element -> {
+        if (element == null) {
+            return Check.NON_NULL;
+        }
+        return Whitespace.TRIM.isBlank(element) ? Check.NON_BLANK : null;
+    };
+
+    private static final ElementScan.ElementCheck<Map.Entry<?, ?>> NON_NULL_ENTRY_VALUE =
+        entry -> entry.getValue() == null ? Check.NON_NULL : null;
+
+    @Nonnull
+    private static ElementScan.ElementCheck<CharSequence> maxLengthElement(final int maxLength) {
+        return element -> {
+            if (element == null) {
+                return Check.NON_NULL;
+            }
+            return element.length() > maxLength ? Check.LENGTH : null;
+        };
+    }
+
+    private static void throwIfFailed(
+        @Nullable final ElementScan.Failure failure,
+        final boolean indexed,
+        @Nonnull final String valueName,
+        @Nullable final Object first,
+        @Nullable final Object second
+    ) {
+        if (failure != null) {
+            final Object index = indexed && failure.index >= 0L ? failure.index : null;
+            if (failure.check.argumentCount() == 0) {
+                throw new RequireViolationException(failure.check, valueName, index, null, null);
+            }
+            throw new RequireViolationException(failure.check, valueName, index, first, second);
+        }
+    }
+
+    /**
+     * Size of the collection, counted up to maxSize + 1 elements if its {@code size()} walks all elements.
+     */
+    private static long size(@Nonnull final Collection<?> value, final int maxSize) {
+        return ElementScan.hasLinearSize(value) ? count(value.iterator(), maxSize) : value.size();
+    }
+
+    private static long size(@Nonnull final Map<?, ?> value, final int maxSize) {
+        return ElementScan.hasLinearSize(value) ? count(value.keySet().iterator(), maxSize) : value.size();
+    }
+
+    private static long count(@Nonnull final Iterator<?> iterator, final int maxSize) {
+        long count = 0L;
+        while (count <= maxSize && iterator.hasNext()) {
+            iterator.next();
+            count++;
+        }
+
+        return count;
+    }
+
+    @Nonnull
+    @SuppressWarnings("unchecked")
+    private static <T> List<T> unmodifiableList(@Nonnull final Object[] elements) {
+        // The array is a private copy holding only elements of the source collection
+        return Collections.unmodifiableList((List<T>) Arrays.asList(elements));
+    }
+
+    @Nonnull
+    private static <T> Stream<T> checked(
+        @Nonnull final Stream<T> values,
+        @Nullable final Rule<? super T> rule,
+        @Nonnull final String valueName
+    ) {
+        final Spliterator<T> spliterator = new CheckedSpliterators.RefSpliterator<>(values.spliterator(), rule, valueName);
+        return StreamSupport.stream(spliterator, values.isParallel()).onClose(values::close);
+    }
+
+    @Nonnull
+    private static IntStream checked(
+        @Nonnull final IntStream values,
+        @Nonnull final Check check,
+        final int min,
+        final int max,
+        @Nonnull final String valueName
+    ) {
+        final Spliterator.OfInt spliterator =
+            new CheckedSpliterators.IntSpliterator(values.spliterator(), check, min, max, valueName);
+        return StreamSupport.intStream(spliterator, values.isParallel()).onClose(values::close);
+    }
+
+    @Nonnull
+    private static LongStream checked(
+        @Nonnull final LongStream values,
+        @Nonnull final Check check,
+        final long min,
+        final long max,
+        @Nonnull final String valueName
+    ) {
+        final Spliterator.OfLong spliterator =
+            new CheckedSpliterators.LongSpliterator(values.spliterator(), check, min, max, valueName);
+        return StreamSupport.longStream(spliterator, values.isParallel()).onClose(values::close);
+    }
+
+    @Nonnull
+    private static DoubleStream checked(
+        @Nonnull final DoubleStream values,
+        @Nonnull final Check check,
+        final double min,
+        final double max,
+        @Nonnull final String valueName
+    ) {
+        final Spliterator.OfDouble spliterator =
+            new CheckedSpliterators.DoubleSpliterator(values.spliterator(), check, min, max, valueName);
+        return StreamSupport.doubleStream(spliterator, values.isParallel()).onClose(values::close);
+    }
 }
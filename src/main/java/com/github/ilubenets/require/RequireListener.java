@@ -0,0 +1,26 @@
+package com.github.ilubenets.require;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Listener notified about every violation of a {@link Require}, {@link Validation} or {@link Validator} check.
+ * Listeners are installed with {@link RequireListeners#add(RequireListener)}, {@link RequireMetrics} is the
+ * built-in one which counts violations.
+ *
+ * The listener is called on the thread which runs the check, before the exception is thrown, so it must be
+ * thread safe and fast. Exceptions thrown by the listener are ignored, they never replace the violation.
+ */
+@FunctionalInterface
+public interface RequireListener {
+
+    /**
+     * Handle a violation.
+     *
+     * @param check     - violated requirement
+     * @param valueName - value parameter name given to the check, without the element index
+     * @param index     - index of the failing element as a {@link Long}, the key of the failing entry for map checks,
+     *                  null if the check was applied to the value itself
+     */
+    void onViolation(@Nonnull Check check, @Nullable String valueName, @Nullable Object index);
+}
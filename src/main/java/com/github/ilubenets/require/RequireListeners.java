@@ -0,0 +1,83 @@
+package com.github.ilubenets.require;
+
+import java.util.Arrays;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Registry of the installed {@link RequireListener}s.
+ *
+ * Listeners are notified only when a check fails, passed checks never look at the registry,
+ * so installed or not, listeners cost nothing on the pass path.
+ * The registry is a copy-on-write array: adding and removing is rare and synchronized,
+ * notifying reads one volatile field and does not allocate.
+ */
+public final class RequireListeners {
+
+    private static final RequireListener[] NONE = {};
+
+    private static volatile RequireListener[] listeners = NONE;
+
+    private RequireListeners() {
+        // Utility class
+    }
+
+    /**
+     * Install listener, it is notified about violations from now on.
+     * A listener which is already installed is not added twice.
+     *
+     * @param listener - listener to install
+     */
+    public static synchronized void add(@Nonnull final RequireListener listener) {
+        Require.nonNull(listener, "listener");
+
+        final RequireListener[] current = listeners;
+        for (final RequireListener installed : current) {
+            if (installed == listener) {
+                return;
+            }
+        }
+        final RequireListener[] updated = Arrays.copyOf(current, current.length + 1);
+        updated[current.length] = listener;
+        listeners = updated;
+    }
+
+    /**
+     * Uninstall listener, nothing happens if it is not installed.
+     *
+     * @param listener - listener to uninstall
+     */
+    public static synchronized void remove(@Nonnull final RequireListener listener) {
+        final RequireListener[] current = listeners;
+        for (int i = 0; i < current.length; i++) {
+            if (current[i] == listener) {
+                final RequireListener[] updated = new RequireListener[current.length - 1];
+                System.arraycopy(current, 0, updated, 0, i);
+                System.arraycopy(current, i + 1, updated, i, current.length - i - 1);
+                listeners = updated;
+                return;
+            }
+        }
+    }
+
+    /**
+     * Check if any listener is installed.
+     *
+     * @return true if at least one listener is installed
+     */
+    public static boolean isEmpty() {
+        return listeners.length == 0;
+    }
+
+    static void violation(@Nonnull final Check check, @Nullable final String valueName, @Nullable final Object index) {
+        final RequireListener[] current = listeners;
+        for (final RequireListener listener : current) {
+            try {
+                listener.onViolation(check, valueName, index);
+            } catch (final RuntimeException ignored) {
+                // A broken listener must not replace the violation
+            }
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package com.github.ilubenets.require;
+
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Built-in {@link RequireListener} which counts violations per {@link Check} and per value name.
+ *
+ * Counters are {@link LongAdder}s, so threads which fail checks at the same time increment different cells
+ * instead of contending on one field. A counter is created on the first violation of a check and value name pair.
+ * Element checks are counted under the value name without the index.
+ * Value names are expected to be literals; to keep the memory bounded, names beyond
+ * {@value #MAX_VALUE_NAMES_PROPERTY} (system property, 1024 by default) per check are counted under {@code *}.
+ *
+ * {@link #install()} creates the metrics, installs them as a listener and exports them through JMX.
+ *
+ * Example:
+ *
+ * {@code
+ *
+ * final RequireMetrics metrics = RequireMetrics.install();
+ * ...
+ * metrics.count(Check.LENGTH, "sku");
+ *
+ * }
+ */
+public final class RequireMetrics implements RequireListener, RequireMetricsMXBean {
+
+    /**
+     * JMX object name the metrics are registered with by {@link #install()}.
+     */
+    public static final String OBJECT_NAME = "com.github.ilubenets.require:type=RequireMetrics";
+
+    /**
+     * System property with the maximal number of value names counted separately per check.
+     */
+    public static final String MAX_VALUE_NAMES_PROPERTY = "com.github.ilubenets.require.metricsMaxValueNames";
+
+    private static final int MAX_VALUE_NAMES = Math.max(0, Integer.getInteger(MAX_VALUE_NAMES_PROPERTY, 1024));
+
+    private static final String OTHER_VALUE_NAMES = "*";
+
+    private static final Check[] CHECKS = Check.values();
+
+    private final LongAdder[] byCheck = new LongAdder[CHECKS.length];
+    private final ConcurrentHashMap<String, LongAdder>[] byValueName;
+    private ObjectName registeredName;
+
+    /**
+     * Create metrics with zero counters, they count only what they are notified about,
+     * install them with {@link RequireListeners#add(RequireListener)} or use {@link #install()}.
+     */
+    @SuppressWarnings("unchecked")
+    public RequireMetrics() {
+        byValueName = (ConcurrentHashMap<String, LongAdder>[]) new ConcurrentHashMap<?, ?>[CHECKS.length];
+        for (int i = 0; i < CHECKS.length; i++) {
+            byCheck[i] = new LongAdder();
+            byValueName[i] = new ConcurrentHashMap<>();
+        }
+    }
+
+    /**
+     * Create metrics, install them as a listener and register them in the platform MBean server
+     * as {@value #OBJECT_NAME}.
+     *
+     * @return installed metrics
+     * @throws IllegalStateException if the MBean can not be registered, for example metrics are already installed
+     */
+    @Nonnull
+    public static RequireMetrics install() {
+        final RequireMetrics metrics = new RequireMetrics();
+        final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            final ObjectName name = new ObjectName(OBJECT_NAME);
+            server.registerMBean(metrics, name);
+            metrics.registeredName = name;
+        } catch (final JMException e) {
+            throw new IllegalStateException("Can not register " + OBJECT_NAME, e);
+        }
+        RequireListeners.add(metrics);
+
+        return metrics;
+    }
+
+    /**
+     * Uninstall the listener and unregister the MBean if they were installed by {@link #install()}.
+     */
+    public synchronized void uninstall() {
+        RequireListeners.remove(this);
+        if (registeredName != null) {
+            try {
+                ManagementFactory.getPlatformMBeanServer().unregisterMBean(registeredName);
+            } catch (final JMException e) {
+                throw new IllegalStateException("Can not unregister " + OBJECT_NAME, e);
+            }
+            registeredName = null;
+        }
+    }
+
+    @Override
+    public void onViolation(@Nonnull final Check check, @Nullable final String valueName, @Nullable final Object index) {
+        final int ordinal = check.ordinal();
+        byCheck[ordinal].increment();
+
+        final ConcurrentHashMap<String, LongAdder> counters = byValueName[ordinal];
+        final String key = valueName == null ? "null" : valueName;
+        LongAdder counter = counters.get(key);
+        if (counter == null) {
+            counter = counters.size() < MAX_VALUE_NAMES
+                ? counters.computeIfAbsent(key, k -> new LongAdder())
+                : counters.computeIfAbsent(OTHER_VALUE_NAMES, k -> new LongAdder());
+        }
+        counter.increment();
+    }
+
+    /**
+     * Number of violations of the check.
+     *
+     * @param check - check
+     * @return violation count
+     */
+    public long count(@Nonnull final Check check) {
+        return byCheck[check.ordinal()].sum();
+    }
+
+    /**
+     * Number of violations of the check for the value name.
+     *
+     * @param check     - check
+     * @param valueName - value name, {@code *} for the names beyond the limit
+     * @return violation count
+     */
+    public long count(@Nonnull final Check check, @Nonnull final String valueName) {
+        final LongAdder counter = byValueName[check.ordinal()].get(valueName);
+
+        return counter == null ? 0L : counter.sum();
+    }
+
+    @Override
+    public long getViolationCount() {
+        long total = 0L;
+        for (final LongAdder counter : byCheck) {
+            total += counter.sum();
+        }
+
+        return total;
+    }
+
+    @Override
+    public Map<String, Long> getViolationCountsByCheck() {
+        final Map<String, Long> counts = new TreeMap<>();
+        for (final Check check : CHECKS) {
+            final long count = byCheck[check.ordinal()].sum();
+            if (count != 0L) {
+                counts.put(check.name(), count);
+            }
+        }
+
+        return counts;
+    }
+
+    @Override
+    public Map<String, Long> getViolationCountsByValueName() {
+        final Map<String, Long> counts = new TreeMap<>();
+        for (final Check check : CHECKS) {
+            for (final Map.Entry<String, LongAdder> entry : byValueName[check.ordinal()].entrySet()) {
+                final long count = entry.getValue().sum();
+                if (count != 0L) {
+                    counts.put(check.name() + '/' + entry.getKey(), count);
+                }
+            }
+        }
+
+        return counts;
+    }
+
+    @Override
+    public void reset() {
+        for (int i = 0; i < CHECKS.length; i++) {
+            byCheck[i].reset();
+            byValueName[i].clear();
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.github.ilubenets.require;
+
+import java.util.Map;
+
+/**
+ * JMX view of {@link RequireMetrics}, registered as {@value RequireMetrics#OBJECT_NAME}.
+ */
+public interface RequireMetricsMXBean {
+
+    /**
+     * Number of violations of all checks.
+     *
+     * @return violation count
+     */
+    long getViolationCount();
+
+    /**
+     * Number of violations per check.
+     *
+     * @return violation count by check name, checks without violations are omitted
+     */
+    Map<String, Long> getViolationCountsByCheck();
+
+    /**
+     * Number of violations per check and value name.
+     *
+     * @return violation count by {@code CHECK/valueName} key, pairs without violations are omitted
+     */
+    Map<String, Long> getViolationCountsByValueName();
+
+    /**
+     * Set all counters to zero.
+     */
+    void reset();
+}
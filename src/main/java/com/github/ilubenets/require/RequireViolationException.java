@@ -0,0 +1,181 @@
+package com.github.ilubenets.require;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Exception thrown by {@link Require} when a requirement is not met.
+ * It is an {@code IllegalArgumentException}, so existing handlers keep working.
+ *
+ * The exception carries the violated {@link Check}, the value name, the check arguments (bounds)
+ * and, for checks of array or collection elements, the index of the failing element.
+ * Positional indexes are always {@link Long}, only map checks like {@code nonNullValues} pass the key instead.
+ * The message is rendered from them on the first {@link #getMessage()} call, so a caller which handles
+ * the violation without reading the message never pays for the message.
+ *
+ * Capturing a stack trace is the main cost of a failed check. For services which reject floods of invalid input
+ * it can be switched off with the system property {@value #STACK_TRACE_PROPERTY}{@code =false}.
+ * Then the exception neither captures nor accepts a stack trace, {@link #getStackTrace()} returns an empty array.
+ * The property is read once, when the class is initialized.
+ *
+ * Installed {@link RequireListener}s are notified when the exception is created,
+ * on Java 11 and later a {@code com.github.ilubenets.require.Violation} flight recorder event is emitted too.
+ */
+public class RequireViolationException extends IllegalArgumentException {
+
+    /**
+     * System property which enables or disables stack trace capture, {@code true} by default.
+     */
+    public static final String STACK_TRACE_PROPERTY = "com.github.ilubenets.require.stackTrace";
+
+    private static final long serialVersionUID = 2L;
+
+    private static final boolean STACK_TRACE = Boolean.parseBoolean(System.getProperty(STACK_TRACE_PROPERTY, "true"));
+
+    private static final Object[] NO_ARGUMENTS = {};
+
+    private final Check check;
+    private final String valueName;
+    private final Object index;
+    private final Object first;
+    private final Object second;
+    private String message;
+
+    RequireViolationException(@Nonnull final Check check, @Nullable final String valueName) {
+        this(check, valueName, null, null);
+    }
+
+    RequireViolationException(@Nonnull final Check check, @Nullable final String valueName, @Nullable final Object first) {
+        this(check, valueName, first, null);
+    }
+
+    RequireViolationException(
+        @Nonnull final Check check,
+        @Nullable final String valueName,
+        @Nullable final Object first,
+        @Nullable final Object second
+    ) {
+        this(check, valueName, null, first, second);
+    }
+
+    RequireViolationException(
+        @Nonnull final Check check,
+        @Nullable final String valueName,
+        @Nullable final Object index,
+        @Nullable final Object first,
+        @Nullable final Object second
+    ) {
+        this(check, valueName, index, first, second, true);
+    }
+
+    RequireViolationException(
+        @Nonnull final Check check,
+        @Nullable final String valueName,
+        @Nullable final Object index,
+        @Nullable final Object first,
+        @Nullable final Object second,
+        final boolean notifyListeners
+    ) {
+        super((String) null);
+        this.check = check;
+        this.valueName = valueName;
+        this.index = index;
+        this.first = first;
+        this.second = second;
+        if (notifyListeners) {
+            RequireListeners.violation(check, valueName, index);
+            JfrSupport.violation(check, valueName, index, first, second);
+        }
+    }
+
+    /**
+     * Check if violations capture a stack trace.
+     *
+     * @return value of the {@value #STACK_TRACE_PROPERTY} property
+     */
+    public static boolean isStackTraceEnabled() {
+        return STACK_TRACE;
+    }
+
+    /**
+     * Violated requirement.
+     *
+     * @return check kind
+     */
+    @Nonnull
+    public Check getCheck() {
+        return check;
+    }
+
+    /**
+     * Value parameter name given to the check.
+     *
+     * @return value name
+     */
+    @Nullable
+    public String getValueName() {
+        return valueName;
+    }
+
+    /**
+     * Index of the failing element, when the check was applied to the elements of an array or collection.
+     * A position, like an array or list index, a stream position or a byte offset, is always a {@link Long}.
+     * Map checks pass the key of the failing entry instead.
+     *
+     * @return element index as a {@link Long} or map key, null if the check was applied to the value itself
+     */
+    @Nullable
+    public Object getIndex() {
+        return index;
+    }
+
+    /**
+     * Check arguments, like length bounds, in the order of the message template placeholders.
+     *
+     * @return copy of the arguments, empty if the check has none
+     */
+    @Nonnull
+    public Object[] getArguments() {
+        switch (check.argumentCount()) {
+            case 0:
+                return NO_ARGUMENTS;
+            case 1:
+                return new Object[]{first};
+            default:
+                return new Object[]{first, second};
+        }
+    }
+
+    /**
+     * Human friendly message, rendered from the check template on the first call.
+     *
+     * @return violation message
+     */
+    @Nonnull
+    @Override
+    public String getMessage() {
+        String rendered = message;
+        if (rendered == null) {
+            rendered = check.render(valueName, index, first, second);
+            message = rendered;
+        }
+
+        return rendered;
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        if (STACK_TRACE) {
+            return super.fillInStackTrace();
+        }
+
+        return this;
+    }
+
+    @Override
+    public void setStackTrace(@Nonnull final StackTraceElement[] stackTrace) {
+        if (STACK_TRACE) {
+            super.setStackTrace(stackTrace);
+        }
+    }
+}
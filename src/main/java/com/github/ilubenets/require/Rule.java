@@ -0,0 +1,25 @@
+package com.github.ilubenets.require;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Requirement to a value which can be attached to a field of a {@link Validator}.
+ * Standard rules are created by {@link Rules}, they delegate to {@link Require} and have its messages.
+ *
+ * @param <V> - value type
+ */
+@FunctionalInterface
+public interface Rule<V> {
+
+    /**
+     * Check if value meets the requirement.
+     * If not throw an exception.
+     *
+     * @param value     - value to check
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return value back to client
+     * @throws IllegalArgumentException if statement false
+     */
+    V check(@Nullable V value, @Nonnull String valueName);
+}
@@ -0,0 +1,145 @@
+package com.github.ilubenets.require;
+
+import java.util.regex.Pattern;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Factory of the standard {@link Rule rules} for {@link Validator} fields.
+ * Rules have the same checks and messages as the {@link Require} methods of the same name.
+ *
+ * Example:
+ *
+ * {@code
+ *
+ * import static com.github.ilubenets.require.Rules.*;
+ *
+ * Validator<Order> validator = Validator.of(Order.class)
+ * .field("sku", Order::sku, nonBlank().maxLength(64))
+ * .intField("quantity", Order::quantity, gtThanZero())
+ * .build();
+ *
+ * }
+ */
+public final class Rules {
+
+    private Rules() {
+        // Utility class
+    }
+
+    /**
+     * Rule which requires value to be not null.
+     *
+     * @param <V> - value type
+     * @return rule
+     */
+    @Nonnull
+    public static <V> Rule<V> nonNull() {
+        return Require::nonNull;
+    }
+
+    /**
+     * String rule which requires value to be not null and not blank.
+     *
+     * @return rule
+     */
+    @Nonnull
+    public static StringRule nonBlank() {
+        return StringRule.NON_NULL.nonBlank();
+    }
+
+    /**
+     * String rule which requires value to be not null and not empty.
+     *
+     * @return rule
+     */
+    @Nonnull
+    public static StringRule nonEmpty() {
+        return StringRule.NON_NULL.nonEmpty();
+    }
+
+    /**
+     * String rule which requires value to be not null and have length between minLength and maxLength.
+     *
+     * @param minLength - minimal expected value length
+     * @param maxLength - maximal expected value length
+     * @return rule
+     */
+    @Nonnull
+    public static StringRule length(final int minLength, final int maxLength) {
+        return StringRule.NON_NULL.length(minLength, maxLength);
+    }
+
+    /**
+     * String rule which requires value to be not null and have length more then minLength.
+     *
+     * @param minLength - minimal expected value length
+     * @return rule
+     */
+    @Nonnull
+    public static StringRule minLength(final int minLength) {
+        return StringRule.NON_NULL.minLength(minLength);
+    }
+
+    /**
+     * String rule which requires value to be not null and have length between 0 and maxLength.
+     *
+     * @param maxLength - maximal expected value length
+     * @return rule
+     */
+    @Nonnull
+    public static StringRule maxLength(final int maxLength) {
+        return StringRule.NON_NULL.maxLength(maxLength);
+    }
+
+    /**
+     * String rule which requires value to be not null and match regexp pattern format.
+     *
+     * @param format - regexp format
+     * @return rule
+     */
+    @Nonnull
+    public static StringRule format(@Nonnull final Pattern format) {
+        return StringRule.NON_NULL.format(format);
+    }
+
+    /**
+     * Numeric rule which requires value to be positive or 0.
+     *
+     * @return rule
+     */
+    @Nonnull
+    public static NumberRule positive() {
+        return NumberRule.POSITIVE;
+    }
+
+    /**
+     * Numeric rule which requires value to be negative or 0.
+     *
+     * @return rule
+     */
+    @Nonnull
+    public static NumberRule negative() {
+        return NumberRule.NEGATIVE;
+    }
+
+    /**
+     * Numeric rule which requires value to be greater than 0.
+     *
+     * @return rule
+     */
+    @Nonnull
+    public static NumberRule gtThanZero() {
+        return NumberRule.GREATER_THAN_ZERO;
+    }
+
+    /**
+     * Numeric rule which requires value to be less than 0.
+     *
+     * @return rule
+     */
+    @Nonnull
+    public static NumberRule lsThanZero() {
+        return NumberRule.LESS_THAN_ZERO;
+    }
+}
@@ -0,0 +1,273 @@
+package com.github.ilubenets.require;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Normalizer of string input, strips whitespace, folds case and checks the result in one scan.
+ * It is built once and reused, instances are immutable and thread safe.
+ *
+ * Only the whitespace at both ends and the characters between them are read, each at most once.
+ * A new string is allocated only when the result differs from the value:
+ * a value which is already stripped and in the target case is returned as is.
+ * Case is folded per character, like {@link Character#toLowerCase(int)}, so folding never changes the length
+ * and the length bounds are checked before the copy is made.
+ * The checks run in the fixed order: null, blank or empty, length.
+ *
+ * Example:
+ *
+ * {@code
+ *
+ * private static final StringNormalizer EMAIL = StringNormalizer.builder()
+ * .strip()
+ * .lowerCase()
+ * .nonBlank()
+ * .maxLength(254)
+ * .build();
+ *
+ * this.email = EMAIL.normalize(email, "email");
+ *
+ * }
+ */
+public final class StringNormalizer {
+
+    private static final int KEEP_CASE = 0;
+    private static final int LOWER_CASE = 1;
+    private static final int UPPER_CASE = 2;
+
+    private final Whitespace strip;
+    private final Whitespace blank;
+    private final int caseFolding;
+    private final boolean nonBlank;
+    private final boolean nonEmpty;
+    private final int minLength;
+    private final int maxLength;
+
+    private StringNormalizer(@Nonnull final Builder builder) {
+        this.strip = builder.strip;
+        this.blank = builder.strip != null ? builder.strip : Whitespace.TRIM;
+        this.caseFolding = builder.caseFolding;
+        this.nonBlank = builder.nonBlank;
+        this.nonEmpty = builder.nonEmpty;
+        this.minLength = builder.minLength;
+        this.maxLength = builder.maxLength;
+    }
+
+    /**
+     * Start building a normalizer which returns the value unchanged and only checks it is not null.
+     *
+     * @return builder without steps
+     */
+    @Nonnull
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Normalize the value and check the result.
+     * If the result does not meet the requirements throw an exception.
+     *
+     * @param value     - value to normalize
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return normalized value, the value itself if normalization changes nothing
+     * @throws IllegalArgumentException if statement false
+     */
+    @Nonnull
+    public String normalize(@Nullable final String value, @Nonnull final String valueName) {
+        Require.nonNull(value, valueName);
+
+        int start = 0;
+        int end = value.length();
+        if (strip != null) {
+            while (start < end && strip.isWhitespace(value.charAt(start))) {
+                start++;
+            }
+            while (end > start && strip.isWhitespace(value.charAt(end - 1))) {
+                end--;
+            }
+        }
+        if (nonBlank && (start == end || strip == null && blank.isBlank(value))) {
+            throw new RequireViolationException(Check.NON_BLANK, valueName);
+        }
+        if (nonEmpty && start == end) {
+            throw new RequireViolationException(Check.NON_EMPTY, valueName);
+        }
+        final int length = end - start;
+        if (length < minLength || length > maxLength) {
+            throw new RequireViolationException(Check.LENGTH, valueName, minLength, maxLength);
+        }
+
+        return caseFolding == KEEP_CASE ? substring(value, start, end) : fold(value, start, end);
+    }
+
+    @Nonnull
+    private static String substring(@Nonnull final String value, final int start, final int end) {
+        return start == 0 && end == value.length() ? value : value.substring(start, end);
+    }
+
+    @Nonnull
+    private String fold(@Nonnull final String value, final int start, final int end) {
+        final char from = caseFolding == LOWER_CASE ? 'A' : 'a';
+        int i = start;
+        while (i < end) {
+            final char c = value.charAt(i);
+            if (c < 128 ? c >= from && c < from + 26 : changesCase(value.codePointAt(i))) {
+                break;
+            }
+            i++;
+        }
+        if (i >= end) {
+            return substring(value, start, end);
+        }
+
+        final char[] folded = new char[end - start];
+        value.getChars(start, i, folded, 0);
+        while (i < end) {
+            final char c = value.charAt(i);
+            if (c < 128) {
+                // ASCII letters differ in case by one bit
+                folded[i - start] = c >= from && c < from + 26 ? (char) (c ^ 0x20) : c;
+                i++;
+                continue;
+            }
+            final int codePoint = value.codePointAt(i);
+            final int foldedCodePoint = foldCodePoint(codePoint);
+            final int count = Character.charCount(codePoint);
+            if (Character.charCount(foldedCodePoint) == count) {
+                Character.toChars(foldedCodePoint, folded, i - start);
+            } else {
+                value.getChars(i, i + count, folded, i - start);
+            }
+            i += count;
+        }
+
+        return new String(folded);
+    }
+
+    private boolean changesCase(final int codePoint) {
+        return foldCodePoint(codePoint) != codePoint;
+    }
+
+    private int foldCodePoint(final int c) {
+        return caseFolding == LOWER_CASE ? Character.toLowerCase(c) : Character.toUpperCase(c);
+    }
+
+    /**
+     * Builder of {@link StringNormalizer}, not thread safe.
+     */
+    public static final class Builder {
+
+        private Whitespace strip;
+        private int caseFolding = KEEP_CASE;
+        private boolean nonBlank;
+        private boolean nonEmpty;
+        private int minLength;
+        private int maxLength = Integer.MAX_VALUE;
+
+        private Builder() {
+        }
+
+        /**
+         * Strip whitespace at both ends, whitespace is any character less than or equal to space,
+         * the same rule as {@link String#trim()} uses.
+         *
+         * @return this builder
+         */
+        @Nonnull
+        public Builder strip() {
+            return strip(Whitespace.TRIM);
+        }
+
+        /**
+         * Strip whitespace at both ends, whitespace is defined by the given rule.
+         * The rule is used by the blank check too.
+         *
+         * @param whitespace - rule which decides what character is a whitespace
+         * @return this builder
+         */
+        @Nonnull
+        public Builder strip(@Nonnull final Whitespace whitespace) {
+            strip = Require.nonNull(whitespace, "whitespace");
+            return this;
+        }
+
+        /**
+         * Fold the result to lower case, character by character and independent of the default locale.
+         *
+         * @return this builder
+         */
+        @Nonnull
+        public Builder lowerCase() {
+            caseFolding = LOWER_CASE;
+            return this;
+        }
+
+        /**
+         * Fold the result to upper case, character by character and independent of the default locale.
+         *
+         * @return this builder
+         */
+        @Nonnull
+        public Builder upperCase() {
+            caseFolding = UPPER_CASE;
+            return this;
+        }
+
+        /**
+         * Require the result to be not blank.
+         *
+         * @return this builder
+         */
+        @Nonnull
+        public Builder nonBlank() {
+            nonBlank = true;
+            return this;
+        }
+
+        /**
+         * Require the result to be not empty.
+         *
+         * @return this builder
+         */
+        @Nonnull
+        public Builder nonEmpty() {
+            nonEmpty = true;
+            return this;
+        }
+
+        /**
+         * Require the result to have length between minLength and maxLength.
+         *
+         * @param minLength - minimal expected length
+         * @param maxLength - maximal expected length
+         * @return this builder
+         */
+        @Nonnull
+        public Builder length(final int minLength, final int maxLength) {
+            this.minLength = Require.positive(minLength, "minLength");
+            this.maxLength = Require.atLeast(maxLength, minLength, "maxLength");
+            return this;
+        }
+
+        /**
+         * Require the result to have length between 0 and maxLength.
+         *
+         * @param maxLength - maximal expected length
+         * @return this builder
+         */
+        @Nonnull
+        public Builder maxLength(final int maxLength) {
+            return length(0, maxLength);
+        }
+
+        /**
+         * Build the normalizer, the builder can be reused afterwards.
+         *
+         * @return normalizer with the steps added so far
+         */
+        @Nonnull
+        public StringNormalizer build() {
+            return new StringNormalizer(this);
+        }
+    }
+}
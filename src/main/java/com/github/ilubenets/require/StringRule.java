@@ -0,0 +1,125 @@
+package com.github.ilubenets.require;
+
+import java.util.regex.Pattern;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Rule for string values, a chain like {@code nonBlank().maxLength(64)} is folded into one rule.
+ * Every call returns a new rule, instances are immutable and thread safe.
+ *
+ * The checks run in a fixed order: null, blank or empty, length, format. So the rule
+ * {@code nonBlank().maxLength(64)} behaves like {@link Require#nonBlankMaxLength(String, int, String)}.
+ */
+public final class StringRule implements Rule<String> {
+
+    static final StringRule NON_NULL = new StringRule(false, false, 0, Integer.MAX_VALUE, null);
+
+    private final boolean nonBlank;
+    private final boolean nonEmpty;
+    private final int minLength;
+    private final int maxLength;
+    private final Pattern format;
+
+    private StringRule(
+        final boolean nonBlank,
+        final boolean nonEmpty,
+        final int minLength,
+        final int maxLength,
+        @Nullable final Pattern format
+    ) {
+        this.nonBlank = nonBlank;
+        this.nonEmpty = nonEmpty;
+        this.minLength = minLength;
+        this.maxLength = maxLength;
+        this.format = format;
+    }
+
+    /**
+     * Require value to be not blank.
+     *
+     * @return new rule
+     */
+    @Nonnull
+    public StringRule nonBlank() {
+        return new StringRule(true, nonEmpty, minLength, maxLength, format);
+    }
+
+    /**
+     * Require value to be not empty.
+     *
+     * @return new rule
+     */
+    @Nonnull
+    public StringRule nonEmpty() {
+        return new StringRule(nonBlank, true, minLength, maxLength, format);
+    }
+
+    /**
+     * Require value to have length between minLength and maxLength.
+     *
+     * @param minLength - minimal expected value length
+     * @param maxLength - maximal expected value length
+     * @return new rule
+     */
+    @Nonnull
+    public StringRule length(final int minLength, final int maxLength) {
+        return new StringRule(nonBlank, nonEmpty, minLength, maxLength, format);
+    }
+
+    /**
+     * Require value to have length more then minLength.
+     *
+     * @param minLength - minimal expected value length
+     * @return new rule
+     */
+    @Nonnull
+    public StringRule minLength(final int minLength) {
+        return new StringRule(nonBlank, nonEmpty, minLength, maxLength, format);
+    }
+
+    /**
+     * Require value to have length not more then maxLength.
+     *
+     * @param maxLength - maximal expected value length
+     * @return new rule
+     */
+    @Nonnull
+    public StringRule maxLength(final int maxLength) {
+        return new StringRule(nonBlank, nonEmpty, minLength, maxLength, format);
+    }
+
+    /**
+     * Require value to match regexp pattern format.
+     *
+     * @param format - regexp format
+     * @return new rule
+     */
+    @Nonnull
+    public StringRule format(@Nonnull final Pattern format) {
+        return new StringRule(nonBlank, nonEmpty, minLength, maxLength, Require.nonNull(format, "format"));
+    }
+
+    @Override
+    public String check(@Nullable final String value, @Nonnull final String valueName) {
+        Require.nonNull(value, valueName);
+        if (nonBlank) {
+            Require.nonBlank(value, valueName);
+        } else if (nonEmpty) {
+            Require.nonEmpty(value, valueName);
+        }
+        if (maxLength != Integer.MAX_VALUE) {
+            // Like nonBlankMaxLength, a value which must not be blank or empty has length of at least 1
+            final int min = nonBlank || nonEmpty ? Math.max(minLength, 1) : minLength;
+            Require.length(value, min, maxLength, valueName);
+        } else if (minLength > 0) {
+            Require.minLength(value, minLength, valueName);
+        }
+        if (format != null) {
+            Require.format(value, format, valueName);
+        }
+
+        return value;
+    }
+}
@@ -0,0 +1,119 @@
+package com.github.ilubenets.require;
+
+import java.nio.ByteBuffer;
+
+import javax.annotation.Nonnull;
+
+/**
+ * UTF-8 scans and counts used by {@link Require}, they work in place and never allocate.
+ */
+final class Utf8 {
+
+    private static final long NON_ASCII_BYTES = 0x8080_8080_8080_8080L;
+
+    private Utf8() {
+        // Utility class
+    }
+
+    /**
+     * Find the first byte of {@code position()..limit()} which does not belong to a well-formed UTF-8 sequence
+     * (RFC 3629: shortest form, no surrogates, at most U+10FFFF). The buffer position is not changed.
+     * Runs of ASCII are skipped eight bytes at a time with absolute {@code getLong} reads,
+     * which are single loads for heap and direct buffers.
+     *
+     * @param buffer - bytes to check
+     * @return offset of the malformed sequence from the buffer position, -1 if all bytes are well-formed
+     */
+    static int malformedOffset(@Nonnull final ByteBuffer buffer) {
+        final int position = buffer.position();
+        final int limit = buffer.limit();
+        int i = position;
+        while (i < limit) {
+            if (i + Long.BYTES <= limit && (buffer.getLong(i) & NON_ASCII_BYTES) == 0L) {
+                i += Long.BYTES;
+                continue;
+            }
+            final int lead = buffer.get(i) & 0xFF;
+            if (lead < 0x80) {
+                i++;
+                continue;
+            }
+
+            final int length;
+            int min = 0x80;
+            int max = 0xBF;
+            if (lead >= 0xC2 && lead <= 0xDF) {
+                length = 2;
+            } else if (lead >= 0xE0 && lead <= 0xEF) {
+                length = 3;
+                if (lead == 0xE0) {
+                    min = 0xA0;
+                } else if (lead == 0xED) {
+                    max = 0x9F;
+                }
+            } else if (lead >= 0xF0 && lead <= 0xF4) {
+                length = 4;
+                if (lead == 0xF0) {
+                    min = 0x90;
+                } else if (lead == 0xF4) {
+                    max = 0x8F;
+                }
+            } else {
+                return i - position;
+            }
+            if (i + length > limit) {
+                return i - position;
+            }
+            // The second byte has the narrowed range, the others any continuation byte
+            final int second = buffer.get(i + 1) & 0xFF;
+            if (second < min || second > max) {
+                return i - position;
+            }
+            for (int k = 2; k < length; k++) {
+                if ((buffer.get(i + k) & 0xC0) != 0x80) {
+                    return i - position;
+                }
+            }
+            i += length;
+        }
+
+        return -1;
+    }
+
+    /**
+     * Count the bytes {@code String.getBytes(UTF_8)} would produce for the value, without encoding it.
+     * A surrogate pair takes 4 bytes, a lone surrogate 1 byte, as it is replaced with {@code '?'}.
+     * The scan stops as soon as the count exceeds the limit.
+     *
+     * @param value - chars to count
+     * @param limit - maximal length of interest
+     * @return encoded length, or some length greater than limit if it was exceeded
+     */
+    static long encodedLength(@Nonnull final CharSequence value, final long limit) {
+        final int length = value.length();
+        // Every char takes at least one byte, non-ASCII chars add their extra bytes
+        long bytes = length;
+        if (bytes > limit) {
+            return bytes;
+        }
+        for (int i = 0; i < length; i++) {
+            final char c = value.charAt(i);
+            if (c < 0x80) {
+                continue;
+            }
+            if (c < 0x800) {
+                bytes += 1;
+            } else if (!Character.isSurrogate(c)) {
+                bytes += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+                bytes += 2;
+                i++;
+            }
+            if (bytes > limit) {
+                return bytes;
+            }
+        }
+
+        return bytes;
+    }
+}
@@ -0,0 +1,1093 @@
+package com.github.ilubenets.require;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Non throwing counterpart of {@link Require} to validate all fields of an object in one pass.
+ * It has the same checks and messages as {@code Require}, but a failed check is recorded instead of thrown.
+ * At the end {@link #throwIfInvalid()} throws one {@link ValidationException} with all violations.
+ *
+ * Violations are recorded into preallocated arrays which are reused after {@link #reset()}.
+ * A passed check does not allocate, a failed check allocates only when the buffer has to grow.
+ * Instances are not thread safe.
+ *
+ * Example:
+ *
+ * {@code
+ *
+ * // constructor
+ * public Order(@Nullable final String sku, @Nullable final Integer quantity) {
+ * final Validation validation = Validation.create();
+ * this.sku = validation.nonBlankMaxLength(sku, 64, "sku");
+ * this.quantity = validation.gtThanZero(quantity, "quantity");
+ * validation.throwIfInvalid();
+ * }
+ *
+ * }
+ */
+public final class Validation {
+
+    private static final int DEFAULT_CAPACITY = 8;
+
+    private Check[] checks;
+    private String[] valueNames;
+    private Object[] firstArguments;
+    private Object[] secondArguments;
+    private int size;
+
+    private Validation(final int capacity) {
+        this.checks = new Check[capacity];
+        this.valueNames = new String[capacity];
+        this.firstArguments = new Object[capacity];
+        this.secondArguments = new Object[capacity];
+    }
+
+    /**
+     * Create validation with the default violation buffer capacity.
+     *
+     * @return empty validation
+     */
+    @Nonnull
+    public static Validation create() {
+        return new Validation(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Create validation with the given violation buffer capacity.
+     *
+     * @param capacity - number of violations which can be recorded without growing the buffer
+     * @return empty validation
+     */
+    @Nonnull
+    public static Validation create(final int capacity) {
+        return new Validation(Require.gtThanZero(capacity, "capacity"));
+    }
+
+    /**
+     * Check if no violation was recorded.
+     *
+     * @return true if all checks passed
+     */
+    public boolean isValid() {
+        return size == 0;
+    }
+
+    /**
+     * Number of recorded violations.
+     *
+     * @return violation count
+     */
+    public int violationCount() {
+        return size;
+    }
+
+    /**
+     * Recorded violations in the order they were found.
+     *
+     * @return new list of violations, empty if all checks passed
+     */
+    @Nonnull
+    public List<RequireViolationException> violations() {
+        if (size == 0) {
+            return Collections.emptyList();
+        }
+        final List<RequireViolationException> violations = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            violations.add(new RecordedViolation(checks[i], valueNames[i], firstArguments[i], secondArguments[i]));
+        }
+
+        return violations;
+    }
+
+    /**
+     * Throw an exception with all recorded violations, if there are any.
+     *
+     * @throws ValidationException if any check failed
+     */
+    public void throwIfInvalid() {
+        if (size != 0) {
+            throw new ValidationException(violations());
+        }
+    }
+
+    /**
+     * Forget all recorded violations, the buffer is kept for reuse.
+     *
+     * @return this validation
+     */
+    @Nonnull
+    public Validation reset() {
+        Arrays.fill(valueNames, 0, size, null);
+        Arrays.fill(firstArguments, 0, size, null);
+        Arrays.fill(secondArguments, 0, size, null);
+        size = 0;
+
+        return this;
+    }
+
+    /**
+     * Check if value is not null.
+     * If not record a violation.
+     *
+     * @param value     - value to check
+     * @param valueName - value parameter name which will be printed in the error message
+     * @param <T>       - value type
+     * @return value back to client
+     */
+    @Nullable
+    public <T> T nonNull(@Nullable final T value, @Nonnull final String valueName) {
+        isNull(value, valueName);
+
+        return value;
+    }
+
+    /**
+     * Check if value is not null and not blank, contains any character different from whitespace.
+     * Whitespace is any character less than or equal to space, the same rule as {@link String#trim()} uses.
+     * If not record a violation.
+     *
+     * @param value     - value to check
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return value back to client
+     */
+    @Nullable
+    public String nonBlank(@Nullable final String value, @Nonnull final String valueName) {
+        return nonBlank(value, Whitespace.TRIM, valueName);
+    }
+
+    /**
+     * Check if value is not null and not blank, contains any character different from whitespace.
+     * Whitespace is any character less than or equal to space, the same rule as {@link String#trim()} uses.
+     * If not record a violation.
+     *
+     * @param value     - value to check
+     * @param valueName - value parameter name which will be printed in the error message
+     * @param <T>       - value type
+     * @return value back to client
+     */
+    @Nullable
+    public <T extends CharSequence> T nonBlank(@Nullable final T value, @Nonnull final String valueName) {
+        return nonBlank(value, Whitespace.TRIM, valueName);
+    }
+
+    /**
+     * Check if value is not null and not blank, contains any character different from whitespace.
+     * Whitespace is defined by the given rule.
+     * If not record a violation.
+     *
+     * @param value      - value to check
+     * @param whitespace - rule which decides what character is a whitespace
+     * @param valueName  - value parameter name which will be printed in the error message
+     * @param <T>        - value type
+     * @return value back to client
+     */
+    @Nullable
+    public <T extends CharSequence> T nonBlank(
+        @Nullable final T value,
+        @Nonnull final Whitespace whitespace,
+        @Nonnull final String valueName
+    ) {
+        if (!isNull(value, valueName) && whitespace.isBlank(value)) {
+            record(Check.NON_BLANK, valueName, null, null);
+        }
+
+        return value;
+    }
+
+    /**
+     * Check if value is not null and not empty, contains any character including whitespaces.
+     * If not record a violation.
+     *
+     * @param value     - value to check
+     * @param valueName - value parameter name which will be printed in the error message
+     * @param <T>       - value type
+     * @return value back to client
+     */
+    @Nullable
+    public <T extends CharSequence> T nonEmpty(@Nullable final T value, @Nonnull final String valueName) {
+        if (!isNull(value, valueName) && value.length() == 0) {
+            record(Check.NON_EMPTY, valueName, null, null);
+        }
+
+        return value;
+    }
+
+    /**
+     * Check if collection is not null and not empty.
+     * If not record a violation.
+     *
+     * @param value     - value to check
+     * @param valueName - value parameter name which will be printed in the error message
+     * @param <T>       - value type
+     * @return value back to client
+     */
+    @Nullable
+    public <T extends Collection<?>> T nonEmpty(@Nullable final T value, @Nonnull final String valueName) {
+        if (!isNull(value, valueName) && value.isEmpty()) {
+            record(Check.NON_EMPTY, valueName, null, null);
+        }
+
+        return value;
+    }
+
+    /**
+     * Check if map is not null and not empty.
+     * If not record a violation.
+     *
+     * @param value     - value to check
+     * @param valueName - value parameter name which will be printed in the error message
+     * @param <T>       - value type
+     * @return value back to client
+     */
+    @Nullable
+    public <T extends Map<?, ?>> T nonEmpty(@Nullable final T value, @Nonnull final String valueName) {
+        if (!isNull(value, valueName) && value.isEmpty()) {
+            record(Check.NON_EMPTY, valueName, null, null);
+        }
+
+        return value;
+    }
+
+    /**
+     * Check if enumeration is not null and not empty.
+     * If not record a violation.
+     *
+     * @param value     - value to check
+     * @param valueName - value parameter name which will be printed in the error message
+     * @param <T>       - value type
+     * @return value back to client
+     */
+    @Nullable
+    public <T extends Enumeration<?>> T nonEmpty(@Nullable final T value, @Nonnull final String valueName) {
+        if (!isNull(value, valueName) && !value.hasMoreElements()) {
+            record(Check.NON_EMPTY, valueName, null, null);
+        }
+
+        return value;
+    }
+
+    /**
+     * Check if objects array is not null and not empty.
+     * If not record a violation.
+     *
+     * @param value     - value to check
+     * @param valueName - value parameter name which will be printed in the error message
+     * @param <T>       - value type
+     * @return value back to client
+     */
+    @Nullable
+    public <T> T[] nonEmpty(@Nullable final T[] value, @Nonnull final String valueName) {
+        if (!isNull(value, valueName) && value.length == 0) {
+            record(Check.NON_EMPTY, valueName, null, null);
+        }
+
+        return value;
+    }
+
+    /**
+     * Check if scalar array is not null and not empty.
+     * If not record a violation.
+     *
+     * @param value     - value to check
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return value back to client
+     */
+    @Nullable
+    public char[] nonEmpty(@Nullable final char[] value, @Nonnull final String valueName) {
+        if (!isNull(value, valueName) && value.length == 0) {
+            record(Check.NON_EMPTY, valueName, null, null);
+        }
+
+        return value;
+    }
+
+    /**
+     * Check if scalar array is not null and not empty.
+     * If not record a violation.
+     *
+     * @param value     - value to check
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return value back to client
+     */
+    @Nullable
+    public byte[] nonEmpty(@Nullable final byte[] value, @Nonnull final String valueName) {
+        if (!isNull(value, valueName) && value.length == 0) {
+            record(Check.NON_EMPTY, valueName, null, null);
+        }
+
+        return value;
+    }
+
+    /**
+     * Check if scalar array is not null and not empty.
+     * If not record a violation.
+     *
+     * @param value     - value to check
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return value back to client
+     */
+    @Nullable
+    public int[] nonEmpty(@Nullable final int[] value, @Nonnull final String valueName) {
+        if (!isNull(value, valueName) && value.length == 0) {
+            record(Check.NON_EMPTY, valueName, null, null);
+        }
+
+        return value;
+    }
+
+    /**
+     * Check if scalar array is not null and not empty.
+     * If not record a violation.
+     *
+     * @param value     - value to check
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return value back to client
+     */
+    @Nullable
+    public long[] nonEmpty(@Nullable final long[] value, @Nonnull final String valueName) {
+        if (!isNull(value, valueName) && value.length == 0) {
+            record(Check.NON_EMPTY, valueName, null, null);
+        }
+
+        return value;
+    }
+
+    /**
+     * Check if scalar array is not null and not empty.
+     * If not record a violation.
+     *
+     * @param value     - value to check
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return value back to client
+     */
+    @Nullable
+    public float[] nonEmpty(@Nullable final float[] value, @Nonnull final String valueName) {
+        if (!isNull(value, valueName) && value.length == 0) {
+            record(Check.NON_EMPTY, valueName, null, null);
+        }
+
+        return value;
+    }
+
+    /**
+     * Check if scalar array is not null and not empty.
+     * If not record a violation.
+     *
+     * @param value     - value to check
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return value back to client
+     */
+    @Nullable
+    public double[] nonEmpty(@Nullable final double[] value, @Nonnull final String valueName) {
+        if (!isNull(value, valueName) && value.length == 0) {
+            record(Check.NON_EMPTY, valueName, null, null);
+        }
+
+        return value;
+    }
+
+    /**
+     * Check if value is not null and has length between minLength and maxLength.
+     * If not record a violation.
+     *
+     * @param value     - value to check
+     * @param minLength - minimal expected value length
+     * @param maxLength - maximal expected value length
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return value back to client
+     */
+    @Nullable
+    public String length(
+        @Nullable final String value,
+        final int minLength,
+        final int maxLength,
+        @Nonnull final String valueName
+    ) {
+        if (!isNull(value, valueName)) {
+            final int valueLength = value.length();
+            if (valueLength < minLength || valueLength > maxLength) {
+                record(Check.LENGTH, valueName, minLength, maxLength);
+            }
+        }
+
+        return value;
+    }
+
+    /**
+     * Check if value is not null and has length between 0 and maxLength.
+     * If not record a violation.
+     *
+     * @param value     - value to check
+     * @param maxLength - maximal expected value length
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return value back to client
+     */
+    @Nullable
+    public String maxLength(
+        @Nullable final String value,
+        final int maxLength,
+        @Nonnull final String valueName
+    ) {
+        return length(value, 0, maxLength, valueName);
+    }
+
+    /**
+     * Check if value is not blank and has length between 1 and maxLength.
+     * If not record a violation, only the first failed requirement is recorded.
+     *
+     * @param value     - value to check
+     * @param maxLength - maximal expected value length
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return value back to client
+     */
+    @Nullable
+    public String nonBlankMaxLength(
+        @Nullable final String value,
+        final int maxLength,
+        @Nonnull final String valueName
+    ) {
+        final int sizeBefore = size;
+        nonBlank(value, valueName);
+        if (size == sizeBefore) {
+            length(value, 1, maxLength, valueName);
+        }
+
+        return value;
+    }
+
+    /**
+     * Check if value is not null and has length more then minLength.
+     * If not record a violation.
+     *
+     * @param value     - value to check
+     * @param minLength - minimal expected value length
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return value back to client
+     */
+    @Nullable
+    public String minLength(
+        @Nullable final String value,
+        final int minLength,
+        @Nonnull final String valueName
+    ) {
+        if (!isNull(value, valueName) && value.length() < minLength) {
+            record(Check.MIN_LENGTH, valueName, minLength, null);
+        }
+
+        return value;
+    }
+
+    /**
+     * Check if value is not null and has match regexp pattern format.
+     * If not record a violation.
+     *
+     * @param value         - value to check
+     * @param formatPattern - regexp format
+     * @param valueName     - value parameter name which will be printed in the error message
+     * @return value back to client
+     */
+    @Nullable
+    public String format(
+        @Nullable final String value,
+        @Nonnull final Pattern formatPattern,
+        @Nonnull final String valueName
+    ) {
+        if (!isNull(value, valueName) && !formatPattern.matcher(value).matches()) {
+            record(Check.FORMAT, valueName, null, null);
+        }
+
+        return value;
+    }
+
+    /**
+     * Check if numeric value is positive.
+     * If not record a violation.
+     *
+     * @param value     - value to check
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return value back to client
+     */
+    public int positive(final int value, @Nonnull final String valueName) {
+        if (value < 0) {
+            record(Check.POSITIVE, valueName, null, null);
+        }
+
+        return value;
+    }
+
+    /**
+     * Check if numeric value is not null and positive.
+     * If not record a violation.
+     *
+     * @param value     - value to check
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return value back to client
+     */
+    @Nullable
+    public Integer positive(@Nullable final Integer value, @Nonnull final String valueName) {
+        if (!isNull(value, valueName)) {
+            positive(value.intValue(), valueName);
+        }
+
+        return value;
+    }
+
+    /**
+     * Check if numeric value is positive.
+     * If not record a violation.
+     *
+     * @param value     - value to check
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return value back to client
+     */
+    public long positive(final long value, @Nonnull final String valueName) {
+        if (value < 0L) {
+            record(Check.POSITIVE, valueName, null, null);
+        }
+
+        return value;
+    }
+
+    /**
+     * Check if numeric value is not null and positive.
+     * If not record a violation.
+     *
+     * @param value     - value to check
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return value back to client
+     */
+    @Nullable
+    public Long positive(@Nullable final Long value, @Nonnull final String valueName) {
+        if (!isNull(value, valueName)) {
+            positive(value.longValue(), valueName);
+        }
+
+        return value;
+    }
+
+    /**
+     * Check if numeric value is positive.
+     * If not record a violation.
+     *
+     * @param value     - value to check
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return value back to client
+     */
+    public float positive(final float value, @Nonnull final String valueName) {
+        if (value < 0.0F) {
+            record(Check.POSITIVE, valueName, null, null);
+        }
+
+        return value;
+    }
+
+    /**
+     * Check if numeric value is not null and positive.
+     * If not record a violation.
+     *
+     * @param value     - value to check
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return value back to client
+     */
+    @Nullable
+    public Float positive(@Nullable final Float value, @Nonnull final String valueName) {
+        if (!isNull(value, valueName)) {
+            positive(value.floatValue(), valueName);
+        }
+
+        return value;
+    }
+
+    /**
+     * Check if numeric value is positive.
+     * If not record a violation.
+     *
+     * @param value     - value to check
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return value back to client
+     */
+    public double positive(final double value, @Nonnull final String valueName) {
+        if (value < 0.0D) {
+            record(Check.POSITIVE, valueName, null, null);
+        }
+
+        return value;
+    }
+
+    /**
+     * Check if numeric value is not null and positive.
+     * If not record a violation.
+     *
+     * @param value     - value to check
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return value back to client
+     */
+    @Nullable
+    public Double positive(@Nullable final Double value, @Nonnull final String valueName) {
+        if (!isNull(value, valueName)) {
+            positive(value.doubleValue(), valueName);
+        }
+
+        return value;
+    }
+
+    /**
+     * Check if numeric value is negative.
+     * If not record a violation.
+     *
+     * @param value     - value to check
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return value back to client
+     */
+    public int negative(final int value, @Nonnull final String valueName) {
+        if (value > 0) {
+            record(Check.NEGATIVE, valueName, null, null);
+        }
+
+        return value;
+    }
+
+    /**
+     * Check if numeric value is not null and negative.
+     * If not record a violation.
+     *
+     * @param value     - value to check
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return value back to client
+     */
+    @Nullable
+    public Integer negative(@Nullable final Integer value, @Nonnull final String valueName) {
+        if (!isNull(value, valueName)) {
+            negative(value.intValue(), valueName);
+        }
+
+        return value;
+    }
+
+    /**
+     * Check if numeric value is negative.
+     * If not record a violation.
+     *
+     * @param value     - value to check
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return value back to client
+     */
+    public long negative(final long value, @Nonnull final String valueName) {
+        if (value > 0L) {
+            record(Check.NEGATIVE, valueName, null, null);
+        }
+
+        return value;
+    }
+
+    /**
+     * Check if numeric value is not null and negative.
+     * If not record a violation.
+     *
+     * @param value     - value to check
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return value back to client
+     */
+    @Nullable
+    public Long negative(@Nullable final Long value, @Nonnull final String valueName) {
+        if (!isNull(value, valueName)) {
+            negative(value.longValue(), valueName);
+        }
+
+        return value;
+    }
+
+    /**
+     * Check if numeric value is negative.
+     * If not record a violation.
+     *
+     * @param value     - value to check
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return value back to client
+     */
+    public float negative(final float value, @Nonnull final String valueName) {
+        if (value > 0.0F) {
+            record(Check.NEGATIVE, valueName, null, null);
+        }
+
+        return value;
+    }
+
+    /**
+     * Check if numeric value is not null and negative.
+     * If not record a violation.
+     *
+     * @param value     - value to check
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return value back to client
+     */
+    @Nullable
+    public Float negative(@Nullable final Float value, @Nonnull final String valueName) {
+        if (!isNull(value, valueName)) {
+            negative(value.floatValue(), valueName);
+        }
+
+        return value;
+    }
+
+    /**
+     * Check if numeric value is negative.
+     * If not record a violation.
+     *
+     * @param value     - value to check
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return value back to client
+     */
+    public double negative(final double value, @Nonnull final String valueName) {
+        if (value > 0.0D) {
+            record(Check.NEGATIVE, valueName, null, null);
+        }
+
+        return value;
+    }
+
+    /**
+     * Check if numeric value is not null and negative.
+     * If not record a violation.
+     *
+     * @param value     - value to check
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return value back to client
+     */
+    @Nullable
+    public Double negative(@Nullable final Double value, @Nonnull final String valueName) {
+        if (!isNull(value, valueName)) {
+            negative(value.doubleValue(), valueName);
+        }
+
+        return value;
+    }
+
+    /**
+     * Check if numeric value grate than 0.
+     * If not record a violation.
+     *
+     * @param value     - value to check
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return value back to client
+     */
+    public int gtThanZero(final int value, @Nonnull final String valueName) {
+        if (value <= 0) {
+            record(Check.GREATER_THAN_ZERO, valueName, null, null);
+        }
+
+        return value;
+    }
+
+    /**
+     * Check if numeric value is not null and grate than 0.
+     * If not record a violation.
+     *
+     * @param value     - value to check
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return value back to client
+     */
+    @Nullable
+    public Integer gtThanZero(@Nullable final Integer value, @Nonnull final String valueName) {
+        if (!isNull(value, valueName)) {
+            gtThanZero(value.intValue(), valueName);
+        }
+
+        return value;
+    }
+
+    /**
+     * Check if numeric value grate than 0.
+     * If not record a violation.
+     *
+     * @param value     - value to check
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return value back to client
+     */
+    public long gtThanZero(final long value, @Nonnull final String valueName) {
+        if (value <= 0L) {
+            record(Check.GREATER_THAN_ZERO, valueName, null, null);
+        }
+
+        return value;
+    }
+
+    /**
+     * Check if numeric value is not null and grate than 0.
+     * If not record a violation.
+     *
+     * @param value     - value to check
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return value back to client
+     */
+    @Nullable
+    public Long gtThanZero(@Nullable final Long value, @Nonnull final String valueName) {
+        if (!isNull(value, valueName)) {
+            gtThanZero(value.longValue(), valueName);
+        }
+
+        return value;
+    }
+
+    /**
+     * Check if numeric value grate than 0.
+     * If not record a violation.
+     *
+     * @param value     - value to check
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return value back to client
+     */
+    public float gtThanZero(final float value, @Nonnull final String valueName) {
+        if (value <= 0.0F) {
+            record(Check.GREATER_THAN_ZERO, valueName, null, null);
+        }
+
+        return value;
+    }
+
+    /**
+     * Check if numeric value is not null and grate than 0.
+     * If not record a violation.
+     *
+     * @param value     - value to check
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return value back to client
+     */
+    @Nullable
+    public Float gtThanZero(@Nullable final Float value, @Nonnull final String valueName) {
+        if (!isNull(value, valueName)) {
+            gtThanZero(value.floatValue(), valueName);
+        }
+
+        return value;
+    }
+
+    /**
+     * Check if numeric value grate than 0.
+     * If not record a violation.
+     *
+     * @param value     - value to check
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return value back to client
+     */
+    public double gtThanZero(final double value, @Nonnull final String valueName) {
+        if (value <= 0.0D) {
+            record(Check.GREATER_THAN_ZERO, valueName, null, null);
+        }
+
+        return value;
+    }
+
+    /**
+     * Check if numeric value is not null and grate than 0.
+     * If not record a violation.
+     *
+     * @param value     - value to check
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return value back to client
+     */
+    @Nullable
+    public Double gtThanZero(@Nullable final Double value, @Nonnull final String valueName) {
+        if (!isNull(value, valueName)) {
+            gtThanZero(value.doubleValue(), valueName);
+        }
+
+        return value;
+    }
+
+    /**
+     * Check if numeric value less than 0.
+     * If not record a violation.
+     *
+     * @param value     - value to check
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return value back to client
+     */
+    public int lsThanZero(final int value, @Nonnull final String valueName) {
+        if (value >= 0) {
+            record(Check.LESS_THAN_ZERO, valueName, null, null);
+        }
+
+        return value;
+    }
+
+    /**
+     * Check if numeric value is not null and less than 0.
+     * If not record a violation.
+     *
+     * @param value     - value to check
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return value back to client
+     */
+    @Nullable
+    public Integer lsThanZero(@Nullable final Integer value, @Nonnull final String valueName) {
+        if (!isNull(value, valueName)) {
+            lsThanZero(value.intValue(), valueName);
+        }
+
+        return value;
+    }
+
+    /**
+     * Check if numeric value less than 0.
+     * If not record a violation.
+     *
+     * @param value     - value to check
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return value back to client
+     */
+    public long lsThanZero(final long value, @Nonnull final String valueName) {
+        if (value >= 0L) {
+            record(Check.LESS_THAN_ZERO, valueName, null, null);
+        }
+
+        return value;
+    }
+
+    /**
+     * Check if numeric value is not null and less than 0.
+     * If not record a violation.
+     *
+     * @param value     - value to check
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return value back to client
+     */
+    @Nullable
+    public Long lsThanZero(@Nullable final Long value, @Nonnull final String valueName) {
+        if (!isNull(value, valueName)) {
+            lsThanZero(value.longValue(), valueName);
+        }
+
+        return value;
+    }
+
+    /**
+     * Check if numeric value less than 0.
+     * If not record a violation.
+     *
+     * @param value     - value to check
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return value back to client
+     */
+    public float lsThanZero(final float value, @Nonnull final String valueName) {
+        if (value >= 0.0F) {
+            record(Check.LESS_THAN_ZERO, valueName, null, null);
+        }
+
+        return value;
+    }
+
+    /**
+     * Check if numeric value is not null and less than 0.
+     * If not record a violation.
+     *
+     * @param value     - value to check
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return value back to client
+     */
+    @Nullable
+    public Float lsThanZero(@Nullable final Float value, @Nonnull final String valueName) {
+        if (!isNull(value, valueName)) {
+            lsThanZero(value.floatValue(), valueName);
+        }
+
+        return value;
+    }
+
+    /**
+     * Check if numeric value less than 0.
+     * If not record a violation.
+     *
+     * @param value     - value to check
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return value back to client
+     */
+    public double lsThanZero(final double value, @Nonnull final String valueName) {
+        if (value >= 0.0D) {
+            record(Check.LESS_THAN_ZERO, valueName, null, null);
+        }
+
+        return value;
+    }
+
+    /**
+     * Check if numeric value is not null and less than 0.
+     * If not record a violation.
+     *
+     * @param value     - value to check
+     * @param valueName - value parameter name which will be printed in the error message
+     * @return value back to client
+     */
+    @Nullable
+    public Double lsThanZero(@Nullable final Double value, @Nonnull final String valueName) {
+        if (!isNull(value, valueName)) {
+            lsThanZero(value.doubleValue(), valueName);
+        }
+
+        return value;
+    }
+
+    private boolean isNull(@Nullable final Object value, @Nonnull final String valueName) {
+        if (value == null) {
+            record(Check.NON_NULL, valueName, null, null);
+            return true;
+        }
+
+        return false;
+    }
+
+    private void record(
+        @Nonnull final Check check,
+        @Nonnull final String valueName,
+        @Nullable final Object first,
+        @Nullable final Object second
+    ) {
+        if (size == checks.length) {
+            final int capacity = size * 2;
+            checks = Arrays.copyOf(checks, capacity);
+            valueNames = Arrays.copyOf(valueNames, capacity);
+            firstArguments = Arrays.copyOf(firstArguments, capacity);
+            secondArguments = Arrays.copyOf(secondArguments, capacity);
+        }
+        checks[size] = check;
+        valueNames[size] = valueName;
+        firstArguments[size] = first;
+        secondArguments[size] = second;
+        size++;
+        RequireListeners.violation(check, valueName, null);
+        JfrSupport.violation(check, valueName, null, first, second);
+    }
+
+    /**
+     * Violation which is only an element of an aggregated exception, it never has its own stack trace.
+     */
+    private static final class RecordedViolation extends RequireViolationException {
+
+        private static final long serialVersionUID = 1L;
+
+        RecordedViolation(
+            @Nonnull final Check check,
+            @Nonnull final String valueName,
+            @Nullable final Object first,
+            @Nullable final Object second
+        ) {
+            // Listeners were notified when the violation was recorded
+            super(check, valueName, null, first, second, false);
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+    }
+}
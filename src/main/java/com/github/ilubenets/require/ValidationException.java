@@ -0,0 +1,69 @@
+package com.github.ilubenets.require;
+
+import java.util.Collections;
+import java.util.List;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Exception thrown by {@link Validation#throwIfInvalid()}, aggregates all violations found in one pass.
+ * It is an {@code IllegalArgumentException}, so existing handlers keep working.
+ *
+ * The message is rendered on the first {@link #getMessage()} call, one violation message per line.
+ * Stack trace capture follows the {@value RequireViolationException#STACK_TRACE_PROPERTY} system property.
+ */
+public class ValidationException extends IllegalArgumentException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final List<RequireViolationException> violations;
+    private String message;
+
+    ValidationException(@Nonnull final List<RequireViolationException> violations) {
+        super((String) null);
+        this.violations = Collections.unmodifiableList(violations);
+    }
+
+    /**
+     * All violations in the order they were found.
+     *
+     * @return unmodifiable list of violations, never empty
+     */
+    @Nonnull
+    public List<RequireViolationException> getViolations() {
+        return violations;
+    }
+
+    @Nonnull
+    @Override
+    public String getMessage() {
+        String rendered = message;
+        if (rendered == null) {
+            final StringBuilder builder = new StringBuilder(64 * (violations.size() + 1));
+            builder.append("Validation failed with ").append(violations.size()).append(" violation(s):");
+            for (final RequireViolationException violation : violations) {
+                builder.append('\n').append(violation.getMessage());
+            }
+            rendered = builder.toString();
+            message = rendered;
+        }
+
+        return rendered;
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        if (RequireViolationException.isStackTraceEnabled()) {
+            return super.fillInStackTrace();
+        }
+
+        return this;
+    }
+
+    @Override
+    public void setStackTrace(@Nonnull final StackTraceElement[] stackTrace) {
+        if (RequireViolationException.isStackTraceEnabled()) {
+            super.setStackTrace(stackTrace);
+        }
+    }
+}
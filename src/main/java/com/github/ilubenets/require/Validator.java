@@ -0,0 +1,413 @@
+package com.github.ilubenets.require;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Validator of objects of one type, built once from field accessors and {@link Rules rules} and reused.
+ * Field names, bounds and rule chains are fixed when the validator is built, so a call passes only the object.
+ * Fields are checked in the order they were added with {@link Require} semantics and messages,
+ * the first failed check throws.
+ * Primitive fields added with {@code intField}, {@code longField} and {@code doubleField} are checked without boxing.
+ * Validators are immutable and thread safe if the accessors and rules are.
+ *
+ * Example:
+ *
+ * {@code
+ *
+ * private static final Validator<Order> VALIDATOR = Validator.of(Order.class)
+ * .field("sku", Order::sku, nonBlank().maxLength(64))
+ * .field("quantity", Order::quantity, gtThanZero())
+ * .build();
+ *
+ * VALIDATOR.validate(order);
+ *
+ * }
+ *
+ * @param <T> - type of validated objects
+ */
+public final class Validator<T> {
+
+    private final String typeName;
+    @Nullable
+    private final FieldCheck<T> first;
+
+    private Validator(@Nonnull final String typeName, @Nullable final FieldCheck<T> first) {
+        this.typeName = typeName;
+        this.first = first;
+    }
+
+    /**
+     * Start building a validator of the given type.
+     *
+     * @param type - type of validated objects, its simple name is used as the value name of a null object
+     * @param <T>  - type of validated objects
+     * @return builder without fields
+     */
+    @Nonnull
+    public static <T> Builder<T> of(@Nonnull final Class<T> type) {
+        return new Builder<>(Require.nonNull(type, "type").getSimpleName());
+    }
+
+    /**
+     * Check if value is not null and all its fields meet their rules.
+     * If not throw an exception of the first failed check.
+     *
+     * @param value - value to check
+     * @return value back to client
+     * @throws IllegalArgumentException if statement false
+     */
+    @Nonnull
+    public T validate(@Nullable final T value) {
+        Require.nonNull(value, typeName);
+
+        if (first != null) {
+            first.check(value);
+        }
+
+        return value;
+    }
+
+    /**
+     * Builder of {@link Validator}, not thread safe.
+     *
+     * @param <T> - type of validated objects
+     */
+    public static final class Builder<T> {
+
+        private final String typeName;
+        private final List<FieldCheck<T>> fields = new ArrayList<>();
+
+        private Builder(@Nonnull final String typeName) {
+            this.typeName = typeName;
+        }
+
+        /**
+         * Add field checked with the rule.
+         *
+         * @param name   - field name which will be printed in the error message
+         * @param getter - field accessor
+         * @param rule   - field rule
+         * @param <V>    - field type
+         * @return this builder
+         */
+        @Nonnull
+        @SuppressWarnings("unchecked")
+        public <V> Builder<T> field(
+            @Nonnull final String name,
+            @Nonnull final Function<? super T, ? extends V> getter,
+            @Nonnull final Rule<? super V> rule
+        ) {
+            final String fieldName = name(name);
+            Require.nonNull(getter, "getter");
+            Require.nonNull(rule, "rule");
+            // The standard rules are final classes, a field of such a rule calls it directly
+            if (rule instanceof StringRule) {
+                fields.add(new StringField<>(fieldName, (Function<? super T, String>) getter, (StringRule) rule, null));
+            } else if (rule instanceof NumberRule) {
+                fields.add(new NumberField<>(fieldName, (Function<? super T, Number>) getter, (NumberRule) rule, null));
+            } else {
+                fields.add(new ObjectField<>(fieldName, getter, rule, null));
+            }
+            return this;
+        }
+
+        /**
+         * Add primitive int field checked with the rule.
+         *
+         * @param name   - field name which will be printed in the error message
+         * @param getter - field accessor
+         * @param rule   - field rule
+         * @return this builder
+         */
+        @Nonnull
+        public Builder<T> intField(
+            @Nonnull final String name,
+            @Nonnull final ToIntFunction<? super T> getter,
+            @Nonnull final NumberRule rule
+        ) {
+            fields.add(
+                new IntField<>(name(name), Require.nonNull(getter, "getter"), Require.nonNull(rule, "rule"), null)
+            );
+            return this;
+        }
+
+        /**
+         * Add primitive long field checked with the rule.
+         *
+         * @param name   - field name which will be printed in the error message
+         * @param getter - field accessor
+         * @param rule   - field rule
+         * @return this builder
+         */
+        @Nonnull
+        public Builder<T> longField(
+            @Nonnull final String name,
+            @Nonnull final ToLongFunction<? super T> getter,
+            @Nonnull final NumberRule rule
+        ) {
+            fields.add(
+                new LongField<>(name(name), Require.nonNull(getter, "getter"), Require.nonNull(rule, "rule"), null)
+            );
+            return this;
+        }
+
+        /**
+         * Add primitive double field checked with the rule.
+         *
+         * @param name   - field name which will be printed in the error message
+         * @param getter - field accessor
+         * @param rule   - field rule
+         * @return this builder
+         */
+        @Nonnull
+        public Builder<T> doubleField(
+            @Nonnull final String name,
+            @Nonnull final ToDoubleFunction<? super T> getter,
+            @Nonnull final NumberRule rule
+        ) {
+            fields.add(
+                new DoubleField<>(name(name), Require.nonNull(getter, "getter"), Require.nonNull(rule, "rule"), null)
+            );
+            return this;
+        }
+
+        /**
+         * Build the validator, the builder can be reused afterwards.
+         *
+         * @return validator with the fields added so far
+         */
+        @Nonnull
+        public Validator<T> build() {
+            FieldCheck<T> next = null;
+            for (int i = fields.size() - 1; i >= 0; i--) {
+                next = fields.get(i).link(next);
+            }
+            return new Validator<>(typeName, next);
+        }
+
+        @Nonnull
+        private static String name(@Nullable final String name) {
+            return Require.nonBlank(name, "name");
+        }
+    }
+
+    /**
+     * One field of the chain, it checks its field and calls the next one.
+     * Every kind of field is a separate final class with typed getter and rule, so each kind has its own call sites
+     * and the call of the next field has its own profile in every kind. While few getter and rule types pass through
+     * these call sites they are inlined into {@link #validate(Object)}. Even inlined, a field loads its getter, rule
+     * and bounds from the chain and guards their types, which hand written {@link Require} calls do not,
+     * so a validator is about twice as slow as them. The call sites are shared by all validators of the JVM,
+     * many validators make them megamorphic and every field then costs a few virtual calls.
+     */
+    private abstract static class FieldCheck<T> {
+
+        final String name;
+        @Nullable
+        final FieldCheck<T> next;
+
+        FieldCheck(@Nonnull final String name, @Nullable final FieldCheck<T> next) {
+            this.name = name;
+            this.next = next;
+        }
+
+        @Nonnull
+        abstract FieldCheck<T> link(@Nullable FieldCheck<T> next);
+
+        abstract void check(@Nonnull T value);
+    }
+
+    private static final class ObjectField<T, V> extends FieldCheck<T> {
+
+        private final Function<? super T, ? extends V> getter;
+        private final Rule<? super V> rule;
+
+        ObjectField(
+            @Nonnull final String name,
+            @Nonnull final Function<? super T, ? extends V> getter,
+            @Nonnull final Rule<? super V> rule,
+            @Nullable final FieldCheck<T> next
+        ) {
+            super(name, next);
+            this.getter = getter;
+            this.rule = rule;
+        }
+
+        @Nonnull
+        @Override
+        FieldCheck<T> link(@Nullable final FieldCheck<T> next) {
+            return new ObjectField<>(name, getter, rule, next);
+        }
+
+        @Override
+        void check(@Nonnull final T value) {
+            rule.check(getter.apply(value), name);
+            if (next != null) {
+                next.check(value);
+            }
+        }
+    }
+
+    private static final class StringField<T> extends FieldCheck<T> {
+
+        private final Function<? super T, String> getter;
+        private final StringRule rule;
+
+        StringField(
+            @Nonnull final String name,
+            @Nonnull final Function<? super T, String> getter,
+            @Nonnull final StringRule rule,
+            @Nullable final FieldCheck<T> next
+        ) {
+            super(name, next);
+            this.getter = getter;
+            this.rule = rule;
+        }
+
+        @Nonnull
+        @Override
+        FieldCheck<T> link(@Nullable final FieldCheck<T> next) {
+            return new StringField<>(name, getter, rule, next);
+        }
+
+        @Override
+        void check(@Nonnull final T value) {
+            rule.check(getter.apply(value), name);
+            if (next != null) {
+                next.check(value);
+            }
+        }
+    }
+
+    private static final class NumberField<T> extends FieldCheck<T> {
+
+        private final Function<? super T, Number> getter;
+        private final NumberRule rule;
+
+        NumberField(
+            @Nonnull final String name,
+            @Nonnull final Function<? super T, Number> getter,
+            @Nonnull final NumberRule rule,
+            @Nullable final FieldCheck<T> next
+        ) {
+            super(name, next);
+            this.getter = getter;
+            this.rule = rule;
+        }
+
+        @Nonnull
+        @Override
+        FieldCheck<T> link(@Nullable final FieldCheck<T> next) {
+            return new NumberField<>(name, getter, rule, next);
+        }
+
+        @Override
+        void check(@Nonnull final T value) {
+            rule.check(getter.apply(value), name);
+            if (next != null) {
+                next.check(value);
+            }
+        }
+    }
+
+    private static final class IntField<T> extends FieldCheck<T> {
+
+        private final ToIntFunction<? super T> getter;
+        private final NumberRule rule;
+
+        IntField(
+            @Nonnull final String name,
+            @Nonnull final ToIntFunction<? super T> getter,
+            @Nonnull final NumberRule rule,
+            @Nullable final FieldCheck<T> next
+        ) {
+            super(name, next);
+            this.getter = getter;
+            this.rule = rule;
+        }
+
+        @Nonnull
+        @Override
+        FieldCheck<T> link(@Nullable final FieldCheck<T> next) {
+            return new IntField<>(name, getter, rule, next);
+        }
+
+        @Override
+        void check(@Nonnull final T value) {
+            rule.checkInt(getter.applyAsInt(value), name);
+            if (next != null) {
+                next.check(value);
+            }
+        }
+    }
+
+    private static final class LongField<T> extends FieldCheck<T> {
+
+        private final ToLongFunction<? super T> getter;
+        private final NumberRule rule;
+
+        LongField(
+            @Nonnull final String name,
+            @Nonnull final ToLongFunction<? super T> getter,
+            @Nonnull final NumberRule rule,
+            @Nullable final FieldCheck<T> next
+        ) {
+            super(name, next);
+            this.getter = getter;
+            this.rule = rule;
+        }
+
+        @Nonnull
+        @Override
+        FieldCheck<T> link(@Nullable final FieldCheck<T> next) {
+            return new LongField<>(name, getter, rule, next);
+        }
+
+        @Override
+        void check(@Nonnull final T value) {
+            rule.checkLong(getter.applyAsLong(value), name);
+            if (next != null) {
+                next.check(value);
+            }
+        }
+    }
+
+    private static final class DoubleField<T> extends FieldCheck<T> {
+
+        private final ToDoubleFunction<? super T> getter;
+        private final NumberRule rule;
+
+        DoubleField(
+            @Nonnull final String name,
+            @Nonnull final ToDoubleFunction<? super T> getter,
+            @Nonnull final NumberRule rule,
+            @Nullable final FieldCheck<T> next
+        ) {
+            super(name, next);
+            this.getter = getter;
+            this.rule = rule;
+        }
+
+        @Nonnull
+        @Override
+        FieldCheck<T> link(@Nullable final FieldCheck<T> next) {
+            return new DoubleField<>(name, getter, rule, next);
+        }
+
+        @Override
+        void check(@Nonnull final T value) {
+            rule.checkDouble(getter.applyAsDouble(value), name);
+            if (next != null) {
+                next.check(value);
+            }
+        }
+    }
+}
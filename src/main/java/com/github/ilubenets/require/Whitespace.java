@@ -0,0 +1,73 @@
+package com.github.ilubenets.require;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Rule which decides what character is a whitespace for the blank checks.
+ *
+ * Blank checks scan the value in place and stop on the first non whitespace character,
+ * so they never allocate a trimmed copy of the value.
+ */
+public enum Whitespace {
+
+    /**
+     * Any character less than or equal to space {@code ' '}, the same rule as {@link String#trim()} uses.
+     */
+    TRIM,
+
+    /**
+     * Any character for which {@link Character#isWhitespace(char)} is true.
+     * ASCII characters are resolved with a bit mask, the others are delegated to {@code Character}.
+     */
+    UNICODE;
+
+    /**
+     * Bits set for {@code \t \n \u000B \f \r}, {@code \u001C-\u001F} and space, the ASCII part of
+     * {@link Character#isWhitespace(char)}. All ASCII whitespace is below 64, so one long is enough.
+     */
+    private static final long ASCII_WHITESPACE_MASK = 0x1_F000_3E00L;
+
+    /**
+     * Check if character is a whitespace according to this rule.
+     *
+     * @param c - character to check
+     * @return true if character is a whitespace
+     */
+    boolean isWhitespace(final char c) {
+        if (this == TRIM) {
+            return c <= ' ';
+        }
+        if (c < 64) {
+            return ((ASCII_WHITESPACE_MASK >>> c) & 1L) != 0L;
+        }
+        return c >= 128 && Character.isWhitespace(c);
+    }
+
+    /**
+     * Check if value contains only whitespace characters according to this rule.
+     * Empty value is blank.
+     *
+     * @param value - value to check
+     * @return true if there is no character different from whitespace
+     */
+    boolean isBlank(@Nonnull final CharSequence value) {
+        final int length = value.length();
+        if (this == TRIM) {
+            for (int i = 0; i < length; i++) {
+                if (value.charAt(i) > ' ') {
+                    return false;
+                }
+            }
+            return true;
+        }
+        if (value instanceof String) {
+            return Platform.isUnicodeBlank((String) value);
+        }
+        for (int i = 0; i < length; i++) {
+            if (!isWhitespace(value.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
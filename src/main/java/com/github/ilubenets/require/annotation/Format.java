@@ -0,0 +1,24 @@
+package com.github.ilubenets.require.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * String field value must not be null and match the regexp format.
+ * Checked by the generated validator with {@link com.github.ilubenets.require.Require#format}.
+ */
+@Documented
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.FIELD)
+public @interface Format {
+
+    /**
+     * Regexp format, compiled once in the generated validator.
+     *
+     * @return regexp
+     */
+    String value();
+}
@@ -0,0 +1,17 @@
+package com.github.ilubenets.require.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Numeric field value must be greater than 0.
+ * Checked by the generated validator with {@link com.github.ilubenets.require.Require#gtThanZero}.
+ */
+@Documented
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.FIELD)
+public @interface GtThanZero {
+}
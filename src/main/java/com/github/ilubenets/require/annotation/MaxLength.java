@@ -0,0 +1,24 @@
+package com.github.ilubenets.require.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * String field value must not be null and have length between 0 and the given maximum.
+ * Checked by the generated validator with {@link com.github.ilubenets.require.Require#maxLength}.
+ */
+@Documented
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.FIELD)
+public @interface MaxLength {
+
+    /**
+     * Maximal expected value length.
+     *
+     * @return max length
+     */
+    int value();
+}
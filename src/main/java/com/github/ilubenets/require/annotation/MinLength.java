@@ -0,0 +1,24 @@
+package com.github.ilubenets.require.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * String field value must not be null and have length of at least the given minimum.
+ * Checked by the generated validator with {@link com.github.ilubenets.require.Require#minLength}.
+ */
+@Documented
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.FIELD)
+public @interface MinLength {
+
+    /**
+     * Minimal expected value length.
+     *
+     * @return min length
+     */
+    int value();
+}
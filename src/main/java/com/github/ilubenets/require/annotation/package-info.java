@@ -0,0 +1,6 @@
+/**
+ * Constraint annotations for the validators generated at compile time by the require-processor module.
+ * Each annotation mirrors a {@link com.github.ilubenets.require.Require} method. Annotations have source retention,
+ * they are not visible at runtime and the generated code calls {@code Require} directly, without reflection.
+ */
+package com.github.ilubenets.require.annotation;
@@ -0,0 +1,88 @@
+package com.github.ilubenets.require;
+
+import java.util.regex.Pattern;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Java Flight Recorder events of the library, the Java 11 version which emits {@link ViolationEvent}
+ * and {@link SlowFormatEvent}. When no recording has the event enabled, an event costs one
+ * {@code isEnabled()} check and its allocation is removed by escape analysis.
+ *
+ * Runtimes linked without the {@code jdk.jfr} module, like jlink images, have no event classes.
+ * The module is looked up once, without it every method does nothing, as on Java 8.
+ */
+final class JfrSupport {
+
+    private static final boolean AVAILABLE = ModuleLayer.boot().findModule("jdk.jfr").isPresent();
+
+    private JfrSupport() {
+        // Utility class
+    }
+
+    /**
+     * Check if this runtime can emit the events.
+     *
+     * @return true if the runtime has the {@code jdk.jfr} module
+     */
+    static boolean isAvailable() {
+        return AVAILABLE;
+    }
+
+    static void violation(
+        @Nonnull final Check check,
+        @Nullable final String valueName,
+        @Nullable final Object index,
+        @Nullable final Object first,
+        @Nullable final Object second
+    ) {
+        if (!AVAILABLE) {
+            return;
+        }
+        final ViolationEvent event = new ViolationEvent();
+        if (event.isEnabled()) {
+            event.check = check.name();
+            event.valueName = valueName;
+            event.index = index == null ? null : String.valueOf(index);
+            event.first = first == null ? null : String.valueOf(first);
+            event.second = second == null ? null : String.valueOf(second);
+            event.commit();
+        }
+    }
+
+    @Nullable
+    static Object beginFormat() {
+        if (!AVAILABLE) {
+            return null;
+        }
+        final SlowFormatEvent event = new SlowFormatEvent();
+        if (!event.isEnabled()) {
+            return null;
+        }
+        event.begin();
+
+        return event;
+    }
+
+    static void endFormat(
+        @Nullable final Object timing,
+        @Nonnull final Pattern pattern,
+        @Nonnull final String valueName,
+        final int valueLength,
+        final boolean matched
+    ) {
+        if (timing == null) {
+            return;
+        }
+        final SlowFormatEvent event = (SlowFormatEvent) timing;
+        event.end();
+        if (event.shouldCommit()) {
+            event.regex = pattern.pattern();
+            event.valueName = valueName;
+            event.valueLength = valueLength;
+            event.matched = matched;
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.github.ilubenets.require;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Hot helpers which have faster JDK counterparts on newer runtimes, the Java 11 version.
+ */
+final class Platform {
+
+    private Platform() {
+        // Utility class
+    }
+
+    /**
+     * Java feature version this class was built for.
+     *
+     * @return 11
+     */
+    static int version() {
+        return 11;
+    }
+
+    /**
+     * Check if value has only {@link Character#isWhitespace(char)} characters, the {@link Whitespace#UNICODE} rule.
+     * {@link String#isBlank()} scans the internal Latin-1 or UTF-16 array without {@code charAt} checks.
+     * It tests code points, but a supplementary or unpaired surrogate code point is never whitespace,
+     * so the result is the same as of the char by char scan.
+     *
+     * @param value - value to check
+     * @return true if value is empty or has only whitespace
+     */
+    static boolean isUnicodeBlank(@Nonnull final String value) {
+        return value.isBlank();
+    }
+}
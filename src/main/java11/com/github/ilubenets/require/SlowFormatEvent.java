@@ -0,0 +1,34 @@
+package com.github.ilubenets.require;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+/**
+ * Regexp format check which took longer than the threshold. It is disabled by default,
+ * enable it in the recording settings, for example {@code com.github.ilubenets.require.SlowFormat#enabled=true}.
+ */
+@Name("com.github.ilubenets.require.SlowFormat")
+@Label("Require Slow Format")
+@Category("Require")
+@Description("A regexp format check took longer than the threshold")
+@Enabled(false)
+@Threshold("10 ms")
+final class SlowFormatEvent extends Event {
+
+    @Label("Regex")
+    String regex;
+
+    @Label("Value Name")
+    String valueName;
+
+    @Label("Value Length")
+    int valueLength;
+
+    @Label("Matched")
+    boolean matched;
+}
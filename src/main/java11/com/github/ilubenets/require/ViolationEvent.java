@@ -0,0 +1,35 @@
+package com.github.ilubenets.require;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Violation of a {@link Require}, {@link Validation} or {@link Validator} check.
+ */
+@Name("com.github.ilubenets.require.Violation")
+@Label("Require Violation")
+@Category("Require")
+@Description("A value did not meet a requirement")
+final class ViolationEvent extends Event {
+
+    @Label("Check")
+    String check;
+
+    @Label("Value Name")
+    String valueName;
+
+    @Label("Index")
+    @Description("Index or key of the failing element, null if the check was applied to the value itself")
+    String index;
+
+    @Label("First Argument")
+    @Description("First check argument, like the minimal length")
+    String first;
+
+    @Label("Second Argument")
+    @Description("Second check argument, like the maximal length")
+    String second;
+}
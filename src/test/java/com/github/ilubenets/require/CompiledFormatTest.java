@@ -0,0 +1,97 @@
+package com.github.ilubenets.require;
+
+import java.util.Random;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+final class CompiledFormatTest {
+
+    private static final String ALPHABET = "aAbBzZ09_- .\t\n\r$^[]\\\u00e9\u0085\u2028\u00a0\ud83d\ude00\ud800";
+
+    @ParameterizedTest
+    @MethodSource("automatonFormats")
+    void matches_sameAsPattern(final String regex) {
+        final CompiledFormat format = CompiledFormat.compile(regex);
+        Assertions.assertTrue(format.isAutomaton(), regex);
+
+        final Pattern pattern = Pattern.compile(regex);
+        final Random random = new Random(regex.hashCode());
+        final StringBuilder value = new StringBuilder();
+        for (int i = 0; i < 3000; i++) {
+            value.setLength(0);
+            final int length = random.nextInt(16);
+            for (int j = 0; j < length; j++) {
+                value.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+            }
+            Assertions.assertEquals(
+                pattern.matcher(value).matches(),
+                format.matches(value),
+                () -> regex + " on [" + value + "]"
+            );
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("patternFormats")
+    void matches_fallback(final String regex) {
+        final CompiledFormat format = CompiledFormat.compile(regex);
+        Assertions.assertFalse(format.isAutomaton(), regex);
+        Assertions.assertEquals(regex, format.pattern().pattern());
+    }
+
+    @Test
+    void matches() {
+        final CompiledFormat code = CompiledFormat.compile("[A-Z0-9]{3,12}");
+        Assertions.assertTrue(code.matches("ABC"));
+        Assertions.assertTrue(code.matches("ABCDEF123456"));
+        Assertions.assertFalse(code.matches("AB"));
+        Assertions.assertFalse(code.matches("ABCDEF1234567"));
+        Assertions.assertFalse(code.matches("abc"));
+
+        final CompiledFormat any = CompiledFormat.compile(".{2}");
+        Assertions.assertTrue(any.matches("\ud83d\ude00\ud83d\ude00"));
+        Assertions.assertFalse(any.matches("\ud83d\ude00"));
+    }
+
+    @Test
+    void format() {
+        final CompiledFormat digits = CompiledFormat.compile("\\d+");
+        Assertions.assertEquals("123", Require.format("123", digits, "code"));
+
+        final RequireViolationException exception = Assertions.assertThrows(
+            RequireViolationException.class,
+            () -> Require.format("12a", digits, "code")
+        );
+        Assertions.assertEquals("The value of [code] has invalid format.", exception.getMessage());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Require.format(null, digits, "code"));
+    }
+
+    @Test
+    void compile_negative() {
+        Assertions.assertThrows(PatternSyntaxException.class, () -> CompiledFormat.compile("[a-"));
+        Assertions.assertThrows(PatternSyntaxException.class, () -> CompiledFormat.compile("a{3,1}"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> CompiledFormat.compile(null));
+    }
+
+    private static Stream<String> automatonFormats() {
+        return Stream.of(
+            "", "a", "\\d+", "[A-Z0-9]{3,12}", "[a-z_]+", "^\\w*$", "\\$", "a\\\\", "a?b?", "a*b*a*",
+            "a+?", "a{0,3}b{2}", "a{2,}", "[^a-z]+", "[-a]+", "[a-]*", "[a-c-e]+", "[\\d\\s]+", "[^\\w]?",
+            "\\W\\S\\D", ".*", "a.b", "[.]", "\\x41\\u00e9+", "[\\]\\[]+", "[\u00e9-\u00fc]*", "\\t\\n\\r\\f\\e\\a?",
+            "z{0}", "[$^]+", "[^^]", "a?a?a?aaa", "\\.{1,62}", "-+_*"
+        );
+    }
+
+    private static Stream<String> patternFormats() {
+        return Stream.of(
+            "(a)", "a|b", "a*+", "\\p{L}", "\\bx", "a{64}", "[a&&b]", "[[a]]", "\\1?", "(?i)a", "a^", "$a",
+            "\ud83d\ude00", "\\Qa\\E", "\\x{41}", "[\\p{L}]"
+        );
+    }
+}
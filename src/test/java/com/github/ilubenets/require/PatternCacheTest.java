@@ -0,0 +1,78 @@
+package com.github.ilubenets.require;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.PatternSyntaxException;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+final class PatternCacheTest {
+
+    @BeforeEach
+    void clear() {
+        PatternCache.clear();
+    }
+
+    @Test
+    void pattern() {
+        Assertions.assertSame(PatternCache.pattern("\\d+"), PatternCache.pattern("\\d+"));
+        Assertions.assertEquals("[a-z]+", PatternCache.pattern("[a-z]+").pattern());
+
+        Assertions.assertEquals(1L, PatternCache.hitCount());
+        Assertions.assertEquals(2L, PatternCache.missCount());
+        Assertions.assertEquals(2, PatternCache.size());
+    }
+
+    @Test
+    void pattern_bounded() {
+        final int capacity = PatternCache.capacity();
+        PatternCache.pattern("hot");
+        for (int i = 0; i < capacity * 3; i++) {
+            PatternCache.pattern("cold-" + i);
+            // a pattern which is used between evictions gets a second chance and stays cached
+            PatternCache.pattern("hot");
+        }
+
+        Assertions.assertEquals(capacity, PatternCache.size());
+        final long misses = PatternCache.missCount();
+        PatternCache.pattern("hot");
+        Assertions.assertEquals(misses, PatternCache.missCount());
+        PatternCache.pattern("cold-0");
+        Assertions.assertEquals(misses + 1L, PatternCache.missCount());
+    }
+
+    @Test
+    void pattern_negative() {
+        Assertions.assertThrows(PatternSyntaxException.class, () -> PatternCache.pattern("[a-"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> PatternCache.pattern(null));
+        Assertions.assertThrows(PatternSyntaxException.class, () -> Require.format("a", "[a-", "value"));
+        Assertions.assertEquals(0, PatternCache.size());
+    }
+
+    @Test
+    void clear_concurrentLookups() throws InterruptedException {
+        final AtomicBoolean running = new AtomicBoolean(true);
+        final Thread lookups = new Thread(() -> {
+            int i = 0;
+            while (running.get()) {
+                PatternCache.pattern("p-" + (i++ & 1023));
+            }
+        });
+        lookups.start();
+        for (int i = 0; i < 100; i++) {
+            PatternCache.clear();
+            Thread.yield();
+        }
+        running.set(false);
+        lookups.join();
+
+        PatternCache.clear();
+        Assertions.assertEquals(0, PatternCache.size());
+        Assertions.assertEquals(0L, PatternCache.hitCount());
+        Assertions.assertEquals(0L, PatternCache.missCount());
+        Assertions.assertNotNull(PatternCache.pattern("p-1"));
+        Assertions.assertEquals(1, PatternCache.size());
+        Assertions.assertEquals(1L, PatternCache.missCount());
+    }
+}
@@ -0,0 +1,35 @@
+package com.github.ilubenets.require;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+final class RequireAllFiniteTest {
+
+    @Test
+    void allFinite() {
+        final float[] floats = {0F, -1F, Float.MAX_VALUE, -Float.MAX_VALUE, Float.MIN_VALUE};
+        final double[] doubles = {0D, -1D, Double.MAX_VALUE, -Double.MAX_VALUE, Double.MIN_VALUE};
+        Assertions.assertSame(floats, Require.allFinite(floats, "floats"));
+        Assertions.assertSame(doubles, Require.allFinite(doubles, "doubles"));
+    }
+
+    @Test
+    void allFinite_negative() {
+        final float[] floats = new float[1024];
+        floats[700] = Float.NEGATIVE_INFINITY;
+        final double[] doubles = new double[1024];
+        doubles[3] = Double.NaN;
+        doubles[800] = Double.POSITIVE_INFINITY;
+
+        final RequireViolationException floatsException = Assertions.assertThrows(
+            RequireViolationException.class,
+            () -> Require.allFinite(floats, "floats")
+        );
+        Assertions.assertEquals(700L, floatsException.getIndex());
+        Assertions.assertEquals("The value of [floats[700]] must be finite.", floatsException.getMessage());
+        Assertions.assertEquals(
+            3L,
+            Assertions.assertThrows(RequireViolationException.class, () -> Require.allFinite(doubles, "doubles")).getIndex()
+        );
+    }
+}
@@ -0,0 +1,31 @@
+package com.github.ilubenets.require;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+final class RequireAllGtThanZeroTest {
+
+    @Test
+    void allGtThanZero() {
+        Assertions.assertEquals(3, Require.allGtThanZero(new int[]{1, 2, Integer.MAX_VALUE}, "ints").length);
+        Assertions.assertEquals(3, Require.allGtThanZero(new long[]{1L, 2L, Long.MAX_VALUE}, "longs").length);
+        Assertions.assertEquals(2, Require.allGtThanZero(new float[]{Float.MIN_VALUE, 1.1F}, "floats").length);
+        Assertions.assertEquals(2, Require.allGtThanZero(new double[]{Double.MIN_VALUE, 1.1D}, "doubles").length);
+    }
+
+    @Test
+    void allGtThanZero_negative() {
+        assertIndex(2, () -> Require.allGtThanZero(new int[]{1, 2, 0}, "ints"));
+        assertIndex(1, () -> Require.allGtThanZero(new int[]{1, Integer.MIN_VALUE}, "ints"));
+        assertIndex(0, () -> Require.allGtThanZero(new long[]{0L, 1L}, "longs"));
+        assertIndex(1, () -> Require.allGtThanZero(new long[]{1L, Long.MIN_VALUE}, "longs"));
+        assertIndex(1, () -> Require.allGtThanZero(new float[]{1F, -0F}, "floats"));
+        assertIndex(2, () -> Require.allGtThanZero(new double[]{1D, 2D, -5D}, "doubles"));
+    }
+
+    private static void assertIndex(final long index, final Runnable check) {
+        final RequireViolationException exception = Assertions.assertThrows(RequireViolationException.class, check::run);
+        Assertions.assertEquals(Check.GREATER_THAN_ZERO, exception.getCheck());
+        Assertions.assertEquals(index, exception.getIndex());
+    }
+}
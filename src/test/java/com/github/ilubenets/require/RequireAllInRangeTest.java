@@ -0,0 +1,38 @@
+package com.github.ilubenets.require;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+final class RequireAllInRangeTest {
+
+    @Test
+    void allInRange() {
+        Assertions.assertEquals(3, Require.allInRange(new int[]{1, 50, 100}, 1, 100, "ints").length);
+        Assertions.assertEquals(3, Require.allInRange(new long[]{-5L, 0L, 5L}, -5L, 5L, "longs").length);
+        Assertions.assertEquals(2, Require.allInRange(new float[]{0F, 1F}, 0F, 1F, "floats").length);
+        Assertions.assertEquals(2, Require.allInRange(new double[]{0.5D, 0.25D}, 0D, 1D, "doubles").length);
+    }
+
+    @Test
+    void allInRange_negative() {
+        final int[] ints = new int[600];
+        ints[599] = 101;
+        final RequireViolationException exception = Assertions.assertThrows(
+            RequireViolationException.class,
+            () -> Require.allInRange(ints, 0, 100, "ints")
+        );
+        Assertions.assertEquals(599L, exception.getIndex());
+        Assertions.assertEquals("The value of [ints[599]] must be between 0 and 100.", exception.getMessage());
+
+        assertIndex(0, () -> Require.allInRange(new int[]{0}, 1, 100, "ints"));
+        assertIndex(1, () -> Require.allInRange(new long[]{1L, Long.MAX_VALUE}, 0L, 10L, "longs"));
+        assertIndex(1, () -> Require.allInRange(new float[]{0.5F, Float.NaN}, 0F, 1F, "floats"));
+        assertIndex(2, () -> Require.allInRange(new double[]{0D, 1D, 1.0001D}, 0D, 1D, "doubles"));
+    }
+
+    private static void assertIndex(final long index, final Runnable check) {
+        final RequireViolationException exception = Assertions.assertThrows(RequireViolationException.class, check::run);
+        Assertions.assertEquals(Check.IN_RANGE, exception.getCheck());
+        Assertions.assertEquals(index, exception.getIndex());
+    }
+}
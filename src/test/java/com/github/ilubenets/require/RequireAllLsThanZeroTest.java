@@ -0,0 +1,29 @@
+package com.github.ilubenets.require;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+final class RequireAllLsThanZeroTest {
+
+    @Test
+    void allLsThanZero() {
+        Assertions.assertEquals(2, Require.allLsThanZero(new int[]{-1, Integer.MIN_VALUE}, "ints").length);
+        Assertions.assertEquals(2, Require.allLsThanZero(new long[]{-1L, Long.MIN_VALUE}, "longs").length);
+        Assertions.assertEquals(2, Require.allLsThanZero(new float[]{-Float.MIN_VALUE, -1.1F}, "floats").length);
+        Assertions.assertEquals(2, Require.allLsThanZero(new double[]{-Double.MIN_VALUE, -1.1D}, "doubles").length);
+    }
+
+    @Test
+    void allLsThanZero_negative() {
+        assertIndex(1, () -> Require.allLsThanZero(new int[]{-1, 0}, "ints"));
+        assertIndex(0, () -> Require.allLsThanZero(new long[]{1L, -1L}, "longs"));
+        assertIndex(1, () -> Require.allLsThanZero(new float[]{-1F, -0F}, "floats"));
+        assertIndex(2, () -> Require.allLsThanZero(new double[]{-1D, -2D, 0D}, "doubles"));
+    }
+
+    private static void assertIndex(final long index, final Runnable check) {
+        final RequireViolationException exception = Assertions.assertThrows(RequireViolationException.class, check::run);
+        Assertions.assertEquals(Check.LESS_THAN_ZERO, exception.getCheck());
+        Assertions.assertEquals(index, exception.getIndex());
+    }
+}
@@ -0,0 +1,30 @@
+package com.github.ilubenets.require;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+final class RequireAllNegativeTest {
+
+    @Test
+    void allNegative() {
+        Assertions.assertEquals(3, Require.allNegative(new int[]{0, -1, Integer.MIN_VALUE}, "ints").length);
+        Assertions.assertEquals(3, Require.allNegative(new long[]{0L, -1L, Long.MIN_VALUE}, "longs").length);
+        Assertions.assertEquals(3, Require.allNegative(new float[]{0F, -0F, -1.1F}, "floats").length);
+        Assertions.assertEquals(3, Require.allNegative(new double[]{0D, -0D, -1.1D}, "doubles").length);
+    }
+
+    @Test
+    void allNegative_negative() {
+        assertIndex(1, () -> Require.allNegative(new int[]{-1, 1}, "ints"));
+        assertIndex(0, () -> Require.allNegative(new int[]{Integer.MAX_VALUE}, "ints"));
+        assertIndex(2, () -> Require.allNegative(new long[]{0L, -1L, 1L}, "longs"));
+        assertIndex(0, () -> Require.allNegative(new float[]{Float.MIN_VALUE}, "floats"));
+        assertIndex(1, () -> Require.allNegative(new double[]{-1D, Double.POSITIVE_INFINITY}, "doubles"));
+    }
+
+    private static void assertIndex(final long index, final Runnable check) {
+        final RequireViolationException exception = Assertions.assertThrows(RequireViolationException.class, check::run);
+        Assertions.assertEquals(Check.NEGATIVE, exception.getCheck());
+        Assertions.assertEquals(index, exception.getIndex());
+    }
+}
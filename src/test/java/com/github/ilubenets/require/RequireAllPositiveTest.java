@@ -0,0 +1,61 @@
+package com.github.ilubenets.require;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+final class RequireAllPositiveTest {
+
+    @Test
+    void allPositive() {
+        final int[] ints = {0, 1, Integer.MAX_VALUE};
+        final long[] longs = {0L, 1L, Long.MAX_VALUE};
+        final float[] floats = {0F, -0F, 1.1F, Float.NaN};
+        final double[] doubles = {0D, -0D, 1.1D, Double.NaN};
+        Assertions.assertSame(ints, Require.allPositive(ints, "ints"));
+        Assertions.assertSame(longs, Require.allPositive(longs, "longs"));
+        Assertions.assertSame(floats, Require.allPositive(floats, "floats"));
+        Assertions.assertSame(doubles, Require.allPositive(doubles, "doubles"));
+        Assertions.assertEquals(0, Require.allPositive(new int[0], "empty").length);
+    }
+
+    @Test
+    void allPositive_negative() {
+        final int[] ints = new int[2000];
+        ints[1500] = -1;
+        ints[1700] = -2;
+        final RequireViolationException exception = Assertions.assertThrows(
+            RequireViolationException.class,
+            () -> Require.allPositive(ints, "ints")
+        );
+        Assertions.assertEquals(1500L, exception.getIndex());
+        Assertions.assertEquals("The value of [ints[1500]] must be positive or 0.", exception.getMessage());
+
+        final long[] longs = new long[2000];
+        longs[999] = Long.MIN_VALUE;
+        Assertions.assertEquals(
+            999L,
+            Assertions.assertThrows(RequireViolationException.class, () -> Require.allPositive(longs, "longs")).getIndex()
+        );
+
+        final float[] floats = new float[700];
+        floats[10] = Float.NaN;
+        floats[600] = -0.1F;
+        Assertions.assertEquals(
+            600L,
+            Assertions.assertThrows(RequireViolationException.class, () -> Require.allPositive(floats, "floats")).getIndex()
+        );
+
+        final double[] doubles = new double[700];
+        Arrays.fill(doubles, 1D);
+        doubles[0] = -1D;
+        Assertions.assertEquals(
+            0L,
+            Assertions.assertThrows(RequireViolationException.class, () -> Require.allPositive(doubles, "doubles")).getIndex()
+        );
+
+        final int[] nullValue = null;
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Require.allPositive(nullValue, "null"));
+    }
+}
@@ -0,0 +1,120 @@
+package com.github.ilubenets.require;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.math.BigDecimal;
+import java.util.stream.Stream;
+
+final class RequireBigDecimalTest {
+
+    @ParameterizedTest
+    @MethodSource("validCases")
+    void bigDecimal(final Executable check) {
+        Assertions.assertDoesNotThrow(check);
+    }
+
+    @ParameterizedTest
+    @MethodSource("invalidCases")
+    void bigDecimal_negative(final Executable check, final Check expected) {
+        final RequireViolationException exception = Assertions.assertThrows(RequireViolationException.class, check);
+        Assertions.assertEquals(expected, exception.getCheck());
+    }
+
+    @Test
+    void bigDecimal_returnsValue() {
+        final BigDecimal amount = new BigDecimal("19.99");
+        Assertions.assertSame(amount, Require.gtThanZero(amount, "amount"));
+        Assertions.assertSame(amount, Require.maxScale(amount, 2, "amount"));
+        Assertions.assertSame(amount, Require.maxIntegerDigits(amount, 2, "amount"));
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "0, 1",
+        "0.00, 0",
+        "0.05, 0",
+        "12.5, 2",
+        "123.00, 3",
+        "-999.999, 3",
+        "1E+3, 4",
+        "12345678901234567890.1, 20"
+    })
+    void maxIntegerDigits_bound(final String value, final int integerDigits) {
+        final BigDecimal decimal = new BigDecimal(value);
+        Assertions.assertSame(decimal, Require.maxIntegerDigits(decimal, integerDigits, "value"));
+        if (decimal.abs().compareTo(BigDecimal.ONE) >= 0) {
+            Assertions.assertThrows(
+                RequireViolationException.class,
+                () -> Require.maxIntegerDigits(decimal, integerDigits - 1, "value")
+            );
+        }
+    }
+
+    @Test
+    void bigDecimal_message() {
+        Assertions.assertEquals(
+            "The scale of [amount] must be at most 2.",
+            Assertions.assertThrows(
+                IllegalArgumentException.class,
+                () -> Require.maxScale(new BigDecimal("1.005"), 2, "amount")
+            ).getMessage()
+        );
+        Assertions.assertEquals(
+            "The integer part of [amount] must have at most 4 digits.",
+            Assertions.assertThrows(
+                IllegalArgumentException.class,
+                () -> Require.maxIntegerDigits(new BigDecimal("10000.00"), 4, "amount")
+            ).getMessage()
+        );
+    }
+
+    private static Stream<Arguments> validCases() {
+        return Stream.of(
+            Arguments.of((Executable) () -> Require.positive(BigDecimal.ZERO, "zero")),
+            Arguments.of((Executable) () -> Require.positive(new BigDecimal("0.01"), "positive")),
+            Arguments.of((Executable) () -> Require.negative(new BigDecimal("-0.00"), "zero")),
+            Arguments.of((Executable) () -> Require.negative(new BigDecimal("-5"), "negative")),
+            Arguments.of((Executable) () -> Require.gtThanZero(new BigDecimal("1E-30"), "tiny")),
+            Arguments.of((Executable) () -> Require.lsThanZero(new BigDecimal("-1E+30"), "huge")),
+            Arguments.of((Executable) () -> Require.inRange(
+                new BigDecimal("100.00"), BigDecimal.ZERO, new BigDecimal("100"), "scale ignored"
+            )),
+            Arguments.of((Executable) () -> Require.maxScale(new BigDecimal("1.50"), 2, "scale")),
+            Arguments.of((Executable) () -> Require.maxScale(new BigDecimal("1E+3"), 0, "negative scale")),
+            Arguments.of((Executable) () -> Require.maxPrecision(new BigDecimal("12345.67"), 7, "precision")),
+            Arguments.of((Executable) () -> Require.maxPrecision(
+                new BigDecimal("1234567890123456789012345678901234567890"), 40, "inflated"
+            )),
+            Arguments.of((Executable) () -> Require.maxIntegerDigits(new BigDecimal("0.123456"), 0, "fraction")),
+            Arguments.of((Executable) () -> Require.maxIntegerDigits(new BigDecimal("0E+3"), 0, "zero")),
+            Arguments.of((Executable) () -> Require.maxIntegerDigits(
+                new BigDecimal("1E+3").subtract(new BigDecimal("1E+3")), 3, "difference"
+            ))
+        );
+    }
+
+    private static Stream<Arguments> invalidCases() {
+        return Stream.of(
+            Arguments.of((Executable) () -> Require.positive((BigDecimal) null, "null"), Check.NON_NULL),
+            Arguments.of((Executable) () -> Require.positive(new BigDecimal("-0.01"), "negative"), Check.POSITIVE),
+            Arguments.of((Executable) () -> Require.negative(new BigDecimal("0.01"), "positive"), Check.NEGATIVE),
+            Arguments.of((Executable) () -> Require.gtThanZero(new BigDecimal("0.00"), "zero"), Check.GREATER_THAN_ZERO),
+            Arguments.of((Executable) () -> Require.lsThanZero(BigDecimal.ZERO, "zero"), Check.LESS_THAN_ZERO),
+            Arguments.of((Executable) () -> Require.inRange(
+                new BigDecimal("100.01"), BigDecimal.ZERO, new BigDecimal("100"), "above"
+            ), Check.IN_RANGE),
+            Arguments.of((Executable) () -> Require.maxScale(new BigDecimal("1.500"), 2, "scale"), Check.MAX_SCALE),
+            Arguments.of((Executable) () -> Require.maxScale((BigDecimal) null, 2, "null"), Check.NON_NULL),
+            Arguments.of((Executable) () -> Require.maxPrecision(new BigDecimal("12345.678"), 7, "precision"),
+                Check.MAX_PRECISION),
+            Arguments.of((Executable) () -> Require.maxIntegerDigits(new BigDecimal("1E+3"), 3, "negative scale"),
+                Check.MAX_INTEGER_DIGITS)
+        );
+    }
+}
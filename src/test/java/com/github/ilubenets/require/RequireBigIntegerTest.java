@@ -0,0 +1,77 @@
+package com.github.ilubenets.require;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.math.BigInteger;
+import java.util.stream.Stream;
+
+final class RequireBigIntegerTest {
+
+    @ParameterizedTest
+    @MethodSource("validCases")
+    void bigInteger(final Executable check) {
+        Assertions.assertDoesNotThrow(check);
+    }
+
+    @ParameterizedTest
+    @MethodSource("invalidCases")
+    void bigInteger_negative(final Executable check, final Check expected) {
+        final RequireViolationException exception = Assertions.assertThrows(RequireViolationException.class, check);
+        Assertions.assertEquals(expected, exception.getCheck());
+    }
+
+    @Test
+    void maxBitLength_long() {
+        Assertions.assertDoesNotThrow(() -> Require.maxBitLength(BigInteger.valueOf(Long.MAX_VALUE), 63, "max"));
+        Assertions.assertDoesNotThrow(() -> Require.maxBitLength(BigInteger.valueOf(Long.MIN_VALUE), 63, "min"));
+        Assertions.assertThrows(
+            RequireViolationException.class,
+            () -> Require.maxBitLength(BigInteger.valueOf(Long.MAX_VALUE).add(BigInteger.ONE), 63, "overflow")
+        );
+        Assertions.assertThrows(
+            RequireViolationException.class,
+            () -> Require.maxBitLength(BigInteger.valueOf(Long.MIN_VALUE).subtract(BigInteger.ONE), 63, "underflow")
+        );
+    }
+
+    @Test
+    void bigInteger_message() {
+        Assertions.assertEquals(
+            "The bit length of [id] must be at most 63.",
+            Assertions.assertThrows(
+                IllegalArgumentException.class,
+                () -> Require.maxBitLength(BigInteger.ONE.shiftLeft(63), 63, "id")
+            ).getMessage()
+        );
+    }
+
+    private static Stream<Arguments> validCases() {
+        return Stream.of(
+            Arguments.of((Executable) () -> Require.positive(BigInteger.ZERO, "zero")),
+            Arguments.of((Executable) () -> Require.positive(BigInteger.TEN.pow(40), "huge")),
+            Arguments.of((Executable) () -> Require.negative(BigInteger.ZERO, "zero")),
+            Arguments.of((Executable) () -> Require.gtThanZero(BigInteger.ONE, "one")),
+            Arguments.of((Executable) () -> Require.lsThanZero(BigInteger.TEN.pow(40).negate(), "huge")),
+            Arguments.of((Executable) () -> Require.maxBitLength(BigInteger.ZERO, 0, "zero")),
+            Arguments.of((Executable) () -> Require.maxBitLength(BigInteger.valueOf(-1L), 0, "minus one"))
+        );
+    }
+
+    private static Stream<Arguments> invalidCases() {
+        return Stream.of(
+            Arguments.of((Executable) () -> Require.positive((BigInteger) null, "null"), Check.NON_NULL),
+            Arguments.of((Executable) () -> Require.positive(BigInteger.ONE.negate(), "negative"), Check.POSITIVE),
+            Arguments.of((Executable) () -> Require.negative(BigInteger.ONE, "positive"), Check.NEGATIVE),
+            Arguments.of((Executable) () -> Require.gtThanZero(BigInteger.ZERO, "zero"), Check.GREATER_THAN_ZERO),
+            Arguments.of((Executable) () -> Require.lsThanZero(BigInteger.ZERO, "zero"), Check.LESS_THAN_ZERO),
+            Arguments.of((Executable) () -> Require.maxBitLength(BigInteger.valueOf(256L), 8, "byte"),
+                Check.MAX_BIT_LENGTH),
+            Arguments.of((Executable) () -> Require.maxBitLength((BigInteger) null, 8, "null"), Check.NON_NULL)
+        );
+    }
+}
@@ -0,0 +1,82 @@
+package com.github.ilubenets.require;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.math.BigInteger;
+import java.util.stream.Stream;
+
+final class RequireBoundTest {
+
+    @ParameterizedTest
+    @MethodSource("validCases")
+    void bound(final Executable check) {
+        Assertions.assertDoesNotThrow(check);
+    }
+
+    @ParameterizedTest
+    @MethodSource("invalidCases")
+    void bound_negative(final Executable check, final Check expected) {
+        final RequireViolationException exception = Assertions.assertThrows(RequireViolationException.class, check);
+        Assertions.assertEquals(expected, exception.getCheck());
+    }
+
+    @Test
+    void bound_message() {
+        Assertions.assertEquals(
+            "The value of [pageSize] must be at most 500.",
+            Assertions.assertThrows(IllegalArgumentException.class, () -> Require.atMost(501, 500, "pageSize"))
+                .getMessage()
+        );
+        Assertions.assertEquals(
+            "The value of [timeout] must be greater than 0.",
+            Assertions.assertThrows(IllegalArgumentException.class, () -> Require.gtThan(0L, 0L, "timeout"))
+                .getMessage()
+        );
+    }
+
+    private static Stream<Arguments> validCases() {
+        return Stream.of(
+            Arguments.of((Executable) () -> Require.atLeast(1, 1, "int")),
+            Arguments.of((Executable) () -> Require.atLeast(1L, 0L, "long")),
+            Arguments.of((Executable) () -> Require.atLeast(1f, 1f, "float")),
+            Arguments.of((Executable) () -> Require.atLeast(Double.POSITIVE_INFINITY, 1.0, "double")),
+            Arguments.of((Executable) () -> Require.atLeast(Integer.valueOf(1), 1, "Integer")),
+            Arguments.of((Executable) () -> Require.atLeast(BigInteger.ONE, BigInteger.ONE, "Comparable")),
+            Arguments.of((Executable) () -> Require.gtThan(2, 1, "int")),
+            Arguments.of((Executable) () -> Require.gtThan(Long.valueOf(2L), 1L, "Long")),
+            Arguments.of((Executable) () -> Require.gtThan(Double.MIN_VALUE, 0.0, "double")),
+            Arguments.of((Executable) () -> Require.gtThan("b", "a", "Comparable")),
+            Arguments.of((Executable) () -> Require.atMost(10, 10, "int")),
+            Arguments.of((Executable) () -> Require.atMost(Float.valueOf(-1f), 0f, "Float")),
+            Arguments.of((Executable) () -> Require.atMost(BigInteger.ZERO, BigInteger.ONE, "Comparable")),
+            Arguments.of((Executable) () -> Require.lsThan(9, 10, "int")),
+            Arguments.of((Executable) () -> Require.lsThan(-0.1, 0.0, "double")),
+            Arguments.of((Executable) () -> Require.lsThan(Double.valueOf(-0.1), 0.0, "Double")),
+            Arguments.of((Executable) () -> Require.lsThan("a", "b", "Comparable"))
+        );
+    }
+
+    private static Stream<Arguments> invalidCases() {
+        return Stream.of(
+            Arguments.of((Executable) () -> Require.atLeast(0, 1, "int"), Check.AT_LEAST),
+            Arguments.of((Executable) () -> Require.atLeast(Float.NaN, 1f, "float NaN"), Check.AT_LEAST),
+            Arguments.of((Executable) () -> Require.atLeast((Long) null, 1L, "Long null"), Check.NON_NULL),
+            Arguments.of((Executable) () -> Require.atLeast(BigInteger.ZERO, BigInteger.ONE, "Comparable"), Check.AT_LEAST),
+            Arguments.of((Executable) () -> Require.gtThan(1, 1, "int"), Check.GREATER_THAN),
+            Arguments.of((Executable) () -> Require.gtThan(-0.0, 0.0, "negative zero"), Check.GREATER_THAN),
+            Arguments.of((Executable) () -> Require.gtThan(Integer.valueOf(1), 1, "Integer"), Check.GREATER_THAN),
+            Arguments.of((Executable) () -> Require.gtThan((String) null, "a", "Comparable null"), Check.NON_NULL),
+            Arguments.of((Executable) () -> Require.atMost(11L, 10L, "long"), Check.AT_MOST),
+            Arguments.of((Executable) () -> Require.atMost(Double.NaN, 1.0, "double NaN"), Check.AT_MOST),
+            Arguments.of((Executable) () -> Require.atMost(Double.valueOf(2.0), 1.0, "Double"), Check.AT_MOST),
+            Arguments.of((Executable) () -> Require.lsThan(10, 10, "int"), Check.LESS_THAN),
+            Arguments.of((Executable) () -> Require.lsThan(Float.valueOf(Float.NaN), 1f, "Float NaN"), Check.LESS_THAN),
+            Arguments.of((Executable) () -> Require.lsThan("b", "b", "Comparable"), Check.LESS_THAN)
+        );
+    }
+}
@@ -0,0 +1,120 @@
+package com.github.ilubenets.require;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+final class RequireByteBufferTest {
+
+    @ParameterizedTest
+    @MethodSource("buffers")
+    void nonEmpty_length(final ByteBuffer buffer) {
+        buffer.put(new byte[]{1, 2, 3, 4, 5}).position(1).limit(4);
+
+        Assertions.assertSame(buffer, Require.nonEmpty(buffer, "body"));
+        Assertions.assertSame(buffer, Require.length(buffer, 3, 3, "body"));
+        Assertions.assertSame(buffer, Require.maxLength(buffer, 3, "body"));
+        Assertions.assertEquals(1, buffer.position());
+        Assertions.assertEquals(4, buffer.limit());
+
+        final RequireViolationException exception = Assertions.assertThrows(
+            RequireViolationException.class,
+            () -> Require.maxLength(buffer, 2, "body")
+        );
+        Assertions.assertEquals("The length of [body] must be between 0-2.", exception.getMessage());
+        Assertions.assertThrows(RequireViolationException.class, () -> Require.length(buffer, 4, 8, "body"));
+
+        buffer.position(4);
+        Assertions.assertThrows(RequireViolationException.class, () -> Require.nonEmpty(buffer, "body"));
+    }
+
+    @Test
+    void charBuffer() {
+        final CharBuffer buffer = CharBuffer.wrap("abcdef", 1, 4);
+        Assertions.assertSame(buffer, Require.nonEmpty(buffer, "text"));
+        Assertions.assertSame(buffer, Require.length(buffer, 1, 3, "text"));
+        Assertions.assertSame(buffer, Require.maxLength(buffer, 3, "text"));
+        Assertions.assertThrows(RequireViolationException.class, () -> Require.maxLength(buffer, 2, "text"));
+        Assertions.assertThrows(RequireViolationException.class, () -> Require.maxLength((CharBuffer) null, 2, "text"));
+    }
+
+    @ParameterizedTest
+    @MethodSource("buffers")
+    void wellFormedUtf8(final ByteBuffer buffer) {
+        final byte[] text = "id=0123456789 \u00e9\u20ac\ud83d\ude00 ok".getBytes(StandardCharsets.UTF_8);
+        buffer.put(text).flip().position(3);
+
+        Assertions.assertSame(buffer, Require.wellFormedUtf8(buffer, "body"));
+        Assertions.assertEquals(3, buffer.position());
+
+        buffer.put(20, (byte) 0xFF);
+        final RequireViolationException exception = Assertions.assertThrows(
+            RequireViolationException.class,
+            () -> Require.wellFormedUtf8(buffer, "body")
+        );
+        // the four byte sequence which starts at 19 is broken, the offset is counted from position 3
+        Assertions.assertEquals(16L, exception.getIndex());
+        Assertions.assertEquals("The value of [body[16]] must be well-formed UTF-8.", exception.getMessage());
+    }
+
+    @Test
+    void wellFormedUtf8_sameAsDecoder() {
+        final Random random = new Random(7);
+        final byte[] interesting = {
+            0x41, 0x7F, (byte) 0x80, (byte) 0xBF, (byte) 0xC0, (byte) 0xC2, (byte) 0xDF, (byte) 0xE0, (byte) 0xA0,
+            (byte) 0xED, (byte) 0x9F, (byte) 0xA0, (byte) 0xEF, (byte) 0xF0, (byte) 0x90, (byte) 0xF4, (byte) 0x8F,
+            (byte) 0xF5, (byte) 0xFF
+        };
+        for (int i = 0; i < 100_000; i++) {
+            final byte[] bytes = new byte[random.nextInt(12)];
+            for (int j = 0; j < bytes.length; j++) {
+                bytes[j] = random.nextBoolean() ? interesting[random.nextInt(interesting.length)] : (byte) random.nextInt();
+            }
+            final ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            Assertions.assertEquals(isWellFormed(bytes), Utf8.malformedOffset(buffer) < 0, () -> toHex(bytes));
+        }
+    }
+
+    private static Stream<ByteBuffer> buffers() {
+        return Stream.of(
+            ByteBuffer.allocate(64),
+            ByteBuffer.allocateDirect(64),
+            slice(ByteBuffer.allocate(80), 16)
+        );
+    }
+
+    private static ByteBuffer slice(final ByteBuffer buffer, final int position) {
+        buffer.position(position);
+        return buffer.slice();
+    }
+
+    private static boolean isWellFormed(final byte[] bytes) {
+        final CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder()
+            .onMalformedInput(CodingErrorAction.REPORT)
+            .onUnmappableCharacter(CodingErrorAction.REPORT);
+        try {
+            decoder.decode(ByteBuffer.wrap(bytes));
+            return true;
+        } catch (final CharacterCodingException e) {
+            return false;
+        }
+    }
+
+    private static String toHex(final byte[] bytes) {
+        final StringBuilder hex = new StringBuilder();
+        for (final byte b : bytes) {
+            hex.append(String.format("%02x ", b));
+        }
+        return hex.toString();
+    }
+}
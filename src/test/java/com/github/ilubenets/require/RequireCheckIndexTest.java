@@ -0,0 +1,55 @@
+package com.github.ilubenets.require;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+final class RequireCheckIndexTest {
+
+    @ParameterizedTest
+    @CsvSource({"0, 1", "9, 10", "0, 2147483647"})
+    void checkIndex(final int index, final int length) {
+        Assertions.assertEquals(index, Require.checkIndex(index, length, "index"));
+    }
+
+    @ParameterizedTest
+    @CsvSource({"-1, 10", "10, 10", "0, 0", "0, -1", "-2147483648, 10"})
+    void checkIndex_negative(final int index, final int length) {
+        final RequireViolationException exception = Assertions.assertThrows(
+            RequireViolationException.class,
+            () -> Require.checkIndex(index, length, "index")
+        );
+        Assertions.assertEquals(Check.INDEX, exception.getCheck());
+    }
+
+    @ParameterizedTest
+    @CsvSource({"0, 0, 0", "0, 10, 10", "3, 3, 10", "2, 5, 10"})
+    void checkFromToIndex(final int fromIndex, final int toIndex, final int length) {
+        Assertions.assertEquals(fromIndex, Require.checkFromToIndex(fromIndex, toIndex, length, "range"));
+    }
+
+    @ParameterizedTest
+    @CsvSource({"-1, 5, 10", "5, 4, 10", "0, 11, 10", "11, 11, 10", "0, 0, -1"})
+    void checkFromToIndex_negative(final int fromIndex, final int toIndex, final int length) {
+        final RequireViolationException exception = Assertions.assertThrows(
+            RequireViolationException.class,
+            () -> Require.checkFromToIndex(fromIndex, toIndex, length, "range")
+        );
+        Assertions.assertEquals(Check.FROM_TO_INDEX, exception.getCheck());
+    }
+
+    @Test
+    void message() {
+        Assertions.assertEquals(
+            "The index [position] must be between 0 and 4 exclusive.",
+            Assertions.assertThrows(IllegalArgumentException.class, () -> Require.checkIndex(4, 4, "position"))
+                .getMessage()
+        );
+        Assertions.assertEquals(
+            "The range [slice] must be within 0 and 4.",
+            Assertions.assertThrows(IllegalArgumentException.class, () -> Require.checkFromToIndex(1, 5, 4, "slice"))
+                .getMessage()
+        );
+    }
+}
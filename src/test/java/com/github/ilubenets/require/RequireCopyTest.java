@@ -0,0 +1,130 @@
+package com.github.ilubenets.require;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+
+final class RequireCopyTest {
+
+    @Test
+    void nonEmptyCopy_list() {
+        final List<String> source = new ArrayList<>(Arrays.asList("a", null, "c"));
+        final List<String> copy = Require.nonEmptyCopy(source, "list");
+
+        Assertions.assertEquals(source, copy);
+        Assertions.assertTrue(copy instanceof RandomAccess);
+        source.set(0, "changed");
+        Assertions.assertEquals("a", copy.get(0));
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> copy.add("d"));
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> copy.set(0, "d"));
+    }
+
+    @Test
+    void nonEmptyCopy_map() {
+        final Map<String, Integer> source = new LinkedHashMap<>();
+        source.put("b", 2);
+        source.put("a", 1);
+        source.put(null, null);
+        final Map<String, Integer> copy = Require.nonEmptyCopy(source, "map");
+
+        Assertions.assertEquals(source, copy);
+        Assertions.assertEquals(Arrays.asList("b", "a", null), new ArrayList<>(copy.keySet()));
+        source.remove("a");
+        Assertions.assertEquals(Integer.valueOf(1), copy.get("a"));
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> copy.put("c", 3));
+    }
+
+    @Test
+    void nonEmptyCopy_checksTheCopy() {
+        // sources which were cleared by another thread after they reported to be not empty
+        final List<String> list = new ArrayList<String>() {
+            @Override
+            public boolean isEmpty() {
+                return false;
+            }
+        };
+        final Map<String, Integer> map = new HashMap<String, Integer>() {
+            @Override
+            public boolean isEmpty() {
+                return false;
+            }
+
+            @Override
+            public int size() {
+                return 1;
+            }
+        };
+
+        assertViolation(Check.NON_EMPTY, null, () -> Require.nonEmptyCopy(list, "value"));
+        assertViolation(Check.NON_EMPTY, null, () -> Require.nonEmptyCopy(map, "value"));
+    }
+
+    @Test
+    void nonNullElementsCopy() {
+        final List<Integer> copy = Require.nonNullElementsCopy(new HashSet<>(Arrays.asList(1, 2, 3)), "set");
+
+        Assertions.assertEquals(3, copy.size());
+        Assertions.assertTrue(copy.containsAll(Arrays.asList(1, 2, 3)));
+        Assertions.assertTrue(Require.nonNullElementsCopy(Collections.emptyList(), "empty").isEmpty());
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> copy.remove(0));
+    }
+
+    @Test
+    void toNonNullList() {
+        final List<Integer> list = IntStream.range(0, 1000).boxed().collect(Require.toNonNullList("ids"));
+        Assertions.assertEquals(IntStream.range(0, 1000).boxed().collect(Collectors.toList()), list);
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> list.add(1));
+
+        final List<Integer> parallel = IntStream.range(0, 100_000).parallel().boxed()
+            .collect(Require.toNonNullList("ids"));
+        Assertions.assertEquals(100_000, parallel.size());
+        Assertions.assertEquals(Integer.valueOf(99_999), parallel.get(99_999));
+    }
+
+    @Test
+    void copy_negative() {
+        assertViolation(Check.NON_NULL, null, () -> Require.nonEmptyCopy((List<?>) null, "value"));
+        assertViolation(Check.NON_EMPTY, null, () -> Require.nonEmptyCopy(new ArrayList<>(), "value"));
+        assertViolation(Check.NON_NULL, null, () -> Require.nonEmptyCopy((Map<?, ?>) null, "value"));
+        assertViolation(Check.NON_EMPTY, null, () -> Require.nonEmptyCopy(new HashMap<>(), "value"));
+        assertViolation(Check.NON_NULL, null, () -> Require.nonNullElementsCopy(null, "value"));
+        assertViolation(Check.NON_NULL, 2L, () -> Require.nonNullElementsCopy(Arrays.asList("a", "b", null), "value"));
+        assertViolation(
+            Check.NON_NULL,
+            null,
+            () -> Require.nonNullElementsCopy(new HashSet<>(Arrays.asList("a", null)), "value")
+        );
+        assertViolation(Check.NON_NULL, null, () -> Stream.of("a", null).collect(Require.toNonNullList("value")));
+    }
+
+    @Test
+    void copy_message() {
+        Assertions.assertEquals(
+            "The value of [tags[1]] must not be null.",
+            Assertions.assertThrows(
+                IllegalArgumentException.class,
+                () -> Require.nonNullElementsCopy(Arrays.asList("a", null), "tags")
+            ).getMessage()
+        );
+    }
+
+    private static void assertViolation(final Check check, final Object index, final Executable executable) {
+        final RequireViolationException exception = Assertions.assertThrows(RequireViolationException.class, executable);
+        Assertions.assertEquals(check, exception.getCheck());
+        Assertions.assertEquals("value", exception.getValueName());
+        Assertions.assertEquals(index, exception.getIndex());
+    }
+}
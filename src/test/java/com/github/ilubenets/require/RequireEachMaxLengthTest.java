@@ -0,0 +1,56 @@
+package com.github.ilubenets.require;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+final class RequireEachMaxLengthTest {
+
+    @Test
+    void eachMaxLength() {
+        final List<String> list = Arrays.asList("", "abc");
+        Assertions.assertSame(list, Require.eachMaxLength(list, 3, "list"));
+        final String[] array = {"ab"};
+        Assertions.assertSame(array, Require.eachMaxLength(array, 2, "array"));
+    }
+
+    @Test
+    void eachMaxLength_negative() {
+        final RequireViolationException exception = Assertions.assertThrows(
+            RequireViolationException.class,
+            () -> Require.eachMaxLength(Arrays.asList("abc", "abcd"), 3, "codes")
+        );
+        Assertions.assertEquals(Check.LENGTH, exception.getCheck());
+        Assertions.assertEquals(1L, exception.getIndex());
+        Assertions.assertEquals("The length of [codes[1]] must be between 0-3.", exception.getMessage());
+
+        final RequireViolationException nullElement = Assertions.assertThrows(
+            RequireViolationException.class,
+            () -> Require.eachMaxLength(new String[]{"a", null}, 3, "codes")
+        );
+        Assertions.assertEquals(Check.NON_NULL, nullElement.getCheck());
+        Assertions.assertEquals("The value of [codes[1]] must not be null.", nullElement.getMessage());
+
+        Assertions.assertThrows(
+            RequireViolationException.class,
+            () -> Require.eachMaxLength((String[]) null, 3, "codes")
+        );
+    }
+
+    @Test
+    void eachMaxLength_parallel() {
+        final List<String> list = new ArrayList<>(Collections.nCopies(300_000, "abc"));
+        Assertions.assertSame(list, Require.eachMaxLength(list, 3, "list"));
+
+        list.set(270_000, "abcd");
+        final RequireViolationException exception = Assertions.assertThrows(
+            RequireViolationException.class,
+            () -> Require.eachMaxLength(list, 3, "list")
+        );
+        Assertions.assertEquals(270_000L, exception.getIndex());
+    }
+}
@@ -0,0 +1,51 @@
+package com.github.ilubenets.require;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+final class RequireEachNonBlankTest {
+
+    @Test
+    void eachNonBlank() {
+        final List<String> list = Arrays.asList("a", " b ");
+        Assertions.assertSame(list, Require.eachNonBlank(list, "list"));
+        final CharSequence[] array = {new StringBuilder("a")};
+        Assertions.assertSame(array, Require.eachNonBlank(array, "array"));
+        Assertions.assertTrue(Require.eachNonBlank(Collections.<String>emptyList(), "list").isEmpty());
+    }
+
+    @Test
+    void eachNonBlank_negative() {
+        assertViolation(Check.NON_NULL, null, () -> Require.eachNonBlank((List<String>) null, "list"));
+        assertViolation(Check.NON_BLANK, 1L, () -> Require.eachNonBlank(Arrays.asList("a", " \t", null), "list"));
+        assertViolation(Check.NON_NULL, 2L, () -> Require.eachNonBlank(Arrays.asList("a", "b", null), "list"));
+        assertViolation(Check.NON_BLANK, 0L, () -> Require.eachNonBlank(new String[]{"", "b"}, "array"));
+
+        final RequireViolationException exception = Assertions.assertThrows(
+            RequireViolationException.class,
+            () -> Require.eachNonBlank(Arrays.asList("a", "  "), "names")
+        );
+        Assertions.assertEquals("The value of [names[1]] must not be blank.", exception.getMessage());
+    }
+
+    @Test
+    void eachNonBlank_parallel() {
+        final List<String> list = new ArrayList<>(Collections.nCopies(300_000, "value"));
+        Assertions.assertSame(list, Require.eachNonBlank(list, "list"));
+
+        list.set(299_999, " ");
+        list.set(200_000, "");
+        assertViolation(Check.NON_BLANK, 200_000L, () -> Require.eachNonBlank(list, "list"));
+    }
+
+    private static void assertViolation(final Check check, final Long index, final Runnable run) {
+        final RequireViolationException exception = Assertions.assertThrows(RequireViolationException.class, run::run);
+        Assertions.assertEquals(check, exception.getCheck());
+        Assertions.assertEquals(index, exception.getIndex());
+    }
+}
@@ -0,0 +1,96 @@
+package com.github.ilubenets.require;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+final class RequireEachNonNullTest {
+
+    private static final int LARGE = 300_000;
+
+    @Test
+    void eachNonNull() {
+        final List<String> list = Arrays.asList("a", "b");
+        Assertions.assertSame(list, Require.eachNonNull(list, "list"));
+        final String[] array = {"a"};
+        Assertions.assertSame(array, Require.eachNonNull(array, "array"));
+        Assertions.assertTrue(Require.eachNonNull(Collections.emptySet(), "set").isEmpty());
+    }
+
+    @Test
+    void eachNonNull_negative() {
+        assertViolation(null, "The value of [list] must not be null.", () -> Require.eachNonNull((List<?>) null, "list"));
+        assertViolation(
+            1L,
+            "The value of [list[1]] must not be null.",
+            () -> Require.eachNonNull(Arrays.asList("a", null), "list")
+        );
+        assertViolation(
+            2L,
+            "The value of [list[2]] must not be null.",
+            () -> Require.eachNonNull(new LinkedList<>(Arrays.asList("a", "b", null)), "list")
+        );
+        assertViolation(
+            0L,
+            "The value of [array[0]] must not be null.",
+            () -> Require.eachNonNull(new String[]{null, "b"}, "array")
+        );
+        assertViolation(
+            null,
+            "The value of [set] must not be null.",
+            () -> Require.eachNonNull(new HashSet<>(Arrays.asList("a", null)), "set")
+        );
+    }
+
+    @Test
+    void eachNonNull_parallel() {
+        final List<Integer> list = new ArrayList<>(LARGE);
+        for (int i = 0; i < LARGE; i++) {
+            list.add(i);
+        }
+        Assertions.assertSame(list, Require.eachNonNull(list, "list"));
+
+        list.set(LARGE - 7, null);
+        list.set(123_456, null);
+        assertViolation(123_456L, null, () -> Require.eachNonNull(list, "list"));
+        assertViolation(123_456L, null, () -> Require.eachNonNull(list.toArray(), "array"));
+
+        final Set<Integer> set = new HashSet<>(list);
+        assertViolation(null, "The value of [set] must not be null.", () -> Require.eachNonNull(set, "set"));
+    }
+
+    @Test
+    void eachNonNull_linearSizeCollection() {
+        final Queue<Integer> queue = new ConcurrentLinkedQueue<Integer>() {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            public int size() {
+                throw new AssertionError("size() walks the whole queue");
+            }
+        };
+        for (int i = 0; i < 1_000; i++) {
+            queue.add(i);
+        }
+
+        Assertions.assertSame(queue, Require.eachNonNull(queue, "queue"));
+    }
+
+    private static void assertViolation(final Long index, final String message, final Runnable check) {
+        final RequireViolationException exception = Assertions.assertThrows(RequireViolationException.class, check::run);
+        Assertions.assertEquals(Check.NON_NULL, exception.getCheck());
+        Assertions.assertEquals(index, exception.getIndex());
+        if (message != null) {
+            Assertions.assertEquals(message, exception.getMessage());
+        }
+    }
+}
@@ -34,6 +34,29 @@ final class RequireFormatTest {
         );
     }
 
+    @ParameterizedTest
+    @MethodSource("validCases")
+    void format_regex(
+        final String value,
+        final Pattern pattern,
+        final String valueName
+    ) {
+        Assertions.assertEquals(value, Require.format(value, pattern.pattern(), valueName));
+    }
+
+    @ParameterizedTest
+    @MethodSource("invalidCases")
+    void format_regex_negative(
+        final String value,
+        final Pattern pattern,
+        final String valueName
+    ) {
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> Require.format(value, pattern.pattern(), valueName)
+        );
+    }
+
     private static Stream<Arguments> validCases() {
         return Stream.of(
             Arguments.of("1234560", Pattern.compile("\\d+"), "only digits"),
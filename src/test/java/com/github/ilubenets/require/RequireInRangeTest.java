@@ -0,0 +1,110 @@
+package com.github.ilubenets.require;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.stream.Stream;
+
+final class RequireInRangeTest {
+
+    @ParameterizedTest
+    @MethodSource("validCases")
+    void inRange(final Executable check) {
+        Assertions.assertDoesNotThrow(check);
+    }
+
+    @ParameterizedTest
+    @MethodSource("invalidCases")
+    void inRange_negative(final Executable check) {
+        Assertions.assertThrows(IllegalArgumentException.class, check);
+    }
+
+    @Test
+    void inRange_returnsValue() {
+        Assertions.assertEquals(8080, Require.inRange(8080, 1, 65535, "port"));
+        Assertions.assertEquals(50L, Require.inRangeExclusive(50L, 0L, 100L, "percent"));
+        final Integer boxed = 128;
+        Assertions.assertSame(boxed, Require.inRange(boxed, 1, 500, "pageSize"));
+        final BigDecimal amount = new BigDecimal("9.99");
+        Assertions.assertSame(amount, Require.inRange(amount, BigDecimal.ZERO, BigDecimal.TEN, "amount"));
+    }
+
+    @Test
+    void inRange_message() {
+        final RequireViolationException exception = Assertions.assertThrows(
+            RequireViolationException.class,
+            () -> Require.inRange(0, 1, 65535, "port")
+        );
+        Assertions.assertEquals(Check.IN_RANGE, exception.getCheck());
+        Assertions.assertArrayEquals(new Object[]{1, 65535}, exception.getArguments());
+        Assertions.assertEquals("The value of [port] must be between 1 and 65535.", exception.getMessage());
+
+        final RequireViolationException exclusive = Assertions.assertThrows(
+            RequireViolationException.class,
+            () -> Require.inRangeExclusive(100.0, 0.0, 100.0, "percent")
+        );
+        Assertions.assertEquals(
+            "The value of [percent] must be greater than 0.0 and less than 100.0.",
+            exclusive.getMessage()
+        );
+
+        final RequireViolationException nullValue = Assertions.assertThrows(
+            RequireViolationException.class,
+            () -> Require.inRange((Integer) null, 1, 10, "pageSize")
+        );
+        Assertions.assertEquals(Check.NON_NULL, nullValue.getCheck());
+    }
+
+    private static Stream<Arguments> validCases() {
+        return Stream.of(
+            Arguments.of((Executable) () -> Require.inRange(1, 1, 10, "int min")),
+            Arguments.of((Executable) () -> Require.inRange(10, 1, 10, "int max")),
+            Arguments.of((Executable) () -> Require.inRange(Long.MAX_VALUE, 0L, Long.MAX_VALUE, "long")),
+            Arguments.of((Executable) () -> Require.inRange(0.5f, 0f, 1f, "float")),
+            Arguments.of((Executable) () -> Require.inRange(-0.0, 0.0, 1.0, "negative zero")),
+            Arguments.of((Executable) () -> Require.inRange(Integer.valueOf(5), 1, 10, "Integer")),
+            Arguments.of((Executable) () -> Require.inRange(Long.valueOf(5L), 1L, 10L, "Long")),
+            Arguments.of((Executable) () -> Require.inRange(Float.valueOf(5f), 1f, 10f, "Float")),
+            Arguments.of((Executable) () -> Require.inRange(Double.valueOf(5.0), 1.0, 10.0, "Double")),
+            Arguments.of((Executable) () -> Require.inRange("b", "a", "c", "Comparable")),
+            Arguments.of((Executable) () -> Require.inRange(
+                LocalDate.of(2020, 2, 29), LocalDate.of(2020, 1, 1), LocalDate.of(2020, 12, 31), "date"
+            )),
+            Arguments.of((Executable) () -> Require.inRangeExclusive(2, 1, 3, "int")),
+            Arguments.of((Executable) () -> Require.inRangeExclusive(2L, 1L, 3L, "long")),
+            Arguments.of((Executable) () -> Require.inRangeExclusive(0.1f, 0f, 1f, "float")),
+            Arguments.of((Executable) () -> Require.inRangeExclusive(0.1, 0.0, 1.0, "double")),
+            Arguments.of((Executable) () -> Require.inRangeExclusive(Integer.valueOf(2), 1, 3, "Integer")),
+            Arguments.of((Executable) () -> Require.inRangeExclusive("b", "a", "c", "Comparable"))
+        );
+    }
+
+    private static Stream<Arguments> invalidCases() {
+        return Stream.of(
+            Arguments.of((Executable) () -> Require.inRange(0, 1, 10, "int below")),
+            Arguments.of((Executable) () -> Require.inRange(11, 1, 10, "int above")),
+            Arguments.of((Executable) () -> Require.inRange(Long.MIN_VALUE, 0L, 10L, "long")),
+            Arguments.of((Executable) () -> Require.inRange(Float.NaN, 0f, 1f, "float NaN")),
+            Arguments.of((Executable) () -> Require.inRange(Double.NaN, 0.0, 1.0, "double NaN")),
+            Arguments.of((Executable) () -> Require.inRange(Double.POSITIVE_INFINITY, 0.0, 1.0, "infinity")),
+            Arguments.of((Executable) () -> Require.inRange((Integer) null, 1, 10, "Integer null")),
+            Arguments.of((Executable) () -> Require.inRange(Long.valueOf(11L), 1L, 10L, "Long")),
+            Arguments.of((Executable) () -> Require.inRange(Float.valueOf(Float.NaN), 1f, 10f, "Float NaN")),
+            Arguments.of((Executable) () -> Require.inRange((Double) null, 1.0, 10.0, "Double null")),
+            Arguments.of((Executable) () -> Require.inRange("d", "a", "c", "Comparable")),
+            Arguments.of((Executable) () -> Require.inRange((String) null, "a", "c", "Comparable null")),
+            Arguments.of((Executable) () -> Require.inRangeExclusive(1, 1, 3, "int min")),
+            Arguments.of((Executable) () -> Require.inRangeExclusive(3L, 1L, 3L, "long max")),
+            Arguments.of((Executable) () -> Require.inRangeExclusive(0f, 0f, 1f, "float min")),
+            Arguments.of((Executable) () -> Require.inRangeExclusive(Double.NaN, 0.0, 1.0, "double NaN")),
+            Arguments.of((Executable) () -> Require.inRangeExclusive(Integer.valueOf(3), 1, 3, "Integer")),
+            Arguments.of((Executable) () -> Require.inRangeExclusive("a", "a", "c", "Comparable"))
+        );
+    }
+}
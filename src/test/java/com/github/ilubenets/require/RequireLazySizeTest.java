@@ -0,0 +1,178 @@
+package com.github.ilubenets.require;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+
+final class RequireLazySizeTest {
+
+    @Test
+    void nonEmpty_iterable() {
+        final Iterable<String> names = Arrays.asList("a", "b");
+        final AtomicInteger opened = new AtomicInteger();
+        final Iterable<String> lazy = () -> {
+            opened.incrementAndGet();
+            return names.iterator();
+        };
+
+        Assertions.assertSame(names, Require.nonEmpty(names, "names"));
+        Assertions.assertSame(lazy, Require.nonEmpty(lazy, "names"));
+        Assertions.assertEquals(1, opened.get());
+        assertViolation(Check.NON_EMPTY, () -> Require.nonEmpty((Iterable<?>) Collections.emptyList(), "names"));
+        assertViolation(Check.NON_EMPTY, () -> Require.nonEmpty((Iterable<String>) Collections::emptyIterator, "names"));
+    }
+
+    @Test
+    void nonEmpty_iterator() {
+        final Iterator<String> iterator = Arrays.asList("a", "b").iterator();
+
+        Assertions.assertSame(iterator, Require.nonEmpty(iterator, "names"));
+        Assertions.assertEquals("a", iterator.next());
+        assertViolation(Check.NON_EMPTY, () -> Require.nonEmpty(Collections.emptyIterator(), "names"));
+    }
+
+    @Test
+    void nonEmpty_stream() {
+        Assertions.assertEquals(
+            Arrays.asList("a", "b", "c"),
+            Require.nonEmpty(Stream.of("a", "b", "c"), "names").collect(Collectors.toList())
+        );
+        Assertions.assertEquals(
+            Arrays.asList("b", "c"),
+            Require.nonEmpty(Stream.of("a", "b", "c").filter(name -> !"a".equals(name)), "names")
+                .collect(Collectors.toList())
+        );
+        Assertions.assertEquals(
+            Arrays.asList(null, "b"),
+            Require.nonEmpty(Stream.of(null, "b").filter(name -> true), "names").collect(Collectors.toList())
+        );
+        assertViolation(Check.NON_EMPTY, () -> Require.nonEmpty(Stream.empty(), "names"));
+        assertViolation(Check.NON_EMPTY, () -> Require.nonEmpty(Stream.of("a").filter(name -> false), "names"));
+    }
+
+    @Test
+    void nonEmpty_streamReadsOnce() {
+        final List<String> read = new ArrayList<>();
+        final Iterator<String> source = Arrays.asList("a", "b").iterator();
+        final Iterator<String> recording = new Iterator<String>() {
+            @Override
+            public boolean hasNext() {
+                return source.hasNext();
+            }
+
+            @Override
+            public String next() {
+                final String name = source.next();
+                read.add(name);
+                return name;
+            }
+        };
+        final Stream<String> stream = StreamSupport.stream(Spliterators.spliteratorUnknownSize(recording, 0), false);
+
+        final Stream<String> checked = Require.nonEmpty(stream, "names");
+        Assertions.assertEquals(Collections.singletonList("a"), read);
+        Assertions.assertEquals(Arrays.asList("a", "b"), checked.collect(Collectors.toList()));
+        Assertions.assertEquals(Arrays.asList("a", "b"), read);
+    }
+
+    @Test
+    void nonEmpty_streamParallel() {
+        final List<Integer> expected = IntStream.range(0, 10_000).boxed().collect(Collectors.toList());
+        final Stream<Integer> stream = expected.stream().filter(value -> true).parallel();
+
+        Assertions.assertEquals(expected, Require.nonEmpty(stream, "values").collect(Collectors.toList()));
+    }
+
+    @Test
+    void nonEmpty_streamClose() {
+        final AtomicBoolean closed = new AtomicBoolean();
+        Require.nonEmpty(Stream.of("a").filter(name -> true).onClose(() -> closed.set(true)), "names").close();
+
+        Assertions.assertTrue(closed.get());
+    }
+
+    @Test
+    void maxSize_iterator() {
+        final Iterator<String> iterator = Require.maxSize(Arrays.asList("a", "b", "c").iterator(), 2L, "names");
+
+        Assertions.assertEquals("a", iterator.next());
+        Assertions.assertEquals("b", iterator.next());
+        Assertions.assertTrue(iterator.hasNext());
+        final RequireViolationException exception = assertViolation(Check.SIZE, iterator::next);
+        Assertions.assertEquals("The size of [names] must be between 0-2.", exception.getMessage());
+    }
+
+    @Test
+    void maxSize_stream() {
+        Assertions.assertEquals(
+            Arrays.asList("a", "b"),
+            Require.maxSize(Stream.of("a", "b"), 2L, "names").collect(Collectors.toList())
+        );
+        // known size is checked before the stream is read
+        assertViolation(Check.SIZE, () -> Require.maxSize(Stream.of("a", "b", "c"), 2L, "names"));
+
+        final AtomicInteger read = new AtomicInteger();
+        final Stream<Integer> unsized = Stream.iterate(0, value -> value + 1).peek(value -> read.incrementAndGet());
+        final Stream<Integer> checked = Require.maxSize(unsized, 5L, "values");
+        assertViolation(Check.SIZE, checked::count);
+        Assertions.assertEquals(6, read.get());
+
+        Assertions.assertEquals(
+            3L,
+            Require.maxSize(Stream.of("a", "b", "c", "d").filter(name -> !"d".equals(name)), 3L, "names").count()
+        );
+    }
+
+    @Test
+    void maxSize_streamParallel() {
+        final List<Integer> values = IntStream.range(0, 10_000).boxed().collect(Collectors.toList());
+
+        Assertions.assertEquals(
+            values,
+            Require.maxSize(values.stream().filter(value -> true).parallel(), 10_000L, "values")
+                .collect(Collectors.toList())
+        );
+        assertViolation(
+            Check.SIZE,
+            () -> Require.maxSize(values.stream().filter(value -> true).parallel(), 9_999L, "values").toArray()
+        );
+    }
+
+    @Test
+    void maxSize_streamKeepsCharacteristics() {
+        final Spliterator<Integer> spliterator =
+            Require.maxSize(Stream.of(3, 1, 2).sorted().filter(value -> true), 3L, "values").spliterator();
+
+        Assertions.assertTrue(spliterator.hasCharacteristics(Spliterator.ORDERED));
+    }
+
+    @Test
+    void nulls() {
+        assertViolation(Check.NON_NULL, () -> Require.nonEmpty((Iterable<?>) null, "values"));
+        assertViolation(Check.NON_NULL, () -> Require.nonEmpty((Iterator<?>) null, "values"));
+        assertViolation(Check.NON_NULL, () -> Require.nonEmpty((Stream<?>) null, "values"));
+        assertViolation(Check.NON_NULL, () -> Require.maxSize((Iterator<?>) null, 1L, "values"));
+        assertViolation(Check.NON_NULL, () -> Require.maxSize((Stream<?>) null, 1L, "values"));
+        assertViolation(Check.POSITIVE, () -> Require.maxSize(Stream.of("a"), -1L, "names"));
+    }
+
+    private static RequireViolationException assertViolation(final Check check, final Executable executable) {
+        final RequireViolationException exception = Assertions.assertThrows(RequireViolationException.class, executable);
+        Assertions.assertEquals(check, exception.getCheck());
+        return exception;
+    }
+}
@@ -0,0 +1,176 @@
+package com.github.ilubenets.require;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+
+final class RequireLazyTest {
+
+    @Test
+    void eachNonNull_iterator() {
+        final Iterator<String> iterator = Require.eachNonNull(Arrays.asList("a", "b", null).iterator(), "names");
+
+        Assertions.assertEquals("a", iterator.next());
+        Assertions.assertEquals("b", iterator.next());
+        Assertions.assertTrue(iterator.hasNext());
+        assertViolation(Check.NON_NULL, 2L, iterator::next);
+    }
+
+    @Test
+    void eachNonNull_iteratorRemove() {
+        final List<String> names = new ArrayList<>(Arrays.asList("a", "b"));
+        final Iterator<String> iterator = Require.eachNonNull(names.iterator(), "names");
+        iterator.next();
+        iterator.remove();
+
+        Assertions.assertEquals(Collections.singletonList("b"), names);
+    }
+
+    @Test
+    void eachNonNull_stream() {
+        Assertions.assertEquals(
+            Arrays.asList("a", "b"),
+            Require.eachNonNull(Stream.of("a", "b"), "names").collect(Collectors.toList())
+        );
+        assertViolation(
+            Check.NON_NULL,
+            1L,
+            () -> Require.eachNonNull(Stream.of("a", null, "c"), "names").forEach(name -> { })
+        );
+        // elements after a short circuit are not consumed, so they are not checked
+        Assertions.assertEquals("a", Require.eachNonNull(Stream.of("a", null), "names").findFirst().orElse(null));
+    }
+
+    @Test
+    void validating() {
+        Assertions.assertEquals(
+            Arrays.asList("a", "b"),
+            Require.validating(Stream.of("a", "b"), Require::nonBlank, "names").collect(Collectors.toList())
+        );
+        final RequireViolationException exception = assertViolation(
+            Check.LENGTH,
+            2L,
+            () -> Require.validating(Stream.of("a", "b", "ccc"), Rules.maxLength(2), "names").toArray()
+        );
+        Assertions.assertEquals("The length of [names[2]] must be between 0-2.", exception.getMessage());
+        assertViolation(
+            Check.NON_BLANK,
+            1L,
+            () -> Require.validating(Arrays.asList("a", " ").iterator(), Require::nonBlank, "names").forEachRemaining(n -> { })
+        );
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> Require.validating(Stream.of("a"), null, "names")
+        );
+    }
+
+    @Test
+    void validating_spliterator() {
+        final Spliterator<String> source = Arrays.asList("a", "b", "c", "d").spliterator();
+        final Spliterator<String> spliterator = Require.validating(source, Require::nonBlank, "names");
+
+        Assertions.assertEquals(source.characteristics(), spliterator.characteristics());
+        Assertions.assertEquals(4L, spliterator.getExactSizeIfKnown());
+        final Spliterator<String> prefix = spliterator.trySplit();
+        Assertions.assertNotNull(prefix);
+        Assertions.assertEquals(4L, prefix.estimateSize() + spliterator.estimateSize());
+    }
+
+    @Test
+    void allPositive_streams() {
+        Assertions.assertEquals(6, Require.allPositive(IntStream.of(0, 1, 5), "ids").sum());
+        Assertions.assertEquals(6L, Require.allPositive(LongStream.of(0L, 1L, 5L), "ids").sum());
+        Assertions.assertEquals(1.5, Require.allPositive(DoubleStream.of(0.0, 1.5, Double.NaN), "ids").limit(2).sum());
+
+        assertViolation(Check.POSITIVE, 3L, () -> Require.allPositive(IntStream.of(0, 1, 2, -1), "ids").sum());
+        assertViolation(Check.POSITIVE, 0L, () -> Require.allPositive(LongStream.of(-1L), "ids").sum());
+        assertViolation(Check.POSITIVE, 1L, () -> Require.allPositive(DoubleStream.of(1.0, -0.5), "ids").sum());
+    }
+
+    @Test
+    void allInRange_streams() {
+        Assertions.assertEquals(3L, Require.allInRange(IntStream.rangeClosed(1, 3), 1, 3, "ids").count());
+        Assertions.assertEquals(3L, Require.allInRange(LongStream.rangeClosed(1L, 3L), 1L, 3L, "ids").count());
+
+        final RequireViolationException exception = assertViolation(
+            Check.IN_RANGE,
+            4L,
+            () -> Require.allInRange(IntStream.range(0, 10), 0, 3, "ids").toArray()
+        );
+        Assertions.assertEquals("The value of [ids[4]] must be between 0 and 3.", exception.getMessage());
+        assertViolation(Check.IN_RANGE, 1L, () -> Require.allInRange(LongStream.of(2L, 7L), 1L, 3L, "ids").sum());
+        assertViolation(Check.IN_RANGE, 0L, () -> Require.allInRange(DoubleStream.of(Double.NaN), 0.0, 1.0, "ids").sum());
+        assertViolation(Check.FINITE, 2L, () -> Require.allFinite(DoubleStream.of(1.0, 2.0, Double.NaN), "ids").sum());
+        Assertions.assertEquals(3.0, Require.allFinite(DoubleStream.of(1.0, 2.0), "ids").sum());
+    }
+
+    @Test
+    void parallel() {
+        final int size = 1 << 20;
+        final IntStream valid = Require.allInRange(IntStream.range(0, size).parallel(), 0, size, "ids");
+        Assertions.assertTrue(valid.isParallel());
+        Assertions.assertEquals((long) size * (size - 1) / 2, valid.asLongStream().sum());
+
+        // the failing index is exact in parallel streams over sized sources
+        final int[] values = new int[size];
+        values[size - 3] = -1;
+        assertViolation(Check.POSITIVE, (long) (size - 3), () -> Require.allPositive(Arrays.stream(values).parallel(), "ids").sum());
+
+        final List<String> names = new ArrayList<>(Collections.nCopies(size, "a"));
+        names.set(12_345, null);
+        assertViolation(
+            Check.NON_NULL,
+            12_345L,
+            () -> Require.eachNonNull(names.parallelStream(), "names").collect(Collectors.toList())
+        );
+    }
+
+    @Test
+    void unsized_noIndex() {
+        assertViolation(
+            Check.NON_NULL,
+            null,
+            () -> Require.eachNonNull(Stream.iterate("a", s -> s.length() > 2 ? null : s + "a"), "names").limit(5).count()
+        );
+    }
+
+    @Test
+    void close() {
+        final AtomicBoolean closed = new AtomicBoolean();
+        Require.allPositive(IntStream.of(1).onClose(() -> closed.set(true)), "ids").close();
+
+        Assertions.assertTrue(closed.get());
+    }
+
+    @Test
+    void null_negative() {
+        assertViolation(Check.NON_NULL, null, () -> Require.eachNonNull((Iterator<?>) null, "values"));
+        assertViolation(Check.NON_NULL, null, () -> Require.eachNonNull((Stream<?>) null, "values"));
+        assertViolation(Check.NON_NULL, null, () -> Require.allPositive((IntStream) null, "values"));
+        assertViolation(Check.NON_NULL, null, () -> Require.allFinite((DoubleStream) null, "values"));
+    }
+
+    private static RequireViolationException assertViolation(
+        final Check check,
+        final Object index,
+        final Executable executable
+    ) {
+        final RequireViolationException exception = Assertions.assertThrows(RequireViolationException.class, executable);
+        Assertions.assertEquals(check, exception.getCheck());
+        Assertions.assertEquals(index, exception.getIndex());
+        return exception;
+    }
+}
@@ -0,0 +1,120 @@
+package com.github.ilubenets.require;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.StringReader;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+final class RequireMaxLengthStreamTest {
+
+    @Test
+    void maxLength_inputStream() throws IOException {
+        final InputStream stream = Require.maxLength(new ByteArrayInputStream(new byte[10]), 10L, "body");
+        final byte[] buffer = new byte[64];
+        Assertions.assertEquals(10, stream.read(buffer, 0, buffer.length));
+        Assertions.assertEquals(-1, stream.read(buffer, 0, buffer.length));
+        Assertions.assertEquals(-1, stream.read());
+        Assertions.assertFalse(stream.markSupported());
+    }
+
+    @Test
+    void maxLength_inputStream_negative() throws IOException {
+        final CountingInputStream source = new CountingInputStream(new byte[1000]);
+        final InputStream stream = Require.maxLength(source, 10L, "body");
+        final byte[] buffer = new byte[64];
+
+        final RequireViolationException exception = Assertions.assertThrows(
+            RequireViolationException.class,
+            () -> stream.read(buffer, 0, buffer.length)
+        );
+        Assertions.assertEquals("The length of [body] must be between 0-10.", exception.getMessage());
+        // the bulk read was capped one byte after the limit
+        Assertions.assertEquals(11, source.read);
+
+        final InputStream single = Require.maxLength(new ByteArrayInputStream(new byte[2]), 1L, "body");
+        Assertions.assertEquals(0, single.read());
+        Assertions.assertThrows(RequireViolationException.class, single::read);
+
+        final InputStream skipped = Require.maxLength(new ByteArrayInputStream(new byte[20]), 5L, "body");
+        Assertions.assertEquals(5L, skipped.skip(5L));
+        Assertions.assertThrows(RequireViolationException.class, () -> skipped.skip(1L));
+
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> Require.maxLength((InputStream) null, 10L, "body")
+        );
+    }
+
+    @Test
+    void maxLength_reader() throws IOException {
+        final Reader reader = Require.maxLength(new StringReader("abc"), 3L, "text");
+        final char[] buffer = new char[8];
+        Assertions.assertEquals(3, reader.read(buffer, 0, buffer.length));
+        Assertions.assertEquals(-1, reader.read(buffer));
+        Assertions.assertFalse(reader.markSupported());
+    }
+
+    @Test
+    void maxLength_reader_negative() {
+        final Reader reader = Require.maxLength(new StringReader("abcd"), 3L, "text");
+        final char[] buffer = new char[8];
+
+        final RequireViolationException exception = Assertions.assertThrows(
+            RequireViolationException.class,
+            () -> reader.read(buffer)
+        );
+        Assertions.assertEquals("The length of [text] must be between 0-3.", exception.getMessage());
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> Require.maxLength(new StringReader(""), -1L, "text")
+        );
+    }
+
+    @Test
+    void maxLength_unlimited() throws IOException {
+        final InputStream stream = Require.maxLength(new ByteArrayInputStream(new byte[10]), Long.MAX_VALUE, "body");
+        final byte[] bytes = new byte[64];
+        Assertions.assertEquals(10, stream.read(bytes));
+        Assertions.assertEquals(-1, stream.read(bytes));
+
+        final Reader reader = Require.maxLength(new StringReader("abc"), Long.MAX_VALUE, "text");
+        final char[] chars = new char[8];
+        Assertions.assertEquals(3, reader.read(chars));
+        Assertions.assertEquals(-1, reader.read(chars));
+    }
+
+    @Test
+    void maxLength_skip() throws IOException {
+        final InputStream unlimited = Require.maxLength(new ByteArrayInputStream(new byte[20]), Long.MAX_VALUE, "body");
+        Assertions.assertEquals(20L, unlimited.skip(Long.MAX_VALUE));
+        Assertions.assertEquals(-1, unlimited.read());
+
+        final Reader unlimitedReader = Require.maxLength(new StringReader("abcdef"), Long.MAX_VALUE, "text");
+        Assertions.assertEquals(6L, unlimitedReader.skip(Long.MAX_VALUE));
+        Assertions.assertEquals(-1, unlimitedReader.read());
+
+        final Reader reader = Require.maxLength(new StringReader("abcdef"), 3L, "text");
+        Assertions.assertEquals(3L, reader.skip(3L));
+        Assertions.assertThrows(RequireViolationException.class, () -> reader.skip(1L));
+    }
+
+    private static final class CountingInputStream extends ByteArrayInputStream {
+
+        private int read;
+
+        CountingInputStream(final byte[] bytes) {
+            super(bytes);
+        }
+
+        @Override
+        public synchronized int read(final byte[] buffer, final int offset, final int length) {
+            final int n = super.read(buffer, offset, length);
+            read += Math.max(n, 0);
+            return n;
+        }
+    }
+}
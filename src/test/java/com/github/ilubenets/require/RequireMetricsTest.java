@@ -0,0 +1,130 @@
+package com.github.ilubenets.require;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+final class RequireMetricsTest {
+
+    private final RequireMetrics metrics = new RequireMetrics();
+    private final List<Object> indexes = new ArrayList<>();
+    private final RequireListener indexListener = (check, valueName, index) -> indexes.add(index);
+
+    @AfterEach
+    void uninstall() {
+        metrics.uninstall();
+        RequireListeners.remove(indexListener);
+    }
+
+    @Test
+    void countsViolationsByCheckAndValueName() {
+        RequireListeners.add(metrics);
+
+        Require.nonBlank("sku", "sku");
+        violate(() -> Require.nonBlank(" ", "sku"));
+        violate(() -> Require.maxLength("0123456789", 5, "sku"));
+        violate(() -> Require.maxLength("0123456789", 5, "sku"));
+        violate(() -> Require.maxLength("0123456789", 5, "name"));
+
+        Assertions.assertEquals(4L, metrics.getViolationCount());
+        Assertions.assertEquals(1L, metrics.count(Check.NON_BLANK));
+        Assertions.assertEquals(3L, metrics.count(Check.LENGTH));
+        Assertions.assertEquals(2L, metrics.count(Check.LENGTH, "sku"));
+        Assertions.assertEquals(1L, metrics.count(Check.LENGTH, "name"));
+        Assertions.assertEquals(0L, metrics.count(Check.FORMAT, "sku"));
+        Assertions.assertEquals(2L, (long) metrics.getViolationCountsByCheck().size());
+        Assertions.assertEquals(Long.valueOf(2L), metrics.getViolationCountsByValueName().get("LENGTH/sku"));
+
+        metrics.reset();
+        Assertions.assertEquals(0L, metrics.getViolationCount());
+        Assertions.assertTrue(metrics.getViolationCountsByValueName().isEmpty());
+    }
+
+    @Test
+    void elementViolationsAreCountedUnderBaseName() {
+        RequireListeners.add(metrics);
+        RequireListeners.add(indexListener);
+
+        violate(() -> Require.eachNonNull(Arrays.asList("a", null), "items"));
+
+        Assertions.assertEquals(1L, metrics.count(Check.NON_NULL, "items"));
+        Assertions.assertEquals(Arrays.asList((Object) 1L), indexes);
+    }
+
+    @Test
+    void validationViolationsAreCountedOnce() {
+        RequireListeners.add(metrics);
+
+        final Validation validation = Validation.create();
+        validation.nonBlank(" ", "sku");
+        validation.gtThanZero(0, "quantity");
+        Assertions.assertThrows(ValidationException.class, validation::throwIfInvalid);
+
+        Assertions.assertEquals(2L, metrics.getViolationCount());
+        Assertions.assertEquals(1L, metrics.count(Check.NON_BLANK, "sku"));
+        Assertions.assertEquals(1L, metrics.count(Check.GREATER_THAN_ZERO, "quantity"));
+    }
+
+    @Test
+    void brokenListenerDoesNotReplaceViolation() {
+        final RequireListener broken = (check, valueName, index) -> {
+            throw new IllegalStateException("broken");
+        };
+        RequireListeners.add(broken);
+        try {
+            final RequireViolationException exception = Assertions.assertThrows(
+                RequireViolationException.class,
+                () -> Require.nonNull(null, "value")
+            );
+            Assertions.assertEquals(Check.NON_NULL, exception.getCheck());
+        } finally {
+            RequireListeners.remove(broken);
+        }
+    }
+
+    @Test
+    void listenersAreAddedOnceAndRemoved() {
+        RequireListeners.add(indexListener);
+        RequireListeners.add(indexListener);
+        violate(() -> Require.nonNull(null, "value"));
+        Assertions.assertEquals(1, indexes.size());
+
+        RequireListeners.remove(indexListener);
+        violate(() -> Require.nonNull(null, "value"));
+        Assertions.assertEquals(1, indexes.size());
+        Assertions.assertTrue(RequireListeners.isEmpty());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void installExportsMBean() throws Exception {
+        final RequireMetrics installed = RequireMetrics.install();
+        try {
+            Assertions.assertThrows(IllegalStateException.class, RequireMetrics::install);
+            violate(() -> Require.nonEmpty("", "tags"));
+
+            final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            final ObjectName name = new ObjectName(RequireMetrics.OBJECT_NAME);
+            Assertions.assertEquals(1L, server.getAttribute(name, "ViolationCount"));
+            Assertions.assertNotNull(server.getAttribute(name, "ViolationCountsByValueName"));
+        } finally {
+            installed.uninstall();
+        }
+        Assertions.assertFalse(
+            ManagementFactory.getPlatformMBeanServer().isRegistered(new ObjectName(RequireMetrics.OBJECT_NAME))
+        );
+    }
+
+    private static void violate(final Runnable check) {
+        Assertions.assertThrows(RequireViolationException.class, check::run);
+    }
+}
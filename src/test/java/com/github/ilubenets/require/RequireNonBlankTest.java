@@ -1,6 +1,7 @@
 package com.github.ilubenets.require;
 
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -25,6 +26,49 @@ final class RequireNonBlankTest {
         );
     }
 
+    @ParameterizedTest
+    @MethodSource("validCases")
+    void nonBlank_charSequence(final String value, final String valueName) {
+        final StringBuilder builder = new StringBuilder(value);
+        final Object requiredValue = Require.nonBlank(builder, valueName);
+        Assertions.assertSame(requiredValue, builder);
+    }
+
+    @ParameterizedTest
+    @MethodSource("invalidCases")
+    void nonBlank_charSequence_negative(final String value, final String valueName) {
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> Require.nonBlank(new StringBuilder(value), valueName)
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("validUnicodeCases")
+    void nonBlank_unicode(final String value, final String valueName) {
+        final Object requiredValue = Require.nonBlank(value, Whitespace.UNICODE, valueName);
+        Assertions.assertEquals(requiredValue, value);
+    }
+
+    @ParameterizedTest
+    @MethodSource("invalidUnicodeCases")
+    void nonBlank_unicode_negative(final String value, final String valueName) {
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> Require.nonBlank(value, Whitespace.UNICODE, valueName)
+        );
+    }
+
+    @Test
+    void nonBlank_null() {
+        final String value = null;
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Require.nonBlank(value, "null"));
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> Require.nonBlank(value, Whitespace.UNICODE, "null")
+        );
+    }
+
     private static Stream<Arguments> validCases() {
         return Stream.of(
             Arguments.of("non blank", "non blank"),
@@ -36,7 +80,25 @@ final class RequireNonBlankTest {
     private static Stream<Arguments> invalidCases() {
         return Stream.of(
             Arguments.of("     ", "only whitespaces"),
-            Arguments.of("", "empty")
+            Arguments.of("", "empty"),
+            Arguments.of(" \t\n\r\u0000\u001F ", "control characters")
+        );
+    }
+
+    private static Stream<Arguments> validUnicodeCases() {
+        return Stream.of(
+            Arguments.of("non blank", "non blank"),
+            Arguments.of("\u0000", "control character is not a whitespace"),
+            Arguments.of("\u00A0", "non-breaking space is not a whitespace"),
+            Arguments.of("\u2003\u00E9\u2003", "accented char between em spaces")
+        );
+    }
+
+    private static Stream<Arguments> invalidUnicodeCases() {
+        return Stream.of(
+            Arguments.of("", "empty"),
+            Arguments.of(" \t\n\u000B\f\r\u001C\u001D\u001E\u001F", "ASCII whitespaces"),
+            Arguments.of("\u2003\u3000\u2028", "unicode whitespaces")
         );
     }
 }
@@ -0,0 +1,32 @@
+package com.github.ilubenets.require;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+final class RequireNonNullKeysTest {
+
+    @Test
+    void nonNullKeys() {
+        final Map<String, String> map = Collections.singletonMap("key", null);
+        Assertions.assertSame(map, Require.nonNullKeys(map, "map"));
+    }
+
+    @Test
+    void nonNullKeys_negative() {
+        final Map<String, String> map = new HashMap<>();
+        map.put("key", "value");
+        map.put(null, "value");
+        final RequireViolationException exception = Assertions.assertThrows(
+            RequireViolationException.class,
+            () -> Require.nonNullKeys(map, "map")
+        );
+        Assertions.assertEquals(Check.NON_NULL_KEY, exception.getCheck());
+        Assertions.assertEquals("The keys of [map] must not be null.", exception.getMessage());
+
+        Assertions.assertThrows(RequireViolationException.class, () -> Require.nonNullKeys(null, "map"));
+    }
+}
@@ -0,0 +1,67 @@
+package com.github.ilubenets.require;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+final class RequireNonNullValuesTest {
+
+    @Test
+    void nonNullValues() {
+        final Map<String, String> map = new HashMap<>();
+        map.put(null, "value");
+        Assertions.assertSame(map, Require.nonNullValues(map, "map"));
+    }
+
+    @Test
+    void nonNullValues_negative() {
+        final Map<String, String> map = new TreeMap<>();
+        map.put("a", "value");
+        map.put("b", null);
+        final RequireViolationException exception = Assertions.assertThrows(
+            RequireViolationException.class,
+            () -> Require.nonNullValues(map, "map")
+        );
+        Assertions.assertEquals(Check.NON_NULL, exception.getCheck());
+        Assertions.assertEquals("b", exception.getIndex());
+        Assertions.assertEquals("The value of [map[b]] must not be null.", exception.getMessage());
+    }
+
+    @Test
+    void nonNullValues_linearSizeMap() {
+        final Map<Integer, Integer> map = new ConcurrentSkipListMap<Integer, Integer>() {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            public int size() {
+                throw new AssertionError("size() walks the whole map");
+            }
+        };
+        for (int i = 0; i < 1_000; i++) {
+            map.put(i, i);
+        }
+
+        Assertions.assertSame(map, Require.nonNullValues(map, "map"));
+        Assertions.assertSame(map, Require.nonNullKeys(map, "map"));
+    }
+
+    @Test
+    void nonNullValues_parallel() {
+        final Map<Integer, Integer> map = new HashMap<>();
+        for (int i = 0; i < 300_000; i++) {
+            map.put(i, i);
+        }
+        Assertions.assertSame(map, Require.nonNullValues(map, "map"));
+
+        map.put(150_000, null);
+        final RequireViolationException exception = Assertions.assertThrows(
+            RequireViolationException.class,
+            () -> Require.nonNullValues(map, "map")
+        );
+        Assertions.assertEquals(150_000, exception.getIndex());
+    }
+}
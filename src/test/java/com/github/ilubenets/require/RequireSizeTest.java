@@ -0,0 +1,187 @@
+package com.github.ilubenets.require;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+
+final class RequireSizeTest {
+
+    @Test
+    void size_collection() {
+        final List<String> names = Arrays.asList("a", "b", "c");
+
+        Assertions.assertSame(names, Require.size(names, 1, 3, "names"));
+        Assertions.assertSame(names, Require.maxSize(names, 3, "names"));
+        final RequireViolationException exception = assertViolation(() -> Require.maxSize(names, 2, "names"));
+        Assertions.assertEquals("The size of [names] must be between 0-2.", exception.getMessage());
+        assertViolation(() -> Require.size(names, 4, 5, "names"));
+        assertViolation(() -> Require.size(Collections.emptySet(), 1, 5, "names"));
+    }
+
+    @Test
+    void size_concurrentCollectionCountsUpToLimit() {
+        final CountingQueue<Integer> queue = new CountingQueue<>();
+        for (int i = 0; i < 1_000; i++) {
+            queue.add(i);
+        }
+
+        Assertions.assertSame(queue, Require.size(queue, 1, 1_000, "queue"));
+        queue.read.set(0);
+        assertViolation(() -> Require.maxSize(queue, 10, "queue"));
+        Assertions.assertEquals(11, queue.read.get());
+        assertViolation(() -> Require.size(new ConcurrentLinkedQueue<>(), 1, 10, "queue"));
+    }
+
+    @Test
+    void size_map() {
+        final Map<String, Integer> prices = new HashMap<>();
+        prices.put("a", 1);
+        prices.put("b", 2);
+        final Map<String, Integer> sorted = new ConcurrentSkipListMap<>(prices);
+
+        Assertions.assertSame(prices, Require.size(prices, 2, 2, "prices"));
+        Assertions.assertSame(sorted, Require.maxSize(sorted, 2, "prices"));
+        assertViolation(() -> Require.maxSize(prices, 1, "prices"));
+        assertViolation(() -> Require.maxSize(sorted, 1, "prices"));
+        assertViolation(() -> Require.size(sorted, 3, 4, "prices"));
+    }
+
+    @Test
+    void size_iterable() {
+        final List<Integer> values = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            values.add(i);
+        }
+        final AtomicInteger read = new AtomicInteger();
+        final Iterable<Integer> lazy = () -> {
+            final Iterator<Integer> iterator = values.iterator();
+            return new Iterator<Integer>() {
+                @Override
+                public boolean hasNext() {
+                    return iterator.hasNext();
+                }
+
+                @Override
+                public Integer next() {
+                    read.incrementAndGet();
+                    return iterator.next();
+                }
+            };
+        };
+
+        Assertions.assertSame(lazy, Require.size(lazy, 1_000, 1_000, "values"));
+        read.set(0);
+        assertViolation(() -> Require.maxSize(lazy, 5, "values"));
+        Assertions.assertEquals(6, read.get());
+        Assertions.assertSame(values, Require.maxSize((Iterable<Integer>) values, 1_000, "values"));
+        assertViolation(() -> Require.size((Iterable<Integer>) values, 1_001, 2_000, "values"));
+    }
+
+    @Test
+    void size_arrays() {
+        final String[] names = {"a", "b"};
+
+        Assertions.assertSame(names, Require.size(names, 2, 2, "names"));
+        assertViolation(() -> Require.maxSize(names, 1, "names"));
+        Assertions.assertEquals(2, Require.maxSize(new char[2], 2, "chars").length);
+        assertViolation(() -> Require.maxSize(new char[3], 2, "chars"));
+        Assertions.assertEquals(2, Require.size(new byte[2], 1, 2, "bytes").length);
+        assertViolation(() -> Require.size(new byte[0], 1, 2, "bytes"));
+        Assertions.assertEquals(2, Require.maxSize(new int[2], 2, "ints").length);
+        assertViolation(() -> Require.maxSize(new int[3], 2, "ints"));
+        Assertions.assertEquals(2, Require.maxSize(new long[2], 2, "longs").length);
+        assertViolation(() -> Require.size(new long[1], 2, 3, "longs"));
+        Assertions.assertEquals(2, Require.maxSize(new float[2], 2, "floats").length);
+        assertViolation(() -> Require.maxSize(new float[3], 2, "floats"));
+        Assertions.assertEquals(2, Require.size(new double[2], 0, 2, "doubles").length);
+        assertViolation(() -> Require.maxSize(new double[3], 2, "doubles"));
+    }
+
+    @Test
+    void size_enumeration() {
+        final Enumeration<String> names =
+            Require.maxSize(Collections.enumeration(Arrays.asList("a", "b", "c")), 2L, "names");
+        Assertions.assertEquals("a", names.nextElement());
+        Assertions.assertEquals("b", names.nextElement());
+        Assertions.assertTrue(names.hasMoreElements());
+        assertViolation(names::nextElement);
+
+        final Enumeration<String> few =
+            Require.size(Collections.enumeration(Collections.singletonList("a")), 2L, 3L, "names");
+        Assertions.assertTrue(few.hasMoreElements());
+        Assertions.assertEquals("a", few.nextElement());
+        final RequireViolationException exception = assertViolation(few::hasMoreElements);
+        Assertions.assertEquals("The size of [names] must be between 2-3.", exception.getMessage());
+
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> Require.size(Collections.emptyEnumeration(), 3L, 2L, "names")
+        );
+    }
+
+    @Test
+    void nulls() {
+        assertNullViolation(() -> Require.maxSize((Collection<?>) null, 1, "values"));
+        assertNullViolation(() -> Require.maxSize((Map<?, ?>) null, 1, "values"));
+        assertNullViolation(() -> Require.maxSize((Iterable<?>) null, 1, "values"));
+        assertNullViolation(() -> Require.maxSize((Object[]) null, 1, "values"));
+        assertNullViolation(() -> Require.maxSize((int[]) null, 1, "values"));
+        assertNullViolation(() -> Require.maxSize((Enumeration<?>) null, 1L, "values"));
+    }
+
+    private static RequireViolationException assertViolation(final Executable executable) {
+        final RequireViolationException exception = Assertions.assertThrows(RequireViolationException.class, executable);
+        Assertions.assertEquals(Check.SIZE, exception.getCheck());
+        return exception;
+    }
+
+    private static void assertNullViolation(final Executable executable) {
+        final RequireViolationException exception = Assertions.assertThrows(RequireViolationException.class, executable);
+        Assertions.assertEquals(Check.NON_NULL, exception.getCheck());
+    }
+
+    /**
+     * Queue whose size() must not be called, it counts the elements read by its iterators.
+     */
+    private static final class CountingQueue<E> extends ConcurrentLinkedQueue<E> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final AtomicInteger read = new AtomicInteger();
+
+        @Override
+        public int size() {
+            throw new AssertionError("size() walks the whole queue");
+        }
+
+        @Override
+        public Iterator<E> iterator() {
+            final Iterator<E> iterator = super.iterator();
+            return new Iterator<E>() {
+                @Override
+                public boolean hasNext() {
+                    return iterator.hasNext();
+                }
+
+                @Override
+                public E next() {
+                    read.incrementAndGet();
+                    return iterator.next();
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.github.ilubenets.require;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.stream.Stream;
+
+final class RequireTrimmedNonBlankMaxLengthTest {
+
+    @ParameterizedTest
+    @MethodSource("validCases")
+    void trimmedNonBlankMaxLength(final String value, final int maxLength, final String expected) {
+        Assertions.assertEquals(expected, Require.trimmedNonBlankMaxLength(value, maxLength, "value"));
+    }
+
+    @ParameterizedTest
+    @MethodSource("invalidCases")
+    void trimmedNonBlankMaxLength_negative(final String value, final int maxLength, final Check expected) {
+        final RequireViolationException exception = Assertions.assertThrows(
+            RequireViolationException.class,
+            () -> Require.trimmedNonBlankMaxLength(value, maxLength, "value")
+        );
+        Assertions.assertEquals(expected, exception.getCheck());
+    }
+
+    @Test
+    void trimmedNonBlankMaxLength_noCopy() {
+        final String value = "sku-1";
+        Assertions.assertSame(value, Require.trimmedNonBlankMaxLength(value, 5, "sku"));
+    }
+
+    @Test
+    void trimmedNonBlankMaxLength_message() {
+        Assertions.assertEquals(
+            "The length of [sku] must be between 1-5.",
+            Assertions.assertThrows(
+                IllegalArgumentException.class,
+                () -> Require.trimmedNonBlankMaxLength("  sku-12  ", 5, "sku")
+            ).getMessage()
+        );
+    }
+
+    private static Stream<Arguments> validCases() {
+        return Stream.of(
+            Arguments.of("a", 1, "a"),
+            Arguments.of("  a", 1, "a"),
+            Arguments.of("a\t\n", 1, "a"),
+            Arguments.of(" \u0000valid case\r\n", 10, "valid case"),
+            Arguments.of("  a b  ", 3, "a b")
+        );
+    }
+
+    private static Stream<Arguments> invalidCases() {
+        return Stream.of(
+            Arguments.of(null, 10, Check.NON_NULL),
+            Arguments.of("", 1, Check.NON_BLANK),
+            Arguments.of(" \t\r\n ", 10, Check.NON_BLANK),
+            Arguments.of(" 12345678901 ", 10, Check.LENGTH),
+            Arguments.of("ab", 1, Check.LENGTH)
+        );
+    }
+}
@@ -0,0 +1,88 @@
+package com.github.ilubenets.require;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.stream.Stream;
+
+final class RequireUtf8LengthTest {
+
+    @ParameterizedTest
+    @MethodSource("validCases")
+    void maxUtf8Length(
+        final CharSequence value,
+        final int maxLength,
+        final String valueName
+    ) {
+        final Object requiredValue = Require.maxUtf8Length(value, maxLength, valueName);
+        Assertions.assertSame(value, requiredValue);
+    }
+
+    @ParameterizedTest
+    @MethodSource("invalidCases")
+    void maxUtf8Length_negative(
+        final CharSequence value,
+        final int maxLength,
+        final String valueName
+    ) {
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> Require.maxUtf8Length(value, maxLength, valueName)
+        );
+    }
+
+    @Test
+    void utf8Length_minLength() {
+        // 2 chars, 4 bytes
+        Assertions.assertEquals("\u00e9\u00e9", Require.utf8Length("\u00e9\u00e9", 4, 4, "name"));
+        final RequireViolationException exception = Assertions.assertThrows(
+            RequireViolationException.class,
+            () -> Require.utf8Length("\u00e9\u00e9", 5, 8, "name")
+        );
+        Assertions.assertEquals(Check.UTF_8_LENGTH, exception.getCheck());
+        Assertions.assertEquals("The UTF-8 length of [name] must be between 5-8 bytes.", exception.getMessage());
+    }
+
+    @Test
+    void encodedLength_sameAsGetBytes() {
+        final Random random = new Random(11);
+        final char[] interesting = {'a', '\u007f', '\u0080', '\u07ff', '\u0800', '\uffff', '\ud800', '\udbff', '\udc00', '\udfff'};
+        for (int i = 0; i < 100_000; i++) {
+            final char[] chars = new char[random.nextInt(10)];
+            for (int j = 0; j < chars.length; j++) {
+                chars[j] = random.nextBoolean() ? interesting[random.nextInt(interesting.length)] : (char) random.nextInt();
+            }
+            final String value = new String(chars);
+            final int expected = value.getBytes(StandardCharsets.UTF_8).length;
+            Assertions.assertEquals(expected, Utf8.encodedLength(value, Long.MAX_VALUE), value);
+            Assertions.assertTrue(Utf8.encodedLength(value, expected - 1) > expected - 1, value);
+        }
+    }
+
+    private static Stream<Arguments> validCases() {
+        return Stream.of(
+            Arguments.of("", 0, "empty"),
+            Arguments.of("abc", 3, "ascii"),
+            Arguments.of("\u00e9", 2, "2 byte char"),
+            Arguments.of("\u20ac", 3, "3 byte char"),
+            Arguments.of("\ud83d\ude00", 4, "surrogate pair"),
+            Arguments.of("\ud83d", 1, "lone surrogate is ?"),
+            Arguments.of(new StringBuilder("a\u20ac"), 4, "builder")
+        );
+    }
+
+    private static Stream<Arguments> invalidCases() {
+        return Stream.of(
+            Arguments.of("\u00e9", 1, "2 byte char"),
+            Arguments.of("\u20ac\u20ac", 5, "3 byte chars"),
+            Arguments.of("a\ud83d\ude00", 4, "surrogate pair"),
+            Arguments.of("abcd", 3, "too many chars"),
+            Arguments.of(null, 10, "null")
+        );
+    }
+}
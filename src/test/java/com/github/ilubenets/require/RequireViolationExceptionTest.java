@@ -0,0 +1,79 @@
+package com.github.ilubenets.require;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+final class RequireViolationExceptionTest {
+
+    @Test
+    void violation_isIllegalArgumentException() {
+        final IllegalArgumentException exception = Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> Require.nonBlank(" ", "requestId")
+        );
+        Assertions.assertTrue(exception instanceof RequireViolationException);
+        Assertions.assertEquals("The value of [requestId] must not be blank.", exception.getMessage());
+    }
+
+    @Test
+    void violation_stackTrace() {
+        final RequireViolationException exception = Assertions.assertThrows(
+            RequireViolationException.class,
+            () -> Require.positive(-1, "count")
+        );
+        Assertions.assertEquals(
+            RequireViolationException.isStackTraceEnabled(),
+            exception.getStackTrace().length > 0
+        );
+    }
+
+    @Test
+    void violation_details() {
+        final RequireViolationException exception = Assertions.assertThrows(
+            RequireViolationException.class,
+            () -> Require.length("value", 1, 3, "code")
+        );
+        Assertions.assertEquals(Check.LENGTH, exception.getCheck());
+        Assertions.assertEquals("code", exception.getValueName());
+        Assertions.assertArrayEquals(new Object[]{1, 3}, exception.getArguments());
+        Assertions.assertEquals("The length of [code] must be between 1-3.", exception.getMessage());
+        Assertions.assertEquals(
+            RequireViolationException.class.getName() + ": The length of [code] must be between 1-3.",
+            exception.toString()
+        );
+    }
+
+    @Test
+    void violation_indexType() {
+        final Object arrayIndex = Assertions.assertThrows(
+            RequireViolationException.class,
+            () -> Require.allPositive(new int[]{1, -1}, "ints")
+        ).getIndex();
+        final Object listIndex = Assertions.assertThrows(
+            RequireViolationException.class,
+            () -> Require.eachNonNull(Arrays.asList("a", null), "names")
+        ).getIndex();
+        final Object key = Assertions.assertThrows(
+            RequireViolationException.class,
+            () -> Require.nonNullValues(Collections.singletonMap("b", null), "prices")
+        ).getIndex();
+
+        Assertions.assertEquals(1L, arrayIndex);
+        Assertions.assertEquals(1L, listIndex);
+        Assertions.assertEquals("b", key);
+    }
+
+    @ParameterizedTest
+    @EnumSource(Check.class)
+    void violation_message(final Check check) {
+        final Object[] arguments = {"name", 1, 10};
+        final RequireViolationException exception = new RequireViolationException(check, "name", 1, 10);
+        Assertions.assertEquals(String.format(check.template(), arguments), exception.getMessage());
+        Assertions.assertEquals(check.argumentCount(), exception.getArguments().length);
+    }
+}
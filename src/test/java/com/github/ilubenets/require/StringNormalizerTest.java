@@ -0,0 +1,84 @@
+package com.github.ilubenets.require;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+final class StringNormalizerTest {
+
+    private static final StringNormalizer EMAIL = StringNormalizer.builder()
+        .strip()
+        .lowerCase()
+        .nonBlank()
+        .maxLength(16)
+        .build();
+
+    @ParameterizedTest
+    @CsvSource({
+        "'  John@Example.COM ', john@example.com",
+        "john@example.com, john@example.com",
+        "'\tx\n', x"
+    })
+    void normalize(final String value, final String expected) {
+        Assertions.assertEquals(expected, EMAIL.normalize(value, "email"));
+    }
+
+    @Test
+    void normalize_noCopy() {
+        final String value = "john@example.com";
+        Assertions.assertSame(value, EMAIL.normalize(value, "email"));
+        final String code = "EUR";
+        Assertions.assertSame(code, StringNormalizer.builder().strip().upperCase().build().normalize(code, "code"));
+        Assertions.assertSame(code, StringNormalizer.builder().build().normalize(code, "code"));
+    }
+
+    @Test
+    void normalize_negative() {
+        assertViolation(Check.NON_NULL, () -> EMAIL.normalize(null, "email"));
+        assertViolation(Check.NON_BLANK, () -> EMAIL.normalize(" \t ", "email"));
+        assertViolation(Check.LENGTH, () -> EMAIL.normalize(" john.doe@example.com ", "email"));
+
+        final StringNormalizer nonEmpty = StringNormalizer.builder().strip().nonEmpty().build();
+        assertViolation(Check.NON_EMPTY, () -> nonEmpty.normalize("   ", "code"));
+
+        final StringNormalizer unstripped = StringNormalizer.builder().nonBlank().length(2, 4).build();
+        assertViolation(Check.NON_BLANK, () -> unstripped.normalize("   ", "code"));
+        assertViolation(Check.LENGTH, () -> unstripped.normalize("a", "code"));
+        Assertions.assertEquals(" ab", unstripped.normalize(" ab", "code"));
+    }
+
+    @Test
+    void normalize_asciiBoundaries() {
+        final String value = "@AZ[`az{";
+        Assertions.assertEquals("@az[`az{", StringNormalizer.builder().lowerCase().build().normalize(value, "v"));
+        Assertions.assertEquals("@AZ[`AZ{", StringNormalizer.builder().upperCase().build().normalize(value, "v"));
+        final String unchanged = "@[`{0-9_";
+        Assertions.assertSame(unchanged, StringNormalizer.builder().lowerCase().build().normalize(unchanged, "v"));
+        Assertions.assertSame(unchanged, StringNormalizer.builder().upperCase().build().normalize(unchanged, "v"));
+    }
+
+    @Test
+    void normalize_unicode() {
+        final StringNormalizer upper = StringNormalizer.builder().strip(Whitespace.UNICODE).upperCase().build();
+        // case is folded per character, sharp s has no single character upper case and is kept
+        Assertions.assertEquals("STRA\u00dfE \u00c9T\u00c9", upper.normalize("\u2003stra\u00dfe \u00e9t\u00e9\u2003", "name"));
+        final StringNormalizer lower = StringNormalizer.builder().lowerCase().build();
+        Assertions.assertEquals("\ud801\udc28", lower.normalize("\ud801\udc00", "deseret"));
+        Assertions.assertEquals("a\ud800b", lower.normalize("A\ud800B", "lone surrogate"));
+        // no-break space is above space, the TRIM rule keeps it
+        Assertions.assertEquals("\u00a0x", StringNormalizer.builder().strip().build().normalize("\u00a0x ", "name"));
+    }
+
+    @Test
+    void builder_negative() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> StringNormalizer.builder().length(-1, 4));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> StringNormalizer.builder().length(5, 4));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> StringNormalizer.builder().strip(null));
+    }
+
+    private static void assertViolation(final Check check, final Executable executable) {
+        Assertions.assertEquals(check, Assertions.assertThrows(RequireViolationException.class, executable).getCheck());
+    }
+}
@@ -0,0 +1,80 @@
+package com.github.ilubenets.require;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Pattern;
+
+final class ValidationTest {
+
+    @Test
+    void validation_valid() {
+        final Validation validation = Validation.create();
+        Assertions.assertEquals("sku-1", validation.nonBlankMaxLength("sku-1", 64, "sku"));
+        Assertions.assertEquals(Integer.valueOf(1), validation.gtThanZero(Integer.valueOf(1), "quantity"));
+        Assertions.assertEquals(0.5D, validation.positive(0.5D, "discount"));
+        Assertions.assertEquals("123", validation.format("123", Pattern.compile("\\d+"), "code"));
+        validation.nonEmpty(Collections.singletonList("a"), "tags");
+        validation.nonEmpty(new int[]{1}, "ids");
+
+        Assertions.assertTrue(validation.isValid());
+        Assertions.assertEquals(0, validation.violationCount());
+        Assertions.assertTrue(validation.violations().isEmpty());
+        validation.throwIfInvalid();
+    }
+
+    @Test
+    void validation_collectsAllViolations() {
+        final Validation validation = Validation.create(1);
+        final Integer nullQuantity = null;
+        Assertions.assertEquals("   ", validation.nonBlankMaxLength("   ", 64, "sku"));
+        Assertions.assertNull(validation.gtThanZero(nullQuantity, "quantity"));
+        Assertions.assertEquals(-1L, validation.positive(-1L, "price"));
+        validation.length("abcd", 1, 3, "code");
+        validation.nonEmpty(Collections.emptyMap(), "attributes");
+
+        Assertions.assertFalse(validation.isValid());
+        Assertions.assertEquals(5, validation.violationCount());
+
+        final ValidationException exception = Assertions.assertThrows(
+            ValidationException.class,
+            validation::throwIfInvalid
+        );
+        final List<RequireViolationException> violations = exception.getViolations();
+        Assertions.assertEquals(Check.NON_BLANK, violations.get(0).getCheck());
+        Assertions.assertEquals(Check.NON_NULL, violations.get(1).getCheck());
+        Assertions.assertEquals(Check.POSITIVE, violations.get(2).getCheck());
+        Assertions.assertEquals(Check.LENGTH, violations.get(3).getCheck());
+        Assertions.assertEquals(Check.NON_EMPTY, violations.get(4).getCheck());
+        Assertions.assertEquals(
+            "Validation failed with 5 violation(s):\n"
+                + "The value of [sku] must not be blank.\n"
+                + "The value of [quantity] must not be null.\n"
+                + "The value of [price] must be positive or 0.\n"
+                + "The length of [code] must be between 1-3.\n"
+                + "The value of [attributes] must not be empty.",
+            exception.getMessage()
+        );
+    }
+
+    @Test
+    void validation_isIllegalArgumentException() {
+        final Validation validation = Validation.create();
+        validation.lsThanZero(0, "offset");
+        Assertions.assertThrows(IllegalArgumentException.class, validation::throwIfInvalid);
+    }
+
+    @Test
+    void validation_reset() {
+        final Validation validation = Validation.create();
+        validation.negative(1F, "delta");
+        Assertions.assertFalse(validation.isValid());
+
+        validation.reset();
+        Assertions.assertTrue(validation.isValid());
+        validation.negative(-1F, "delta");
+        validation.throwIfInvalid();
+    }
+}
@@ -0,0 +1,258 @@
+package com.github.ilubenets.require;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+import javax.annotation.Nullable;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import static com.github.ilubenets.require.Rules.format;
+import static com.github.ilubenets.require.Rules.gtThanZero;
+import static com.github.ilubenets.require.Rules.nonBlank;
+import static com.github.ilubenets.require.Rules.nonNull;
+import static com.github.ilubenets.require.Rules.positive;
+
+final class ValidatorTest {
+
+    private static final Validator<Order> VALIDATOR = Validator.of(Order.class)
+        .field("sku", Order::sku, nonBlank().maxLength(8))
+        .field("code", Order::code, format(Pattern.compile("\\d+")))
+        .field("discount", Order::discount, positive())
+        .intField("quantity", Order::quantity, gtThanZero())
+        .longField("price", Order::price, positive())
+        .doubleField("weight", Order::weight, gtThanZero())
+        .field("note", Order::note, nonNull())
+        .build();
+
+    @Test
+    void validate() {
+        final Order order = new Order("sku-1", "42", 0, 1, 0L, 0.5D, "");
+        Assertions.assertSame(order, VALIDATOR.validate(order));
+    }
+
+    @Test
+    void validate_negative() {
+        assertMessage("The value of [Order] must not be null.", null);
+        assertMessage(
+            "The value of [sku] must not be blank.",
+            new Order(" ", "42", 0, 1, 0L, 0.5D, "")
+        );
+        assertMessage(
+            "The length of [sku] must be between 1-8.",
+            new Order("sku-123456", "42", 0, 1, 0L, 0.5D, "")
+        );
+        assertMessage(
+            "The value of [code] has invalid format.",
+            new Order("sku-1", "4x", 0, 1, 0L, 0.5D, "")
+        );
+        assertMessage(
+            "The value of [discount] must be positive or 0.",
+            new Order("sku-1", "42", -1, 1, 0L, 0.5D, "")
+        );
+        assertMessage(
+            "The value of [discount] must not be null.",
+            new Order("sku-1", "42", null, 1, 0L, 0.5D, "")
+        );
+        assertMessage(
+            "The value of [quantity] must be greater than 0.",
+            new Order("sku-1", "42", 0, 0, 0L, 0.5D, "")
+        );
+        assertMessage(
+            "The value of [price] must be positive or 0.",
+            new Order("sku-1", "42", 0, 1, -1L, 0.5D, "")
+        );
+        assertMessage(
+            "The value of [weight] must be greater than 0.",
+            new Order("sku-1", "42", 0, 1, 0L, 0D, "")
+        );
+        assertMessage(
+            "The value of [note] must not be null.",
+            new Order("sku-1", "42", 0, 1, 0L, 0.5D, null)
+        );
+    }
+
+    @Test
+    void validate_firstFailedField() {
+        final RequireViolationException exception = Assertions.assertThrows(
+            RequireViolationException.class,
+            () -> VALIDATOR.validate(new Order(null, "x", -1, 0, -1L, 0D, null))
+        );
+        Assertions.assertEquals("sku", exception.getValueName());
+    }
+
+    @Test
+    void build_reusedBuilder() {
+        final Validator.Builder<Order> builder = Validator.of(Order.class);
+        final Validator<Order> empty = builder.build();
+        final Validator<Order> sku = builder.field("sku", Order::sku, nonBlank()).build();
+        final Validator<Order> skuAndQuantity = builder.intField("quantity", Order::quantity, gtThanZero()).build();
+        final Order order = new Order("sku-1", "42", 0, 0, 0L, 0.5D, "");
+
+        Assertions.assertSame(order, empty.validate(order));
+        Assertions.assertSame(order, sku.validate(order));
+        final RequireViolationException exception = Assertions.assertThrows(
+            RequireViolationException.class,
+            () -> skuAndQuantity.validate(order)
+        );
+        Assertions.assertEquals("quantity", exception.getValueName());
+    }
+
+    @Test
+    void rules() {
+        Assertions.assertEquals("", Rules.maxLength(0).check("", "value"));
+        Assertions.assertEquals("ab", Rules.minLength(2).check("ab", "value"));
+        Assertions.assertEquals("a", Rules.nonEmpty().maxLength(1).check("a", "value"));
+        Assertions.assertEquals(-3L, Rules.negative().check(-3L, "value"));
+        Assertions.assertEquals((short) -1, Rules.lsThanZero().check((short) -1, "value"));
+        Assertions.assertEquals(2F, Rules.gtThanZero().check(2F, "value"));
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Rules.length(2, 3).check("a", "value"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Rules.minLength(2).check("a", "value"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Rules.nonEmpty().check("", "value"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Rules.lsThanZero().check(0D, "value"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Rules.gtThanZero().check(0F, "value"));
+    }
+
+    @Test
+    void numberRules_sameAsRequire() {
+        final double[] doubles = {
+            0D, -0D, 1D, -1D, Double.MIN_VALUE, -Double.MIN_VALUE, Double.NaN,
+            Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY, Float.MIN_VALUE, -Float.MIN_VALUE
+        };
+        for (final double value : doubles) {
+            assertSame(() -> Require.positive(value, "value"), () -> Rules.positive().checkDouble(value, "value"));
+            assertSame(() -> Require.negative(value, "value"), () -> Rules.negative().checkDouble(value, "value"));
+            assertSame(() -> Require.gtThanZero(value, "value"), () -> Rules.gtThanZero().checkDouble(value, "value"));
+            assertSame(() -> Require.lsThanZero(value, "value"), () -> Rules.lsThanZero().checkDouble(value, "value"));
+            final float floatValue = (float) value;
+            assertSame(() -> Require.gtThanZero(floatValue, "value"), () -> Rules.gtThanZero().check(floatValue, "value"));
+            assertSame(() -> Require.lsThanZero(floatValue, "value"), () -> Rules.lsThanZero().check(floatValue, "value"));
+        }
+        final long[] longs = {0L, 1L, -1L, Long.MIN_VALUE, Long.MAX_VALUE};
+        for (final long value : longs) {
+            assertSame(() -> Require.positive(value, "value"), () -> Rules.positive().checkLong(value, "value"));
+            assertSame(() -> Require.negative(value, "value"), () -> Rules.negative().checkLong(value, "value"));
+            assertSame(() -> Require.gtThanZero(value, "value"), () -> Rules.gtThanZero().checkLong(value, "value"));
+            assertSame(() -> Require.lsThanZero(value, "value"), () -> Rules.lsThanZero().checkLong(value, "value"));
+        }
+    }
+
+    @Test
+    void numberRules_bigAndAtomicNumbers() {
+        final BigDecimal tiny = new BigDecimal("1E-400");
+        final BigInteger huge = BigInteger.TEN.pow(400);
+
+        Assertions.assertSame(tiny, Rules.gtThanZero().check(tiny, "value"));
+        Assertions.assertSame(huge, Rules.gtThanZero().check(huge, "value"));
+        Assertions.assertEquals(huge.negate(), Rules.lsThanZero().check(huge.negate(), "value"));
+        assertSame(() -> Require.lsThanZero(tiny, "value"), () -> Rules.lsThanZero().check(tiny, "value"));
+        assertSame(() -> Require.negative(huge, "value"), () -> Rules.negative().check(huge, "value"));
+        assertSame(
+            () -> Require.gtThanZero(BigDecimal.ZERO, "value"),
+            () -> Rules.gtThanZero().check(new BigDecimal("0E+3"), "value")
+        );
+
+        final AtomicLong max = new AtomicLong(Long.MAX_VALUE);
+        Assertions.assertSame(max, Rules.positive().check(max, "value"));
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> Rules.gtThanZero().check(new AtomicInteger(0), "value")
+        );
+    }
+
+    @Test
+    void builder_negative() {
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> Validator.of(Order.class).field(" ", Order::sku, nonBlank())
+        );
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> Validator.of(Order.class).field("sku", Order::sku, null)
+        );
+    }
+
+    private static void assertSame(final Runnable require, final Runnable rule) {
+        Assertions.assertEquals(message(require), message(rule));
+    }
+
+    @Nullable
+    private static String message(final Runnable check) {
+        try {
+            check.run();
+            return null;
+        } catch (final IllegalArgumentException e) {
+            return e.getMessage();
+        }
+    }
+
+    private static void assertMessage(final String message, @Nullable final Order order) {
+        final IllegalArgumentException exception = Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> VALIDATOR.validate(order)
+        );
+        Assertions.assertEquals(message, exception.getMessage());
+    }
+
+    private static final class Order {
+
+        private final String sku;
+        private final String code;
+        private final Integer discount;
+        private final int quantity;
+        private final long price;
+        private final double weight;
+        private final String note;
+
+        Order(
+            final String sku,
+            final String code,
+            final Integer discount,
+            final int quantity,
+            final long price,
+            final double weight,
+            final String note
+        ) {
+            this.sku = sku;
+            this.code = code;
+            this.discount = discount;
+            this.quantity = quantity;
+            this.price = price;
+            this.weight = weight;
+            this.note = note;
+        }
+
+        String sku() {
+            return sku;
+        }
+
+        String code() {
+            return code;
+        }
+
+        Integer discount() {
+            return discount;
+        }
+
+        int quantity() {
+            return quantity;
+        }
+
+        long price() {
+            return price;
+        }
+
+        double weight() {
+            return weight;
+        }
+
+        String note() {
+            return note;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.github.ilubenets.require;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+final class JfrSupportTest {
+
+    @Test
+    void java11LayerIsUsed() {
+        Assertions.assertTrue(JfrSupport.isAvailable());
+    }
+
+    @Test
+    void violationEvent() throws Exception {
+        final List<RecordedEvent> events = record("com.github.ilubenets.require.Violation", Duration.ZERO, () -> {
+            Require.nonNull("value", "value");
+            Assertions.assertThrows(IllegalArgumentException.class, () -> Require.length("abc", 5, 10, "sku"));
+            final Validation validation = Validation.create();
+            validation.nonBlank(" ", "name");
+        });
+
+        Assertions.assertEquals(2, events.size());
+        final RecordedEvent length = events.get(0);
+        Assertions.assertEquals("LENGTH", length.getString("check"));
+        Assertions.assertEquals("sku", length.getString("valueName"));
+        Assertions.assertEquals("5", length.getString("first"));
+        Assertions.assertEquals("10", length.getString("second"));
+        Assertions.assertEquals("NON_BLANK", events.get(1).getString("check"));
+    }
+
+    @Test
+    void slowFormatEvent() throws Exception {
+        final Pattern backtracking = Pattern.compile("(a|aa)+b");
+        final String value = "aaaaaaaaaaaaaaaaaaaaaaaaaaaaaa";
+        final List<RecordedEvent> events = record("com.github.ilubenets.require.SlowFormat", Duration.ZERO, () -> {
+            Assertions.assertThrows(IllegalArgumentException.class, () -> Require.format(value, backtracking, "code"));
+        });
+
+        Assertions.assertEquals(1, events.size());
+        Assertions.assertEquals("(a|aa)+b", events.get(0).getString("regex"));
+        Assertions.assertEquals("code", events.get(0).getString("valueName"));
+        Assertions.assertEquals(value.length(), events.get(0).getInt("valueLength"));
+        Assertions.assertFalse(events.get(0).getBoolean("matched"));
+    }
+
+    private static List<RecordedEvent> record(
+        final String eventName,
+        final Duration threshold,
+        final Runnable action
+    ) throws Exception {
+        final Path file = Files.createTempFile("require", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(eventName).withThreshold(threshold);
+            recording.start();
+            action.run();
+            recording.stop();
+            recording.dump(file);
+
+            return RecordingFile.readAllEvents(file).stream()
+                .filter(event -> event.getEventType().getName().equals(eventName))
+                .collect(Collectors.toList());
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.github.ilubenets.require;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+final class PlatformTest {
+
+    @Test
+    void java11LayerIsUsed() {
+        Assertions.assertEquals(11, Platform.version());
+    }
+
+    @Test
+    void isUnicodeBlank_sameAsCharScan() {
+        final Random random = new Random(5);
+        final char[] interesting = {
+            ' ', '\t', '\n', '\u000b', '\f', '\r', '\u001c', '\u001f', '\u0085', '\u00a0', '\u1680', '\u2003',
+            '\u2007', '\u2028', '\u3000', '\ud800', '\udc00', 'a'
+        };
+        for (int i = 0; i < 100_000; i++) {
+            final char[] chars = new char[random.nextInt(6)];
+            for (int j = 0; j < chars.length; j++) {
+                chars[j] = random.nextInt(8) == 0 ? (char) random.nextInt() : interesting[random.nextInt(interesting.length)];
+            }
+            final String value = new String(chars);
+            Assertions.assertEquals(isBlankByChars(value), Platform.isUnicodeBlank(value), value);
+        }
+    }
+
+    private static boolean isBlankByChars(final String value) {
+        for (int i = 0; i < value.length(); i++) {
+            if (!Whitespace.UNICODE.isWhitespace(value.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+}